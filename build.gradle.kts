@@ -7,12 +7,18 @@ plugins {
     alias(libs.plugins.graalvm.native)
 }
 
+// The registry snapshot is generated by the code generators
+evaluationDependsOn(":code-generators")
+
 sourceSets {
     main {
         java {
             srcDir(file("src/main/java"))
             srcDir(file("src/autogenerated/java"))
         }
+        resources {
+            srcDir(project(":code-generators").tasks.named("generateRegistrySnapshot"))
+        }
         blossom {
             javaSources {
                 property("COMMIT", System.getenv("GITHUB_SHA") ?: "LOCAL")
@@ -23,6 +29,24 @@ sourceSets {
             }
         }
     }
+    // Vector API implementation, javac warns on any use of the incubating module whatever the lint options
+    create("vector") {
+        compileClasspath += files(tasks.compileJava) + main.get().compileClasspath
+    }
+}
+
+tasks.named<JavaCompile>("compileVectorJava") {
+    options.compilerArgs.add("--add-modules=jdk.incubator.vector")
+    options.compilerArgs.add("-nowarn") // Limited to the vector sources, the incubating module warning cannot be disabled on its own
+}
+
+// Shipped within the main module, which reads the incubating module at runtime when present
+sourceSets.main {
+    output.dir(mapOf("builtBy" to tasks.named("compileVectorJava")), sourceSets["vector"].java.destinationDirectory)
+}
+
+tasks.named<Jar>("sourcesJar") {
+    from(sourceSets["vector"].allJava)
 }
 
 tasks.register<Task>("determineMinecraftVersion") {
@@ -55,6 +79,11 @@ tasks.withType<JavaCompile> {
     options.compilerArgs.add("-Xlint:-requires-transitive-automatic") // Adventure dependencies are automatic until 5.0.0, see https://github.com/KyoriPowered/adventure/issues/1287
 }
 
+tasks.withType<Test> {
+    jvmArgs("--add-modules=jdk.incubator.vector") // Palette bulk operations are tested on their vectorized implementation
+    systemProperty("minestom.socket.gathering-writes", "true") // Opt-in outside of tests, see GatheringWriteTest
+}
+
 graalvmNative {
     agent {
         defaultMode = "standard"
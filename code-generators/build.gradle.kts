@@ -22,4 +22,13 @@ application {
 
 tasks.getByName<JavaExec>("run") {
     args = listOf(rootProject.projectDir.resolve("src/autogenerated/java").absolutePath)
-}
\ No newline at end of file
+}
+// Binary registries read by the server at startup, packaged with its resources
+tasks.register<JavaExec>("generateRegistrySnapshot") {
+    val output = layout.buildDirectory.dir("generated/registry-snapshot")
+    classpath = sourceSets.main.get().runtimeClasspath
+    mainModule.set("net.minestom.codegen")
+    mainClass.set("net.minestom.codegen.RegistrySnapshotGenerator")
+    outputs.dir(output)
+    argumentProviders.add(CommandLineArgumentProvider { listOf(output.get().asFile.absolutePath) })
+}
@@ -1,6 +1,7 @@
 package net.minestom.codegen;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.UnaryOperator;
@@ -95,6 +96,24 @@ public final class Generators {
         new BuiltinRegistriesGenerator(codegen).generate(STATIC_REGISTRIES, DYNAMIC_REGISTRIES);
     }
 
+    /**
+     * Gets the registry files parsed by the server when it starts, some may not exist.
+     *
+     * @return the file names, without extension
+     */
+    static List<String> registryResources() {
+        List<String> keys = new ArrayList<>();
+        STATIC_REGISTRIES.forEach(spec -> keys.add(spec.key()));
+        // Static registries without generated constants
+        keys.add("game_rule");
+        keys.add("particle_type");
+
+        List<String> resources = new ArrayList<>(keys);
+        keys.forEach(key -> resources.add("tags/" + key));
+        DYNAMIC_REGISTRIES.forEach(spec -> resources.add("tags/" + spec.key()));
+        return resources;
+    }
+
     record EnumSpec(String resource, String packageName, String className, boolean isPublic,
                     UnaryOperator<String> constantNameTransform, String generatorName) {
         EnumSpec(String resource, String packageName, String className) {
@@ -0,0 +1,161 @@
+package net.minestom.codegen;
+
+import com.google.gson.ToNumberPolicy;
+import com.google.gson.stream.JsonReader;
+import net.minestom.data.MinestomData;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.zip.CRC32;
+
+/**
+ * Writes the registry files parsed by the server at startup in a single binary snapshot,
+ * read by {@code net.minestom.server.registry.RegistrySnapshot} which documents the format.
+ * <p>
+ * Files are parsed the same way as the server parses their JSON, strings are deduplicated in a shared table.
+ */
+public final class RegistrySnapshotGenerator {
+    private static final String OUTPUT = "net/minestom/server/registry/registries.snapshot";
+    private static final int MAGIC = 0x4D535253; // MSRS
+    private static final int VERSION = 2;
+
+    private static final int MAP = 0;
+    private static final int LIST = 1;
+    private static final int STRING = 2;
+    private static final int LONG = 3;
+    private static final int DOUBLE = 4;
+    private static final int TRUE = 5;
+    private static final int FALSE = 6;
+
+    private final Map<String, Integer> strings = new LinkedHashMap<>();
+
+    static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("Usage: <resources folder>");
+            return;
+        }
+        final Path output = Path.of(args[0]).resolve(OUTPUT);
+        generate(output);
+        System.out.println("Finished writing registry snapshot to " + output);
+    }
+
+    public static void generate(Path output) throws IOException {
+        new RegistrySnapshotGenerator().write(output, Generators.registryResources());
+    }
+
+    private void write(Path output, List<String> resources) throws IOException {
+        // Files are encoded first to fill the string table
+        Map<Integer, byte[]> files = new LinkedHashMap<>();
+        Map<Integer, Integer> checksums = new HashMap<>();
+        for (String resource : resources) {
+            final String path = resource + ".json";
+            final byte[] json;
+            try (InputStream stream = MinestomData.resource(path)) {
+                if (stream == null) continue;
+                json = stream.readAllBytes();
+            }
+            final Object value;
+            try (JsonReader reader = new JsonReader(new InputStreamReader(new ByteArrayInputStream(json), StandardCharsets.UTF_8))) {
+                value = readObject(reader);
+            }
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            writeValue(new DataOutputStream(bytes), value);
+            final int pathIndex = string(path);
+            files.put(pathIndex, bytes.toByteArray());
+            // Lets the server detect a data dependency newer than the snapshot
+            CRC32 crc = new CRC32();
+            crc.update(json);
+            checksums.put(pathIndex, (int) crc.getValue());
+        }
+
+        Files.createDirectories(output.getParent());
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(output)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            writeVarLong(out, strings.size());
+            for (String string : strings.keySet()) {
+                final byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+                writeVarLong(out, bytes.length);
+                out.write(bytes);
+            }
+            writeVarLong(out, files.size());
+            for (Map.Entry<Integer, byte[]> file : files.entrySet()) {
+                writeVarLong(out, file.getKey());
+                out.writeInt(checksums.get(file.getKey()));
+                writeVarLong(out, file.getValue().length);
+                out.write(file.getValue());
+            }
+        }
+    }
+
+    private void writeValue(DataOutputStream out, Object value) throws IOException {
+        switch (value) {
+            case Map<?, ?> map -> {
+                out.writeByte(MAP);
+                writeVarLong(out, map.size());
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    writeVarLong(out, string((String) entry.getKey()));
+                    writeValue(out, entry.getValue());
+                }
+            }
+            case List<?> list -> {
+                out.writeByte(LIST);
+                writeVarLong(out, list.size());
+                for (Object element : list) writeValue(out, element);
+            }
+            case String string -> {
+                out.writeByte(STRING);
+                writeVarLong(out, string(string));
+            }
+            case Long number -> {
+                out.writeByte(LONG);
+                writeVarLong(out, (number << 1) ^ (number >> 63));
+            }
+            case Double number -> {
+                out.writeByte(DOUBLE);
+                out.writeLong(Double.doubleToRawLongBits(number));
+            }
+            case Boolean bool -> out.writeByte(bool ? TRUE : FALSE);
+            default -> throw new IllegalStateException("Unsupported value: " + value);
+        }
+    }
+
+    private int string(String string) {
+        return strings.computeIfAbsent(string, _ -> strings.size());
+    }
+
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    // Same as the server parsing, numbers must keep their type
+    private static Object readObject(JsonReader reader) throws IOException {
+        return switch (reader.peek()) {
+            case BEGIN_ARRAY -> {
+                List<Object> list = new ArrayList<>();
+                reader.beginArray();
+                while (reader.hasNext()) list.add(readObject(reader));
+                reader.endArray();
+                yield list;
+            }
+            case BEGIN_OBJECT -> {
+                Map<String, Object> map = new HashMap<>();
+                reader.beginObject();
+                while (reader.hasNext()) map.put(reader.nextName(), readObject(reader));
+                reader.endObject();
+                yield map;
+            }
+            case STRING -> reader.nextString();
+            case NUMBER -> ToNumberPolicy.LONG_OR_DOUBLE.readNumber(reader);
+            case BOOLEAN -> reader.nextBoolean();
+            default -> throw new IllegalStateException("Invalid peek: " + reader.peek());
+        };
+    }
+}
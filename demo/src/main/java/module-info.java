@@ -1,3 +1,4 @@
 module net.minestom.demo {
+    requires java.management;
     requires net.minestom.server;
-}
\ No newline at end of file
+}
@@ -0,0 +1,88 @@
+package net.minestom.demo;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cold start of the demo server, from the JVM launch to its first answered status ping,
+ * started by the {@code startupBenchmark} task of the demo.
+ * <p>
+ * Each run starts a new JVM with the module path of this one, with and without the startup cache when it exists.
+ * <p>
+ * Arguments: {@code <startup cache> [runs]}
+ */
+public final class StartupBenchmark {
+    private static final int DEFAULT_RUNS = 5;
+    private static final int PORT = 25565;
+    private static final long TIMEOUT = TimeUnit.MINUTES.toNanos(2);
+
+    static void main(String[] args) throws Exception {
+        if (args.length < 1) {
+            System.err.println("Usage: <startup cache> [runs]");
+            return;
+        }
+        final Path cache = Path.of(args[0]);
+        final int runs = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_RUNS;
+
+        report("Without startup cache", measure(List.of(), runs));
+        if (Files.isRegularFile(cache)) {
+            report("With startup cache", measure(List.of("-XX:AOTCache=" + cache.toAbsolutePath()), runs));
+        } else {
+            System.out.println("No startup cache at " + cache + ", run the trainStartupCache task first");
+        }
+    }
+
+    private static long[] measure(List<String> jvmArgs, int runs) throws Exception {
+        long[] times = new long[runs];
+        for (int i = 0; i < runs; i++) times[i] = startToFirstPing(jvmArgs);
+        return times;
+    }
+
+    private static long startToFirstPing(List<String> jvmArgs) throws Exception {
+        List<String> command = new ArrayList<>();
+        command.add(ProcessHandle.current().info().command().orElseThrow());
+        command.addAll(jvmArgs);
+        // Same flags as the run and training tasks, the cache is only used with matching flags
+        for (String argument : ManagementFactory.getRuntimeMXBean().getInputArguments()) {
+            if (argument.equals("-ea")) command.add(argument);
+        }
+        command.add("--module-path");
+        command.add(System.getProperty("jdk.module.path"));
+        command.add("--module");
+        command.add("net.minestom.demo/net.minestom.demo.Main");
+
+        final long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .redirectError(ProcessBuilder.Redirect.INHERIT)
+                .start();
+        try {
+            while (System.nanoTime() - start < TIMEOUT) {
+                if (!process.isAlive()) throw new IllegalStateException("Server exited with code " + process.exitValue());
+                try {
+                    StatusPing.ping("127.0.0.1", PORT);
+                    return System.nanoTime() - start;
+                } catch (IOException e) {
+                    // Not listening yet
+                    Thread.sleep(5);
+                }
+            }
+            throw new IllegalStateException("Server did not answer in time");
+        } finally {
+            process.destroy();
+            if (!process.waitFor(10, TimeUnit.SECONDS)) process.destroyForcibly().waitFor();
+        }
+    }
+
+    private static void report(String name, long[] times) {
+        long[] millis = Arrays.stream(times).map(TimeUnit.NANOSECONDS::toMillis).sorted().toArray();
+        System.out.printf("%s: min %d ms, median %d ms, max %d ms over %d runs%n",
+                name, millis[0], millis[millis.length / 2], millis[millis.length - 1], millis.length);
+    }
+}
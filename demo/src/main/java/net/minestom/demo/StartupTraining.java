@@ -0,0 +1,63 @@
+package net.minestom.demo;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.instance.Chunk;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.network.ConnectionState;
+import net.minestom.server.network.packet.PacketWriting;
+import net.minestom.server.network.packet.server.SendablePacket;
+import net.minestom.server.network.packet.server.ServerPacket;
+import net.minestom.server.registry.Registries;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Training run of the startup cache, started by the {@code trainStartupCache} task of the demo.
+ * <p>
+ * Starts the demo server then runs what a server does until its first players are playing: answering status pings,
+ * encoding the registry data sent during configuration, generating and lighting the spawn chunks and encoding them.
+ * Classes loaded and linked by the run, including the packet serializers and compiled templates,
+ * are stored in the cache written when the JVM exits.
+ */
+public final class StartupTraining {
+    private static final int PING_COUNT = 32;
+    private static final int CHUNK_RADIUS = 6;
+
+    static void main(String[] args) throws Exception {
+        Main.main(args);
+
+        for (int i = 0; i < PING_COUNT; i++) {
+            StatusPing.ping("127.0.0.1", MinecraftServer.getServer().getPort());
+        }
+
+        final int compressionThreshold = MinecraftServer.getCompressionThreshold();
+        for (SendablePacket packet : Registries.registryDataPackets(MinecraftServer.process(), false)) {
+            encode(ConnectionState.CONFIGURATION, packet, compressionThreshold);
+        }
+        encode(ConnectionState.CONFIGURATION, Registries.tagsPacket(MinecraftServer.process()), compressionThreshold);
+
+        for (Instance instance : MinecraftServer.getInstanceManager().getInstances()) {
+            List<CompletableFuture<Chunk>> chunks = new ArrayList<>();
+            for (int x = -CHUNK_RADIUS; x <= CHUNK_RADIUS; x++) {
+                for (int z = -CHUNK_RADIUS; z <= CHUNK_RADIUS; z++) {
+                    chunks.add(instance.loadChunk(x, z));
+                }
+            }
+            for (CompletableFuture<Chunk> chunk : chunks) {
+                encode(ConnectionState.PLAY, chunk.join().getFullDataPacket(), compressionThreshold);
+            }
+        }
+
+        MinecraftServer.stopCleanly();
+        // The cache is written on exit, server threads would keep the JVM alive
+        System.exit(0);
+    }
+
+    private static void encode(ConnectionState state, SendablePacket packet, int compressionThreshold) {
+        final ServerPacket serverPacket = SendablePacket.extractServerPacket(state, packet);
+        if (serverPacket == null) return;
+        PacketWriting.allocateTrimmedPacket(state, serverPacket, compressionThreshold);
+    }
+}
@@ -0,0 +1,85 @@
+package net.minestom.demo;
+
+import net.minestom.server.MinecraftServer;
+
+import java.io.*;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Minimal server list ping client, the first connection a server accepts.
+ */
+final class StatusPing {
+    private static final int HANDSHAKE_ID = 0x00;
+    private static final int STATUS_REQUEST_ID = 0x00;
+    private static final int STATUS_INTENT = 1;
+
+    private StatusPing() {
+    }
+
+    /**
+     * Requests the status of a server.
+     *
+     * @param host the server host
+     * @param port the server port
+     * @return the status response json
+     * @throws IOException if the server is not reachable or answered an invalid response
+     */
+    static String ping(String host, int port) throws IOException {
+        try (Socket socket = new Socket()) {
+            socket.setTcpNoDelay(true);
+            socket.connect(new InetSocketAddress(host, port), 1000);
+            socket.setSoTimeout(5000);
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+            DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+
+            ByteArrayOutputStream handshake = new ByteArrayOutputStream();
+            DataOutputStream handshakeOut = new DataOutputStream(handshake);
+            writeVarInt(handshakeOut, HANDSHAKE_ID);
+            writeVarInt(handshakeOut, MinecraftServer.PROTOCOL_VERSION);
+            writeString(handshakeOut, host);
+            handshakeOut.writeShort(port);
+            writeVarInt(handshakeOut, STATUS_INTENT);
+            writePacket(out, handshake.toByteArray());
+            writePacket(out, new byte[]{STATUS_REQUEST_ID});
+            out.flush();
+
+            readVarInt(in); // Packet length
+            final int id = readVarInt(in);
+            if (id != 0x00) throw new IOException("Unexpected status response id: " + id);
+            final byte[] json = new byte[readVarInt(in)];
+            in.readFully(json);
+            return new String(json, StandardCharsets.UTF_8);
+        }
+    }
+
+    private static void writePacket(DataOutputStream out, byte[] packet) throws IOException {
+        writeVarInt(out, packet.length);
+        out.write(packet);
+    }
+
+    private static void writeString(DataOutputStream out, String string) throws IOException {
+        final byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(out, bytes.length);
+        out.write(bytes);
+    }
+
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static int readVarInt(DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            final byte b = in.readByte();
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) return value;
+        }
+        throw new IOException("VarInt is too big");
+    }
+}
@@ -0,0 +1,142 @@
+package net.minestom.server.entity.pathfinding;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.collision.BoundingBox;
+import net.minestom.server.coordinate.ChunkRange;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.entity.pathfinding.generators.FlyingNodeGenerator;
+import net.minestom.server.entity.pathfinding.generators.GroundNodeGenerator;
+import net.minestom.server.entity.pathfinding.generators.NodeGenerator;
+import net.minestom.server.entity.pathfinding.generators.WaterNodeGenerator;
+import net.minestom.server.instance.InstanceContainer;
+import net.minestom.server.instance.block.Block;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Measures path computation for each {@link NodeGenerator}.
+ * <ul>
+ *     <li>{@link #generate()} - a single synchronous computation, the cost the tick thread used to pay per path</li>
+ *     <li>{@link #generatePrimitive()} - the same computation through the allocation-free {@link PrimitivePathGenerator}</li>
+ *     <li>{@link #submitBatch()} - the tick thread cost of handing {@code batchSize} paths to a {@link PathfindingService}</li>
+ *     <li>{@link #completeBatch()} - wall time until {@code batchSize} off-tick paths are all computed</li>
+ * </ul>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 8, time = 1)
+@Fork(2)
+public class PathfindingBenchmark {
+    private static final BoundingBox BOUNDING_BOX = new BoundingBox(0.6, 1.95, 0.6);
+    private static final int FLOOR_Y = 40;
+
+    public enum Kind {
+        GROUND(GroundNodeGenerator::new, new Pos(0.5, FLOOR_Y, 0.5), new Pos(40.5, FLOOR_Y, 30.5)),
+        FLYING(FlyingNodeGenerator::new, new Pos(0.5, FLOOR_Y + 10.5, 0.5), new Pos(40.5, FLOOR_Y + 20.5, 30.5)),
+        WATER(WaterNodeGenerator::new, new Pos(0.5, FLOOR_Y - 10.5, 0.5), new Pos(40.5, FLOOR_Y - 5.5, 30.5));
+
+        final Supplier<NodeGenerator> generator;
+        final Pos start;
+        final Pos target;
+
+        Kind(Supplier<NodeGenerator> generator, Pos start, Pos target) {
+            this.generator = generator;
+            this.start = start;
+            this.target = target;
+        }
+    }
+
+    @Param({"GROUND", "FLYING", "WATER"})
+    private Kind kind;
+
+    @Param({"100"})
+    private int batchSize;
+
+    @Param({"50", "128"})
+    private double maxDistance;
+
+    private InstanceContainer instance;
+    private PathfindingService service;
+    private List<PPath> inFlight = List.of();
+
+    @Setup
+    public void setup() {
+        MinecraftServer.init();
+        instance = MinecraftServer.getInstanceManager().createInstanceContainer();
+        // Stone bed, a water layer, then air above the floor
+        instance.setGenerator(unit -> {
+            unit.modifier().fillHeight(0, FLOOR_Y - 20, Block.STONE);
+            unit.modifier().fillHeight(FLOOR_Y - 20, FLOOR_Y - 1, Block.WATER);
+            unit.modifier().fillHeight(FLOOR_Y - 1, FLOOR_Y, Block.STONE);
+        });
+        ChunkRange.chunksInRange(0, 0, 6, (x, z) -> instance.loadChunk(x, z).join());
+        // Scatter pillars so paths are not straight lines
+        for (int x = 4; x < 48; x += 6) {
+            for (int z = -8; z < 40; z += 5) {
+                for (int y = FLOOR_Y; y < FLOOR_Y + 3; y++) instance.setBlock(x, y, z, Block.STONE);
+            }
+        }
+        service = new PathfindingService(Math.max(1, Runtime.getRuntime().availableProcessors() / 2),
+                Integer.MAX_VALUE, batchSize * 2);
+    }
+
+    @TearDown(Level.Invocation)
+    public void awaitInFlight() {
+        // Keep the pool from saturating without measuring the computations
+        awaitAll(inFlight);
+        inFlight = List.of();
+    }
+
+    @TearDown
+    public void tearDown() {
+        service.shutdown();
+    }
+
+    @Benchmark
+    public PPath generate() {
+        return PathGenerator.generate(instance, kind.start, kind.target, 0.8, maxDistance, 40,
+                BOUNDING_BOX, true, kind.generator.get(), null);
+    }
+
+    @Benchmark
+    public PPath generatePrimitive() {
+        final PPath path = new PPath(maxDistance, 40, null);
+        PrimitivePathGenerator.computePath(instance, kind.start, kind.target, 0.8, maxDistance, 40,
+                BOUNDING_BOX, path, kind.generator.get());
+        return path;
+    }
+
+    @Benchmark
+    public List<PPath> submitBatch() {
+        return inFlight = submit();
+    }
+
+    @Benchmark
+    public List<PPath> completeBatch() {
+        final List<PPath> paths = submit();
+        awaitAll(paths);
+        return paths;
+    }
+
+    private List<PPath> submit() {
+        List<PPath> paths = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            final PPath path = service.submit(instance, kind.start, kind.target, 0.8, maxDistance, 40,
+                    BOUNDING_BOX, true, kind.generator.get(), null);
+            if (path != null) paths.add(path);
+        }
+        return paths;
+    }
+
+    private static void awaitAll(List<PPath> paths) {
+        for (PPath path : paths) {
+            while (path.isComputing()) Thread.onSpinWait();
+        }
+    }
+}
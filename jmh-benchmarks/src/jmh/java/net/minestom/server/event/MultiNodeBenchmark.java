@@ -11,11 +11,14 @@ import java.util.concurrent.TimeUnit;
 @OutputTimeUnit(TimeUnit.NANOSECONDS)
 @State(Scope.Benchmark)
 public class MultiNodeBenchmark {
+    private static final int ENTITIES = 10_000;
 
     @Param({"0", "1", "3", "10"})
     public int children;
 
     private EventNode<Event> node;
+    private ListenerHandle<EntityTickEvent> tickHandle;
+    private Object[] entities;
 
     record TestEvent() implements Event {
     }
@@ -23,6 +26,9 @@ public class MultiNodeBenchmark {
     record TestEvent2() implements Event {
     }
 
+    record EntityTickEvent(Object entity) implements Event {
+    }
+
     @Setup
     public void setup() {
         node = EventNode.all("node");
@@ -31,6 +37,9 @@ public class MultiNodeBenchmark {
             child.addListener(TestEvent.class, e -> {
                 // Empty
             });
+            child.addListener(EntityTickEvent.class, e -> {
+                // Empty
+            });
 
             node.addChild(child);
 
@@ -40,10 +49,31 @@ public class MultiNodeBenchmark {
                 // Empty
             }).call(new TestEvent2());
         }
+
+        this.tickHandle = node.getHandle(EntityTickEvent.class);
+        this.entities = new Object[ENTITIES];
+        for (int i = 0; i < ENTITIES; i++) entities[i] = new Object();
     }
 
     @Benchmark
     public void call() {
         node.call(new TestEvent());
     }
+
+    @Benchmark
+    @OperationsPerInvocation(ENTITIES)
+    public void entityTickCall() {
+        for (Object entity : entities) {
+            node.call(new EntityTickEvent(entity));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ENTITIES)
+    public void entityTickHandle() {
+        final ListenerHandle<EntityTickEvent> handle = this.tickHandle;
+        for (Object entity : entities) {
+            if (handle.hasListener()) handle.call(new EntityTickEvent(entity));
+        }
+    }
 }
@@ -11,12 +11,15 @@ import java.util.concurrent.TimeUnit;
 @OutputTimeUnit(TimeUnit.NANOSECONDS)
 @State(Scope.Benchmark)
 public class SingleNodeBenchmark {
+    private static final int ENTITIES = 10_000;
 
     @Param({"0", "1", "2", "3", "5", "10"})
     public int listenerCount;
 
     private EventNode<Event> node;
     private ListenerHandle<TestEvent> handle;
+    private ListenerHandle<EntityTickEvent> tickHandle;
+    private Object[] entities;
 
     record TestEvent() implements Event {
     }
@@ -24,6 +27,9 @@ public class SingleNodeBenchmark {
     record TestEvent2() implements Event {
     }
 
+    record EntityTickEvent(Object entity) implements Event {
+    }
+
     @Setup
     public void setup() {
         node = EventNode.all("node");
@@ -31,6 +37,9 @@ public class SingleNodeBenchmark {
             node.addListener(TestEvent.class, e -> {
                 // Empty
             });
+            node.addListener(EntityTickEvent.class, e -> {
+                // Empty
+            });
         }
         // Real-world code are very unlikely to use entirely empty nodes.
         // This ensures that the handle map is properly lazily initialized to prevent fast exits.
@@ -40,6 +49,9 @@ public class SingleNodeBenchmark {
         node.call(new TestEvent2());
 
         this.handle = node.getHandle(TestEvent.class);
+        this.tickHandle = node.getHandle(EntityTickEvent.class);
+        this.entities = new Object[ENTITIES];
+        for (int i = 0; i < ENTITIES; i++) entities[i] = new Object();
     }
 
     @Benchmark
@@ -51,4 +63,21 @@ public class SingleNodeBenchmark {
     public void handleCall() {
         handle.call(new TestEvent());
     }
+
+    @Benchmark
+    @OperationsPerInvocation(ENTITIES)
+    public void entityTickCall() {
+        for (Object entity : entities) {
+            node.call(new EntityTickEvent(entity));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ENTITIES)
+    public void entityTickHandle() {
+        final ListenerHandle<EntityTickEvent> handle = this.tickHandle;
+        for (Object entity : entities) {
+            if (handle.hasListener()) handle.call(new EntityTickEvent(entity));
+        }
+    }
 }
@@ -0,0 +1,88 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.instance.block.Block;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.ref.Reference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Copies a generated map, as done by minigames starting a new round from a template instance.
+ * <p>
+ * {@link #copy()} measures the clone latency alone, {@link #copyAndPlay()} also modifies a few blocks
+ * in the copy, which copies the touched sections. The heap retained by each copy is printed at the end of the trial.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 8, time = 1)
+@Fork(2)
+public class InstanceCopyBenchmark {
+    private static final Block[] ORES = {Block.COAL_ORE, Block.IRON_ORE, Block.GRANITE, Block.DIORITE, Block.ANDESITE, Block.GRAVEL};
+    private static final int RETAINED_COPIES = 16;
+
+    @Param({"4", "16"})
+    private int mapSize;
+
+    private InstanceContainer template;
+    private Random random;
+
+    @Setup
+    public void setup() {
+        MinecraftServer.init();
+        this.template = MinecraftServer.getInstanceManager().createInstanceContainer();
+        template.setGenerator(unit -> {
+            final Random random = new Random(unit.absoluteStart().chunkX() * 31L + unit.absoluteStart().chunkZ());
+            unit.modifier().fillHeight(-64, 40, Block.STONE);
+            unit.modifier().fillHeight(40, 41, Block.GRASS_BLOCK);
+            final int startX = unit.absoluteStart().blockX();
+            final int startZ = unit.absoluteStart().blockZ();
+            for (int i = 0; i < 256; i++) {
+                unit.modifier().setBlock(startX + random.nextInt(16), -64 + random.nextInt(104), startZ + random.nextInt(16),
+                        ORES[random.nextInt(ORES.length)]);
+            }
+        });
+        for (int chunkX = 0; chunkX < mapSize; chunkX++) {
+            for (int chunkZ = 0; chunkZ < mapSize; chunkZ++) {
+                template.loadChunk(chunkX, chunkZ).join();
+            }
+        }
+        this.random = new Random(42);
+    }
+
+    @Benchmark
+    public InstanceContainer copy() {
+        return template.copy();
+    }
+
+    @Benchmark
+    public InstanceContainer copyAndPlay() {
+        final InstanceContainer copy = template.copy();
+        final int blockSize = mapSize * 16;
+        for (int i = 0; i < 64; i++) {
+            copy.setBlock(random.nextInt(blockSize), 40 + random.nextInt(8), random.nextInt(blockSize), Block.OAK_PLANKS);
+        }
+        return copy;
+    }
+
+    @TearDown
+    public void teardown() {
+        final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        System.gc();
+        final long before = memory.getHeapMemoryUsage().getUsed();
+        List<InstanceContainer> copies = new ArrayList<>(RETAINED_COPIES);
+        for (int i = 0; i < RETAINED_COPIES; i++) copies.add(template.copy());
+        System.gc();
+        final long after = memory.getHeapMemoryUsage().getUsed();
+        Reference.reachabilityFence(copies);
+        System.out.printf("%nretained heap per copy of %d chunks: %d KiB%n",
+                mapSize * mapSize, (after - before) / RETAINED_COPIES / 1024);
+    }
+}
@@ -0,0 +1,108 @@
+package net.minestom.server.instance.anvil;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.instance.Chunk;
+import net.minestom.server.instance.InstanceContainer;
+import net.minestom.server.instance.block.Block;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Loads a full 32x32 region through {@link AnvilLoader}, from a fresh loader each time so that the region file
+ * is opened again, then unloads it.
+ * <p>
+ * {@link #parallel()} loads the chunks from the common pool, as done by instances when
+ * {@link AnvilLoader#supportsParallelLoading()} is true.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AnvilLoaderBenchmark {
+    private static final int REGION_SIZE = 32;
+    private static final Block[] ORES = {Block.COAL_ORE, Block.IRON_ORE, Block.GRANITE, Block.DIORITE, Block.ANDESITE, Block.GRAVEL};
+
+    private Path worldFolder;
+    private InstanceContainer instance;
+
+    @Setup
+    public void setup() throws IOException {
+        MinecraftServer.init();
+        this.worldFolder = Files.createTempDirectory("minestom-anvil-benchmark");
+
+        // Generate and save the region once
+        InstanceContainer source = MinecraftServer.getInstanceManager().createInstanceContainer(new AnvilLoader(worldFolder));
+        source.setGenerator(unit -> {
+            final Random random = new Random(unit.absoluteStart().chunkX() * 31L + unit.absoluteStart().chunkZ());
+            unit.modifier().fillHeight(-64, 40, Block.STONE);
+            unit.modifier().fillHeight(40, 41, Block.GRASS_BLOCK);
+            final int startX = unit.absoluteStart().blockX();
+            final int startZ = unit.absoluteStart().blockZ();
+            for (int i = 0; i < 256; i++) {
+                unit.modifier().setBlock(startX + random.nextInt(16), -64 + random.nextInt(104), startZ + random.nextInt(16),
+                        ORES[random.nextInt(ORES.length)]);
+            }
+        });
+        for (int chunkX = 0; chunkX < REGION_SIZE; chunkX++) {
+            for (int chunkZ = 0; chunkZ < REGION_SIZE; chunkZ++) {
+                source.loadChunk(chunkX, chunkZ).join();
+            }
+        }
+        source.saveChunksToStorage().join();
+        MinecraftServer.getInstanceManager().unregisterInstance(source);
+
+        this.instance = MinecraftServer.getInstanceManager().createInstanceContainer();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(worldFolder)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> {
+                try {
+                    Files.delete(path);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+    }
+
+    @Benchmark
+    public void sequential(Blackhole blackhole) {
+        AnvilLoader loader = new AnvilLoader(worldFolder);
+        Chunk[] chunks = new Chunk[REGION_SIZE * REGION_SIZE];
+        for (int i = 0; i < chunks.length; i++) {
+            chunks[i] = loader.loadChunk(instance, i % REGION_SIZE, i / REGION_SIZE);
+        }
+        unload(loader, chunks, blackhole);
+    }
+
+    @Benchmark
+    public void parallel(Blackhole blackhole) {
+        AnvilLoader loader = new AnvilLoader(worldFolder);
+        Chunk[] chunks = new Chunk[REGION_SIZE * REGION_SIZE];
+        IntStream.range(0, chunks.length).parallel()
+                .forEach(i -> chunks[i] = loader.loadChunk(instance, i % REGION_SIZE, i / REGION_SIZE));
+        unload(loader, chunks, blackhole);
+    }
+
+    private static void unload(AnvilLoader loader, Chunk[] chunks, Blackhole blackhole) {
+        for (Chunk chunk : chunks) {
+            blackhole.consume(chunk);
+            // Closes the region file once the last chunk is unloaded
+            if (chunk != null) loader.unloadChunk(chunk);
+        }
+    }
+}
@@ -25,6 +25,14 @@ public class LightComputeBenchmark {
     private byte[] content1;
     private byte[] content2;
 
+    // Lit section before and after a single block change
+    private Palette litPalette;
+    private byte[] litContent;
+    private Palette placedPalette;
+    private Palette brokenPalette;
+    private short[] placedChange;
+    private short[] brokenChange;
+
     @Setup
     public void setup() {
         airPalette = Palette.blocks();
@@ -65,7 +73,27 @@ public class LightComputeBenchmark {
         }
         content1 = LightCompute.compute(airPalette, queue1);
         content2 = LightCompute.compute(airPalette, queue2);
-    }
+
+        // Single block changes, next to one of the light sources of a build
+        litPalette = Palette.blocks();
+        for (int x = 0; x < 16; x++) {
+            for (int z = 0; z < 16; z++) {
+                litPalette.set(x, 0, z, Block.STONE.stateId());
+            }
+        }
+        for (int i = 2; i < 16; i += 6) {
+            litPalette.set(i, 1, i, Block.GLOWSTONE.stateId());
+            litPalette.set(i, 8, 15 - i, Block.GLOWSTONE.stateId());
+        }
+        litContent = LightCompute.compute(litPalette, BlockLight.buildInternalQueue(litPalette));
+
+        placedPalette = litPalette.clone();
+        placedPalette.set(8, 1, 9, Block.STONE.stateId());
+        placedChange = new short[]{(short) (8 | (9 << 4) | (1 << 8))};
+
+        brokenPalette = litPalette.clone();
+        brokenPalette.set(8, 1, 8, Block.AIR.stateId());
+        brokenChange = new short[]{(short) (8 | (8 << 4) | (1 << 8))};
 
     @Benchmark
     public void buildInternalQueue_air(Blackhole blackhole) {
@@ -97,6 +125,16 @@ public class LightComputeBenchmark {
         blackhole.consume(queue);
     }
 
+    @Benchmark
+    public void compute_glowstone(Blackhole blackhole) {
+        blackhole.consume(LightCompute.compute(glowstonePalette, BlockLight.buildInternalQueue(glowstonePalette)));
+    }
+
+    @Benchmark
+    public void compute_mixedGlowStone(Blackhole blackhole) {
+        blackhole.consume(LightCompute.compute(mixedGlowstonePalette, BlockLight.buildInternalQueue(mixedGlowstonePalette)));
+    }
+
     @Benchmark
     public void bake_emptyContent(Blackhole blackhole) {
         byte[] result = LightCompute.bake(LightCompute.EMPTY_CONTENT, LightCompute.EMPTY_CONTENT);
@@ -121,5 +159,26 @@ public class LightComputeBenchmark {
         byte[] result = LightCompute.bake(content1, content2);
         blackhole.consume(result);
     }
-}
 
+    @Benchmark
+    public void placeBlock_compute(Blackhole blackhole) {
+        blackhole.consume(LightCompute.compute(placedPalette, BlockLight.buildInternalQueue(placedPalette)));
+    }
+
+    @Benchmark
+    public void placeBlock_update(Blackhole blackhole) {
+        blackhole.consume(LightCompute.update(placedPalette, litContent, placedChange,
+                index -> BlockLight.lightEmission(placedPalette, index)));
+    }
+
+    @Benchmark
+    public void breakLight_compute(Blackhole blackhole) {
+        blackhole.consume(LightCompute.compute(brokenPalette, BlockLight.buildInternalQueue(brokenPalette)));
+    }
+
+    @Benchmark
+    public void breakLight_update(Blackhole blackhole) {
+        blackhole.consume(LightCompute.update(brokenPalette, litContent, brokenChange,
+                index -> BlockLight.lightEmission(brokenPalette, index)));
+    }
+}
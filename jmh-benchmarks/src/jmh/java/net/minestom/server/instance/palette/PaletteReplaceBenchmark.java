@@ -6,7 +6,7 @@ import java.util.concurrent.TimeUnit;
 
 @Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
 @Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
-@Fork(3)
+@Fork(value = 3, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
 @BenchmarkMode(Mode.AverageTime)
 @OutputTimeUnit(TimeUnit.NANOSECONDS)
 @State(Scope.Benchmark)
@@ -15,14 +15,39 @@ public class PaletteReplaceBenchmark {
     //@Param({"4", "16"})
     //public int dimension;
 
+    @Param({"false", "true"})
+    public boolean vectorized;
+
     private Palette palette;
+    private int indirectBitsPerEntry;
+    private long[] indirectValues;
+    private int replacedIndex;
 
     @Setup
     public void setup() {
+        // Read when the palette operations are first used
+        System.setProperty("minestom.palette.vectorization", String.valueOf(vectorized));
+        if (Palettes.vectorized() != vectorized) throw new IllegalStateException("Vector API unavailable");
         // FIXME: StackOverflowError
         // palette = Palette.newPalette(dimension, 15, 4, 1);
         palette = Palette.blocks();
         palette.setAll((x, y, z) -> x + y + z + 1);
+
+        Palette indirectPalette = Palette.blocks();
+        indirectPalette.setAll((x, y, z) -> (x + y + z) % 8 + 1);
+        indirectPalette.optimize(Palette.Optimization.SIZE);
+        indirectBitsPerEntry = indirectPalette.bitsPerEntry();
+        indirectValues = indirectPalette.indexedValues().clone();
+        replacedIndex = 1;
+    }
+
+    @Benchmark
+    public int replaceIndex() {
+        // Merges the entries of a palette index into another one and back, as when replacing a value present in the palette
+        final int oldIndex = replacedIndex;
+        final int newIndex = oldIndex == 1 ? 2 : 1;
+        replacedIndex = newIndex;
+        return Palettes.replaceEquals(indirectBitsPerEntry, indirectValues, palette.maxSize(), oldIndex, newIndex);
     }
 
     @Benchmark
@@ -7,7 +7,7 @@ import java.util.concurrent.TimeUnit;
 
 @Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
 @Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
-@Fork(3)
+@Fork(value = 3, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
 @BenchmarkMode(Mode.AverageTime)
 @OutputTimeUnit(TimeUnit.NANOSECONDS)
 @State(Scope.Benchmark)
@@ -16,12 +16,18 @@ public class PaletteScanBenchmark {
     @Param({"indirect", "direct"})
     public String mode;
 
+    @Param({"false", "true"})
+    public boolean vectorized;
+
     private Palette palette;
     private int presentValue;
     private int absentValue;
 
     @Setup
     public void setup() {
+        // Read when the palette operations are first used
+        System.setProperty("minestom.palette.vectorization", String.valueOf(vectorized));
+        if (Palettes.vectorized() != vectorized) throw new IllegalStateException("Vector API unavailable");
         palette = Palette.blocks();
         var random = new Random(18932365);
         final int dimension = palette.dimension();
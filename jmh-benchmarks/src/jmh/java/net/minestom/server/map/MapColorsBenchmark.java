@@ -0,0 +1,69 @@
+package net.minestom.server.map;
+
+import net.minestom.server.map.framebuffers.Graphics2DFramebuffer;
+import org.openjdk.jmh.annotations.*;
+
+import java.awt.*;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class MapColorsBenchmark {
+
+    // Read once by MapColors, every parameter combination runs in its own fork
+    @Param({"lazy", "precise", "approximate"})
+    String strategy;
+
+    private int[] pixels;
+    private byte[] colors;
+    private Graphics2DFramebuffer framebuffer;
+
+    @Setup
+    public void setup() {
+        System.setProperty("minestom.map.rgbmapping", strategy);
+
+        Random random = new Random(67);
+        pixels = new int[Framebuffer.WIDTH * Framebuffer.HEIGHT];
+        for (int i = 0; i < pixels.length; i++) {
+            pixels[i] = random.nextInt(0x1000000);
+        }
+        colors = new byte[pixels.length];
+
+        framebuffer = new Graphics2DFramebuffer();
+        Graphics2D renderer = framebuffer.getRenderer();
+        renderer.setPaint(new GradientPaint(0, 0, Color.RED, Framebuffer.WIDTH, Framebuffer.HEIGHT, Color.CYAN));
+        renderer.fillRect(0, 0, Framebuffer.WIDTH, Framebuffer.HEIGHT);
+        renderer.setColor(Color.BLACK);
+        renderer.drawString("Minestom", 20, 64);
+
+        // Fill the tables outside of the measurement
+        MapColors.closestIndices(pixels, 0, colors, 0, pixels.length);
+        framebuffer.toMapColors();
+    }
+
+    @Benchmark
+    public byte[] closestColor() {
+        final int[] pixels = this.pixels;
+        final byte[] colors = this.colors;
+        for (int i = 0; i < pixels.length; i++) {
+            colors[i] = MapColors.closestColor(pixels[i]).getIndex();
+        }
+        return colors;
+    }
+
+    @Benchmark
+    public byte[] closestIndices() {
+        MapColors.closestIndices(pixels, 0, colors, 0, pixels.length);
+        return colors;
+    }
+
+    @Benchmark
+    public byte[] framebuffer() {
+        return framebuffer.toMapColors();
+    }
+}
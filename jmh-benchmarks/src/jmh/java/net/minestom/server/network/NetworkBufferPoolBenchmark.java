@@ -0,0 +1,108 @@
+package net.minestom.server.network;
+
+import net.minestom.server.utils.ObjectPool;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Borrows a buffer for packets of mixed sizes, writes them and gives the buffer back.
+ * <p>
+ * Sizes follow a server workload: mostly small entity and movement packets, some medium packets,
+ * and a few chunk sized ones larger than {@link net.minestom.server.ServerFlag#POOLED_BUFFER_SIZE}.
+ * The statistics of the sized pool are printed at the end of the trial.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 8, time = 1)
+@Fork(2)
+@Threads(4)
+public class NetworkBufferPoolBenchmark {
+    private static final int POOLED_SIZE = 16_383;
+
+    public enum Pool {
+        /**
+         * Single size soft referenced pool, buffers grow for large packets.
+         */
+        OBJECT_POOL,
+        /**
+         * Size-classed off-heap pool.
+         */
+        SIZED_POOL,
+        /**
+         * New buffer for each packet.
+         */
+        ALLOCATE
+    }
+
+    @Param({"OBJECT_POOL", "SIZED_POOL", "ALLOCATE"})
+    private Pool pool;
+
+    private ObjectPool<NetworkBuffer> objectPool;
+    private NetworkBufferPool sizedPool;
+
+    @State(Scope.Thread)
+    public static class Sizes {
+        private final int[] sizes = new int[4096];
+        private int index;
+
+        @Setup
+        public void setup() {
+            final SplittableRandom random = new SplittableRandom(42);
+            for (int i = 0; i < sizes.length; i++) {
+                final int roll = random.nextInt(100);
+                if (roll < 85) sizes[i] = random.nextInt(8, 256);
+                else if (roll < 98) sizes[i] = random.nextInt(256, 8_192);
+                else sizes[i] = random.nextInt(32_768, 262_144);
+            }
+        }
+
+        int next() {
+            final int[] sizes = this.sizes;
+            return sizes[index++ & (sizes.length - 1)];
+        }
+    }
+
+    @Setup
+    public void setup() {
+        objectPool = ObjectPool.pool(() -> NetworkBuffer.staticBuffer(POOLED_SIZE), NetworkBuffer::clear);
+        sizedPool = new NetworkBufferPool(4_096, 4_194_304, 8_388_608);
+    }
+
+    @Benchmark
+    public void packet(Sizes sizes, Blackhole blackhole) {
+        final int size = sizes.next();
+        final NetworkBuffer buffer = switch (pool) {
+            case OBJECT_POOL -> {
+                NetworkBuffer pooled = objectPool.get();
+                if (pooled.capacity() < size) pooled.resize(size);
+                yield pooled;
+            }
+            case SIZED_POOL -> sizedPool.acquire(size);
+            case ALLOCATE -> NetworkBuffer.staticBuffer(size);
+        };
+        buffer.advanceWrite(size - Long.BYTES);
+        buffer.write(NetworkBuffer.LONG, (long) size);
+        blackhole.consume(buffer.read(NetworkBuffer.BYTE));
+        switch (pool) {
+            case OBJECT_POOL -> objectPool.add(buffer);
+            case SIZED_POOL -> sizedPool.release(buffer);
+            case ALLOCATE -> blackhole.consume(buffer);
+        }
+    }
+
+    @TearDown
+    public void teardown() {
+        if (pool != Pool.SIZED_POOL) return;
+        for (NetworkBufferPool.SizeClassStats stats : sizedPool.stats()) {
+            if (stats.hits() + stats.misses() == 0) continue;
+            System.out.printf("%nclass %d: hits=%d misses=%d high-water=%d retained=%d",
+                    stats.size(), stats.hits(), stats.misses(), stats.highWater(), stats.retained());
+        }
+        System.out.println();
+    }
+}
@@ -0,0 +1,109 @@
+package net.minestom.server.network;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.instance.InstanceContainer;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.network.compression.CompressionPolicy;
+import net.minestom.server.network.compression.PacketCompressor;
+import net.minestom.server.network.packet.PacketWriting;
+import net.minestom.server.network.packet.server.CachedPacket;
+import net.minestom.server.network.packet.server.play.ChunkDataPacket;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the compression levels on chunk data packets, as produced by {@code DynamicChunk}.
+ * <p>
+ * The compressed size of each level is printed at the end of the trial, to weigh the time against the ratio.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 8, time = 1)
+@Fork(2)
+public class PacketCompressionBenchmark {
+    private static final Block[] ORES = {Block.COAL_ORE, Block.IRON_ORE, Block.GRANITE, Block.DIORITE, Block.ANDESITE, Block.GRAVEL};
+
+    public enum Terrain {
+        /**
+         * Superflat, mostly single valued palettes.
+         */
+        FLAT,
+        /**
+         * Stone with scattered ores and a noisy surface, closer to a generated world.
+         */
+        VARIED
+    }
+
+    @Param({"1", "6", "9"})
+    private int level;
+
+    @Param({"FLAT", "VARIED"})
+    private Terrain terrain;
+
+    private PacketCompressor compressor;
+    private ChunkDataPacket packet;
+    private NetworkBuffer payload;
+    private long payloadSize;
+    private NetworkBuffer output;
+
+    @Setup
+    public void setup() {
+        MinecraftServer.init();
+        InstanceContainer instance = MinecraftServer.getInstanceManager().createInstanceContainer();
+        final Terrain terrain = this.terrain;
+        instance.setGenerator(unit -> {
+            if (terrain == Terrain.FLAT) {
+                unit.modifier().fillHeight(-64, 0, Block.STONE);
+                unit.modifier().fillHeight(0, 3, Block.DIRT);
+                unit.modifier().fillHeight(3, 4, Block.GRASS_BLOCK);
+                return;
+            }
+            final Random random = new Random(unit.absoluteStart().chunkX() * 31L + unit.absoluteStart().chunkZ());
+            unit.modifier().fillHeight(-64, 40, Block.STONE);
+            final int startX = unit.absoluteStart().blockX();
+            final int startZ = unit.absoluteStart().blockZ();
+            for (int x = 0; x < 16; x++) {
+                for (int z = 0; z < 16; z++) {
+                    final int height = 40 + random.nextInt(8);
+                    for (int y = 40; y < height; y++) {
+                        unit.modifier().setBlock(startX + x, y, startZ + z, Block.DIRT);
+                    }
+                    unit.modifier().setBlock(startX + x, height, startZ + z, Block.GRASS_BLOCK);
+                    for (int i = 0; i < 6; i++) {
+                        unit.modifier().setBlock(startX + x, -64 + random.nextInt(104), startZ + z,
+                                ORES[random.nextInt(ORES.length)]);
+                    }
+                }
+            }
+        });
+        final CachedPacket chunkPacket = (CachedPacket) instance.loadChunk(0, 0).join().getFullDataPacket();
+        this.packet = (ChunkDataPacket) chunkPacket.packet(ConnectionState.PLAY);
+
+        // Uncompressed framing, the payload starts after the 3 bytes length
+        NetworkBuffer framed = NetworkBuffer.resizableBuffer(64 * 1024);
+        PacketWriting.writeFramedPacket(framed, ConnectionState.PLAY, packet, 0);
+        this.payloadSize = framed.writeIndex() - 3;
+        this.payload = framed;
+        this.output = NetworkBuffer.staticBuffer(payloadSize * 2 + 64);
+        this.compressor = PacketCompressor.deflater(CompressionPolicy.of(new CompressionPolicy.Rule(level, 0), Map.of()));
+    }
+
+    @TearDown
+    public void tearDown() {
+        output.clear();
+        final long compressed = compressor.compress(packet, payload, 3, payloadSize, output);
+        System.out.printf("%n%s level %d: %d -> %d bytes (ratio %.3f)%n", terrain, level,
+                payloadSize, compressed, (double) compressed / payloadSize);
+    }
+
+    @Benchmark
+    public long compress() {
+        output.clear();
+        return compressor.compress(packet, payload, 3, payloadSize, output);
+    }
+}
@@ -0,0 +1,217 @@
+package net.minestom.server.network;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.Viewable;
+import net.minestom.server.entity.Player;
+import net.minestom.server.network.packet.server.ServerPacket;
+import net.minestom.server.network.packet.server.common.PluginMessagePacket;
+import net.minestom.server.network.player.GameProfile;
+import net.minestom.server.network.player.PlayerSocketConnection;
+import net.minestom.server.utils.PacketSendingUtils;
+import net.minestom.server.utils.PacketViewableUtils;
+import org.openjdk.jmh.annotations.*;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.SocketAddress;
+import java.net.SocketOption;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.channels.spi.SelectorProvider;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Server CPU to send one broadcast packet to every viewer, from the send call until every connection flushed it.
+ * <ul>
+ *     <li>{@link #individual()} - the packet is framed and compressed by each connection</li>
+ *     <li>{@link #grouped()} - a single {@code CachedPacket} shared by the connections</li>
+ *     <li>{@link #viewable()} - the per-tick viewable buffer, framed once and sent as a {@code BufferedPacket}</li>
+ * </ul>
+ * Connections write to a channel discarding everything, so only the server side is measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 8, time = 1)
+@Fork(2)
+public class ViewableBroadcastBenchmark {
+    private static final InetSocketAddress ADDRESS = new InetSocketAddress("127.0.0.1", 25565);
+
+    @Param({"50", "200", "1000"})
+    private int viewers;
+
+    @Param({"false", "true"})
+    private boolean encrypted;
+
+    private ServerPacket packet;
+    private List<PlayerSocketConnection> connections;
+    private BenchmarkViewable viewable;
+
+    @Setup
+    public void setup() {
+        MinecraftServer.init();
+        // Above the compression threshold
+        final byte[] data = "minestom:benchmark".repeat(64).getBytes();
+        this.packet = new PluginMessagePacket("minestom:benchmark", data);
+        this.connections = new ArrayList<>(viewers);
+        this.viewable = new BenchmarkViewable();
+        for (int i = 0; i < viewers; i++) {
+            PlayerSocketConnection connection = new PlayerSocketConnection(new DiscardingChannel(), ADDRESS, () -> {
+            }, () -> {
+            });
+            connection.setServerState(ConnectionState.PLAY);
+            if (encrypted) connection.setEncryptionKey(new SecretKeySpec(new byte[16], "AES"));
+            connections.add(connection);
+            viewable.addViewer(new Player(connection, new GameProfile(UUID.randomUUID(), "Bench" + i)));
+        }
+    }
+
+    @Benchmark
+    public void individual() throws IOException {
+        for (PlayerSocketConnection connection : connections) connection.sendPacket(packet);
+        flushAll();
+    }
+
+    @Benchmark
+    public void grouped() throws IOException {
+        PacketSendingUtils.sendGroupedPacket(viewable.getViewers(), packet);
+        flushAll();
+    }
+
+    @Benchmark
+    public void viewable() throws IOException {
+        PacketViewableUtils.prepareViewablePacket(viewable, packet);
+        PacketViewableUtils.flush();
+        flushAll();
+    }
+
+    private void flushAll() throws IOException {
+        for (PlayerSocketConnection connection : connections) connection.flushNonBlocking();
+    }
+
+    private static final class BenchmarkViewable implements Viewable {
+        private final Set<Player> viewers = new HashSet<>();
+
+        @Override
+        public boolean addViewer(Player player) {
+            return viewers.add(player);
+        }
+
+        @Override
+        public boolean removeViewer(Player player) {
+            return viewers.remove(player);
+        }
+
+        @Override
+        public Set<Player> getViewers() {
+            return viewers;
+        }
+    }
+
+    private static final class DiscardingChannel extends SocketChannel {
+        DiscardingChannel() {
+            super(SelectorProvider.provider());
+        }
+
+        @Override
+        public int write(ByteBuffer src) {
+            final int remaining = src.remaining();
+            src.position(src.limit());
+            return remaining;
+        }
+
+        @Override
+        public long write(ByteBuffer[] srcs, int offset, int length) {
+            long written = 0;
+            for (int i = offset; i < offset + length; i++) written += write(srcs[i]);
+            return written;
+        }
+
+        @Override
+        public int read(ByteBuffer dst) {
+            return 0;
+        }
+
+        @Override
+        public long read(ByteBuffer[] dsts, int offset, int length) {
+            return 0;
+        }
+
+        @Override
+        public boolean isConnected() {
+            return true;
+        }
+
+        @Override
+        public boolean isConnectionPending() {
+            return false;
+        }
+
+        @Override
+        public boolean connect(SocketAddress remote) {
+            return true;
+        }
+
+        @Override
+        public boolean finishConnect() {
+            return true;
+        }
+
+        @Override
+        public SocketAddress getRemoteAddress() {
+            return ADDRESS;
+        }
+
+        @Override
+        public SocketAddress getLocalAddress() {
+            return ADDRESS;
+        }
+
+        @Override
+        public SocketChannel bind(SocketAddress local) {
+            return this;
+        }
+
+        @Override
+        public <T> SocketChannel setOption(SocketOption<T> name, T value) {
+            return this;
+        }
+
+        @Override
+        public <T> T getOption(SocketOption<T> name) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Set<SocketOption<?>> supportedOptions() {
+            return Set.of();
+        }
+
+        @Override
+        public SocketChannel shutdownInput() {
+            return this;
+        }
+
+        @Override
+        public SocketChannel shutdownOutput() {
+            return this;
+        }
+
+        @Override
+        public Socket socket() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        protected void implCloseSelectableChannel() {
+        }
+
+        @Override
+        protected void implConfigureBlocking(boolean block) {
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package net.minestom.server.registry;
+
+import net.minestom.server.MinecraftServer;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time to {@link MinecraftServer#init()} from a fresh JVM, reading registries from the binary snapshot
+ * or from their JSON. The heap used once started is printed by every fork.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+public class RegistryStartupBenchmark {
+
+    // Read once by ServerFlag, every parameter combination runs in its own fork
+    @Param({"true", "false"})
+    String snapshot;
+
+    @Setup
+    public void setup() {
+        System.setProperty("minestom.registry.snapshot", snapshot);
+    }
+
+    @Benchmark
+    public MinecraftServer init() {
+        return MinecraftServer.init();
+    }
+
+    @TearDown
+    public void heap() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        memory.gc();
+        final long used = memory.getHeapMemoryUsage().getUsed();
+        System.out.printf("%nHeap after init (snapshot=%s): %.1f MB%n", snapshot, used / (1024.0 * 1024.0));
+    }
+}
@@ -122,6 +122,7 @@ module net.minestom.server {
     exports net.minestom.server.message;
     exports net.minestom.server.monitoring;
     exports net.minestom.server.network;
+    exports net.minestom.server.network.compression;
     exports net.minestom.server.network.debug;
     exports net.minestom.server.network.debug.info;
     exports net.minestom.server.network.packet;
@@ -29,12 +29,14 @@ import net.minestom.server.item.instrument.Instrument;
 import net.minestom.server.listener.manager.PacketListenerManager;
 import net.minestom.server.message.ChatType;
 import net.minestom.server.network.ConnectionManager;
+import net.minestom.server.network.compression.PacketCompressor;
 import net.minestom.server.network.packet.PacketParser;
 import net.minestom.server.network.packet.server.common.PluginMessagePacket;
 import net.minestom.server.network.packet.server.play.ServerDifficultyPacket;
 import net.minestom.server.network.socket.Server;
 import net.minestom.server.recipe.RecipeManager;
 import net.minestom.server.registry.DynamicRegistry;
+import net.minestom.server.registry.RegistryData;
 import net.minestom.server.scoreboard.TeamManager;
 import net.minestom.server.thread.TickSchedulerThread;
 import net.minestom.server.timer.SchedulerManager;
@@ -50,6 +52,7 @@ import org.jetbrains.annotations.UnknownNullability;
 
 import java.net.InetSocketAddress;
 import java.net.SocketAddress;
+import java.util.Objects;
 
 /**
  * The main server class used to start the server and retrieve all the managers.
@@ -77,11 +80,14 @@ public final class MinecraftServer implements MinecraftConstants {
     private static volatile @UnknownNullability ServerProcess serverProcess;
 
     private static int compressionThreshold = 256;
+    private static PacketCompressor packetCompressor = PacketCompressor.deflater();
     private static String brandName = "Minestom";
     private static Difficulty difficulty = Difficulty.NORMAL;
 
     public static MinecraftServer init(Auth auth) {
         updateProcess(auth);
+        // Registries needed by the server are loaded
+        RegistryData.releaseSnapshot();
         return new MinecraftServer();
     }
 
@@ -246,6 +252,28 @@ public final class MinecraftServer implements MinecraftConstants {
         MinecraftServer.compressionThreshold = compressionThreshold;
     }
 
+    /**
+     * Gets the compressor of the packets reaching the compression threshold.
+     *
+     * @return the packet compressor
+     */
+    public static PacketCompressor getPacketCompressor() {
+        return packetCompressor;
+    }
+
+    /**
+     * Changes the compressor of the packets reaching the compression threshold.
+     * <p>
+     * WARNING: this need to be called before {@link #start(SocketAddress)}.
+     *
+     * @param packetCompressor the new packet compressor
+     * @throws IllegalStateException if this is called after the server started
+     */
+    public static void setPacketCompressor(PacketCompressor packetCompressor) {
+        Check.stateCondition(serverProcess != null && serverProcess.isAlive(), "The packet compressor cannot be changed after the server has been started.");
+        MinecraftServer.packetCompressor = Objects.requireNonNull(packetCompressor, "packetCompressor");
+    }
+
     public static AdvancementManager getAdvancementManager() {
         return serverProcess.advancement();
     }
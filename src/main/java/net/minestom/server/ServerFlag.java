@@ -18,6 +18,10 @@ public final class ServerFlag {
     public static final int ENTITY_VIEW_DISTANCE = intProperty("minestom.entity-view-distance", 5);
     public static final int ENTITY_SYNCHRONIZATION_TICKS = intProperty("minestom.entity-synchronization-ticks", 20);
     public static final int DISPATCHER_THREADS = intProperty("minestom.dispatcher-threads", 1);
+    public static final boolean DISPATCHER_BALANCED = booleanProperty("minestom.dispatcher-balanced", false); // Move chunks between threads based on their tick time
+    public static final int TICK_PROFILE_INTERVAL = intProperty("minestom.tick-profile-interval", 0, 0, Integer.MAX_VALUE); // Ticks between two profiled ticks, 0 disables profiling
+    public static final int TICK_PROFILE_SLOWEST = intProperty("minestom.tick-profile-slowest", 5, 0, 64); // Slowest chunks/entities kept per tick thread
+    public static final long CHUNK_COMPACTION_IDLE_TIME = longProperty("minestom.chunk-compaction-idle-time", 0); // Milliseconds before unviewed chunks get compacted, 0 disables compaction
     public static final int SEND_LIGHT_AFTER_BLOCK_PLACEMENT_DELAY = intProperty("minestom.send-light-after-block-placement-delay", 100);
     public static final long LOGIN_PLUGIN_MESSAGE_TIMEOUT = longProperty("minestom.login-plugin-message-timeout", 5_000); // 5s
     public static final long KNOWN_PACKS_RESPONSE_TIMEOUT = longProperty("minestom.known-packs-response-timeout", 5 * 60_000); // 5m
@@ -37,8 +41,13 @@ public final class ServerFlag {
     public static final int SOCKET_SEND_BUFFER_SIZE = intProperty("minestom.send-buffer-size", 262_143);
     public static final int SOCKET_RECEIVE_BUFFER_SIZE = intProperty("minestom.receive-buffer-size", 32_767);
     public static final boolean SOCKET_NO_DELAY = booleanProperty("minestom.tcp-no-delay", true);
-    public static final int SOCKET_TIMEOUT = intProperty("minestom.socket-timeout", 15_000);
+    public static final int SOCKET_TIMEOUT = intProperty("minestom.socket-timeout", 15_000); // Enforced by the selector loops on reads, 0 to disable
     public static final int POOLED_BUFFER_SIZE = intProperty("minestom.pooled-buffer-size", 16_383);
+    public static final int SOCKET_IDLE_READ_BUFFER_SIZE = intProperty("minestom.socket.idle-read-buffer-size", 1_024, 1, Integer.MAX_VALUE); // Held by blocking reads with no partial packet
+    public static final long BUFFER_POOL_RETAINED_SIZE = longProperty("minestom.buffer-pool.retained-size", 8_388_608); // Shared by the size classes of PacketVanilla#BUFFER_POOL
+    public static final int SOCKET_SELECTOR_THREADS = intProperty("minestom.socket.selector-threads", 0, 0, Integer.MAX_VALUE); // 0 uses a reader and a writer virtual thread per connection
+    public static final boolean SOCKET_GATHERING_WRITES = booleanProperty("minestom.socket.gathering-writes", false); // Opt-in, unencrypted connections only
+    public static final boolean COMPRESSION_STATS = booleanProperty("minestom.compression-stats", false); // Initial state of CompressionStats#setEnabled
 
     // Chunk update
     public static final float MIN_CHUNKS_PER_TICK = floatProperty("minestom.chunk-queue.min-per-tick", 0.01f);
@@ -60,16 +69,24 @@ public final class ServerFlag {
 
     // World
     public static final int WORLD_BORDER_SIZE = intProperty("minestom.world-border-size", 29999984);
+    public static final int LIGHTING_THREADS = intProperty("minestom.lighting.threads", Math.max(1, Runtime.getRuntime().availableProcessors() / 2), 0, Integer.MAX_VALUE); // 0 computes light on the calling thread
+    public static final int LIGHTING_QUEUE_SIZE = intProperty("minestom.lighting.queue-size", 4096, 1, Integer.MAX_VALUE); // Sections waiting for a lighting thread, callers compute the overflow themselves
+    public static final boolean PALETTE_VECTORIZATION = booleanProperty("minestom.palette.vectorization", true); // Only used when started with --add-modules=jdk.incubator.vector
 
     // Maps
     public static final String MAP_RGB_MAPPING = stringProperty("minestom.map.rgbmapping", "lazy");
     public static final int MAP_RGB_REDUCTION = intProperty("minestom.map.rgbreduction", -1); // Only used if rgb mapping is "approximate"
+    public static final @Nullable String MAP_RGB_CACHE = stringProperty("minestom.map.rgbcache"); // Only used if rgb mapping is "precise", file storing the computed color table
 
     // Entities
     public static final boolean ENFORCE_INTERACTION_LIMIT = booleanProperty("minestom.enforce-entity-interaction-range", true);
+    public static final int PATHFINDING_THREADS = intProperty("minestom.pathfinding.threads", 0, 0, Integer.MAX_VALUE); // 0 computes paths on the calling thread, without any budget
+    public static final int PATHFINDING_PATHS_PER_TICK = intProperty("minestom.pathfinding.paths-per-tick", 64, 1, Integer.MAX_VALUE);
+    public static final int PATHFINDING_QUEUE_SIZE = intProperty("minestom.pathfinding.queue-size", 1024, 1, Integer.MAX_VALUE);
 
     // Experimental/Unstable
     public static final boolean REGISTRY_UNSAFE_OPS = booleanProperty("minestom.registry.unsafe-ops");
+    public static final boolean REGISTRY_SNAPSHOT = booleanProperty("minestom.registry.snapshot", true); // Read registries from the binary snapshot when packaged, false parses their JSON
     public static final boolean EVENT_NODE_ALLOW_MULTIPLE_PARENTS = booleanProperty("minestom.event.multiple-parents");
     public static final boolean FASTER_SOCKET_WRITES = booleanProperty("minestom.new-socket-write-lock"); // TODO: promote to default
     public static final boolean ACQUIRABLE_STRICT = booleanProperty("minestom.acquirable-strict", false);
@@ -77,6 +94,7 @@ public final class ServerFlag {
     public static final boolean TEMPLATE_COMPILER = booleanProperty("minestom.template-compiler", false);
     public static final boolean PROXY_PROTOCOL = booleanProperty("minestom.proxy-protocol", false);
     public static final boolean PROXY_PROTOCOL_REQUIRED = booleanProperty("minestom.proxy-protocol.required", false);
+    public static final boolean PATHFINDING_PRIMITIVE_ENGINE = booleanProperty("minestom.pathfinding.primitive-engine", false);
 
     public static boolean INSIDE_TEST = booleanProperty("minestom.inside-test", false);
 
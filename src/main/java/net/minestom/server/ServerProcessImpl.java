@@ -7,6 +7,7 @@ import net.minestom.server.adventure.bossbar.BossBarManager;
 
 import net.minestom.server.command.CommandManager;
 import net.minestom.server.entity.Entity;
+import net.minestom.server.entity.pathfinding.PathfindingService;
 import net.minestom.server.event.EventDispatcher;
 import net.minestom.server.event.GlobalEventHandler;
 import net.minestom.server.event.server.ServerTickMonitorEvent;
@@ -19,10 +20,12 @@ import net.minestom.server.instance.block.BlockManager;
 import net.minestom.server.listener.manager.PacketListenerManager;
 import net.minestom.server.monitoring.EventsJFR;
 import net.minestom.server.monitoring.TickMonitor;
+import net.minestom.server.monitoring.TickProfile;
 import net.minestom.server.network.ConnectionManager;
 import net.minestom.server.network.packet.PacketParser;
 import net.minestom.server.network.packet.PacketVanilla;
 import net.minestom.server.network.packet.client.ClientPacket;
+import net.minestom.server.network.player.PlayerSocketConnection;
 import net.minestom.server.network.socket.Server;
 import net.minestom.server.recipe.RecipeManager;
 import net.minestom.server.registry.Registries;
@@ -31,10 +34,12 @@ import net.minestom.server.snapshot.*;
 import net.minestom.server.thread.Acquirable;
 import net.minestom.server.thread.ThreadDispatcher;
 import net.minestom.server.thread.ThreadProvider;
+import net.minestom.server.thread.TickThread;
 import net.minestom.server.timer.SchedulerManager;
 import net.minestom.server.utils.PacketViewableUtils;
 import net.minestom.server.utils.collection.MappedCollection;
 import net.minestom.server.utils.time.Tick;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -42,6 +47,7 @@ import java.io.IOException;
 import java.net.SocketAddress;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
@@ -97,7 +103,9 @@ final class ServerProcessImpl implements ServerProcess, Registries.Delegating {
 
         this.server = new Server(packetParser);
 
-        this.dispatcher = ThreadDispatcher.dispatcher(ThreadProvider.counter(), ServerFlag.DISPATCHER_THREADS);
+        final ThreadProvider<Chunk> threadProvider = ServerFlag.DISPATCHER_BALANCED ?
+                ThreadProvider.balanced(Chunk::getInstance) : ThreadProvider.counter();
+        this.dispatcher = ThreadDispatcher.dispatcher(threadProvider, ServerFlag.DISPATCHER_THREADS);
         this.ticker = new TickerImpl();
     }
 
@@ -229,6 +237,7 @@ final class ServerProcessImpl implements ServerProcess, Registries.Delegating {
 
         // Start server
         server.start();
+        EventsJFR.registerPacketSendStatistics();
 
         LOGGER.info("{} server started successfully.", brand);
 
@@ -244,6 +253,7 @@ final class ServerProcessImpl implements ServerProcess, Registries.Delegating {
         scheduler.shutdown();
         connection.shutdown();
         server.stop();
+        EventsJFR.unregisterPacketSendStatistics();
         LOGGER.info("Shutting down all thread pools.");
         dispatcher.shutdown();
         LOGGER.info("{} server stopped successfully.", brand);
@@ -268,14 +278,36 @@ final class ServerProcessImpl implements ServerProcess, Registries.Delegating {
     }
 
     private final class TickerImpl implements Ticker {
+        private long tickCount;
+        // Profiling, see ServerFlag#TICK_PROFILE_INTERVAL
+        private long packetsSent;
+        private long bytesSent;
+        private @Nullable List<TickProfile.InstanceTime> instanceTimes;
+        private long dispatchNanos;
+
         @Override
         public void tick(long nanoTime) {
             var serverTickEvent = EventsJFR.newServerTick();
             serverTickEvent.begin();
+            final int profileInterval = ServerFlag.TICK_PROFILE_INTERVAL;
+            final boolean profiled = profileInterval > 0 && tickCount++ % profileInterval == 0;
+            if (profiled) {
+                this.instanceTimes = new ArrayList<>();
+                this.packetsSent = PlayerSocketConnection.sentPackets();
+                this.bytesSent = PlayerSocketConnection.writtenBytes();
+                for (TickThread thread : dispatcher().threads()) {
+                    thread.profileNextTick(ServerFlag.TICK_PROFILE_SLOWEST);
+                }
+            }
+
+            PathfindingService.nextTick();
             scheduler().processTick();
+            final long schedulerNanos = System.nanoTime() - nanoTime;
 
             // Connection tick (let waiting clients in, send keep alives, handle configuration players packets)
+            final long connectionStart = System.nanoTime();
             connection().tick(nanoTime);
+            final long connectionNanos = System.nanoTime() - connectionStart;
 
             // Server tick (chunks/entities)
             serverTick(nanoTime);
@@ -283,17 +315,23 @@ final class ServerProcessImpl implements ServerProcess, Registries.Delegating {
             // The click callback provider needs ticking to clean up the cache.
             clickCallbackManager().tick(nanoTime);
 
+            final long tickEndStart = System.nanoTime();
             scheduler().processTickEnd();
+            final long flushStart = System.nanoTime();
 
             // Flush all waiting packets
             PacketViewableUtils.flush();
+            final long flushEnd = System.nanoTime();
 
             // Monitoring
             {
                 final double acquisitionTimeMs = Acquirable.resetAcquiringTime() / 1e6D;
                 final double tickTimeMs = (System.nanoTime() - nanoTime) / 1e6D;
-                final TickMonitor tickMonitor = new TickMonitor(tickTimeMs, acquisitionTimeMs);
+                final @Nullable TickProfile profile = profiled ?
+                        profile(schedulerNanos + (flushStart - tickEndStart), connectionNanos, flushEnd - flushStart) : null;
+                final TickMonitor tickMonitor = new TickMonitor(tickTimeMs, acquisitionTimeMs, profile);
                 EventDispatcher.call(new ServerTickMonitorEvent(tickMonitor));
+                if (profile != null) commitProfile(profile);
             }
             serverTickEvent.commit();
         }
@@ -301,15 +339,22 @@ final class ServerProcessImpl implements ServerProcess, Registries.Delegating {
         private void serverTick(long nanoStart) {
             long milliStart = TimeUnit.NANOSECONDS.toMillis(nanoStart);
             // Tick all instances
+            final List<TickProfile.InstanceTime> instanceTimes = this.instanceTimes;
             for (Instance instance : instance().getInstances()) {
+                final long instanceStart = instanceTimes != null ? System.nanoTime() : 0;
                 try {
                     instance.tick(milliStart);
                 } catch (Exception e) {
                     exception().handleException(e);
                 }
+                if (instanceTimes != null) {
+                    instanceTimes.add(new TickProfile.InstanceTime(instance.getUuid(), System.nanoTime() - instanceStart));
+                }
             }
             // Tick all chunks (and entities inside)
+            final long dispatchStart = System.nanoTime();
             dispatcher().updateAndAwait(nanoStart);
+            this.dispatchNanos = System.nanoTime() - dispatchStart;
 
             // Clear removed entities & update threads
             final long tickDuration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - nanoStart);
@@ -317,5 +362,30 @@ final class ServerProcessImpl implements ServerProcess, Registries.Delegating {
             // the nanoTimeout for refreshThreads is the remaining tick duration
             dispatcher().refreshThreads(remainingTickDuration);
         }
+
+        private TickProfile profile(long schedulerNanos, long connectionNanos, long flushNanos) {
+            final List<TickProfile.InstanceTime> instanceTimes = Objects.requireNonNull(this.instanceTimes);
+            this.instanceTimes = null;
+            final List<TickThread> threads = dispatcher().threads();
+            List<TickProfile.ThreadTime> threadTimes = new ArrayList<>(threads.size());
+            for (TickThread thread : threads) {
+                threadTimes.add(new TickProfile.ThreadTime(thread.getName(), thread.lastTickNanos(), thread.profiledElements()));
+            }
+            // Written asynchronously by the socket threads, attributed to the tick they are observed in
+            return new TickProfile(schedulerNanos, connectionNanos, instanceTimes,
+                    dispatchNanos, threadTimes, flushNanos,
+                    PlayerSocketConnection.sentPackets() - packetsSent,
+                    PlayerSocketConnection.writtenBytes() - bytesSent);
+        }
+
+        private void commitProfile(TickProfile profile) {
+            EventsJFR.newServerTickProfile(profile).commit();
+            for (TickProfile.InstanceTime instanceTime : profile.instances()) {
+                EventsJFR.newInstanceTickProfile(instanceTime).commit();
+            }
+            for (TickProfile.ThreadTime threadTime : profile.threads()) {
+                EventsJFR.newThreadTickProfile(threadTime).commit();
+            }
+        }
     }
 }
@@ -5,6 +5,7 @@ import it.unimi.dsi.fastutil.doubles.DoubleList;
 import net.minestom.server.coordinate.Point;
 import net.minestom.server.coordinate.Vec;
 import net.minestom.server.instance.block.BlockFace;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.Unmodifiable;
 
 import java.util.ArrayList;
@@ -90,6 +91,26 @@ public record ShapeImpl(ShapeData shapeData, OcclusionData occlusionData) implem
         return isFaceCovered(allRectangles) == 2;
     }
 
+    /**
+     * Gets the faces fully covered by the occlusion of this shape.
+     *
+     * @return a bit set indexed by {@link BlockFace#ordinal()}
+     */
+    @ApiStatus.Internal
+    public byte fullOcclusionFaces() {
+        return occlusionData.blockOcclusion;
+    }
+
+    /**
+     * Gets the faces not covered at all by the occlusion of this shape.
+     *
+     * @return a bit set indexed by {@link BlockFace#ordinal()}
+     */
+    @ApiStatus.Internal
+    public byte emptyOcclusionFaces() {
+        return occlusionData.airOcclusion;
+    }
+
     @Override
     public boolean isFaceFull(BlockFace face) {
         return (((shapeData.fullFaces >> face.ordinal()) & 1) == 1);
@@ -26,6 +26,8 @@ import net.minestom.server.event.EventDispatcher;
 import net.minestom.server.event.EventFilter;
 import net.minestom.server.event.EventHandler;
 import net.minestom.server.event.EventNode;
+import net.minestom.server.event.GlobalListenerHandle;
+import net.minestom.server.event.ListenerHandle;
 import net.minestom.server.event.entity.*;
 import net.minestom.server.event.instance.AddEntityToInstanceEvent;
 import net.minestom.server.event.instance.RemoveEntityFromInstanceEvent;
@@ -97,6 +99,7 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
     public static final int MAX_COORDINATE = 2_000_000_000;
 
     private static final AtomicInteger LAST_ENTITY_ID = new AtomicInteger();
+    private static final GlobalListenerHandle<EntityTickEvent> TICK_HANDLE = EventDispatcher.globalHandle(EntityTickEvent.class);
 
     // Protected due to PointersSupplier.Builder#parent
     protected static final PointersSupplier<Entity> ENTITY_POINTERS_SUPPLIER = PointersSupplier.<Entity>builder()
@@ -644,7 +647,8 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
             update(time);
 
             ticks++;
-            EventDispatcher.call(new EntityTickEvent(this));
+            final ListenerHandle<EntityTickEvent> tickHandle = TICK_HANDLE.get();
+            if (tickHandle.hasListener()) tickHandle.call(new EntityTickEvent(this));
 
             // remove expired effects
             effectTick();
@@ -36,6 +36,8 @@ import net.minestom.server.entity.metadata.LivingEntityMeta;
 import net.minestom.server.entity.metadata.avatar.PlayerMeta;
 import net.minestom.server.entity.vehicle.PlayerInputs;
 import net.minestom.server.event.EventDispatcher;
+import net.minestom.server.event.GlobalListenerHandle;
+import net.minestom.server.event.ListenerHandle;
 import net.minestom.server.event.inventory.InventoryCloseEvent;
 import net.minestom.server.event.inventory.InventoryOpenEvent;
 import net.minestom.server.event.item.ItemDropEvent;
@@ -118,6 +120,7 @@ import java.util.function.UnaryOperator;
  */
 public class Player extends LivingEntity implements CommandSender, HoverEventSource<ShowEntity>, NamedAndIdentified {
     private static final DynamicRegistry<DimensionType> DIMENSION_TYPE_REGISTRY = MinecraftServer.getDimensionTypeRegistry();
+    private static final GlobalListenerHandle<PlayerTickEvent> TICK_HANDLE = EventDispatcher.globalHandle(PlayerTickEvent.class);
 
     private static final Component REMOVE_MESSAGE = Component.text("You have been removed from the server without reason.", NamedTextColor.RED);
     private static final Component MISSING_REQUIRED_RESOURCE_PACK = Component.text("Required resource pack was not loaded.", NamedTextColor.RED);
@@ -431,7 +434,8 @@ public class Player extends LivingEntity implements CommandSender, HoverEventSou
         updatePose();
 
         // Tick event
-        EventDispatcher.call(new PlayerTickEvent(this));
+        final ListenerHandle<PlayerTickEvent> tickHandle = TICK_HANDLE.get();
+        if (tickHandle.hasListener()) tickHandle.call(new PlayerTickEvent(this));
     }
 
     @Override
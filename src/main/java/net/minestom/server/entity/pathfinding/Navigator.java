@@ -31,11 +31,14 @@ public final class Navigator {
     // Essentially a double buffer. Wait until a path is done computing before replacing the old one.
     private PPath computingPath;
     private PPath path;
+    // Request waiting for the pathfinding budget, or for the previous computation to return
+    private PathRequest pendingRequest;
 
     private double minimumDistance;
 
     NodeGenerator nodeGenerator = new GroundNodeGenerator();
     private NodeFollower nodeFollower;
+    private PathfindingService pathfindingService = PathfindingService.defaultService();
 
     public Navigator(Entity entity) {
         this.entity = entity;
@@ -43,6 +46,7 @@ public final class Navigator {
     }
 
     public PPath.State getState() {
+        if (path == null && pendingRequest != null) return PPath.State.CALCULATING;
         if (path == null && computingPath == null) return PPath.State.INVALID;
         if (path == null) return computingPath.getState();
         return path.getState();
@@ -72,12 +76,14 @@ public final class Navigator {
         final Instance instance = entity.getInstance();
         if (point == null) {
             this.path = null;
+            this.pendingRequest = null;
             return false;
         }
 
         // Can't path with a null instance.
         if (instance == null) {
             this.path = null;
+            this.pendingRequest = null;
             return false;
         }
 
@@ -105,18 +111,35 @@ public final class Navigator {
 
         if (this.computingPath != null) this.computingPath.setState(PPath.State.TERMINATING);
 
-        this.computingPath = PathGenerator.generate(instance,
+        this.pendingRequest = new PathRequest(point, minimumDistance, maxDistance, pathVariance, onComplete);
+        submitPending(instance);
+
+        this.goalPosition = point;
+        return true;
+    }
+
+    /**
+     * Tries to start the pending request, the node generator is never shared between two running computations.
+     */
+    private void submitPending(Instance instance) {
+        final PathRequest request = this.pendingRequest;
+        if (request == null) return;
+        if (computingPath != null) {
+            if (computingPath.isComputing()) return;
+            computingPath = null;
+        }
+        final PPath computed = pathfindingService.submit(instance,
                 this.entity.getPosition(),
-                point,
-                minimumDistance, maxDistance,
-                pathVariance,
+                request.target(),
+                request.minimumDistance(), request.maxDistance(),
+                request.pathVariance(),
                 this.entity.getBoundingBox(),
                 this.entity.isOnGround(),
                 this.nodeGenerator,
-                onComplete);
-
-        this.goalPosition = point;
-        return true;
+                request.onComplete());
+        if (computed == null) return; // Over budget, retry next tick
+        this.computingPath = computed;
+        this.pendingRequest = null;
     }
 
     @ApiStatus.Internal
@@ -124,6 +147,10 @@ public final class Navigator {
         if (goalPosition == null) return; // No path
         if (entity instanceof LivingEntity && ((LivingEntity) entity).isDead())
             return; // No pathfinding tick for dead entities
+        if (pendingRequest != null) {
+            final Instance instance = entity.getInstance();
+            if (instance != null) submitPending(instance);
+        }
         if (computingPath != null && (computingPath.getState() == PPath.State.COMPUTED || computingPath.getState() == PPath.State.BEST_EFFORT)) {
             path = computingPath;
             computingPath = null;
@@ -160,12 +187,12 @@ public final class Navigator {
         // Repath
         if (currentTarget == null || path.getCurrentType() == PNode.Type.REPATH || path.getCurrentType() == null) {
             if (computingPath != null && computingPath.getState() == PPath.State.CALCULATING) return;
+            if (pendingRequest != null) return;
 
-            computingPath = PathGenerator.generate(entity.getInstance(),
-                    entity.getPosition(),
-                    goalPosition.asPos(),
-                    minimumDistance, path.maxDistance(),
-                    path.pathVariance(), entity.getBoundingBox(), this.entity.isOnGround(), nodeGenerator, null);
+            final Instance instance = entity.getInstance();
+            if (instance == null) return;
+            this.pendingRequest = new PathRequest(goalPosition, minimumDistance, path.maxDistance(), path.pathVariance(), null);
+            submitPending(instance);
 
             return;
         }
@@ -207,6 +234,7 @@ public final class Navigator {
 
         if (this.computingPath != null) this.computingPath.setState(PPath.State.TERMINATING);
         this.computingPath = null;
+        this.pendingRequest = null;
     }
 
     public boolean isComplete() {
@@ -232,6 +260,17 @@ public final class Navigator {
         this.nodeGenerator = nodeGenerator.get();
     }
 
+    /**
+     * Changes the service computing the paths of this navigator.
+     * <p>
+     * Already running computations stay on their previous service.
+     *
+     * @param pathfindingService the new service
+     */
+    public void setPathfindingService(PathfindingService pathfindingService) {
+        this.pathfindingService = pathfindingService;
+    }
+
     /**
      * Visualise path for debugging
      *
@@ -246,6 +285,10 @@ public final class Navigator {
         }
     }
 
+    private record PathRequest(Point target, double minimumDistance, double maxDistance, double pathVariance,
+                               @Nullable Runnable onComplete) {
+    }
+
     private static boolean isSameBlock(PNode pNode, Pos position) {
         return Math.floor(pNode.x()) == position.blockX() && Math.floor(pNode.y()) == position.blockY() && Math.floor(pNode.z()) == position.blockZ();
     }
@@ -16,6 +16,7 @@ public final class PPath {
     private final double maxDistance;
     private int index = 0;
     private final AtomicReference<State> state = new AtomicReference<>(State.CALCULATING);
+    private volatile boolean computing = true;
 
     public Point getNext() {
         if (index + 1 >= nodes.size()) return null;
@@ -47,6 +48,19 @@ public final class PPath {
         this.pathVariance = pathVariance;
     }
 
+    /**
+     * Gets if the generator may still be working on this path, even after a termination request.
+     *
+     * @return true if the computation has not returned yet
+     */
+    boolean isComputing() {
+        return computing;
+    }
+
+    void markComputed() {
+        this.computing = false;
+    }
+
     void runComplete() {
         if (onComplete != null) onComplete.run();
     }
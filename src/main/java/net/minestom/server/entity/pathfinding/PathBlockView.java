@@ -0,0 +1,68 @@
+package net.minestom.server.entity.pathfinding;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minestom.server.coordinate.CoordConversion;
+import net.minestom.server.instance.Chunk;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.instance.palette.Palette;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.UnknownNullability;
+
+import static net.minestom.server.coordinate.CoordConversion.globalToChunk;
+import static net.minestom.server.coordinate.CoordConversion.globalToSectionRelative;
+
+/**
+ * Block view used by off-tick path computations.
+ * <p>
+ * Each section is copied under the chunk read lock the first time it is touched, and never refreshed afterward,
+ * so a computation sees a stable world even if the owning tick thread modifies blocks concurrently.
+ * Only block states are exposed, block entries (handlers, nbt) are ignored.
+ * <p>
+ * Not thread-safe, a view is meant to be confined to a single computation.
+ */
+final class PathBlockView implements Block.Getter {
+    private static final Palette UNLOADED = Palette.blocks();
+
+    private final Instance instance;
+    private final Long2ObjectOpenHashMap<Palette> sections = new Long2ObjectOpenHashMap<>();
+
+    private long lastIndex = Long.MIN_VALUE;
+    private @Nullable Palette lastPalette;
+
+    PathBlockView(Instance instance) {
+        this.instance = instance;
+    }
+
+    @Override
+    public @UnknownNullability Block getBlock(int x, int y, int z, Condition condition) {
+        final long index = CoordConversion.sectionIndexGlobal(x, y, z);
+        Palette palette = this.lastPalette;
+        if (palette == null || index != lastIndex) {
+            palette = sections.get(index);
+            if (palette == null) {
+                palette = copySection(x, y, z);
+                sections.put(index, palette);
+            }
+            this.lastIndex = index;
+            this.lastPalette = palette;
+        }
+        final int stateId = palette.get(globalToSectionRelative(x), globalToSectionRelative(y), globalToSectionRelative(z));
+        final Block block = Block.fromStateId(stateId);
+        return block != null ? block : Block.AIR;
+    }
+
+    private Palette copySection(int x, int y, int z) {
+        final Chunk chunk = instance.getChunk(globalToChunk(x), globalToChunk(z));
+        if (chunk == null) return UNLOADED;
+        final int sectionY = globalToChunk(y);
+        if (sectionY < chunk.getMinSection() || sectionY >= chunk.getMaxSection()) return UNLOADED;
+        chunk.lockReadLock();
+        try {
+            if (!chunk.isLoaded()) return UNLOADED;
+            return chunk.getSection(sectionY).blockPalette().clone();
+        } finally {
+            chunk.unlockReadLock();
+        }
+    }
+}
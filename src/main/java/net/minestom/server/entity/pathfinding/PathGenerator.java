@@ -2,6 +2,7 @@ package net.minestom.server.entity.pathfinding;
 
 import it.unimi.dsi.fastutil.objects.ObjectHeapPriorityQueue;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashBigSet;
+import net.minestom.server.ServerFlag;
 import net.minestom.server.collision.BoundingBox;
 import net.minestom.server.coordinate.Point;
 import net.minestom.server.coordinate.Pos;
@@ -18,19 +19,41 @@ public final class PathGenerator {
                                           double closeDistance, double maxDistance, double pathVariance,
                                           BoundingBox boundingBox, boolean isOnGround, NodeGenerator generator,
                                           @Nullable Runnable onComplete) {
-        final Point start = (!isOnGround && generator.hasGravitySnap())
-                ? orgStart.withY(generator.gravitySnap(getter, orgStart.x(), orgStart.y(), orgStart.z(), boundingBox, 100).orElse(orgStart.y()))
-                : orgStart;
-
-        final Point target = (generator.hasGravitySnap())
-                ? orgTarget.withY(generator.gravitySnap(getter, orgTarget.x(), orgTarget.y(), orgTarget.z(), boundingBox, 100).orElse(orgTarget.y()))
-                : orgTarget.asPos();
-
         PPath path = new PPath(maxDistance, pathVariance, onComplete);
-        computePath(getter, start, target, closeDistance, maxDistance, pathVariance, boundingBox, path, generator);
+        compute(path, getter, orgStart, orgTarget, closeDistance, maxDistance, pathVariance, boundingBox, isOnGround, generator);
         return path;
     }
 
+    static void compute(PPath path, Block.Getter getter, Pos orgStart, Point orgTarget,
+                        double closeDistance, double maxDistance, double pathVariance,
+                        BoundingBox boundingBox, boolean isOnGround, NodeGenerator generator) {
+        try {
+            if (path.getState() == PPath.State.TERMINATING) {
+                path.setState(PPath.State.TERMINATED);
+                return;
+            }
+
+            final Point start = (!isOnGround && generator.hasGravitySnap())
+                    ? orgStart.withY(generator.gravitySnap(getter, orgStart.x(), orgStart.y(), orgStart.z(), boundingBox, 100).orElse(orgStart.y()))
+                    : orgStart;
+
+            final Point target = (generator.hasGravitySnap())
+                    ? orgTarget.withY(generator.gravitySnap(getter, orgTarget.x(), orgTarget.y(), orgTarget.z(), boundingBox, 100).orElse(orgTarget.y()))
+                    : orgTarget.asPos();
+
+            if (ServerFlag.PATHFINDING_PRIMITIVE_ENGINE) {
+                PrimitivePathGenerator.computePath(getter, start, target, closeDistance, maxDistance, pathVariance, boundingBox, path, generator);
+            } else {
+                computePath(getter, start, target, closeDistance, maxDistance, pathVariance, boundingBox, path, generator);
+            }
+        } catch (Throwable t) {
+            path.setState(PPath.State.INVALID);
+            throw t;
+        } finally {
+            path.markComputed();
+        }
+    }
+
     private static PNode buildRepathNode(PNode parent) {
         return new PNode(0, 0, 0, 0, 0, PNode.Type.REPATH, parent);
     }
@@ -0,0 +1,165 @@
+package net.minestom.server.entity.pathfinding;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.ServerFlag;
+import net.minestom.server.collision.BoundingBox;
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.entity.pathfinding.generators.NodeGenerator;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.utils.validate.Check;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Computes {@link PPath paths} away from the tick threads.
+ * <p>
+ * Computations run on a bounded pool against a {@link PathBlockView}, and are published back to the
+ * {@link Navigator} on its next tick. The number of computations started per tick is limited,
+ * navigators over budget keep their request and retry on their next tick.
+ * <p>
+ * A service created with {@code 0} threads computes paths on the calling thread.
+ * <p>
+ * The default service computes paths synchronously without any budget, unless
+ * the {@code minestom.pathfinding.threads} property is set.
+ */
+public final class PathfindingService {
+    // Synchronous and unbounded unless opted in, as before the service existed
+    private static final PathfindingService DEFAULT = ServerFlag.PATHFINDING_THREADS > 0 ?
+            new PathfindingService(ServerFlag.PATHFINDING_THREADS, ServerFlag.PATHFINDING_PATHS_PER_TICK, ServerFlag.PATHFINDING_QUEUE_SIZE) :
+            new PathfindingService(0, Integer.MAX_VALUE, 1);
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+    // Incremented at the start of each server tick
+    private static volatile long serverTick;
+
+    private final @Nullable ThreadPoolExecutor executor;
+    private final int pathsPerTick;
+
+    private long budgetTick = Long.MIN_VALUE;
+    private int budgetUsed;
+
+    /**
+     * Starts a new budget period for all the services, called at the start of each server tick.
+     */
+    @ApiStatus.Internal
+    public static void nextTick() {
+        serverTick++;
+    }
+
+    /**
+     * Gets the service used by navigators unless {@link Navigator#setPathfindingService(PathfindingService)} is called.
+     *
+     * @return the default service
+     */
+    public static PathfindingService defaultService() {
+        return DEFAULT;
+    }
+
+    /**
+     * @param threads      the number of computation threads, 0 to compute on the calling thread
+     * @param pathsPerTick the maximum number of computations started per tick
+     * @param queueSize    the maximum number of computations waiting for a thread
+     */
+    public PathfindingService(int threads, int pathsPerTick, int queueSize) {
+        Check.argCondition(threads < 0, "Thread count cannot be negative");
+        Check.argCondition(pathsPerTick < 1, "Paths per tick must be positive");
+        Check.argCondition(queueSize < 1, "Queue size must be positive");
+        this.pathsPerTick = pathsPerTick;
+        if (threads == 0) {
+            this.executor = null;
+        } else {
+            this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(queueSize), r -> {
+                Thread thread = new Thread(r, "Ms-Pathfinding-" + THREAD_COUNTER.getAndIncrement());
+                thread.setDaemon(true);
+                return thread;
+            }, new ThreadPoolExecutor.AbortPolicy());
+        }
+    }
+
+    /**
+     * Starts computing a path.
+     *
+     * @return the path being computed, null if the tick budget is exhausted or the queue is full
+     */
+    @Nullable PPath submit(Instance instance, Pos start, Point target,
+                           double closeDistance, double maxDistance, double pathVariance,
+                           BoundingBox boundingBox, boolean isOnGround, NodeGenerator generator,
+                           @Nullable Runnable onComplete) {
+        if (!tryAcquire()) return null;
+        final PPath path = new PPath(maxDistance, pathVariance, onComplete);
+        final ThreadPoolExecutor executor = this.executor;
+        if (executor == null) {
+            PathGenerator.compute(path, instance, start, target, closeDistance, maxDistance, pathVariance,
+                    boundingBox, isOnGround, generator);
+            return path;
+        }
+        final PathBlockView view = new PathBlockView(instance);
+        try {
+            executor.execute(new Computation(path, () -> PathGenerator.compute(path, view, start, target,
+                    closeDistance, maxDistance, pathVariance, boundingBox, isOnGround, generator)));
+        } catch (RejectedExecutionException e) {
+            release();
+            return null;
+        }
+        return path;
+    }
+
+    /**
+     * Gets the number of computations waiting for a thread.
+     *
+     * @return the queued computation count
+     */
+    public int queuedCount() {
+        final ThreadPoolExecutor executor = this.executor;
+        return executor != null ? executor.getQueue().size() : 0;
+    }
+
+    /**
+     * Stops the computation threads.
+     * <p>
+     * Queued computations are invalidated instead of being left computing forever,
+     * later submissions are rejected.
+     */
+    public void shutdown() {
+        final ThreadPoolExecutor executor = this.executor;
+        if (executor == null) return;
+        for (Runnable runnable : executor.shutdownNow()) {
+            if (!(runnable instanceof Computation computation)) continue;
+            computation.path.setState(PPath.State.INVALID);
+            computation.path.markComputed();
+        }
+    }
+
+    private synchronized boolean tryAcquire() {
+        final long tick = serverTick;
+        if (tick != budgetTick) {
+            this.budgetTick = tick;
+            this.budgetUsed = 0;
+        }
+        if (budgetUsed >= pathsPerTick) return false;
+        budgetUsed++;
+        return true;
+    }
+
+    private synchronized void release() {
+        if (budgetTick == serverTick && budgetUsed > 0) budgetUsed--;
+    }
+
+    private record Computation(PPath path, Runnable task) implements Runnable {
+        @Override
+        public void run() {
+            try {
+                task.run();
+            } catch (Throwable t) {
+                MinecraftServer.getExceptionManager().handleException(t);
+            }
+        }
+    }
+}
@@ -0,0 +1,317 @@
+package net.minestom.server.entity.pathfinding;
+
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import net.minestom.server.collision.BoundingBox;
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.entity.pathfinding.generators.NodeGenerator;
+import net.minestom.server.instance.block.Block;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A* engine equivalent to the one of {@link PathGenerator}, without per-node objects.
+ * <p>
+ * Nodes are keyed by their packed block coordinates and stored in primitive arrays, the open set is an indexed
+ * binary heap supporting decrease-key. The arrays are kept per thread and reused between computations,
+ * so only the nodes of the resulting path are allocated.
+ */
+final class PrimitivePathGenerator {
+    private static final ThreadLocal<Workspace> WORKSPACE = ThreadLocal.withInitial(Workspace::new);
+    private static final PNode.Type[] TYPES = PNode.Type.values();
+
+    static void computePath(Block.Getter getter, Point start, Point target,
+                            double closeDistance, double maxDistance, double pathVariance,
+                            BoundingBox boundingBox, PPath path, NodeGenerator generator) {
+        final Workspace workspace = WORKSPACE.get();
+        workspace.reset(generator, target, start, maxDistance);
+        try {
+            workspace.computePath(getter, start, target, closeDistance, maxDistance, pathVariance, boundingBox, path, generator);
+        } finally {
+            workspace.release();
+        }
+    }
+
+    static long packBlock(int x, int y, int z) {
+        return ((long) (x & 0x3FFFFFF) << 38) | ((long) (z & 0x3FFFFFF) << 12) | (y & 0xFFF);
+    }
+
+    private static final class Workspace implements NodeGenerator.WalkableSink {
+        private static final int INITIAL_CAPACITY = 256;
+
+        private final Long2IntOpenHashMap slots = new Long2IntOpenHashMap(INITIAL_CAPACITY);
+
+        // Per slot
+        private double[] x = new double[INITIAL_CAPACITY];
+        private double[] y = new double[INITIAL_CAPACITY];
+        private double[] z = new double[INITIAL_CAPACITY];
+        private double[] g = new double[INITIAL_CAPACITY];
+        private double[] h = new double[INITIAL_CAPACITY];
+        private int[] parent = new int[INITIAL_CAPACITY];
+        private byte[] type = new byte[INITIAL_CAPACITY];
+        private int[] heapIndex = new int[INITIAL_CAPACITY]; // -1 once expanded
+        private int size;
+
+        // Indexed min-heap of slots ordered by g + h
+        private int[] heap = new int[INITIAL_CAPACITY];
+        private int heapSize;
+
+        // Current expansion
+        private NodeGenerator generator;
+        private Point target;
+        private Point start;
+        private double maxDistanceSquared;
+        private int current;
+
+        Workspace() {
+            slots.defaultReturnValue(-1);
+        }
+
+        void reset(NodeGenerator generator, Point target, Point start, double maxDistance) {
+            this.slots.clear();
+            this.size = 0;
+            this.heapSize = 0;
+            this.generator = generator;
+            this.target = target;
+            this.start = start;
+            this.maxDistanceSquared = maxDistance * maxDistance;
+        }
+
+        void release() {
+            this.generator = null;
+            this.target = null;
+            this.start = null;
+            // Do not keep huge arrays around after an unusually large search
+            if (x.length > INITIAL_CAPACITY * 64) {
+                final int capacity = INITIAL_CAPACITY;
+                this.x = new double[capacity];
+                this.y = new double[capacity];
+                this.z = new double[capacity];
+                this.g = new double[capacity];
+                this.h = new double[capacity];
+                this.parent = new int[capacity];
+                this.type = new byte[capacity];
+                this.heapIndex = new int[capacity];
+                this.heap = new int[capacity];
+                this.slots.trim(capacity);
+            }
+        }
+
+        void computePath(Block.Getter getter, Point start, Point target,
+                         double closeDistance, double maxDistance, double pathVariance,
+                         BoundingBox boundingBox, PPath path, NodeGenerator generator) {
+            double closestDistance = Double.MAX_VALUE;
+            final double straightDistance = generator.heuristic(start, target);
+            final int maxSize = (int) Math.floor(maxDistance * 10);
+
+            closeDistance = Math.max(0.8, closeDistance);
+            int closestFound = -1;
+            int found = -1;
+
+            final int startSlot = addSlot(start.x(), start.y(), start.z(), 0, straightDistance, -1, PNode.Type.WALK);
+            slots.put(packBlock(start.blockX(), start.blockY(), start.blockZ()), startSlot);
+            heapPush(startSlot);
+
+            while (heapSize > 0 && size < maxSize) {
+                if (path.getState() == PPath.State.TERMINATING) {
+                    path.setState(PPath.State.TERMINATED);
+                    return;
+                }
+
+                final int current = heapPop();
+
+                if (((g[current] + h[current]) - straightDistance) > pathVariance) continue;
+                if (!withinDistance(current, start, maxDistance)) continue;
+                if (withinDistance(current, target, closeDistance)) {
+                    found = current;
+                    break;
+                }
+
+                if (h[current] < closestDistance) {
+                    closestDistance = h[current];
+                    closestFound = current;
+                }
+
+                this.current = current;
+                generator.forEachWalkable(getter, x[current], y[current], z[current], target, boundingBox, this);
+            }
+
+            if (found == -1 && heapSize > 0) {
+                // Mirror the object engine, which inspects the best remaining open node
+                final int best = heap[0];
+                if (withinDistance(best, target, closeDistance)) found = best;
+            }
+
+            final List<PNode> nodes = path.getNodes();
+            if (found == -1) {
+                if (closestFound == -1) {
+                    path.setState(PPath.State.INVALID);
+                    return;
+                }
+                if (heapSize > 0) {
+                    // Repath node, see PathGenerator#buildRepathNode
+                    nodes.add(new PNode(0, 0, 0, 0, 0, PNode.Type.REPATH, null));
+                }
+                found = closestFound;
+            }
+
+            for (int slot = found; parent[slot] != -1; slot = parent[slot]) {
+                nodes.add(new PNode(x[slot], y[slot], z[slot], g[slot], h[slot], TYPES[type[slot]], null));
+            }
+            Collections.reverse(nodes);
+
+            if (path.getCurrentType() == PNode.Type.REPATH) {
+                path.setState(PPath.State.INVALID);
+                nodes.clear();
+                return;
+            }
+
+            if (nodes.isEmpty()) {
+                path.setState(PPath.State.INVALID);
+                return;
+            }
+
+            final PNode lastNode = nodes.getLast();
+            if (distanceSquared(lastNode.x(), lastNode.y(), lastNode.z(), target) > (closeDistance * closeDistance)) {
+                path.setState(PPath.State.BEST_EFFORT);
+                return;
+            }
+
+            nodes.add(new PNode(target, 0, 0, PNode.Type.WALK, null));
+            path.setState(PPath.State.COMPUTED);
+        }
+
+        @Override
+        public boolean visited(int blockX, int blockY, int blockZ) {
+            final int slot = slots.get(packBlock(blockX, blockY, blockZ));
+            return slot != -1 && heapIndex[slot] == -1;
+        }
+
+        @Override
+        public void accept(double nodeX, double nodeY, double nodeZ, double cost, PNode.Type nodeType) {
+            if (distanceSquared(nodeX, nodeY, nodeZ, start) > maxDistanceSquared) return;
+            final int current = this.current;
+            final double newG = g[current] + cost;
+            final long key = packBlock((int) Math.floor(nodeX), (int) Math.floor(nodeY), (int) Math.floor(nodeZ));
+            final int slot = slots.get(key);
+            if (slot == -1) {
+                final double newH = generator.heuristic(nodeX, nodeY, nodeZ, target);
+                final int added = addSlot(nodeX, nodeY, nodeZ, newG, newH, current, nodeType);
+                slots.put(key, added);
+                heapPush(added);
+                return;
+            }
+            final int position = heapIndex[slot];
+            if (position == -1 || newG >= g[slot]) return; // Expanded, or not an improvement
+            // Decrease-key, the node keeps its block but may move within it (e.g. jump vs walk)
+            this.x[slot] = nodeX;
+            this.y[slot] = nodeY;
+            this.z[slot] = nodeZ;
+            this.g[slot] = newG;
+            this.parent[slot] = current;
+            this.type[slot] = (byte) nodeType.ordinal();
+            siftUp(position);
+        }
+
+        private int addSlot(double nodeX, double nodeY, double nodeZ, double nodeG, double nodeH, int nodeParent, PNode.Type nodeType) {
+            final int slot = size++;
+            if (slot == x.length) grow();
+            this.x[slot] = nodeX;
+            this.y[slot] = nodeY;
+            this.z[slot] = nodeZ;
+            this.g[slot] = nodeG;
+            this.h[slot] = nodeH;
+            this.parent[slot] = nodeParent;
+            this.type[slot] = (byte) nodeType.ordinal();
+            this.heapIndex[slot] = -1;
+            return slot;
+        }
+
+        private void grow() {
+            final int capacity = x.length * 2;
+            this.x = Arrays.copyOf(x, capacity);
+            this.y = Arrays.copyOf(y, capacity);
+            this.z = Arrays.copyOf(z, capacity);
+            this.g = Arrays.copyOf(g, capacity);
+            this.h = Arrays.copyOf(h, capacity);
+            this.parent = Arrays.copyOf(parent, capacity);
+            this.type = Arrays.copyOf(type, capacity);
+            this.heapIndex = Arrays.copyOf(heapIndex, capacity);
+            this.heap = Arrays.copyOf(heap, capacity);
+        }
+
+        // Heap
+
+        private double priority(int slot) {
+            return g[slot] + h[slot];
+        }
+
+        private void heapPush(int slot) {
+            final int position = heapSize++;
+            heap[position] = slot;
+            heapIndex[slot] = position;
+            siftUp(position);
+        }
+
+        private int heapPop() {
+            final int[] heap = this.heap;
+            final int top = heap[0];
+            final int last = heap[--heapSize];
+            heapIndex[top] = -1;
+            if (heapSize > 0) {
+                heap[0] = last;
+                heapIndex[last] = 0;
+                siftDown(0);
+            }
+            return top;
+        }
+
+        private void siftUp(int position) {
+            final int[] heap = this.heap;
+            final int slot = heap[position];
+            final double priority = priority(slot);
+            while (position > 0) {
+                final int parentPosition = (position - 1) >>> 1;
+                final int parentSlot = heap[parentPosition];
+                if (priority(parentSlot) <= priority) break;
+                heap[position] = parentSlot;
+                heapIndex[parentSlot] = position;
+                position = parentPosition;
+            }
+            heap[position] = slot;
+            heapIndex[slot] = position;
+        }
+
+        private void siftDown(int position) {
+            final int[] heap = this.heap;
+            final int heapSize = this.heapSize;
+            final int slot = heap[position];
+            final double priority = priority(slot);
+            while (true) {
+                int child = (position << 1) + 1;
+                if (child >= heapSize) break;
+                final int right = child + 1;
+                if (right < heapSize && priority(heap[right]) < priority(heap[child])) child = right;
+                final int childSlot = heap[child];
+                if (priority(childSlot) >= priority) break;
+                heap[position] = childSlot;
+                heapIndex[childSlot] = position;
+                position = child;
+            }
+            heap[position] = slot;
+            heapIndex[slot] = position;
+        }
+
+        private boolean withinDistance(int slot, Point target, double closeDistance) {
+            return distanceSquared(x[slot], y[slot], z[slot], target) < (closeDistance * closeDistance);
+        }
+
+        private static double distanceSquared(double x, double y, double z, Point target) {
+            final double dx = x - target.x();
+            final double dy = y - target.y();
+            final double dz = z - target.z();
+            return dx * dx + dy * dy + dz * dz;
+        }
+    }
+}
@@ -69,6 +69,42 @@ public class FlyingNodeGenerator implements NodeGenerator {
         return nearby;
     }
 
+    @Override
+    public void forEachWalkable(Block.Getter getter, double currentX, double currentY, double currentZ,
+                                Point goal, BoundingBox boundingBox, WalkableSink sink) {
+        final int blockX = (int) Math.floor(currentX);
+        final int blockY = (int) Math.floor(currentY);
+        final int blockZ = (int) Math.floor(currentZ);
+
+        int stepSize = (int) Math.max(Math.floor(boundingBox.width() / 2), 1);
+        if (stepSize < 1) stepSize = 1;
+
+        for (int x = -stepSize; x <= stepSize; ++x) {
+            for (int z = -stepSize; z <= stepSize; ++z) {
+                if (x == 0 && z == 0) continue;
+                final double cost = Math.sqrt(x * x + z * z) * 0.98;
+                final double pointX = blockX + 0.5 + x;
+                final double pointZ = blockZ + 0.5 + z;
+                // Current level, up, down
+                fly(getter, currentX, currentY, currentZ, pointX, blockY + 0.5, pointZ, cost, boundingBox, sink);
+                fly(getter, currentX, currentY, currentZ, pointX, blockY + 1 + 0.5, pointZ, cost, boundingBox, sink);
+                fly(getter, currentX, currentY, currentZ, pointX, blockY - 1 + 0.5, pointZ, cost, boundingBox, sink);
+            }
+        }
+
+        // Straight up and down
+        fly(getter, currentX, currentY, currentZ, currentX, blockY + 1 + 0.5, currentZ, 2, boundingBox, sink);
+        fly(getter, currentX, currentY, currentZ, currentX, blockY - 1 + 0.5, currentZ, 2, boundingBox, sink);
+    }
+
+    private void fly(Block.Getter getter, double startX, double startY, double startZ,
+                     double pointX, double pointY, double pointZ, double cost,
+                     BoundingBox boundingBox, WalkableSink sink) {
+        if (sink.visited((int) Math.floor(pointX), (int) Math.floor(pointY), (int) Math.floor(pointZ))) return;
+        if (!canMoveTowards(getter, new Vec(startX, startY, startZ), new Vec(pointX, pointY, pointZ), boundingBox)) return;
+        sink.accept(pointX, pointY, pointZ, cost, PNode.Type.FLY);
+    }
+
     @Override
     public boolean hasGravitySnap() {
         return false;
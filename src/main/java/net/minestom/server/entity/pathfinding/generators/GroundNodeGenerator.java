@@ -59,6 +59,54 @@ public class GroundNodeGenerator implements NodeGenerator {
         return nearby;
     }
 
+    @Override
+    public void forEachWalkable(Block.Getter getter, double currentX, double currentY, double currentZ,
+                                Point goal, BoundingBox boundingBox, WalkableSink sink) {
+        final int blockX = (int) Math.floor(currentX);
+        final int blockY = (int) Math.floor(currentY);
+        final int blockZ = (int) Math.floor(currentZ);
+
+        int stepSize = (int) Math.max(Math.floor(boundingBox.width() / 2), 1);
+        if (stepSize < 1) stepSize = 1;
+
+        for (int x = -stepSize; x <= stepSize; ++x) {
+            for (int z = -stepSize; z <= stepSize; ++z) {
+                if (x == 0 && z == 0) continue;
+                final double cost = Math.sqrt(x * x + z * z) * 0.98;
+                final double pointX = blockX + 0.5 + x;
+                final double pointZ = blockZ + 0.5 + z;
+
+                final OptionalDouble optionalFloorPointY = gravitySnap(getter, pointX, blockY, pointZ, boundingBox, MAX_FALL_DISTANCE);
+                if (optionalFloorPointY.isEmpty()) continue;
+                final double floorPointY = optionalFloorPointY.getAsDouble();
+
+                if (!sink.visited(blockX + x, (int) Math.floor(floorPointY), blockZ + z)) {
+                    if (Math.abs(floorPointY - currentY) > Vec.EPSILON && floorPointY < currentY) {
+                        if (currentY - floorPointY <= MAX_FALL_DISTANCE &&
+                                canMoveTowards(getter, new Vec(currentX, currentY, currentZ), new Vec(pointX, currentY, pointZ), boundingBox)) {
+                            sink.accept(pointX, floorPointY, pointZ, cost, PNode.Type.FALL);
+                        }
+                    } else if (canMoveTowards(getter, new Vec(currentX, currentY, currentZ), new Vec(pointX, floorPointY, pointZ), boundingBox)) {
+                        sink.accept(pointX, floorPointY, pointZ, cost, PNode.Type.WALK);
+                    }
+                }
+
+                final OptionalDouble jumpPointY = gravitySnap(getter, pointX, blockY + 1, pointZ, boundingBox, MAX_FALL_DISTANCE);
+                if (jumpPointY.isEmpty()) continue;
+                final double jumpY = jumpPointY.getAsDouble();
+                if (Math.floor(jumpY) == Math.floor(floorPointY)) continue;
+                // Same checks as createJump
+                if (Math.abs(jumpY - currentY) < Vec.EPSILON) continue;
+                if (jumpY - currentY > 2) continue;
+                if (x != 0 && z != 0) continue;
+                if (sink.visited(blockX + x, (int) Math.floor(jumpY), blockZ + z)) continue;
+                if (pointInvalid(getter, new Vec(pointX, jumpY, pointZ), boundingBox)) continue;
+                if (pointInvalid(getter, new Vec(currentX, currentY + 1, currentZ), boundingBox)) continue;
+                sink.accept(pointX, jumpY, pointZ, cost + 0.2, PNode.Type.JUMP);
+            }
+        }
+    }
+
     private PNode createWalk(Block.Getter getter, Point point, BoundingBox boundingBox, double cost, PNode start, Point goal, Set<PNode> closed) {
         var n = newNode(start, cost, point, goal);
         if (closed.contains(n)) return null;
@@ -4,6 +4,7 @@ import net.minestom.server.collision.BoundingBox;
 import net.minestom.server.collision.CollisionUtils;
 import net.minestom.server.collision.PhysicsResult;
 import net.minestom.server.coordinate.Point;
+import net.minestom.server.coordinate.Vec;
 import net.minestom.server.entity.pathfinding.PNode;
 import net.minestom.server.instance.block.Block;
 
@@ -25,6 +26,31 @@ public interface NodeGenerator {
     Collection<? extends PNode> getWalkable(Block.Getter getter, Set<PNode> visited,
                                                      PNode current, Point goal, BoundingBox boundingBox);
 
+    /**
+     * Primitive variant of {@link #getWalkable(Block.Getter, Set, PNode, Point, BoundingBox)} used by
+     * the allocation-free path engine.
+     * <p>
+     * The default implementation bridges to {@link #getWalkable(Block.Getter, Set, PNode, Point, BoundingBox)},
+     * generators should override it to avoid creating nodes.
+     *
+     * @param getter      the block getter
+     * @param currentX    the current node x coordinate
+     * @param currentY    the current node y coordinate
+     * @param currentZ    the current node z coordinate
+     * @param goal        the goal
+     * @param boundingBox the bounding box
+     * @param sink        receives the walkable nodes, and knows the already visited blocks
+     */
+    default void forEachWalkable(Block.Getter getter, double currentX, double currentY, double currentZ,
+                                 Point goal, BoundingBox boundingBox, WalkableSink sink) {
+        final PNode current = new PNode(currentX, currentY, currentZ, 0, 0, null);
+        for (PNode node : getWalkable(getter, Set.of(), current, goal, boundingBox)) {
+            if (sink.visited(node.blockX(), node.blockY(), node.blockZ())) continue;
+            // The current node has no cost, so the node cost is the step cost
+            sink.accept(node.x(), node.y(), node.z(), node.g(), node.getType());
+        }
+    }
+
     /**
      * @return snap start and end points to the ground
      */
@@ -92,4 +118,38 @@ public interface NodeGenerator {
     default double heuristic(Point node, Point target) {
         return node.distance(target);
     }
+
+    /**
+     * Primitive variant of {@link #heuristic(Point, Point)}.
+     *
+     * @param nodeX  the node x coordinate
+     * @param nodeY  the node y coordinate
+     * @param nodeZ  the node z coordinate
+     * @param target the target
+     * @return the heuristic
+     */
+    default double heuristic(double nodeX, double nodeY, double nodeZ, Point target) {
+        return heuristic(new Vec(nodeX, nodeY, nodeZ), target);
+    }
+
+    /**
+     * Receives the nodes found by {@link #forEachWalkable(Block.Getter, double, double, double, Point, BoundingBox, WalkableSink)}.
+     */
+    interface WalkableSink {
+        /**
+         * @return true if the node at this block has already been expanded and should not be reported
+         */
+        boolean visited(int blockX, int blockY, int blockZ);
+
+        /**
+         * Reports a walkable node.
+         *
+         * @param x    the node x coordinate
+         * @param y    the node y coordinate
+         * @param z    the node z coordinate
+         * @param cost the cost of the step from the current node
+         * @param type the node type
+         */
+        void accept(double x, double y, double z, double cost, PNode.Type type);
+    }
 }
@@ -13,6 +13,16 @@ public final class EventDispatcher {
         return MinecraftServer.getGlobalEventHandler().getHandle(handleType);
     }
 
+    /**
+     * Creates a handle of the global event handler meant for {@code static final} fields of hot paths.
+     *
+     * @param handleType the handle type
+     * @return a handle following the current server process
+     */
+    public static <E extends Event> GlobalListenerHandle<E> globalHandle(Class<E> handleType) {
+        return new GlobalListenerHandle<>(handleType);
+    }
+
     public static void callCancellable(CancellableEvent event, Runnable successCallback) {
         MinecraftServer.getGlobalEventHandler().callCancellable(event, successCallback);
     }
@@ -0,0 +1,47 @@
+package net.minestom.server.event;
+
+import net.minestom.server.MinecraftServer;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * {@link ListenerHandle} of the {@link GlobalEventHandler} which can be stored in a {@code static final} field,
+ * retrievable from {@link EventDispatcher#globalHandle(Class)}.
+ * <p>
+ * Handles belong to the event handler of a server process, this one is resolved again when the process changes.
+ * Checking {@link ListenerHandle#hasListener()} first skips the event creation when nothing listens to it:
+ * <pre>{@code
+ * final ListenerHandle<EntityTickEvent> handle = TICK_HANDLE.get();
+ * if (handle.hasListener()) handle.call(new EntityTickEvent(this));
+ * }</pre>
+ *
+ * @param <E> the event type
+ */
+@ApiStatus.Experimental
+public final class GlobalListenerHandle<E extends Event> {
+    private final Class<E> eventType;
+    // Immutable, safely shared between threads without synchronization
+    private @Nullable Resolved<E> resolved;
+
+    GlobalListenerHandle(Class<E> eventType) {
+        this.eventType = eventType;
+    }
+
+    /**
+     * Gets the handle of the current global event handler.
+     *
+     * @return the listener handle
+     */
+    public ListenerHandle<E> get() {
+        final GlobalEventHandler eventHandler = MinecraftServer.getGlobalEventHandler();
+        Resolved<E> resolved = this.resolved;
+        if (resolved == null || resolved.eventHandler != eventHandler) {
+            resolved = new Resolved<>(eventHandler, eventHandler.getHandle(eventType));
+            this.resolved = resolved;
+        }
+        return resolved.handle;
+    }
+
+    private record Resolved<E extends Event>(GlobalEventHandler eventHandler, ListenerHandle<E> handle) {
+    }
+}
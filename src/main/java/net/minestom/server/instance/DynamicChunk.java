@@ -27,6 +27,7 @@ import net.minestom.server.utils.ArrayUtils;
 import net.minestom.server.utils.validate.Check;
 import net.minestom.server.world.DimensionType;
 import net.minestom.server.world.biome.Biome;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -42,6 +43,8 @@ import static net.minestom.server.coordinate.CoordConversion.globalToSectionRela
  */
 public class DynamicChunk extends Chunk {
     private static final Logger LOGGER = LoggerFactory.getLogger(DynamicChunk.class);
+    // Milliseconds between two idle checks of a chunk
+    private static final long COMPACTION_CHECK_INTERVAL = 1000;
 
     protected final List<Section> sections;
 
@@ -56,6 +59,10 @@ public class DynamicChunk extends Chunk {
 
     final CachedPacket chunkCache = new CachedPacket(this::createChunkPacket);
 
+    // Idle compaction state, only accessed by the chunk tick
+    private long lastActiveTime = Long.MIN_VALUE, lastCompactionCheck;
+    private int compactedPalettes = -1; // -1 if not compacted since last active
+
     public DynamicChunk(Instance instance, int chunkX, int chunkZ) {
         super(instance, chunkX, chunkZ, true);
         // Required to be here because the super call populates the min and max section.
@@ -180,6 +187,13 @@ public class DynamicChunk extends Chunk {
 
     @Override
     public void tick(long time) {
+        if (instance instanceof InstanceContainer container) {
+            final long idleTime = container.chunkCompactionIdleMillis();
+            if (idleTime > 0 && time - lastCompactionCheck >= COMPACTION_CHECK_INTERVAL) {
+                this.lastCompactionCheck = time;
+                compactIfIdle(time, idleTime);
+            }
+        }
         if (tickableMap.isEmpty()) return;
         tickableMap.int2ObjectEntrySet().fastForEach(entry -> {
             final int index = entry.getIntKey();
@@ -235,9 +249,77 @@ public class DynamicChunk extends Chunk {
         var sections = this.sections.stream().map(Section::clone).toList();
         DynamicChunk dynamicChunk = new DynamicChunk(instance, chunkX, chunkZ, sections);
         dynamicChunk.entries.putAll(entries);
+        // Sections are shared until modified, the copy sends the same packet until it gets invalidated
+        if (chunkX == this.chunkX && chunkZ == this.chunkZ) dynamicChunk.chunkCache.share(chunkCache);
         return dynamicChunk;
     }
 
+    /**
+     * Compacts the block and biome palettes of the sections, each is inflated back on its next access.
+     * <p>
+     * Also drops the cached chunk packet, light and heightmaps are kept as is.
+     *
+     * @return the estimated number of bytes freed
+     * @see InstanceContainer#setChunkCompactionIdleTime(java.time.Duration) to compact idle chunks automatically
+     */
+    @ApiStatus.Experimental
+    public long compact() {
+        assertWriteLock();
+        if (!canCompact()) return 0;
+        long freed = 0;
+        for (Section section : sections) {
+            freed += compact(section.blockPalette()) + compact(section.biomePalette());
+        }
+        if (freed > 0) this.chunkCache.invalidate();
+        return freed;
+    }
+
+    /**
+     * @return the number of section palettes currently compacted
+     */
+    @ApiStatus.Experimental
+    public int compactedPalettes() {
+        int count = 0;
+        for (Section section : sections) {
+            if (section.blockPalette().isCompacted()) count++;
+            if (section.biomePalette().isCompacted()) count++;
+        }
+        return count;
+    }
+
+    /**
+     * Gets if the palettes can be compacted, called with the write lock held.
+     *
+     * @return false if other threads may be reading the palettes without the chunk lock
+     */
+    boolean canCompact() {
+        return true;
+    }
+
+    private static long compact(Palette palette) {
+        final long bytes = palette.storageBytes();
+        return palette.compact() ? bytes - palette.storageBytes() : 0;
+    }
+
+    private void compactIfIdle(long time, long idleTime) {
+        if (lastActiveTime == Long.MIN_VALUE || !getViewers().isEmpty() ||
+                (compactedPalettes != -1 && compactedPalettes() < compactedPalettes)) {
+            // Viewed, or accessed since its last compaction
+            this.lastActiveTime = time;
+            this.compactedPalettes = -1;
+            return;
+        }
+        if (compactedPalettes != -1 || time - lastActiveTime < idleTime) return;
+        lockWriteLock();
+        try {
+            if (!canCompact()) return; // Retried on the next tick
+            compact();
+            this.compactedPalettes = compactedPalettes();
+        } finally {
+            unlockWriteLock();
+        }
+    }
+
     @Override
     public void reset() {
         assertWriteLock();
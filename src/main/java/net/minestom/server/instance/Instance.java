@@ -28,6 +28,8 @@ import net.minestom.server.event.EventDispatcher;
 import net.minestom.server.event.EventFilter;
 import net.minestom.server.event.EventHandler;
 import net.minestom.server.event.EventNode;
+import net.minestom.server.event.GlobalListenerHandle;
+import net.minestom.server.event.ListenerHandle;
 import net.minestom.server.event.instance.InstanceSectionInvalidateEvent;
 import net.minestom.server.event.instance.InstanceTickEvent;
 import net.minestom.server.event.trait.InstanceEvent;
@@ -81,6 +83,7 @@ import java.util.stream.Collectors;
  */
 public abstract class Instance implements Block.Getter, Block.Setter, Biome.Getter, Biome.Setter,
         Tickable, Schedulable, Snapshotable, EventHandler<InstanceEvent>, Taggable, PacketGroupingAudience, Pointered, Identified {
+    private static final GlobalListenerHandle<InstanceTickEvent> TICK_HANDLE = EventDispatcher.globalHandle(InstanceTickEvent.class);
 
     // Adventure pointers
     protected static final PointersSupplier<Instance> INSTANCE_POINTERS_SUPPLIER = PointersSupplier.<Instance>builder()
@@ -422,6 +425,16 @@ public abstract class Instance implements Block.Getter, Block.Setter, Biome.Gett
      */
     public abstract Collection<Chunk> getChunks();
 
+    /**
+     * Estimates the heap used by the sections of the loaded chunks.
+     *
+     * @return the memory usage of the sections, with the bytes saved by sharing their storage
+     */
+    @ApiStatus.Experimental
+    public SectionMemoryUsage sectionMemoryUsage() {
+        return SectionMemoryUsage.of(getChunks());
+    }
+
     /**
      * When set to true, chunks will load automatically when requested.
      * Otherwise using {@link #loadChunk(int, int)} will be required to even spawn a player
@@ -816,7 +829,8 @@ public abstract class Instance implements Block.Getter, Block.Setter, Biome.Gett
         // Tick event
         {
             // Process tick events
-            EventDispatcher.call(new InstanceTickEvent(this, time, lastTickAge));
+            final ListenerHandle<InstanceTickEvent> tickHandle = TICK_HANDLE.get();
+            if (tickHandle.hasListener()) tickHandle.call(new InstanceTickEvent(this, time, lastTickAge));
             // Set last tick age
             this.lastTickAge = time;
         }
@@ -6,6 +6,7 @@ import it.unimi.dsi.fastutil.longs.LongList;
 import net.kyori.adventure.key.Key;
 import net.kyori.adventure.nbt.CompoundBinaryTag;
 import net.minestom.server.MinecraftServer;
+import net.minestom.server.ServerFlag;
 import net.minestom.server.coordinate.BlockVec;
 import net.minestom.server.coordinate.CoordConversion;
 import net.minestom.server.coordinate.Point;
@@ -13,6 +14,8 @@ import net.minestom.server.coordinate.Vec;
 import net.minestom.server.entity.Entity;
 import net.minestom.server.entity.Player;
 import net.minestom.server.event.EventDispatcher;
+import net.minestom.server.event.GlobalListenerHandle;
+import net.minestom.server.event.ListenerHandle;
 import net.minestom.server.event.instance.InstanceBlockUpdateEvent;
 import net.minestom.server.event.instance.InstanceChunkLoadEvent;
 import net.minestom.server.event.instance.InstanceChunkUnloadEvent;
@@ -25,6 +28,7 @@ import net.minestom.server.instance.block.rule.BlockPlacementRule;
 import net.minestom.server.instance.generator.Generator;
 import net.minestom.server.instance.generator.GeneratorImpl;
 import net.minestom.server.instance.palette.Palette;
+import net.minestom.server.instance.palette.PaletteInterner;
 import net.minestom.server.monitoring.EventsJFR;
 import net.minestom.server.network.packet.server.play.BlockChangePacket;
 import net.minestom.server.network.packet.server.play.MultiBlockChangePacket;
@@ -47,6 +51,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import space.vectrix.flare.fastutil.Long2ObjectSyncMap;
 
+import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
@@ -65,6 +70,7 @@ public class InstanceContainer extends Instance {
     private static final Logger LOGGER = LoggerFactory.getLogger(InstanceContainer.class);
 
     private static final NoopChunkLoaderImpl DEFAULT_LOADER = NoopChunkLoaderImpl.INSTANCE;
+    private static final GlobalListenerHandle<InstanceBlockUpdateEvent> BLOCK_UPDATE_HANDLE = EventDispatcher.globalHandle(InstanceBlockUpdateEvent.class);
 
     private static final BlockFace[] BLOCK_UPDATE_FACES = new BlockFace[]{
             BlockFace.WEST, BlockFace.EAST, BlockFace.NORTH, BlockFace.SOUTH, BlockFace.BOTTOM, BlockFace.TOP
@@ -92,6 +98,9 @@ public class InstanceContainer extends Instance {
     // used to supply a new chunk object at a position when requested
     private ChunkSupplier chunkSupplier;
 
+    // time in milliseconds after which unviewed chunks get compacted, 0 if disabled
+    private volatile long chunkCompactionIdleTime = ServerFlag.CHUNK_COMPACTION_IDLE_TIME;
+
     // Fields for instance copy
     protected InstanceContainer srcInstance; // only present if this instance has been created using a copy
     private long lastBlockChangeTime; // Time at which the last block change happened (#setBlock)
@@ -212,7 +221,10 @@ public class InstanceContainer extends Instance {
                     chunk.sendPacketToViewers(new BlockEntityDataPacket(blockPosition, blockEntityType, data));
                 }
             }
-            EventDispatcher.call(new InstanceBlockUpdateEvent(this, blockPosition, block));
+            final ListenerHandle<InstanceBlockUpdateEvent> blockUpdateHandle = BLOCK_UPDATE_HANDLE.get();
+            if (blockUpdateHandle.hasListener()) {
+                blockUpdateHandle.call(new InstanceBlockUpdateEvent(this, blockPosition, block));
+            }
         } finally {
             chunk.unlockWriteLock();
         }
@@ -612,6 +624,9 @@ public class InstanceContainer extends Instance {
      * <p>
      * Chunks are copied with {@link Chunk#copy(Instance, int, int)},
      * {@link UUID} is randomized and {@link DimensionType} is passed over.
+     * <p>
+     * Sections are copied on write, both instances share their blocks, biomes and light
+     * until a section is modified in either of them, making the copy of a large map cheap.
      *
      * @return an {@link InstanceContainer} with the exact same chunks as 'this'
      * @see #getSrcInstance() to retrieve the "creation source" of the copied instance
@@ -630,6 +645,91 @@ public class InstanceContainer extends Instance {
         return copiedInstance;
     }
 
+    /**
+     * Shares the storage of identical sections between the loaded chunks,
+     * each section copies it back on its first modification.
+     * <p>
+     * Mostly useful once a large flat or void map has been loaded, whose repeated sections
+     * would otherwise each hold their own palette. Sections filled with a single block are already cheap.
+     * <p>
+     * Compacted sections (see {@link #compactChunks()}) are skipped rather than inflated,
+     * deduplicate before compacting to have both apply to the same sections.
+     *
+     * @return the estimated number of bytes saved
+     * @see #sectionMemoryUsage() to get the memory used by the sections
+     */
+    @ApiStatus.Experimental
+    public synchronized long deduplicateSections() {
+        PaletteInterner interner = new PaletteInterner();
+        for (Chunk chunk : chunks.values()) {
+            chunk.lockWriteLock();
+            try {
+                for (Section section : chunk.getSections()) {
+                    interner.intern(section.blockPalette());
+                    interner.intern(section.biomePalette());
+                }
+            } finally {
+                chunk.unlockWriteLock();
+            }
+        }
+        return interner.savedBytes();
+    }
+
+    /**
+     * Compacts the sections of all the loaded chunks, see {@link DynamicChunk#compact()}.
+     * <p>
+     * Chunks are inflated back section by section when accessed, including when sent to a player.
+     *
+     * @return the estimated number of bytes freed
+     * @see #setChunkCompactionIdleTime(Duration) to only compact the chunks left unviewed
+     */
+    @ApiStatus.Experimental
+    public long compactChunks() {
+        long freed = 0;
+        for (Chunk chunk : chunks.values()) {
+            if (!(chunk instanceof DynamicChunk dynamicChunk)) continue;
+            chunk.lockWriteLock();
+            try {
+                freed += dynamicChunk.compact();
+            } finally {
+                chunk.unlockWriteLock();
+            }
+        }
+        return freed;
+    }
+
+    /**
+     * Gets the time after which chunks without viewers get compacted.
+     *
+     * @return the idle time, {@link Duration#ZERO} if chunks are never compacted
+     */
+    @ApiStatus.Experimental
+    public Duration getChunkCompactionIdleTime() {
+        return Duration.ofMillis(chunkCompactionIdleTime);
+    }
+
+    /**
+     * Changes the time after which chunks without viewers get compacted.
+     * <p>
+     * Idle chunks keep their block and biome palettes deflated in memory until they are accessed again,
+     * which helps large worlds fit in less memory without unloading their chunks.
+     * Only applies to {@link DynamicChunk}, light and heightmaps are kept as is.
+     * <p>
+     * Defaults to the {@code minestom.chunk-compaction-idle-time} property, disabled if not set.
+     *
+     * @param idleTime the time without viewers nor access before compacting a chunk, {@link Duration#ZERO} to disable
+     * @see #sectionMemoryUsage() to get the memory used by the sections
+     */
+    @ApiStatus.Experimental
+    public void setChunkCompactionIdleTime(Duration idleTime) {
+        Check.argCondition(idleTime.isNegative(), "The idle time cannot be negative");
+        this.chunkCompactionIdleTime = idleTime.toMillis();
+    }
+
+    long chunkCompactionIdleMillis() {
+        return chunkCompactionIdleTime;
+    }
+
     /**
      * Gets the instance from which this one has been copied.
      * <p>
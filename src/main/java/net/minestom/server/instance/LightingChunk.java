@@ -12,16 +12,16 @@ import net.minestom.server.instance.block.BlockFace;
 import net.minestom.server.instance.block.BlockHandler;
 import net.minestom.server.instance.heightmap.Heightmap;
 import net.minestom.server.instance.light.Light;
+import net.minestom.server.instance.light.LightScheduler;
 import net.minestom.server.instance.palette.Palette;
+import net.minestom.server.monitoring.EventsJFR;
 import net.minestom.server.network.packet.server.CachedPacket;
 import net.minestom.server.network.packet.server.play.data.LightData;
+import net.minestom.server.world.DimensionType;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -35,8 +35,6 @@ import static net.minestom.server.instance.light.LightCompute.EMPTY_CONTENT;
  */
 public class LightingChunk extends DynamicChunk {
 
-    private static final ExecutorService pool = Executors.newWorkStealingPool();
-
     private volatile @Nullable OcclusionData occlusionData;
     final CachedPacket partialLightCache = new CachedPacket(this::createLightPacket);
     private @Nullable LightData partialLightData;
@@ -46,6 +44,8 @@ public class LightingChunk extends DynamicChunk {
 
     private final ReentrantLock packetGenerationLock = new ReentrantLock();
     private final AtomicInteger resendTimer = new AtomicInteger(-1);
+    // Light passes reading the block palettes without the chunk lock, which must not be compacted meanwhile
+    private final AtomicInteger lightPasses = new AtomicInteger();
     private final int resendDelay = ServerFlag.SEND_LIGHT_AFTER_BLOCK_PLACEMENT_DELAY;
 
     private boolean doneInit = false;
@@ -117,6 +117,10 @@ public class LightingChunk extends DynamicChunk {
     }
 
     public void invalidateNeighborsSection(int coordinate) {
+        invalidateNeighbors(coordinate, true, true);
+    }
+
+    private void invalidateNeighbors(int coordinate, boolean skyLight, boolean blockLight) {
         if (freezeInvalidation) {
             return;
         }
@@ -130,10 +134,13 @@ public class LightingChunk extends DynamicChunk {
                     light.invalidate();
                 }
 
+                if (!skyLight && !blockLight) continue;
                 for (int k = -1; k <= 1; k++) {
                     if (k + coordinate < neighborChunk.getMinSection() || k + coordinate >= neighborChunk.getMaxSection())
                         continue;
-                    neighborChunk.getSection(k + coordinate).invalidate();
+                    final Section section = neighborChunk.getSection(k + coordinate);
+                    if (skyLight) section.skyLight().invalidate();
+                    if (blockLight) section.blockLight().invalidate();
                 }
             }
         }
@@ -158,18 +165,55 @@ public class LightingChunk extends DynamicChunk {
     public void setBlock(int x, int y, int z, Block block,
                          @Nullable BlockHandler.Placement placement,
                          @Nullable BlockHandler.Destroy destroy) {
+        final OcclusionData previousOcclusion = this.occlusionData;
         super.setBlock(x, y, z, block, placement, destroy);
-        this.occlusionData = null;
+
+        final DimensionType dimensionType = instance.getCachedDimensionType();
+        if (y >= dimensionType.maxY() || y < dimensionType.minY()) return;
+
+        // Light is updated incrementally around the block, unless it changes the sky light sources
+        final boolean skySources = previousOcclusion == null || changesSkySources(previousOcclusion, x, y, z, block);
+        this.occlusionData = skySources ? null : updateOcclusionData(previousOcclusion, y, block);
 
         // Invalidate neighbor chunks, since they can be updated by this block change
         int coordinate = CoordConversion.globalToChunk(y);
         if (doneInit && !freezeInvalidation) {
-            invalidateNeighborsSection(coordinate);
+            invalidateNeighbors(coordinate, skySources, false);
+            final Section section = getSectionAt(y);
+            final int sectionX = CoordConversion.globalToSectionRelative(x);
+            final int sectionY = CoordConversion.globalToSectionRelative(y);
+            final int sectionZ = CoordConversion.globalToSectionRelative(z);
+            section.blockLight().invalidate(sectionX, sectionY, sectionZ);
+            if (!skySources) section.skyLight().invalidate(sectionX, sectionY, sectionZ);
             invalidateResendDelay();
             this.partialLightCache.invalidate();
         }
     }
 
+    private boolean changesSkySources(OcclusionData occlusionData, int x, int y, int z, Block block) {
+        final int index = CoordConversion.globalToSectionRelative(z) << 4 | CoordConversion.globalToSectionRelative(x);
+        final int height = occlusionData.occlusionMap()[index];
+        // Either the block is the new highest occluding one, or it was and does not occlude anymore
+        return checkSkyOcclusion(block) ? y >= height : y == height - 1;
+    }
+
+    private static @Nullable OcclusionData updateOcclusionData(OcclusionData occlusionData, int y, Block block) {
+        if (block.isAir()) return y == occlusionData.highestBlock() ? null : occlusionData;
+        return y > occlusionData.highestBlock() ? new OcclusionData(y, occlusionData.occlusionMap()) : occlusionData;
+    }
+
+    private void relightChanges() {
+        for (int sectionY = minSection; sectionY < maxSection; sectionY++) {
+            final Section section = getSection(sectionY);
+            if (section.blockLight().requiresUpdate()) {
+                relightSection(instance, chunkX, sectionY, chunkZ, LightType.BLOCK);
+            }
+            if (section.skyLight().requiresUpdate()) {
+                relightSection(instance, chunkX, sectionY, chunkZ, LightType.SKY);
+            }
+        }
+    }
+
     public void sendLighting() {
         if (!isLoaded()) return;
         sendPacketToViewers(partialLightCache);
@@ -275,6 +319,8 @@ public class LightingChunk extends DynamicChunk {
                     if (neighborChunk == null) continue;
 
                     if (neighborChunk instanceof LightingChunk light) {
+                        // Block changes of neighbors only update the light around them, which may reach this chunk
+                        if (light != this && light.doneInit) light.relightChanges();
                         light.lockReadLock();
                         try {
                             highestNeighborBlock = Math.max(highestNeighborBlock, light.getOcclusionData().highestBlock);
@@ -347,6 +393,11 @@ public class LightingChunk extends DynamicChunk {
         }
     }
 
+    @Override
+    boolean canCompact() {
+        return lightPasses.get() == 0;
+    }
+
     @Override
     public void tick(long time) {
         super.tick(time);
@@ -359,11 +410,12 @@ public class LightingChunk extends DynamicChunk {
     }
 
     private static Set<Chunk> flushQueue(Instance instance, Set<Point> queue, LightType type, QueueType queueType) {
-        Set<Light> sections = ConcurrentHashMap.newKeySet();
-        Set<Point> newQueue = ConcurrentHashMap.newKeySet();
+        final LightScheduler scheduler = LightScheduler.defaultScheduler();
+        final LightScheduler.Batch schedulerBatch = scheduler.batch(instance);
+        Set<Point> newQueue = new HashSet<>();
 
-        Set<Chunk> responseChunks = ConcurrentHashMap.newKeySet();
-        List<CompletableFuture<Void>> tasks = new ArrayList<>();
+        Set<Chunk> responseChunks = new HashSet<>();
+        List<CompletableFuture<Set<Point>>> tasks = new ArrayList<>();
 
         Light.LightLookup lightLookup = (x, y, z) -> {
             Chunk chunk = instance.getChunk(x, z);
@@ -385,50 +437,62 @@ public class LightingChunk extends DynamicChunk {
             return chunk.getSection(y).blockPalette();
         };
 
-        for (Point point : queue) {
-            Chunk chunk = instance.getChunk(point.blockX(), point.blockZ());
-            if (!(chunk instanceof LightingChunk lightingChunk)) continue;
+        var batch = EventsJFR.newLightingBatch(instance.getUuid(), type.name(), queueType.name(),
+                queue.size(), scheduler.queuedCount());
+        batch.begin();
+        // Neighbour palettes are read without their lock, none can be compacted until the tasks are done
+        final Set<LightingChunk> retained = retainNeighbours(instance, queue);
+        try {
+            for (Point point : queue) {
+                Chunk chunk = instance.getChunk(point.blockX(), point.blockZ());
+                if (!(chunk instanceof LightingChunk lightingChunk)) continue;
 
-            Section section = chunk.getSection(point.blockY());
-            responseChunks.add(chunk);
+                Section section = chunk.getSection(point.blockY());
+                responseChunks.add(chunk);
 
-            Light light = switch (type) {
-                case BLOCK -> section.blockLight();
-                case SKY -> section.skyLight();
-            };
+                Light light = switch (type) {
+                    case BLOCK -> section.blockLight();
+                    case SKY -> section.skyLight();
+                };
 
-            final Palette blockPalette = section.blockPalette();
-            CompletableFuture<Void> task = CompletableFuture.runAsync(() -> {
-                try {
-                    final Set<Point> toAdd;
-                    lightingChunk.lockReadLock();
+                final Palette blockPalette = section.blockPalette();
+                CompletableFuture<Set<Point>> task = schedulerBatch.submit(point, () -> {
                     try {
-                        toAdd = switch (queueType) {
-                            case INTERNAL -> light.calculateInternal(blockPalette,
-                                    chunk.getChunkX(), point.blockY(), chunk.getChunkZ(),
-                                    lightingChunk.getOcclusionMap(), chunk.instance.getCachedDimensionType().maxY(),
-                                    lightLookup);
-                            case EXTERNAL -> light.calculateExternal(blockPalette,
-                                    Light.getNeighbors(chunk, point.blockY()),
-                                    lightLookup, paletteLookup);
-                        };
-                    } finally {
-                        lightingChunk.unlockReadLock();
-                    }
+                        final Set<Point> toAdd;
+                        lightingChunk.lockReadLock();
+                        try {
+                            toAdd = switch (queueType) {
+                                case INTERNAL -> light.calculateInternal(blockPalette,
+                                        chunk.getChunkX(), point.blockY(), chunk.getChunkZ(),
+                                        lightingChunk.getOcclusionMap(), chunk.instance.getCachedDimensionType().maxY(),
+                                        lightLookup);
+                                case EXTERNAL -> light.calculateExternal(blockPalette,
+                                        Light.getNeighbors(chunk, point.blockY()),
+                                        lightLookup, paletteLookup);
+                            };
+                        } finally {
+                            lightingChunk.unlockReadLock();
+                        }
 
-                    sections.add(light);
+                        light.flip();
+                        return toAdd;
+                    } catch (Exception e) {
+                        MinecraftServer.getExceptionManager().handleException(e);
+                        return Set.of();
+                    }
+                });
 
-                    light.flip();
-                    newQueue.addAll(toAdd);
-                } catch (Exception e) {
-                    MinecraftServer.getExceptionManager().handleException(e);
-                }
-            }, pool);
+                tasks.add(task);
+            }
 
-            tasks.add(task);
+            for (CompletableFuture<Set<Point>> task : tasks) {
+                newQueue.addAll(task.join());
+            }
+        } finally {
+            for (LightingChunk lighting : retained) lighting.lightPasses.decrementAndGet();
         }
-
-        tasks.forEach(CompletableFuture::join);
+        batch.end();
+        batch.commit();
 
         if (!newQueue.isEmpty()) {
             var newResponse = flushQueue(instance, newQueue, type, QueueType.EXTERNAL);
@@ -438,6 +502,25 @@ public class LightingChunk extends DynamicChunk {
         return responseChunks;
     }
 
+    private static Set<LightingChunk> retainNeighbours(Instance instance, Set<Point> queue) {
+        Set<LightingChunk> retained = new HashSet<>();
+        for (Point point : queue) {
+            for (int x = point.blockX() - 1; x <= point.blockX() + 1; x++) {
+                for (int z = point.blockZ() - 1; z <= point.blockZ() + 1; z++) {
+                    if (!(instance.getChunk(x, z) instanceof LightingChunk lighting) || !retained.add(lighting)) continue;
+                    // Compaction holds the write lock, it either completed or sees the pass
+                    lighting.lockReadLock();
+                    try {
+                        lighting.lightPasses.incrementAndGet();
+                    } finally {
+                        lighting.unlockReadLock();
+                    }
+                }
+            }
+        }
+        return retained;
+    }
+
     /**
      * Forces a relight of the specified chunks.
      * <p>
@@ -584,6 +667,8 @@ public class LightingChunk extends DynamicChunk {
         var sections = this.sections.stream().map(Section::clone).toList();
         LightingChunk lightingChunk = new LightingChunk(instance, chunkX, chunkZ, sections);
         lightingChunk.entries.putAll(entries);
+        // Sections are shared until modified, the copy sends the same packet until it gets invalidated
+        if (chunkX == this.chunkX && chunkZ == this.chunkZ) lightingChunk.chunkCache.share(chunkCache);
         return lightingChunk;
     }
 
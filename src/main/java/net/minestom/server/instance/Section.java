@@ -22,15 +22,15 @@ public record Section(Palette blockPalette, Palette biomePalette, Light skyLight
         this.blockLight.invalidate();
     }
 
+    /**
+     * Copies the section, palettes and light are shared with the copy until either section modifies them.
+     *
+     * @return a copy of this section
+     */
     @Override
     public Section clone() {
-        final Light skyLight = Light.sky();
-        final Light blockLight = Light.block();
-
-        skyLight.set(this.skyLight.array());
-        blockLight.set(this.blockLight.array());
-
-        return new Section(this.blockPalette.clone(), this.biomePalette.clone(), skyLight, blockLight);
+        return new Section(this.blockPalette.clone(), this.biomePalette.clone(),
+                this.skyLight.copy(), this.blockLight.copy());
     }
 
     public void setSkyLight(byte[] copyArray) {
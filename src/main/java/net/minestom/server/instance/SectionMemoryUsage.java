@@ -0,0 +1,79 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.instance.palette.Palette;
+import org.jetbrains.annotations.ApiStatus;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+/**
+ * Estimated heap usage of the sections of an instance chunks.
+ * <p>
+ * Storage shared between sections, by {@link InstanceContainer#copy()} or {@link InstanceContainer#deduplicateSections()},
+ * is only counted once. Storage shared with other instances is counted by each of them.
+ * Compacted palettes are counted with their compressed size, see {@link InstanceContainer#compactChunks()}.
+ *
+ * @param chunks            the number of chunks
+ * @param sections          the number of sections
+ * @param paletteBytes      the size of the block and biome palettes storage
+ * @param lightBytes        the size of the light arrays
+ * @param savedBytes        the size which would be retained on top of the others without any sharing
+ * @param compactedPalettes the number of block and biome palettes currently compacted
+ */
+@ApiStatus.Experimental
+public record SectionMemoryUsage(int chunks, int sections, long paletteBytes, long lightBytes, long savedBytes,
+                                 int compactedPalettes) {
+    private static final int ARRAY_HEADER = 16;
+
+    static SectionMemoryUsage of(Collection<Chunk> chunks) {
+        final Set<Object> retained = Collections.newSetFromMap(new IdentityHashMap<>());
+        int chunkCount = 0, sectionCount = 0, compactedCount = 0;
+        long paletteBytes = 0, lightBytes = 0, totalBytes = 0;
+        for (Chunk chunk : chunks) {
+            chunk.lockReadLock();
+            try {
+                for (Section section : chunk.getSections()) {
+                    for (Palette palette : new Palette[]{section.blockPalette(), section.biomePalette()}) {
+                        final long bytes = palette.storageBytes();
+                        totalBytes += bytes;
+                        if (palette.isCompacted()) {
+                            // Not inflated to be identified, counted as retained
+                            paletteBytes += bytes;
+                            compactedCount++;
+                            continue;
+                        }
+                        final long[] values = palette.indexedValues();
+                        if (values != null && retained.add(values)) paletteBytes += bytes;
+                    }
+                    final long[] light = {0, 0};
+                    section.skyLight().forEachArray(array -> countLight(retained, light, array));
+                    section.blockLight().forEachArray(array -> countLight(retained, light, array));
+                    lightBytes += light[0];
+                    totalBytes += light[1];
+                    sectionCount++;
+                }
+            } finally {
+                chunk.unlockReadLock();
+            }
+            chunkCount++;
+        }
+        return new SectionMemoryUsage(chunkCount, sectionCount, paletteBytes, lightBytes,
+                totalBytes - paletteBytes - lightBytes, compactedCount);
+    }
+
+    // light[0]: retained bytes, light[1]: total bytes
+    private static void countLight(Set<Object> retained, long[] light, byte[] array) {
+        final long bytes = ARRAY_HEADER + array.length;
+        if (retained.add(array)) light[0] += bytes;
+        light[1] += bytes;
+    }
+
+    /**
+     * @return the size of the sections storage
+     */
+    public long totalBytes() {
+        return paletteBytes + lightBytes;
+    }
+}
@@ -0,0 +1,320 @@
+package net.minestom.server.instance.anvil;
+
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import net.kyori.adventure.nbt.CompoundBinaryTag;
+import net.minestom.server.instance.Chunk;
+import net.minestom.server.instance.Section;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.instance.palette.Palette;
+import net.minestom.server.instance.palette.Palettes;
+import net.minestom.server.registry.DynamicRegistry;
+import net.minestom.server.registry.RegistryKey;
+import net.minestom.server.utils.MathUtils;
+import net.minestom.server.utils.nbt.BinaryTagUtil;
+import net.minestom.server.utils.validate.Check;
+import net.minestom.server.world.biome.Biome;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.UnknownNullability;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.DataInput;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reads the NBT of an Anvil chunk from its decompressed stream, decoding the sections straight into the chunk
+ * palettes and lights instead of building their tag tree.
+ * <p>
+ * Everything else is read as tags and returned, to be handled as before. Not thread-safe, the scratch arrays
+ * are reused from one section (and one chunk) to the next.
+ */
+final class AnvilChunkReader {
+    private static final Logger LOGGER = LoggerFactory.getLogger(AnvilChunkReader.class);
+
+    private static final byte TAG_END = 0;
+    private static final byte TAG_BYTE = 1;
+    private static final byte TAG_SHORT = 2;
+    private static final byte TAG_INT = 3;
+    private static final byte TAG_LONG = 4;
+    private static final byte TAG_FLOAT = 5;
+    private static final byte TAG_DOUBLE = 6;
+    private static final byte TAG_BYTE_ARRAY = 7;
+    private static final byte TAG_STRING = 8;
+    private static final byte TAG_LIST = 9;
+    private static final byte TAG_COMPOUND = 10;
+    private static final byte TAG_INT_ARRAY = 11;
+    private static final byte TAG_LONG_ARRAY = 12;
+
+    private static final int LIGHT_LENGTH = 2048;
+    private static final int MAX_PROPERTIES = 16;
+
+    // Block name -> default state, avoids parsing the key of every palette entry
+    private static final Map<String, Block> BLOCKS = new ConcurrentHashMap<>();
+
+    private final SectionData blocks = new SectionData(Palette.BLOCK_PALETTE_MIN_BITS);
+    private final SectionData biomes = new SectionData(Palette.BIOME_PALETTE_MIN_BITS);
+    private final byte[] skyLight = new byte[LIGHT_LENGTH];
+    private final byte[] blockLight = new byte[LIGHT_LENGTH];
+    private boolean hasSkyLight, hasBlockLight;
+    private final String[] propertyKeys = new String[MAX_PROPERTIES];
+    private final String[] propertyValues = new String[MAX_PROPERTIES];
+    // Per chunk, the biome registry depends on the instance
+    private final Object2IntOpenHashMap<String> biomeIds = new Object2IntOpenHashMap<>();
+    private @UnknownNullability DynamicRegistry<Biome> biomeRegistry;
+
+    /**
+     * Reads the named root compound of a chunk, loading its sections into {@code chunk}.
+     *
+     * @param input the decompressed chunk stream
+     * @param chunk the chunk to load the sections into
+     * @return the root compound, without the sections
+     */
+    CompoundBinaryTag read(DataInput input, Chunk chunk) throws IOException {
+        final byte rootType = input.readByte();
+        if (rootType != TAG_COMPOUND) throw new IOException("Chunk root tag is not a compound: " + rootType);
+        skipString(input); // Root name
+        this.biomeRegistry = chunk.getInstance().registries().biome();
+        this.biomeIds.clear();
+
+        CompoundBinaryTag.Builder builder = CompoundBinaryTag.builder();
+        byte type;
+        while ((type = input.readByte()) != TAG_END) {
+            final String name = input.readUTF();
+            if (type == TAG_LIST && name.equals("sections")) {
+                readSections(input, chunk);
+            } else {
+                builder.put(name, BinaryTagUtil.nbtTypeFromId(type).read(input));
+            }
+        }
+        return builder.build();
+    }
+
+    private void readSections(DataInput input, Chunk chunk) throws IOException {
+        final byte elementType = input.readByte();
+        final int length = input.readInt();
+        if (elementType != TAG_COMPOUND) {
+            if (length > 0) LOGGER.warn("Invalid section tag type in chunk data: {}", elementType);
+            for (int i = 0; i < length; i++) skip(input, elementType);
+            return;
+        }
+        for (int i = 0; i < length; i++) readSection(input, chunk);
+    }
+
+    private void readSection(DataInput input, Chunk chunk) throws IOException {
+        // Fields can come in any order, keep them until the section Y is known
+        int sectionY = Integer.MIN_VALUE;
+        this.hasSkyLight = false;
+        this.hasBlockLight = false;
+        blocks.reset();
+        biomes.reset();
+        byte type;
+        while ((type = input.readByte()) != TAG_END) {
+            final String name = input.readUTF();
+            switch (name) {
+                case "Y" -> sectionY = type == TAG_BYTE ? input.readByte() : readNumber(input, type);
+                case "SkyLight" -> this.hasSkyLight = readLight(input, type, skyLight);
+                case "BlockLight" -> this.hasBlockLight = readLight(input, type, blockLight);
+                case "block_states" -> readContainer(input, type, blocks, true);
+                case "biomes" -> readContainer(input, type, biomes, false);
+                default -> skip(input, type);
+            }
+        }
+
+        Check.stateCondition(sectionY == Integer.MIN_VALUE, "Missing section Y value");
+        if (sectionY < chunk.getMinSection() || sectionY >= chunk.getMaxSection()) {
+            // Vanilla stores a section below and above the world for lighting, throw it out.
+            return;
+        }
+        final Section section = chunk.getSection(sectionY);
+        if (hasSkyLight) section.skyLight().set(skyLight);
+        if (hasBlockLight) section.blockLight().set(blockLight);
+        biomes.load(section.biomePalette(), "biomes");
+        blocks.load(section.blockPalette(), "states");
+    }
+
+    private void readContainer(DataInput input, byte type, SectionData data, boolean blocks) throws IOException {
+        if (type != TAG_COMPOUND) {
+            skip(input, type);
+            return;
+        }
+        byte fieldType;
+        while ((fieldType = input.readByte()) != TAG_END) {
+            final String name = input.readUTF();
+            if (fieldType == TAG_LIST && name.equals("palette")) {
+                final byte elementType = input.readByte();
+                final int length = input.readInt();
+                final byte expectedType = blocks ? TAG_COMPOUND : TAG_STRING;
+                if (elementType != expectedType && length > 0) {
+                    for (int i = 0; i < length; i++) skip(input, elementType);
+                    continue;
+                }
+                int[] palette = new int[length];
+                for (int i = 0; i < length; i++) {
+                    palette[i] = blocks ? readBlockState(input) : readBiome(input);
+                }
+                data.palette = palette;
+            } else if (fieldType == TAG_LONG_ARRAY && name.equals("data")) {
+                final int length = input.readInt();
+                long[] values = data.values;
+                if (values.length < length) data.values = values = new long[length];
+                for (int i = 0; i < length; i++) values[i] = input.readLong();
+                data.valuesLength = length;
+            } else {
+                skip(input, fieldType);
+            }
+        }
+    }
+
+    private int readBlockState(DataInput input) throws IOException {
+        @Nullable String blockName = null;
+        int propertyCount = 0;
+        byte type;
+        while ((type = input.readByte()) != TAG_END) {
+            final String name = input.readUTF();
+            if (type == TAG_STRING && name.equals("Name")) {
+                blockName = input.readUTF();
+            } else if (type == TAG_COMPOUND && name.equals("Properties")) {
+                byte propertyType;
+                while ((propertyType = input.readByte()) != TAG_END) {
+                    final String key = input.readUTF();
+                    if (propertyType != TAG_STRING) {
+                        LOGGER.warn("Fail to parse block state property {}, expected a string tag but got type {}", key, propertyType);
+                        skip(input, propertyType);
+                        continue;
+                    }
+                    final String value = input.readUTF();
+                    if (propertyCount == MAX_PROPERTIES) throw new IOException("Too many block state properties");
+                    propertyKeys[propertyCount] = key;
+                    propertyValues[propertyCount++] = value;
+                }
+            } else {
+                skip(input, type);
+            }
+        }
+        Check.stateCondition(blockName == null, "Missing block state name");
+        Block block = BLOCKS.get(blockName);
+        if (block == null) {
+            block = Objects.requireNonNull(Block.fromKey(blockName), "Unknown block " + blockName);
+            BLOCKS.put(blockName, block);
+        }
+        // Update the property indexes one by one, without building a map
+        for (int i = 0; i < propertyCount; i++) {
+            block = block.withProperty(propertyKeys[i], propertyValues[i]);
+        }
+        return block.stateId();
+    }
+
+    private int readBiome(DataInput input) throws IOException {
+        final String name = input.readUTF();
+        int biomeId = biomeIds.getOrDefault(name, -1);
+        if (biomeId != -1) return biomeId;
+        biomeId = biomeRegistry.getId(RegistryKey.unsafeOf(name));
+        if (biomeId == -1) biomeId = biomeRegistry.getId(Biome.PLAINS);
+        biomeIds.put(name, biomeId);
+        return biomeId;
+    }
+
+    private static boolean readLight(DataInput input, byte type, byte[] target) throws IOException {
+        if (type != TAG_BYTE_ARRAY) {
+            skip(input, type);
+            return false;
+        }
+        final int length = input.readInt();
+        if (length != LIGHT_LENGTH) {
+            skipBytes(input, length);
+            return false;
+        }
+        input.readFully(target);
+        return true;
+    }
+
+    private static int readNumber(DataInput input, byte type) throws IOException {
+        return switch (type) {
+            case TAG_SHORT -> input.readShort();
+            case TAG_INT -> input.readInt();
+            default -> {
+                skip(input, type);
+                yield Integer.MIN_VALUE;
+            }
+        };
+    }
+
+    private static void skip(DataInput input, byte type) throws IOException {
+        switch (type) {
+            case TAG_END -> {
+            }
+            case TAG_BYTE -> skipBytes(input, 1);
+            case TAG_SHORT -> skipBytes(input, 2);
+            case TAG_INT, TAG_FLOAT -> skipBytes(input, 4);
+            case TAG_LONG, TAG_DOUBLE -> skipBytes(input, 8);
+            case TAG_BYTE_ARRAY -> skipBytes(input, input.readInt());
+            case TAG_STRING -> skipString(input);
+            case TAG_LIST -> {
+                final byte elementType = input.readByte();
+                final int length = input.readInt();
+                for (int i = 0; i < length; i++) skip(input, elementType);
+            }
+            case TAG_COMPOUND -> {
+                byte fieldType;
+                while ((fieldType = input.readByte()) != TAG_END) {
+                    skipString(input);
+                    skip(input, fieldType);
+                }
+            }
+            case TAG_INT_ARRAY -> skipBytes(input, input.readInt() * 4L);
+            case TAG_LONG_ARRAY -> skipBytes(input, input.readInt() * 8L);
+            default -> throw new IOException("Invalid NBT type id: " + type);
+        }
+    }
+
+    private static void skipString(DataInput input) throws IOException {
+        skipBytes(input, input.readUnsignedShort());
+    }
+
+    private static void skipBytes(DataInput input, long count) throws IOException {
+        while (count > 0) {
+            int skipped = input.skipBytes((int) Math.min(count, Integer.MAX_VALUE));
+            if (skipped <= 0) {
+                input.readByte(); // Throws at the end of the stream
+                skipped = 1;
+            }
+            count -= skipped;
+        }
+    }
+
+    private static final class SectionData {
+        private static final int[] EMPTY_PALETTE = new int[0];
+
+        final int minBitsPerEntry;
+        int[] palette = EMPTY_PALETTE;
+        long[] values = new long[0];
+        int valuesLength;
+
+        SectionData(int minBitsPerEntry) {
+            this.minBitsPerEntry = minBitsPerEntry;
+        }
+
+        void reset() {
+            this.palette = EMPTY_PALETTE;
+            this.valuesLength = 0;
+        }
+
+        void load(Palette target, String name) {
+            final int[] palette = this.palette;
+            if (palette.length == 1) {
+                // One solid block, no need to check the data
+                target.fill(palette[0]);
+            } else if (palette.length > 1) {
+                Check.stateCondition(valuesLength == 0, "Missing packed " + name + " data");
+                // Never read past the data of this section, the rest of the scratch array is stale
+                final int bitsPerEntry = Math.max(minBitsPerEntry, MathUtils.bitsToRepresent(palette.length - 1));
+                Check.stateCondition(valuesLength < Palettes.arrayLength(target.dimension(), bitsPerEntry),
+                        "Not enough packed " + name + " data");
+                target.load(palette, values);
+            }
+        }
+    }
+}
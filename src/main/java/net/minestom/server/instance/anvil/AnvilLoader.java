@@ -8,7 +8,6 @@ import it.unimi.dsi.fastutil.longs.LongSet;
 import net.kyori.adventure.key.Key;
 import net.kyori.adventure.nbt.*;
 import net.minestom.server.MinecraftServer;
-import net.minestom.server.adventure.MinestomAdventure;
 import net.minestom.server.instance.Chunk;
 import net.minestom.server.instance.ChunkLoader;
 import net.minestom.server.instance.Instance;
@@ -19,7 +18,7 @@ import net.minestom.server.instance.palette.Palettes;
 import net.minestom.server.registry.DynamicRegistry;
 import net.minestom.server.registry.RegistryKey;
 import net.minestom.server.utils.MathUtils;
-import net.minestom.server.utils.validate.Check;
+import net.minestom.server.utils.ObjectPool;
 import net.minestom.server.world.DimensionType;
 import net.minestom.server.world.biome.Biome;
 import org.jetbrains.annotations.Nullable;
@@ -44,6 +43,7 @@ import static net.minestom.server.instance.Chunk.CHUNK_SIZE_Z;
 public class AnvilLoader implements ChunkLoader {
     private final static Logger LOGGER = LoggerFactory.getLogger(AnvilLoader.class);
     private static final CompoundBinaryTag[] BLOCK_STATE_ID_2_OBJECT_CACHE = new CompoundBinaryTag[Block.statesCount()];
+    private static final ObjectPool<AnvilChunkReader> CHUNK_READER_POOL = ObjectPool.pool(AnvilChunkReader::new);
 
     private final ReentrantLock fileCreationLock = new ReentrantLock();
     private final Map<String, RegionFile> alreadyLoaded = new ConcurrentHashMap<>();
@@ -120,30 +120,43 @@ public class AnvilLoader implements ChunkLoader {
 
     private @Nullable Chunk loadMCA(Instance instance, int chunkX, int chunkZ) throws IOException {
         final RegionFile mcaFile = getMCAFile(chunkX, chunkZ);
-        if (mcaFile == null) return null;
-        final CompoundBinaryTag chunkData = mcaFile.readChunkData(chunkX, chunkZ);
-        if (chunkData == null) return null;
+        if (mcaFile == null || !mcaFile.hasChunkData(chunkX, chunkZ)) return null;
 
-        // Load the chunk data (assuming it is fully generated)
-        final Chunk chunk = instance.getChunkSupplier().createChunk(instance, chunkX, chunkZ);
+        // The sections are decoded straight into the chunk while reading, everything else is kept as tags
+        Chunk chunk = instance.getChunkSupplier().createChunk(instance, chunkX, chunkZ);
+        final CompoundBinaryTag chunkData;
         chunk.lockWriteLock();
         try {
-            final String status = chunkData.getString("status");
-            // TODO: Should we handle other statuses?
-            if (status.isEmpty() || "minecraft:full".equals(status)) {
-                // Blocks + Biomes
-                loadSections(chunk, chunkData);
+            final Chunk target = chunk;
+            final AnvilChunkReader reader = CHUNK_READER_POOL.get();
+            try {
+                chunkData = mcaFile.readChunk(chunkX, chunkZ, input -> reader.read(input, target));
+            } finally {
+                CHUNK_READER_POOL.add(reader);
+            }
+            if (chunkData == null) return null; // Removed in the meantime
+        } finally {
+            chunk.unlockWriteLock();
+        }
+
+        final String status = chunkData.getString("status");
+        // TODO: Should we handle other statuses?
+        final boolean full = status.isEmpty() || "minecraft:full".equals(status);
+        if (!full) {
+            LOGGER.warn("Skipping partially generated chunk at {}, {} with status {}", chunkX, chunkZ, status);
+            // Discard the sections, decoded before the status was known
+            chunk = instance.getChunkSupplier().createChunk(instance, chunkX, chunkZ);
+        }
+        chunk.lockWriteLock();
+        try {
+            if (full) {
                 // Block entities
                 loadBlockEntities(chunk, chunkData);
                 chunk.loadHeightmapsFromNBT(chunkData.getCompound("Heightmaps"));
-            } else {
-                LOGGER.warn("Skipping partially generated chunk at {}, {} with status {}", chunkX, chunkZ, status);
             }
             CompoundBinaryTag handlerData = CompoundBinaryTag.builder()
                     .put(chunkData)
                     .remove("Heightmaps")
-                    .remove("sections")
-                    .remove("sections")
                     .remove("block_entities")
                     .build();
             chunk.tagHandler().updateContent(handlerData);
@@ -195,107 +208,6 @@ public class AnvilLoader implements ChunkLoader {
         }
     }
 
-    private void loadSections(Chunk chunk, CompoundBinaryTag chunkData) {
-        for (BinaryTag sectionTag : chunkData.getList("sections", BinaryTagTypes.COMPOUND)) {
-            if (!(sectionTag instanceof CompoundBinaryTag sectionData)) {
-                LOGGER.warn("Invalid section tag in chunk data: {}", sectionTag);
-                continue;
-            }
-
-            final int sectionY = sectionData.getInt("Y", Integer.MIN_VALUE);
-            Check.stateCondition(sectionY == Integer.MIN_VALUE, "Missing section Y value");
-            if (sectionY < chunk.getMinSection() || sectionY >= chunk.getMaxSection()) {
-                // Vanilla stores a section below and above the world for lighting, throw it out.
-                continue;
-            }
-
-            final Section section = chunk.getSection(sectionY);
-
-            // Lighting
-            if (sectionData.get("SkyLight") instanceof ByteArrayBinaryTag skyLightTag && skyLightTag.size() == 2048) {
-                section.skyLight().set(skyLightTag.value());
-            }
-            if (sectionData.get("BlockLight") instanceof ByteArrayBinaryTag blockLightTag && blockLightTag.size() == 2048) {
-                section.blockLight().set(blockLightTag.value());
-            }
-
-            {   // Biomes
-                final CompoundBinaryTag biomesTag = sectionData.getCompound("biomes");
-                final ListBinaryTag biomePaletteTag = biomesTag.getList("palette", BinaryTagTypes.STRING);
-                int[] convertedBiomePalette = loadBiomePalette(chunk.getInstance().registries().biome(), biomePaletteTag);
-                if (convertedBiomePalette.length == 1) {
-                    // One solid block, no need to check the data
-                    section.biomePalette().fill(convertedBiomePalette[0]);
-                } else if (convertedBiomePalette.length > 1) {
-                    final long[] packedIndices = biomesTag.getLongArray("data");
-                    Check.stateCondition(packedIndices.length == 0, "Missing packed biomes data");
-                    section.biomePalette().load(convertedBiomePalette, packedIndices);
-                }
-            }
-
-            {   // Blocks
-                final CompoundBinaryTag blockStatesTag = sectionData.getCompound("block_states");
-                final ListBinaryTag blockPaletteTag = blockStatesTag.getList("palette", BinaryTagTypes.COMPOUND);
-                final int[] convertedPalette = loadBlockPalette(blockPaletteTag);
-                if (blockPaletteTag.size() == 1) {
-                    // One solid block, no need to check the data
-                    section.blockPalette().fill(convertedPalette[0]);
-                } else if (blockPaletteTag.size() > 1) {
-                    final long[] packedStates = blockStatesTag.getLongArray("data");
-                    Check.stateCondition(packedStates.length == 0, "Missing packed states data");
-                    section.blockPalette().load(convertedPalette, packedStates);
-                }
-            }
-        }
-    }
-
-    private int[] loadBlockPalette(ListBinaryTag paletteTag) {
-        final int length = paletteTag.size();
-        int[] convertedPalette = new int[length];
-        for (int i = 0; i < length; i++) {
-            CompoundBinaryTag paletteEntry = paletteTag.getCompound(i);
-            final String blockName = paletteEntry.getString("Name");
-            if (blockName.equals("minecraft:air")) {
-                convertedPalette[i] = Block.AIR.stateId();
-            } else {
-                Block block = Objects.requireNonNull(Block.fromKey(blockName), "Unknown block " + blockName);
-                // Properties
-                final CompoundBinaryTag propertiesNBT = paletteEntry.getCompound("Properties");
-                if (!propertiesNBT.isEmpty()) {
-                    final Map<String, String> properties = HashMap.newHashMap(propertiesNBT.size());
-                    for (var property : propertiesNBT) {
-                        if (property.getValue() instanceof StringBinaryTag propertyValue) {
-                            properties.put(property.getKey(), propertyValue.value());
-                        } else {
-                            try {
-                                LOGGER.warn("Fail to parse block state properties {}, expected a string tag for {}, but contents were {}",
-                                        propertiesNBT, property.getKey(), MinestomAdventure.tagStringIO().asString(property.getValue()));
-                            } catch (IOException e) {
-                                LOGGER.warn("Fail to parse block state properties {}, expected a string tag for {}, but contents were a {} tag", propertiesNBT, property.getKey(), property.getValue());
-                            }
-                        }
-                    }
-                    block = block.withProperties(properties);
-                }
-
-                convertedPalette[i] = block.stateId();
-            }
-        }
-        return convertedPalette;
-    }
-
-    private int[] loadBiomePalette(DynamicRegistry<Biome> biomeRegistry, ListBinaryTag paletteTag) {
-        final int length = paletteTag.size();
-        int[] convertedPalette = new int[length];
-        for (int i = 0; i < length; i++) {
-            final String name = paletteTag.getString(i);
-            int biomeId = biomeRegistry.getId(RegistryKey.unsafeOf(name));
-            if (biomeId == -1) biomeId = biomeRegistry.getId(Biome.PLAINS);
-            convertedPalette[i] = biomeId;
-        }
-        return convertedPalette;
-    }
-
     private void loadBlockEntities(Chunk loadedChunk, CompoundBinaryTag chunkData) {
         for (BinaryTag blockEntityTag : chunkData.getList("block_entities", BinaryTagTypes.COMPOUND)) {
             if (!(blockEntityTag instanceof CompoundBinaryTag blockEntity)) {
@@ -403,6 +315,19 @@ public class AnvilLoader implements ChunkLoader {
         }
     }
 
+    @Override
+    public void saveChunks(Collection<Chunk> chunks) {
+        ChunkLoader.super.saveChunks(chunks);
+        // Region headers are forced to the disk once per batch rather than for each chunk
+        for (RegionFile regionFile : alreadyLoaded.values()) {
+            try {
+                regionFile.flush();
+            } catch (IOException e) {
+                MinecraftServer.getExceptionManager().handleException(e);
+            }
+        }
+    }
+
     private void saveSectionData(Chunk chunk, CompoundBinaryTag.Builder chunkData) {
         final DynamicRegistry<Biome> biomeRegistry = chunk.getInstance().registries().biome();
         final ListBinaryTag.Builder<CompoundBinaryTag> sections = ListBinaryTag.builder(BinaryTagTypes.COMPOUND);
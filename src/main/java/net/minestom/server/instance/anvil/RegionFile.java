@@ -3,21 +3,40 @@ package net.minestom.server.instance.anvil;
 import net.kyori.adventure.nbt.BinaryTagIO;
 import net.kyori.adventure.nbt.CompoundBinaryTag;
 import net.minestom.server.coordinate.CoordConversion;
+import net.minestom.server.utils.ObjectPool;
 import net.minestom.server.utils.validate.Check;
 import org.jetbrains.annotations.Nullable;
 
-import java.io.ByteArrayInputStream;
+import java.io.BufferedInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.EOFException;
 import java.io.IOException;
-import java.io.RandomAccessFile;
+import java.io.InputStream;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.BitSet;
 import java.util.Map;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
 
 /**
  * Implements a thread-safe reader and writer for Minecraft region files.
+ * <p>
+ * The file is memory mapped when opened, chunks present at that time are read straight from the mapping
+ * and the header is updated in place. Chunks are guarded by striped locks, so different chunks can be read
+ * and written concurrently, only the sector allocation is serialized.
  *
  * @see <a href="https://minecraft.wiki/w/Region_file_format">Region file format</a>
  * @see <a href="https://github.com/Minestom/Hephaistos/blob/master/common/src/main/kotlin/org/jglrxavpok/hephaistos/mca/RegionFile.kt">Hephaistos implementation</a>
@@ -29,63 +48,110 @@ final class RegionFile implements AutoCloseable {
     private static final int SECTOR_1MB = 1024 * 1024 / SECTOR_SIZE;
     private static final int HEADER_LENGTH = MAX_ENTRY_COUNT * 2 * 4; // 2 4-byte fields per entry
     private static final int CHUNK_HEADER_LENGTH = 4 + 1; // Length + Compression type (todo non constant to support custom compression)
+    private static final int STRIPE_COUNT = 32;
 
     private static final int COMPRESSION_ZLIB = 2;
+    private static final ValueLayout.OfInt HEADER_INT = ValueLayout.JAVA_INT_UNALIGNED.withOrder(ByteOrder.BIG_ENDIAN);
 
     private static final BinaryTagIO.Reader TAG_READER = BinaryTagIO.unlimitedReader();
+    private static final ObjectPool<Inflater> INFLATER_POOL = ObjectPool.pool(Inflater::new, inflater -> {
+        inflater.reset();
+        return inflater;
+    });
     private static final BinaryTagIO.Writer TAG_WRITER = BinaryTagIO.writer();
 
     public static String getFileName(int regionX, int regionZ) {
         return "r." + regionX + "." + regionZ + ".mca";
     }
 
-    private final ReentrantLock lock = new ReentrantLock();
-    private final RandomAccessFile file;
+    private final FileChannel channel;
+    private final Arena arena = Arena.ofShared();
+    // Covers the file as it was when opened, later sectors are read from the channel
+    private final MemorySegment mapped;
 
+    // Guards the location of the chunks with the same index modulo STRIPE_COUNT
+    private final ReentrantReadWriteLock[] stripes = new ReentrantReadWriteLock[STRIPE_COUNT];
     private final int[] locations = new int[MAX_ENTRY_COUNT];
-    private final int[] timestamps = new int[MAX_ENTRY_COUNT];
+    private boolean closed;
+
+    // Guards the sector allocation
+    private final ReentrantLock allocationLock = new ReentrantLock();
     private final BitSet freeSectors = new BitSet(2);
+    private int totalSectors;
 
-    // Cache header data to avoid repeated file I/O
-    private final ByteBuffer headerBuffer = ByteBuffer.allocate(HEADER_LENGTH);
-    private boolean headerDirty = false;
+    // The header is written to the mapping, only forced to the disk on flush
+    private volatile boolean headerDirty = false;
 
     public RegionFile(Path path) throws IOException {
-        this.file = new RandomAccessFile(path.toFile(), "rw");
-        readHeader();
+        this.channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.CREATE);
+        for (int i = 0; i < STRIPE_COUNT; i++) stripes[i] = new ReentrantReadWriteLock();
+        try {
+            if (channel.size() < HEADER_LENGTH) {
+                // new file, fill in data
+                writeFully(ByteBuffer.allocate(HEADER_LENGTH), 0);
+            }
+            this.mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size(), arena);
+            readHeader();
+        } catch (IOException | RuntimeException e) {
+            arena.close();
+            channel.close();
+            throw e;
+        }
     }
 
     public boolean hasChunkData(int chunkX, int chunkZ) {
+        final int chunkIndex = getChunkIndex(chunkX, chunkZ);
+        final ReentrantReadWriteLock.ReadLock lock = stripe(chunkIndex).readLock();
         lock.lock();
         try {
-            return locations[getChunkIndex(chunkX, chunkZ)] != 0;
+            return locations[chunkIndex] != 0;
         } finally {
             lock.unlock();
         }
     }
 
     public @Nullable CompoundBinaryTag readChunkData(int chunkX, int chunkZ) throws IOException {
+        return readChunk(chunkX, chunkZ, input -> TAG_READER.read((DataInput) input));
+    }
+
+    /**
+     * Reads the chunk by handing its decompressed NBT stream to {@code decoder}, without building the tag tree.
+     *
+     * @param decoder reads the named root compound of the chunk
+     * @return the decoded chunk, null if the chunk is absent
+     */
+    public <T> @Nullable T readChunk(int chunkX, int chunkZ, ChunkDecoder<T> decoder) throws IOException {
+        final int chunkIndex = getChunkIndex(chunkX, chunkZ);
+        final ReentrantReadWriteLock.ReadLock lock = stripe(chunkIndex).readLock();
         lock.lock();
         try {
-            if (!hasChunkData(chunkX, chunkZ)) return null;
-
-            int location = locations[getChunkIndex(chunkX, chunkZ)];
-            file.seek((long) (location >> 8) * SECTOR_SIZE); // Move to start of first sector
-            int length = file.readInt();
-            int compressionType = file.readByte();
-            BinaryTagIO.Compression compression = switch (compressionType) {
-                case 1 -> BinaryTagIO.Compression.GZIP;
-                case COMPRESSION_ZLIB -> BinaryTagIO.Compression.ZLIB;
-                case 3 -> BinaryTagIO.Compression.NONE;
+            if (closed) throw new ClosedChannelException();
+            final int location = locations[chunkIndex];
+            if (location == 0) return null;
+
+            final long position = (long) (location >> 8) * SECTOR_SIZE; // Start of first sector
+            final ByteBuffer chunkHeader = read(position, CHUNK_HEADER_LENGTH);
+            final int length = chunkHeader.getInt();
+            final int compressionType = chunkHeader.get();
+            if (length <= 0) throw new IOException("Invalid chunk length " + length + " at " + chunkX + ", " + chunkZ);
+            // Older versions stored a length 4 bytes too long, never read past the allocated sectors
+            final int dataLength = Math.min(length - 1, (location & 0xFF) * SECTOR_SIZE - CHUNK_HEADER_LENGTH);
+
+            // Decompress the raw content, without copying it from the mapping
+            final InputStream data = new ByteBufferInputStream(read(position + CHUNK_HEADER_LENGTH, dataLength));
+            return switch (compressionType) {
+                case 1 -> decoder.decode(new DataInputStream(new BufferedInputStream(new GZIPInputStream(data))));
+                case COMPRESSION_ZLIB -> {
+                    final Inflater inflater = INFLATER_POOL.get();
+                    try {
+                        yield decoder.decode(new DataInputStream(new BufferedInputStream(new InflaterInputStream(data, inflater))));
+                    } finally {
+                        INFLATER_POOL.add(inflater);
+                    }
+                }
+                case 3 -> decoder.decode(new DataInputStream(data));
                 default -> throw new IOException("Unsupported compression type: " + compressionType);
             };
-
-            // Read the raw content
-            byte[] data = new byte[length - 1];
-            file.read(data);
-
-            // Parse it as a compound tag
-            return TAG_READER.read(new ByteArrayInputStream(data), compression);
         } finally {
             lock.unlock();
         }
@@ -98,143 +164,191 @@ final class RegionFile implements AutoCloseable {
         byte[] dataBytes = out.toByteArray();
         int chunkLength = CHUNK_HEADER_LENGTH + dataBytes.length;
 
-        int sectorCount = (int) Math.ceil(chunkLength / (double) SECTOR_SIZE);
+        int sectorCount = (chunkLength + SECTOR_SIZE - 1) / SECTOR_SIZE;
         Check.stateCondition(sectorCount >= SECTOR_1MB, "Chunk data is too large to fit in a region file");
 
+        // Padded to whole sectors, so that appending never needs a separate write to extend the file
+        ByteBuffer buffer = ByteBuffer.allocate(sectorCount * SECTOR_SIZE);
+        buffer.putInt(dataBytes.length + 1); // Compression type + data
+        buffer.put((byte) COMPRESSION_ZLIB);
+        buffer.put(dataBytes);
+        buffer.clear();
+
+        final int chunkIndex = getChunkIndex(chunkX, chunkZ);
+        final ReentrantReadWriteLock.WriteLock lock = stripe(chunkIndex).writeLock();
         lock.lock();
         try {
+            if (closed) throw new ClosedChannelException();
             // We don't attempt to reuse the current allocation, just write it to a new position and free the old one.
-            int chunkIndex = getChunkIndex(chunkX, chunkZ);
-            int oldLocation = locations[chunkIndex];
-
-            // Find a new location
-            int firstSector = findFreeSectors(sectorCount);
-            if (firstSector == -1) {
-                firstSector = allocSectors(sectorCount);
+            final int oldLocation = locations[chunkIndex];
+            final int firstSector = allocate(sectorCount);
+            final int newLocation = (firstSector << 8) | sectorCount;
+            try {
+                writeFully(buffer, (long) firstSector * SECTOR_SIZE);
+            } catch (IOException e) {
+                release(newLocation);
+                throw e;
             }
-            int newLocation = (firstSector << 8) | sectorCount;
 
-            // Mark the sectors as used & free the old sectors
-            markLocation(oldLocation, true);
-            markLocation(newLocation, false);
-
-            // Write the chunk data
-            file.seek((long) firstSector * SECTOR_SIZE);
-            file.writeInt(chunkLength);
-            file.writeByte(COMPRESSION_ZLIB);
-            file.write(dataBytes);
-
-            // Update the header and write it
+            // Update the header, store timestamps in seconds since epoch
             locations[chunkIndex] = newLocation;
-            // store timestamps in seconds since epoch
-            timestamps[chunkIndex] = (int) (System.currentTimeMillis() / 1000);
-            writeHeader();
+            mapped.set(HEADER_INT, chunkIndex * 4L, newLocation);
+            mapped.set(HEADER_INT, SECTOR_SIZE + chunkIndex * 4L, (int) (System.currentTimeMillis() / 1000));
+            this.headerDirty = true;
+            // Readers of this chunk are excluded by the stripe lock, the old sectors can be reused right away
+            if (oldLocation != 0) release(oldLocation);
         } finally {
             lock.unlock();
         }
     }
 
+    /**
+     * Forces the header changes since the last flush to the storage device.
+     */
+    public void flush() throws IOException {
+        if (!headerDirty) return; // Skip if header hasn't changed
+        this.headerDirty = false;
+        try {
+            mapped.asSlice(0, HEADER_LENGTH).force();
+        } catch (IllegalStateException e) {
+            throw new ClosedChannelException();
+        }
+    }
+
     @Override
     public void close() throws IOException {
-        file.close();
+        // Wait for the pending reads and writes
+        for (ReentrantReadWriteLock stripe : stripes) stripe.writeLock().lock();
+        try {
+            if (closed) return;
+            this.closed = true;
+            try {
+                flush();
+            } finally {
+                arena.close();
+                channel.close();
+            }
+        } finally {
+            for (ReentrantReadWriteLock stripe : stripes) stripe.writeLock().unlock();
+        }
     }
 
     private int getChunkIndex(int chunkX, int chunkZ) {
         return (CoordConversion.chunkToRegionLocal(chunkZ) << 5) | CoordConversion.chunkToRegionLocal(chunkX);
     }
 
-    private void readHeader() throws IOException {
-        file.seek(0);
-        if (file.length() < HEADER_LENGTH) {
-            // new file, fill in data
-            file.write(new byte[HEADER_LENGTH]);
-        }
+    private ReentrantReadWriteLock stripe(int chunkIndex) {
+        return stripes[chunkIndex & (STRIPE_COUNT - 1)];
+    }
 
-        final long totalSectors = ((file.length() - 1) / SECTOR_SIZE) + 1; // Round up, last sector does not need to be full size
-        freeSectors.set(0, (int) totalSectors); // Set all sectors as free initially
+    private void readHeader() throws IOException {
+        final long fileSize = channel.size();
+        this.totalSectors = (int) (((fileSize - 1) / SECTOR_SIZE) + 1); // Round up, last sector does not need to be full size
+        freeSectors.set(0, totalSectors); // Set all sectors as free initially
         freeSectors.clear(0); // First sector is locations
         freeSectors.clear(1); // Second sector is timestamps
 
-        // Read entire header in one operation
-        file.seek(0);
-        byte[] headerData = new byte[HEADER_LENGTH];
-        file.readFully(headerData);
-        headerBuffer.clear();
-        headerBuffer.put(headerData);
-        headerBuffer.flip();
-
-        // Parse locations from buffer
+        // Parse locations from the mapping, timestamps are only written
         for (int i = 0; i < MAX_ENTRY_COUNT; i++) {
-            int location = locations[i] = headerBuffer.getInt();
+            final int location = locations[i] = mapped.get(HEADER_INT, i * 4L);
             if (location != 0) {
-                markLocationInBitSet(location, false);
+                final int sectorCount = location & 0xFF;
+                final int sectorStart = location >> 8;
+                Check.stateCondition(sectorStart + sectorCount > totalSectors, "Invalid sector count");
+                freeSectors.clear(sectorStart, sectorStart + sectorCount);
             }
         }
+    }
 
-        // Parse timestamps from buffer
-        for (int i = 0; i < MAX_ENTRY_COUNT; i++) {
-            timestamps[i] = headerBuffer.getInt();
+    private ByteBuffer read(long position, int length) throws IOException {
+        if (position + length <= mapped.byteSize()) {
+            return mapped.asSlice(position, length).asByteBuffer();
         }
-
-        headerDirty = false;
+        // Written after the file has been mapped
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) throw new EOFException();
+        }
+        return buffer.flip();
     }
 
-    private void writeHeader() throws IOException {
-        if (!headerDirty) return; // Skip if header hasn't changed
-
-        headerBuffer.clear();
+    private void writeFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer, position + buffer.position());
+        }
+    }
 
-        // Write locations to buffer
-        for (int location : locations) {
-            headerBuffer.putInt(location);
+    private int allocate(int sectorCount) {
+        allocationLock.lock();
+        try {
+            int start = freeSectors.nextSetBit(2);
+            while (start != -1 && start + sectorCount <= totalSectors) {
+                // Check if we have 'sectorCount' consecutive free sectors starting at 'start'
+                final int nextClear = freeSectors.nextClearBit(start);
+                if (nextClear >= start + sectorCount) break;
+                start = freeSectors.nextSetBit(nextClear);
+            }
+            if (start == -1 || start + sectorCount > totalSectors) {
+                // Append, the file grows when the sectors are written
+                start = totalSectors;
+                this.totalSectors += sectorCount;
+            }
+            freeSectors.clear(start, start + sectorCount);
+            return start;
+        } finally {
+            allocationLock.unlock();
         }
+    }
 
-        // Write timestamps to buffer
-        for (int timestamp : timestamps) {
-            headerBuffer.putInt(timestamp);
+    private void release(int location) {
+        final int sectorCount = location & 0xFF;
+        final int sectorStart = location >> 8;
+        allocationLock.lock();
+        try {
+            Check.stateCondition(sectorStart + sectorCount > totalSectors, "Invalid sector count");
+            freeSectors.set(sectorStart, sectorStart + sectorCount);
+        } finally {
+            allocationLock.unlock();
         }
+    }
 
-        // Write entire header in one operation
-        file.seek(0);
-        file.write(headerBuffer.array());
-        headerDirty = false;
+    @FunctionalInterface
+    interface ChunkDecoder<T> {
+        T decode(DataInputStream input) throws IOException;
     }
 
-    private int findFreeSectors(int length) {
-        int start = freeSectors.nextSetBit(0);
-        while (start != -1 && start + length <= freeSectors.size()) {
-            // Check if we have 'length' consecutive free sectors starting at 'start'
-            int nextClear = freeSectors.nextClearBit(start);
-            if (nextClear >= start + length) {
-                return start;
-            }
-            start = freeSectors.nextSetBit(nextClear);
+    private static final class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
         }
-        return -1;
-    }
 
-    private int allocSectors(int count) throws IOException {
-        var eof = file.length();
-        file.seek(eof);
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
 
-        byte[] emptySector = new byte[SECTOR_SIZE];
-        int startSector = (int) (eof / SECTOR_SIZE);
-        for (int i = 0; i < count; i++) {
-            freeSectors.set(startSector + i, true);
-            file.write(emptySector);
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (length == 0) return 0;
+            final int remaining = buffer.remaining();
+            if (remaining == 0) return -1;
+            final int count = Math.min(length, remaining);
+            buffer.get(bytes, offset, count);
+            return count;
         }
-        return startSector;
-    }
 
-    private void markLocation(int location, boolean free) {
-        markLocationInBitSet(location, free);
-        headerDirty = true;
-    }
+        @Override
+        public long skip(long n) {
+            final int count = (int) Math.max(0, Math.min(n, buffer.remaining()));
+            buffer.position(buffer.position() + count);
+            return count;
+        }
 
-    private void markLocationInBitSet(int location, boolean free) {
-        int sectorCount = location & 0xFF;
-        int sectorStart = location >> 8;
-        Check.stateCondition(sectorStart + sectorCount > freeSectors.size(), "Invalid sector count");
-        freeSectors.set(sectorStart, sectorStart + sectorCount, free);
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
     }
 }
@@ -1,17 +1,20 @@
 package net.minestom.server.instance.light;
 
 import it.unimi.dsi.fastutil.shorts.ShortArrayFIFOQueue;
+import it.unimi.dsi.fastutil.shorts.ShortArrayList;
 import net.minestom.server.coordinate.BlockVec;
 import net.minestom.server.coordinate.Point;
-import net.minestom.server.instance.block.Block;
 import net.minestom.server.instance.block.BlockFace;
 import net.minestom.server.instance.palette.Palette;
+import net.minestom.server.utils.Direction;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.HashSet;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 
 import static net.minestom.server.coordinate.CoordConversion.SECTION_BLOCK_COUNT;
 import static net.minestom.server.instance.light.LightCompute.*;
@@ -21,9 +24,16 @@ final class BlockLight implements Light {
     private byte @Nullable [] contentPropagation;
     private byte @Nullable [] contentPropagationSwap;
 
+    // Whether content only holds the light of this section sources, and can be updated incrementally
+    private boolean computed = false;
+
     private volatile boolean isValidBorders = true;
     private final AtomicBoolean needsSend = new AtomicBoolean(false);
 
+    // Changed blocks since the last update, guarded by itself
+    private final ShortArrayList changes = new ShortArrayList();
+    private volatile boolean hasChanges = false;
+
     @Override
     public void flip() {
         if (this.contentPropagationSwap != null)
@@ -36,9 +46,7 @@ final class BlockLight implements Light {
 
         int singleValue = blockPalette.singleValue();
         if (singleValue != -1) {
-            Block block = Block.fromStateId(singleValue);
-            assert block != null;
-            int lightEmission = block.registry().lightEmission();
+            final int lightEmission = LightOcclusion.lightEmission(singleValue);
             if (lightEmission <= 0) return new ShortArrayFIFOQueue(0);
             ShortArrayFIFOQueue lightSources = new ShortArrayFIFOQueue(SECTION_BLOCK_COUNT);
             final int prefix = lightEmission << 12;
@@ -50,9 +58,7 @@ final class BlockLight implements Light {
             ShortArrayFIFOQueue lightSources = new ShortArrayFIFOQueue();
             // Apply section light
             blockPalette.getAllPresent((x, y, z, stateId) -> {
-                final Block block = Block.fromStateId(stateId);
-                assert block != null;
-                final int lightEmission = block.registry().lightEmission();
+                final int lightEmission = LightOcclusion.lightEmission(stateId);
                 if (lightEmission <= 0) return;
                 final int index = x | (z << 4) | (y << 8);
                 lightSources.enqueue((short) (index | (lightEmission << 12)));
@@ -61,16 +67,44 @@ final class BlockLight implements Light {
         }
     }
 
+    static int lightEmission(Palette blockPalette, int index) {
+        return LightOcclusion.lightEmission(blockPalette.get(index & 15, (index >> 8) & 15, (index >> 4) & 15));
+    }
+
     @Override
     public void invalidate() {
         this.needsSend.set(true);
         this.isValidBorders = false;
         this.contentPropagation = null;
+        drainChanges();
+    }
+
+    @Override
+    public void invalidate(int x, int y, int z) {
+        this.needsSend.set(true);
+        synchronized (changes) {
+            if (changes.size() < MAX_UPDATE_CHANGES) {
+                changes.add((short) (x | (z << 4) | (y << 8)));
+                this.hasChanges = true;
+                return;
+            }
+        }
+        invalidate();
+    }
+
+    private short @Nullable [] drainChanges() {
+        synchronized (changes) {
+            if (changes.isEmpty()) return null;
+            final short[] result = changes.toShortArray();
+            changes.clear();
+            this.hasChanges = false;
+            return result;
+        }
     }
 
     @Override
     public boolean requiresUpdate() {
-        return !isValidBorders;
+        return !isValidBorders || hasChanges;
     }
 
     @Override
@@ -78,10 +112,38 @@ final class BlockLight implements Light {
     public void set(byte[] copyArray) {
         this.content = lazyArray(copyArray);
         this.contentPropagation = this.content;
+        this.computed = false;
+        drainChanges();
         this.isValidBorders = true;
         this.needsSend.set(true);
     }
 
+    @Override
+    @ApiStatus.Internal
+    public Light copy() {
+        BlockLight copy = new BlockLight();
+        copy.content = this.content;
+        copy.contentPropagation = this.contentPropagation;
+        copy.contentPropagationSwap = this.contentPropagationSwap;
+        copy.computed = this.computed;
+        copy.isValidBorders = this.isValidBorders;
+        copy.needsSend.set(true);
+        synchronized (changes) {
+            copy.changes.addAll(changes);
+            copy.hasChanges = this.hasChanges;
+        }
+        return copy;
+    }
+
+    @Override
+    @ApiStatus.Internal
+    public void forEachArray(Consumer<byte[]> consumer) {
+        final byte[] content = this.content;
+        final byte[] contentPropagation = this.contentPropagation;
+        if (content != null) consumer.accept(content);
+        if (contentPropagation != null && contentPropagation != content) consumer.accept(contentPropagation);
+    }
+
     @Override
     public boolean requiresSend() {
         return needsSend.getAndSet(false);
@@ -109,10 +171,15 @@ final class BlockLight implements Light {
                                         int chunkX, int chunkY, int chunkZ,
                                         int[] heightmap, int maxY,
                                         LightLookup lightLookup) {
+        final short[] changes = drainChanges();
+        if (changes != null && isValidBorders && computed) {
+            return calculateChanges(blockPalette, chunkX, chunkY, chunkZ, changes, lightLookup);
+        }
         this.isValidBorders = true;
         // Update single section with base lighting changes
         ShortArrayFIFOQueue queue = buildInternalQueue(blockPalette);
         this.content = LightCompute.compute(blockPalette, queue);
+        this.computed = true;
         // Propagate changes to neighbors and self
         for (int i = -1; i <= 1; i++) {
             for (int j = -1; j <= 1; j++) {
@@ -129,6 +196,47 @@ final class BlockLight implements Light {
         return Set.of(new BlockVec(chunkX, chunkY, chunkZ));
     }
 
+    private Set<Point> calculateChanges(Palette blockPalette,
+                                       int chunkX, int chunkY, int chunkZ,
+                                       short[] changes, LightLookup lightLookup) {
+        final byte[] previous = Objects.requireNonNull(content);
+        final byte[] updated = LightCompute.update(blockPalette, previous, changes, index -> lightEmission(blockPalette, index));
+        this.content = updated;
+        Set<Point> toUpdate = new HashSet<>();
+        if (LightCompute.affectsPropagation(previous, updated, contentPropagation, changes)) {
+            // Light from neighbors may be stale, propagate it again around the section
+            for (int i = -1; i <= 1; i++) {
+                for (int j = -1; j <= 1; j++) {
+                    for (int k = -1; k <= 1; k++) {
+                        final int neighborX = chunkX + i;
+                        final int neighborY = chunkY + j;
+                        final int neighborZ = chunkZ + k;
+                        if (!(lightLookup.light(neighborX, neighborY, neighborZ) instanceof BlockLight blockLight))
+                            continue;
+                        blockLight.contentPropagation = null;
+                        blockLight.needsSend.set(true);
+                        toUpdate.add(new BlockVec(neighborX, neighborY, neighborZ));
+                    }
+                }
+            }
+            return toUpdate;
+        }
+        // Light only increased, self and neighbors with a brighter border are updated from their borders
+        toUpdate.add(new BlockVec(chunkX, chunkY, chunkZ));
+        for (int i = 0; i < DIRECTIONS.length; i++) {
+            if (LightCompute.compareBorder(previous, updated, FACES[i]) <= 0) continue;
+            final Direction direction = DIRECTIONS[i];
+            final int neighborX = chunkX + direction.normalX();
+            final int neighborY = chunkY + direction.normalY();
+            final int neighborZ = chunkZ + direction.normalZ();
+            if (!(lightLookup.light(neighborX, neighborY, neighborZ) instanceof BlockLight blockLight))
+                continue;
+            blockLight.needsSend.set(true);
+            toUpdate.add(new BlockVec(neighborX, neighborY, neighborZ));
+        }
+        return toUpdate;
+    }
+
     @Override
     public Set<Point> calculateExternal(Palette blockPalette,
                                         Point[] neighbors,
@@ -9,6 +9,7 @@ import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Set;
+import java.util.function.Consumer;
 
 public interface Light {
     static Light sky() {
@@ -30,10 +31,41 @@ public interface Light {
 
     void invalidate();
 
+    /**
+     * Marks a single block of the section as changed.
+     * <p>
+     * Changes are batched until the next update, which then only propagates light around them
+     * instead of computing the whole section again.
+     *
+     * @param x the section relative x
+     * @param y the section relative y
+     * @param z the section relative z
+     */
+    void invalidate(int x, int y, int z);
+
     boolean requiresUpdate();
 
     void set(byte[] copyArray);
 
+    /**
+     * Creates a light holding the same levels and pending changes.
+     * <p>
+     * Light arrays are replaced by each computation and never modified afterward,
+     * the copy shares them with this light until either is updated.
+     *
+     * @return a copy of this light
+     */
+    @ApiStatus.Internal
+    Light copy();
+
+    /**
+     * Gives the light arrays held by this light, which may be shared with other lights.
+     *
+     * @param consumer the consumer of each array
+     */
+    @ApiStatus.Internal
+    void forEachArray(Consumer<byte[]> consumer);
+
     @ApiStatus.Internal
     Set<Point> calculateInternal(Palette blockPalette,
                                  int chunkX, int chunkY, int chunkZ,
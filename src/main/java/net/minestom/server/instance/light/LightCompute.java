@@ -1,15 +1,16 @@
 package net.minestom.server.instance.light;
 
 import it.unimi.dsi.fastutil.shorts.ShortArrayFIFOQueue;
-import net.minestom.server.collision.Shape;
 import net.minestom.server.coordinate.Point;
 import net.minestom.server.instance.block.Block;
 import net.minestom.server.instance.block.BlockFace;
 import net.minestom.server.instance.palette.Palette;
 import net.minestom.server.utils.Direction;
+import net.minestom.server.utils.ObjectPool;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Arrays;
-import java.util.Objects;
+import java.util.function.IntUnaryOperator;
 
 import static net.minestom.server.coordinate.CoordConversion.SECTION_BLOCK_COUNT;
 
@@ -18,6 +19,11 @@ public final class LightCompute {
     static final BlockFace[] FACES = BlockFace.values();
     static final int LIGHT_LENGTH = SECTION_BLOCK_COUNT / 2;
     static final int SECTION_SIZE = 16;
+    // Past this amount of block changes, computing the section again is cheaper than updating it
+    static final int MAX_UPDATE_CHANGES = SECTION_BLOCK_COUNT / 16;
+
+    // State ids of the section being propagated
+    private static final ObjectPool<int[]> STATES_POOL = ObjectPool.pool(() -> new int[SECTION_BLOCK_COUNT]);
 
     public static final byte[] UNSET_CONTENT = new byte[0];
     public static final byte[] EMPTY_CONTENT = new byte[LIGHT_LENGTH];
@@ -72,28 +78,19 @@ public final class LightCompute {
                         if (lightEmission <= internalEmission) continue;
                     }
 
-                    final Block blockTo = switch (face) {
-                        case NORTH, SOUTH -> getBlock(blockPalette, bx, by, k);
-                        case WEST, EAST -> getBlock(blockPalette, k, bx, by);
-                        default -> getBlock(blockPalette, bx, k, by);
+                    final int stateTo = switch (face) {
+                        case NORTH, SOUTH -> blockPalette.get(bx, by, k);
+                        case WEST, EAST -> blockPalette.get(k, bx, by);
+                        default -> blockPalette.get(bx, k, by);
                     };
 
-                    final Block blockFrom = switch (face) {
-                        case NORTH, SOUTH -> getBlock(otherPalette, bx, by, 15 - k);
-                        case WEST, EAST -> getBlock(otherPalette, 15 - k, bx, by);
-                        default -> getBlock(otherPalette, bx, 15 - k, by);
+                    final int stateFrom = switch (face) {
+                        case NORTH, SOUTH -> otherPalette.get(bx, by, 15 - k);
+                        case WEST, EAST -> otherPalette.get(15 - k, bx, by);
+                        default -> otherPalette.get(bx, 15 - k, by);
                     };
 
-                    if (blockTo == null && blockFrom != null) {
-                        if (blockFrom.registry().occlusionShape().isOccluded(Block.AIR.registry().occlusionShape(), face.getOppositeFace()))
-                            continue;
-                    } else if (blockTo != null && blockFrom == null) {
-                        if (Block.AIR.registry().occlusionShape().isOccluded(blockTo.registry().occlusionShape(), face))
-                            continue;
-                    } else if (blockTo != null && blockFrom != null) {
-                        if (blockFrom.registry().occlusionShape().isOccluded(blockTo.registry().occlusionShape(), face.getOppositeFace()))
-                            continue;
-                    }
+                    if (LightOcclusion.isOccluded(stateFrom, stateTo, face.getOppositeFace().ordinal())) continue;
 
                     final int index = posTo | (lightEmission << 12);
                     lightSources.enqueue((short) index);
@@ -133,6 +130,142 @@ public final class LightCompute {
             }
         }
 
+        final int[] states = STATES_POOL.get();
+        try {
+            LightOcclusion.load(blockPalette, states);
+            propagate(states, lightArray, lightSources);
+        } finally {
+            STATES_POOL.add(states);
+        }
+        return lightArray;
+    }
+
+    /**
+     * Updates light in one section after some of its blocks changed, without computing it again from scratch
+     * <p>
+     * Light which may have come through the changed positions is first removed following decreasing levels,
+     * the area is then refilled from the light around it and from the sources it contains, using the same
+     * Breadth-first search as {@link #compute(Palette, ShortArrayFIFOQueue)}
+     *
+     * @param blockPalette blocks placed in section, after the changes
+     * @param content      light of the section before the changes, left untouched
+     * @param changes      positions of the changed blocks in format: [4bit y][4bit z][4bit x]
+     * @param emission     light level emitted at a position
+     * @return the updated lighting
+     */
+    static byte[] update(Palette blockPalette, byte[] content, short[] changes, IntUnaryOperator emission) {
+        final byte[] lightArray = content.length == LIGHT_LENGTH ? content.clone() : new byte[LIGHT_LENGTH];
+
+        final ShortArrayFIFOQueue removals = new ShortArrayFIFOQueue(changes.length);
+        for (short change : changes) {
+            final int index = change & 0xFFF;
+            removals.enqueue((short) (index | (getLight(lightArray, index) << 12)));
+            placeLight(lightArray, index, 0);
+        }
+
+        // Remove the light which may depend on the changes, keeping track of its border and sources
+        final ShortArrayFIFOQueue lightPre = new ShortArrayFIFOQueue();
+        final ShortArrayFIFOQueue refill = new ShortArrayFIFOQueue();
+        while (!removals.isEmpty()) {
+            final int index = removals.dequeueShort();
+            final int x = index & 15;
+            final int z = (index >> 4) & 15;
+            final int y = (index >> 8) & 15;
+            final int lightLevel = (index >> 12) & 15;
+
+            final int emitted = emission.applyAsInt(index & 0xFFF);
+            if (emitted > 0) lightPre.enqueue((short) ((index & 0xFFF) | (emitted << 12)));
+
+            for (Direction direction : DIRECTIONS) {
+                final int xO = x + direction.normalX();
+                final int yO = y + direction.normalY();
+                final int zO = z + direction.normalZ();
+                if (xO < 0 || xO >= SECTION_SIZE || yO < 0 || yO >= SECTION_SIZE || zO < 0 || zO >= SECTION_SIZE) {
+                    continue;
+                }
+
+                final int newIndex = xO | (zO << 4) | (yO << 8);
+                final int neighborLevel = getLight(lightArray, newIndex);
+                if (neighborLevel == 0) continue;
+                if (neighborLevel < lightLevel) {
+                    placeLight(lightArray, newIndex, 0);
+                    removals.enqueue((short) (newIndex | (neighborLevel << 12)));
+                } else {
+                    // Lit independently, may spread back into the removed area
+                    refill.enqueue((short) newIndex);
+                }
+            }
+        }
+
+        final ShortArrayFIFOQueue lightSources = new ShortArrayFIFOQueue();
+        while (!lightPre.isEmpty()) {
+            final int index = lightPre.dequeueShort();
+            final int newLightLevel = (index >> 12) & 15;
+            final int newIndex = index & 0xFFF;
+            if (getLight(lightArray, newIndex) < newLightLevel) {
+                placeLight(lightArray, newIndex, newLightLevel);
+                lightSources.enqueue((short) index);
+            }
+        }
+        while (!refill.isEmpty()) {
+            // Read the level again, the position may have been removed by another change
+            final int index = refill.dequeueShort();
+            final int lightLevel = getLight(lightArray, index);
+            if (lightLevel > 1) lightSources.enqueue((short) (index | (lightLevel << 12)));
+        }
+        final int[] states = STATES_POOL.get();
+        try {
+            LightOcclusion.load(blockPalette, states);
+            propagate(states, lightArray, lightSources);
+        } finally {
+            STATES_POOL.add(states);
+        }
+        return lightArray;
+    }
+
+    /**
+     * Compares the light of a section border before and after an update
+     *
+     * @return a negative value if some light decreased, a positive value if it only increased, 0 if unchanged
+     */
+    static int compareBorder(byte[] before, byte[] after, BlockFace face) {
+        final int k = switch (face) {
+            case WEST, BOTTOM, NORTH -> 0;
+            case EAST, TOP, SOUTH -> 15;
+        };
+        int result = 0;
+        for (int bx = 0; bx < SECTION_SIZE; bx++) {
+            for (int by = 0; by < SECTION_SIZE; by++) {
+                final int pos = switch (face) {
+                    case NORTH, SOUTH -> bx | (k << 4) | (by << 8);
+                    case WEST, EAST -> k | (by << 4) | (bx << 8);
+                    default -> bx | (by << 4) | (k << 8);
+                };
+                final int difference = getLight(after, pos) - getLight(before, pos);
+                if (difference < 0) return -1;
+                if (difference > 0) result = 1;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Checks if light coming from other sections may have been affected by an update, either because it was
+     * flowing through a changed position or because light on the section borders decreased
+     */
+    static boolean affectsPropagation(byte[] before, byte[] after, byte @Nullable [] contentPropagation, short[] changes) {
+        if (contentPropagation != null) {
+            for (short change : changes) {
+                if (getLight(contentPropagation, change & 0xFFF) > 0) return true;
+            }
+        }
+        for (BlockFace face : FACES) {
+            if (compareBorder(before, after, face) < 0) return true;
+        }
+        return false;
+    }
+
+    private static void propagate(int[] states, byte[] lightArray, ShortArrayFIFOQueue lightSources) {
         while (!lightSources.isEmpty()) {
             final int index = lightSources.dequeueShort();
             final int x = index & 15;
@@ -140,8 +273,10 @@ public final class LightCompute {
             final int y = (index >> 8) & 15;
             final int lightLevel = (index >> 12) & 15;
             final byte newLightLevel = (byte) (lightLevel - 1);
+            final int currentState = states[index & 0xFFF];
 
-            for (Direction direction : DIRECTIONS) {
+            for (int i = 0; i < DIRECTIONS.length; i++) {
+                final Direction direction = DIRECTIONS[i];
                 final int xO = x + direction.normalX();
                 final int yO = y + direction.normalY();
                 final int zO = z + direction.normalZ();
@@ -155,22 +290,14 @@ public final class LightCompute {
                 final int newIndex = xO | (zO << 4) | (yO << 8);
 
                 if (getLight(lightArray, newIndex) < newLightLevel) {
-                    final Block currentBlock = Objects.requireNonNullElse(getBlock(blockPalette, x, y, z), Block.AIR);
-                    final Block propagatedBlock = Objects.requireNonNullElse(getBlock(blockPalette, xO, yO, zO), Block.AIR);
-
-                    final Shape currentShape = currentBlock.registry().occlusionShape();
-                    final Shape propagatedShape = propagatedBlock.registry().occlusionShape();
-
-                    final boolean airAir = currentBlock.isAir() && propagatedBlock.isAir();
-                    if (!airAir && currentShape.isOccluded(propagatedShape, BlockFace.fromDirection(direction)))
-                        continue;
+                    // Directions and faces share the same order
+                    if (LightOcclusion.isOccluded(currentState, states[newIndex], i)) continue;
 
                     placeLight(lightArray, newIndex, newLightLevel);
                     lightSources.enqueue((short) (newIndex | (newLightLevel << 12)));
                 }
             }
         }
-        return lightArray;
     }
 
     private static void placeLight(byte[] light, int index, int value) {
@@ -0,0 +1,104 @@
+package net.minestom.server.instance.light;
+
+import net.minestom.server.collision.Shape;
+import net.minestom.server.collision.ShapeImpl;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.instance.block.BlockFace;
+import net.minestom.server.instance.palette.Palette;
+
+import java.util.Arrays;
+
+import static net.minestom.server.coordinate.CoordConversion.SECTION_BLOCK_COUNT;
+
+/**
+ * Light properties of every block state, packed in a table indexed by state id.
+ * <p>
+ * Lets propagation work on the state ids of a section instead of resolving a {@link Block} and its
+ * occlusion {@link Shape} for every visited neighbor. Shapes are only compared when both faces are partially covered.
+ * <p>
+ * Entries are in format: [1bit air][4bit light emission][6bit empty faces][6bit full faces]
+ */
+final class LightOcclusion {
+    private static final int EMPTY_FACES_SHIFT = 6;
+    private static final int EMISSION_SHIFT = 12;
+    private static final int AIR = 1 << 16;
+    private static final int FACE_MASK = 0b111111;
+    // Shape is not a ShapeImpl, faces are unknown and always compared
+    private static final int UNKNOWN_FACES = 0;
+
+    private static final BlockFace[] FACES = BlockFace.values();
+    private static final int[] OPPOSITE_FACES = new int[FACES.length];
+
+    private static final int[] ENTRIES;
+    private static final Shape[] SHAPES;
+
+    static {
+        for (BlockFace face : FACES) OPPOSITE_FACES[face.ordinal()] = face.getOppositeFace().ordinal();
+
+        final int count = Block.statesCount();
+        ENTRIES = new int[count];
+        SHAPES = new Shape[count];
+        for (int stateId = 0; stateId < count; stateId++) {
+            final Block block = Block.fromStateId(stateId);
+            if (block == null) continue;
+            final Shape shape = block.registry().occlusionShape();
+            int entry = UNKNOWN_FACES;
+            if (shape instanceof ShapeImpl shapeImpl) {
+                entry = (shapeImpl.fullOcclusionFaces() & FACE_MASK)
+                        | ((shapeImpl.emptyOcclusionFaces() & FACE_MASK) << EMPTY_FACES_SHIFT);
+            }
+            entry |= (block.registry().lightEmission() & 15) << EMISSION_SHIFT;
+            if (block.isAir()) entry |= AIR;
+            ENTRIES[stateId] = entry;
+            SHAPES[stateId] = shape;
+        }
+    }
+
+    private LightOcclusion() {
+    }
+
+    static int lightEmission(int stateId) {
+        return (ENTRIES[stateId] >> EMISSION_SHIFT) & 15;
+    }
+
+    /**
+     * Copies the state ids of a section, indexed in format: [4bit y][4bit z][4bit x]
+     *
+     * @param blockPalette the section blocks
+     * @param states       the array to fill, of {@link net.minestom.server.coordinate.CoordConversion#SECTION_BLOCK_COUNT} length
+     */
+    static void load(Palette blockPalette, int[] states) {
+        assert states.length == SECTION_BLOCK_COUNT;
+        final int singleValue = blockPalette.singleValue();
+        if (singleValue != -1) {
+            Arrays.fill(states, singleValue);
+            return;
+        }
+        blockPalette.getAll((x, y, z, stateId) -> states[x | (z << 4) | (y << 8)] = stateId);
+    }
+
+    /**
+     * Checks if light is stopped between two blocks, same as comparing their occlusion shapes
+     * with {@link Shape#isOccluded(Shape, BlockFace)}.
+     *
+     * @param fromState the state id the light comes from
+     * @param toState   the state id the light goes to
+     * @param face      the ordinal of the face of {@code fromState} the light goes through
+     * @return true if the light is stopped
+     */
+    static boolean isOccluded(int fromState, int toState, int face) {
+        final int from = ENTRIES[fromState];
+        final int to = ENTRIES[toState];
+        if ((from & to & AIR) != 0) return false;
+
+        final int opposite = OPPOSITE_FACES[face];
+        final boolean fullTo = ((to >> opposite) & 1) == 1;
+        if ((from >> EMISSION_SHIFT & 15) > 0) return fullTo;
+        if (fullTo || ((from >> face) & 1) == 1) return true;
+        if (((from >> (EMPTY_FACES_SHIFT + face)) & 1) == 1 || ((to >> (EMPTY_FACES_SHIFT + opposite)) & 1) == 1)
+            return false;
+
+        // Both faces are partially covered
+        return SHAPES[fromState].isOccluded(SHAPES[toState], FACES[face]);
+    }
+}
@@ -0,0 +1,205 @@
+package net.minestom.server.instance.light;
+
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.ServerFlag;
+import net.minestom.server.coordinate.CoordConversion;
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.entity.Player;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.utils.validate.Check;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Computes the light of sections on a bounded pool, away from the tick threads.
+ * <p>
+ * All instances share a single priority queue, sections closer to the players of their instance are computed first.
+ * Relights of an instance are already serialized by the instance, and each pass submits a section once,
+ * so requests are not deduplicated. Once the queue is full, the requesting thread computes the section itself,
+ * slowing down the producers instead of growing the queue.
+ * <p>
+ * A scheduler created with {@code 0} threads computes light on the calling thread.
+ */
+public final class LightScheduler {
+    private static final LightScheduler DEFAULT = new LightScheduler(ServerFlag.LIGHTING_THREADS, ServerFlag.LIGHTING_QUEUE_SIZE);
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+    private final @Nullable ThreadPoolExecutor executor;
+    private final int queueSize;
+
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicLong sequence = new AtomicLong();
+    private final LongAdder computed = new LongAdder();
+
+    /**
+     * Gets the scheduler used by lighting chunks.
+     *
+     * @return the default scheduler
+     */
+    public static LightScheduler defaultScheduler() {
+        return DEFAULT;
+    }
+
+    /**
+     * @param threads   the number of computation threads, 0 to compute on the calling thread
+     * @param queueSize the maximum number of sections waiting for a thread
+     */
+    public LightScheduler(int threads, int queueSize) {
+        Check.argCondition(threads < 0, "Thread count cannot be negative");
+        Check.argCondition(queueSize < 1, "Queue size must be positive");
+        this.queueSize = queueSize;
+        if (threads == 0) {
+            this.executor = null;
+        } else {
+            this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                    new PriorityBlockingQueue<>(), r -> {
+                Thread thread = new Thread(r, "Ms-Lighting-" + THREAD_COUNTER.getAndIncrement());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    /**
+     * Starts submitting sections of an instance, prioritized by the current position of its players.
+     *
+     * @param instance the instance of the sections
+     * @return a batch, to be used by the calling thread only
+     */
+    @ApiStatus.Internal
+    public Batch batch(Instance instance) {
+        final Collection<Player> players = instance.getPlayers();
+        final long[] playerChunks = new long[players.size()];
+        int count = 0;
+        for (Player player : players) {
+            if (count == playerChunks.length) break; // Joined since
+            playerChunks[count++] = CoordConversion.chunkIndex(player.getPosition());
+        }
+        return new Batch(count == playerChunks.length ? playerChunks : Arrays.copyOf(playerChunks, count));
+    }
+
+    /**
+     * Gets the number of sections waiting for a thread.
+     *
+     * @return the queued section count
+     */
+    public int queuedCount() {
+        return Math.max(queued.get(), 0);
+    }
+
+    /**
+     * Gets the number of section computations since the scheduler creation.
+     *
+     * @return the computed section count
+     */
+    public long computedCount() {
+        return computed.sum();
+    }
+
+    /**
+     * Stops the computation threads, queued computations are discarded.
+     */
+    public void shutdown() {
+        final ThreadPoolExecutor executor = this.executor;
+        if (executor != null) executor.shutdownNow();
+    }
+
+    /**
+     * Sections submitted together, their priority is computed once per chunk.
+     */
+    @ApiStatus.Internal
+    public final class Batch {
+        private final long[] playerChunks;
+        private final Long2LongOpenHashMap distances = new Long2LongOpenHashMap();
+
+        private Batch(long[] playerChunks) {
+            this.playerChunks = playerChunks;
+        }
+
+        /**
+         * Schedules the computation of a section.
+         *
+         * @param section     the section position, in section coordinates
+         * @param computation the computation, reading the section state when it runs
+         * @return the computation result
+         */
+        public <T> CompletableFuture<T> submit(Point section, Supplier<T> computation) {
+            final Task<T> task = new Task<>(distance(section.blockX(), section.blockZ()), sequence.getAndIncrement(), computation);
+            final ThreadPoolExecutor executor = LightScheduler.this.executor;
+            if (executor == null) {
+                task.compute();
+                return task.future;
+            }
+            if (queued.incrementAndGet() > queueSize) {
+                // Queue is full, apply backpressure on the caller
+                queued.decrementAndGet();
+                task.compute();
+                return task.future;
+            }
+            executor.execute(task);
+            return task.future;
+        }
+
+        private long distance(int chunkX, int chunkZ) {
+            final long index = CoordConversion.chunkIndex(chunkX, chunkZ);
+            long distance = distances.getOrDefault(index, -1);
+            if (distance >= 0) return distance;
+            distance = Long.MAX_VALUE;
+            for (long playerChunk : playerChunks) {
+                final long x = CoordConversion.chunkIndexGetX(playerChunk) - chunkX;
+                final long z = CoordConversion.chunkIndexGetZ(playerChunk) - chunkZ;
+                distance = Math.min(distance, x * x + z * z);
+            }
+            distances.put(index, distance);
+            return distance;
+        }
+    }
+
+    private final class Task<T> implements Runnable, Comparable<Task<?>> {
+        private final long distance;
+        private final long order;
+        private final Supplier<T> computation;
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+
+        private Task(long distance, long order, Supplier<T> computation) {
+            this.distance = distance;
+            this.order = order;
+            this.computation = computation;
+        }
+
+        @Override
+        public void run() {
+            queued.decrementAndGet();
+            compute();
+        }
+
+        private void compute() {
+            try {
+                future.complete(computation.get());
+            } catch (Throwable t) {
+                MinecraftServer.getExceptionManager().handleException(t);
+                future.completeExceptionally(t);
+            } finally {
+                computed.increment();
+            }
+        }
+
+        @Override
+        public int compareTo(Task<?> other) {
+            final int result = Long.compare(distance, other.distance);
+            return result != 0 ? result : Long.compare(order, other.order);
+        }
+    }
+}
@@ -1,15 +1,20 @@
 package net.minestom.server.instance.light;
 
 import it.unimi.dsi.fastutil.shorts.ShortArrayFIFOQueue;
+import it.unimi.dsi.fastutil.shorts.ShortArrayList;
 import net.minestom.server.coordinate.BlockVec;
 import net.minestom.server.coordinate.Point;
 import net.minestom.server.instance.block.BlockFace;
 import net.minestom.server.instance.palette.Palette;
+import net.minestom.server.utils.Direction;
 import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.HashSet;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 
 import static net.minestom.server.coordinate.CoordConversion.SECTION_BLOCK_COUNT;
 import static net.minestom.server.instance.light.LightCompute.*;
@@ -19,9 +24,16 @@ final class SkyLight implements Light {
     private byte[] contentPropagation;
     private byte[] contentPropagationSwap;
 
+    // Whether content only holds the light of this section sources, and can be updated incrementally
+    private boolean computed = false;
+
     private volatile boolean isValidBorders = true;
     private final AtomicBoolean needsSend = new AtomicBoolean(false);
 
+    // Changed blocks since the last update, guarded by itself
+    private final ShortArrayList changes = new ShortArrayList();
+    private volatile boolean hasChanges = false;
+
     private boolean fullyLit = false;
 
     @Override
@@ -47,16 +59,46 @@ final class SkyLight implements Light {
         return lightSources;
     }
 
+    static int lightEmission(int[] heightmap, int maxY, int sectionY, int index) {
+        final int y = sectionY * 16 + ((index >> 8) & 15);
+        final int height = heightmap[index & 0xFF];
+        return y >= height && y <= maxY ? 15 : 0;
+    }
+
     @Override
     public void invalidate() {
         this.needsSend.set(true);
         this.isValidBorders = false;
         this.contentPropagation = null;
+        drainChanges();
+    }
+
+    @Override
+    public void invalidate(int x, int y, int z) {
+        this.needsSend.set(true);
+        synchronized (changes) {
+            if (changes.size() < MAX_UPDATE_CHANGES) {
+                changes.add((short) (x | (z << 4) | (y << 8)));
+                this.hasChanges = true;
+                return;
+            }
+        }
+        invalidate();
+    }
+
+    private short @Nullable [] drainChanges() {
+        synchronized (changes) {
+            if (changes.isEmpty()) return null;
+            final short[] result = changes.toShortArray();
+            changes.clear();
+            this.hasChanges = false;
+            return result;
+        }
     }
 
     @Override
     public boolean requiresUpdate() {
-        return !isValidBorders;
+        return !isValidBorders || hasChanges;
     }
 
     @Override
@@ -64,10 +106,39 @@ final class SkyLight implements Light {
     public void set(byte[] copyArray) {
         this.content = lazyArray(copyArray);
         this.contentPropagation = this.content;
+        this.computed = false;
+        drainChanges();
         this.isValidBorders = true;
         this.needsSend.set(true);
     }
 
+    @Override
+    @ApiStatus.Internal
+    public Light copy() {
+        SkyLight copy = new SkyLight();
+        copy.content = this.content;
+        copy.contentPropagation = this.contentPropagation;
+        copy.contentPropagationSwap = this.contentPropagationSwap;
+        copy.computed = this.computed;
+        copy.fullyLit = this.fullyLit;
+        copy.isValidBorders = this.isValidBorders;
+        copy.needsSend.set(true);
+        synchronized (changes) {
+            copy.changes.addAll(changes);
+            copy.hasChanges = this.hasChanges;
+        }
+        return copy;
+    }
+
+    @Override
+    @ApiStatus.Internal
+    public void forEachArray(Consumer<byte[]> consumer) {
+        final byte[] content = this.content;
+        final byte[] contentPropagation = this.contentPropagation;
+        if (content != null) consumer.accept(content);
+        if (contentPropagation != null && contentPropagation != content) consumer.accept(contentPropagation);
+    }
+
     @Override
     public boolean requiresSend() {
         return needsSend.getAndSet(false);
@@ -95,6 +166,10 @@ final class SkyLight implements Light {
                                         int chunkX, int chunkY, int chunkZ,
                                         int[] heightmap, int maxY,
                                         LightLookup lightLookup) {
+        final short[] changes = drainChanges();
+        if (changes != null && isValidBorders && computed) {
+            return calculateChanges(blockPalette, chunkX, chunkY, chunkZ, heightmap, maxY, changes, lightLookup);
+        }
         this.isValidBorders = true;
 
         // Update single section with base lighting changes
@@ -111,6 +186,7 @@ final class SkyLight implements Light {
         } else {
             this.content = LightCompute.compute(blockPalette, queue);
         }
+        this.computed = true;
 
         // Propagate changes to neighbors and self
         Set<Point> toUpdate = new HashSet<>();
@@ -131,6 +207,51 @@ final class SkyLight implements Light {
         return toUpdate;
     }
 
+    private Set<Point> calculateChanges(Palette blockPalette,
+                                       int chunkX, int chunkY, int chunkZ,
+                                       int[] heightmap, int maxY,
+                                       short[] changes, LightLookup lightLookup) {
+        // Sources only depend on the heightmap, which did not change for the updated blocks
+        if (fullyLit) return Set.of();
+        final byte[] previous = Objects.requireNonNull(content);
+        final byte[] updated = LightCompute.update(blockPalette, previous, changes,
+                index -> lightEmission(heightmap, maxY, chunkY, index));
+        this.content = updated;
+        Set<Point> toUpdate = new HashSet<>();
+        if (LightCompute.affectsPropagation(previous, updated, contentPropagation, changes)) {
+            // Light from neighbors may be stale, propagate it again around the section
+            for (int i = -1; i <= 1; i++) {
+                for (int j = -1; j <= 1; j++) {
+                    for (int k = -1; k <= 1; k++) {
+                        final int neighborX = chunkX + i;
+                        final int neighborY = chunkY + j;
+                        final int neighborZ = chunkZ + k;
+                        if (!(lightLookup.light(neighborX, neighborY, neighborZ) instanceof SkyLight skyLight))
+                            continue;
+                        skyLight.contentPropagation = null;
+                        skyLight.needsSend.set(true);
+                        toUpdate.add(new BlockVec(neighborX, neighborY, neighborZ));
+                    }
+                }
+            }
+            return toUpdate;
+        }
+        // Light only increased, self and neighbors with a brighter border are updated from their borders
+        toUpdate.add(new BlockVec(chunkX, chunkY, chunkZ));
+        for (int i = 0; i < DIRECTIONS.length; i++) {
+            if (LightCompute.compareBorder(previous, updated, FACES[i]) <= 0) continue;
+            final Direction direction = DIRECTIONS[i];
+            final int neighborX = chunkX + direction.normalX();
+            final int neighborY = chunkY + direction.normalY();
+            final int neighborZ = chunkZ + direction.normalZ();
+            if (!(lightLookup.light(neighborX, neighborY, neighborZ) instanceof SkyLight skyLight))
+                continue;
+            skyLight.needsSend.set(true);
+            toUpdate.add(new BlockVec(neighborX, neighborY, neighborZ));
+        }
+        return toUpdate;
+    }
+
     @Override
     public Set<Point> calculateExternal(Palette blockPalette,
                                         Point[] neighbors,
@@ -179,6 +179,13 @@ public sealed interface Palette permits PaletteImpl {
      */
     boolean compare(Palette palette);
 
+    /**
+     * Copies the palette.
+     * <p>
+     * The copy shares its storage with this palette, each palette copies it on its first modification.
+     *
+     * @return a palette holding the same values
+     */
     Palette clone();
 
     @ApiStatus.Internal
@@ -195,10 +202,41 @@ public sealed interface Palette permits PaletteImpl {
 
     /**
      * Gets the value array if it has one, otherwise returns null (i.e. single value palette).
+     * <p>
+     * The array may be shared with clones of this palette and must not be modified.
      */
     @ApiStatus.Internal
     long @Nullable [] indexedValues();
 
+    /**
+     * Estimates the heap size of the values array and palette, zero for single value palettes.
+     * <p>
+     * The storage may be shared with clones and interned palettes, see {@link PaletteInterner}.
+     *
+     * @return the estimated size in bytes
+     */
+    @ApiStatus.Internal
+    long storageBytes();
+
+    /**
+     * Deflates the values array and palette until the next access, which transparently inflates them back.
+     * <p>
+     * Meant for sections left unaccessed for a while, single value palettes and palettes sharing
+     * their storage are left untouched.
+     * <p>
+     * Must not run while other threads may be reading the palette, they could see its storage cleared.
+     *
+     * @return true if the palette has been compacted, false if not applicable or not worth it
+     */
+    @ApiStatus.Internal
+    boolean compact();
+
+    /**
+     * @return true if the palette is compacted and will be inflated on its next access
+     */
+    @ApiStatus.Internal
+    boolean isCompacted();
+
     @FunctionalInterface
     interface EntrySupplier {
         int get(int x, int y, int z);
@@ -231,6 +269,7 @@ public sealed interface Palette permits PaletteImpl {
             @Override
             public void write(NetworkBuffer buffer, Palette palette) {
                 PaletteImpl value = (PaletteImpl) palette;
+                value.inflate();
                 // Temporary fix for biome direct bits depending on the number of registered biomes
                 if (directBits != value.directBits && !value.hasPalette()) {
                     PaletteImpl tmp = new PaletteImpl((byte) dimension, (byte) minIndirect, (byte) maxIndirect, (byte) directBits);
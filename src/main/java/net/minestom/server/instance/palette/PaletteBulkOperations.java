@@ -0,0 +1,19 @@
+package net.minestom.server.instance.palette;
+
+/**
+ * Alternative implementation of the {@link Palettes} bulk operations on packed values.
+ * <p>
+ * Implemented by {@code PalettesVector}, compiled apart with the {@code jdk.incubator.vector} module.
+ */
+interface PaletteBulkOperations {
+    /**
+     * @return true if faster than the scalar operations on this hardware
+     */
+    boolean supported();
+
+    int countEquals(int bitsPerEntry, long[] values, int size, int target);
+
+    boolean anyEquals(int bitsPerEntry, long[] values, int size, int target);
+
+    int replaceEquals(int bitsPerEntry, long[] values, int size, int oldValue, int newValue);
+}
@@ -0,0 +1,82 @@
+package net.minestom.server.instance.palette;
+
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import net.minestom.server.utils.ObjectPool;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Deflated form of the values and palette of compacted palettes.
+ * <p>
+ * Layout before compression: palette length, -1 in direct mode, palette values, then the packed values.
+ */
+final class PaletteCompaction {
+    private static final ObjectPool<Deflater> DEFLATERS = ObjectPool.pool(() -> new Deflater(Deflater.BEST_SPEED));
+    private static final ObjectPool<Inflater> INFLATERS = ObjectPool.pool(Inflater::new);
+    // Deflate output may exceed its input for incompressible data
+    private static final int DEFLATE_OVERHEAD = 64;
+
+    private PaletteCompaction() {
+    }
+
+    /**
+     * @return the deflated storage, null if larger than the uncompressed one
+     */
+    static byte @Nullable [] deflate(long[] values, @Nullable IntArrayList palette) {
+        final int paletteSize = palette != null ? palette.size() : 0;
+        final ByteBuffer raw = ByteBuffer.allocate(Integer.BYTES * (1 + paletteSize) + Long.BYTES * values.length);
+        raw.putInt(palette != null ? paletteSize : -1);
+        for (int i = 0; i < paletteSize; i++) raw.putInt(palette.getInt(i));
+        for (long value : values) raw.putLong(value);
+        final byte[] output = new byte[raw.capacity() + DEFLATE_OVERHEAD];
+        Deflater deflater = DEFLATERS.get();
+        try {
+            deflater.setInput(raw.array());
+            deflater.finish();
+            final int length = deflater.deflate(output);
+            if (!deflater.finished() || length >= raw.capacity()) return null;
+            return Arrays.copyOf(output, length);
+        } finally {
+            deflater.reset();
+            DEFLATERS.add(deflater);
+        }
+    }
+
+    static void inflate(byte[] compacted, PaletteImpl palette) {
+        final int valuesLength = Palettes.arrayLength(palette.dimension, palette.bitsPerEntry);
+        final int maxLength = Integer.BYTES * (1 + Palettes.maxPaletteSize(palette.maxBitsPerEntry)) + Long.BYTES * valuesLength;
+        final byte[] output = new byte[maxLength];
+        final int length;
+        Inflater inflater = INFLATERS.get();
+        try {
+            inflater.setInput(compacted);
+            length = inflater.inflate(output);
+            if (!inflater.finished()) throw new IllegalStateException("Compacted palette exceeds its maximum size");
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Invalid compacted palette", e);
+        } finally {
+            inflater.reset();
+            INFLATERS.add(inflater);
+        }
+
+        final ByteBuffer raw = ByteBuffer.wrap(output, 0, length);
+        final int paletteSize = raw.getInt();
+        if (paletteSize >= 0) {
+            final int[] ids = new int[paletteSize];
+            for (int i = 0; i < paletteSize; i++) ids[i] = raw.getInt();
+            palette.paletteToValueList = new IntArrayList(ids);
+            palette.valueToPaletteMap = new Int2IntOpenHashMap(paletteSize);
+            palette.valueToPaletteMap.defaultReturnValue(-1);
+            for (int i = 0; i < paletteSize; i++) palette.valueToPaletteMap.putIfAbsent(ids[i], i);
+        }
+        final long[] values = new long[valuesLength];
+        for (int i = 0; i < valuesLength; i++) values[i] = raw.getLong();
+        palette.values = values;
+    }
+}
@@ -1,5 +1,7 @@
 package net.minestom.server.instance.palette;
 
+import it.unimi.dsi.fastutil.Hash;
+import it.unimi.dsi.fastutil.HashCommon;
 import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
 import it.unimi.dsi.fastutil.ints.IntArrayList;
 import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
@@ -17,6 +19,10 @@ import static net.minestom.server.instance.palette.Palettes.*;
 
 final class PaletteImpl implements Palette {
     private static final ThreadLocal<int[]> WRITE_CACHE = ThreadLocal.withInitial(() -> new int[SECTION_BLOCK_COUNT]);
+    // Estimated object sizes, with compressed class pointers
+    private static final int ARRAY_HEADER = 16;
+    private static final int LIST_OVERHEAD = 24;
+    private static final int MAP_OVERHEAD = 64;
     final byte dimension, minBitsPerEntry, maxBitsPerEntry, directBits;
 
     byte bitsPerEntry = 0;
@@ -29,6 +35,10 @@ final class PaletteImpl implements Palette {
     // value = palette index
     @UnknownNullability
     Int2IntOpenHashMap valueToPaletteMap; // null when using direct mode (bitsPerEntry > maxBitsPerEntry)
+    // Whether the values and palette may be referenced by a clone, copied before being modified
+    boolean shared = false;
+    // Deflated values and palette while compacted, their fields are then null
+    private volatile byte @Nullable [] compacted;
 
     PaletteImpl(byte dimension, byte minBitsPerEntry, byte maxBitsPerEntry, byte directBits) {
         validateDimension(dimension);
@@ -59,6 +69,7 @@ final class PaletteImpl implements Palette {
     public int get(int x, int y, int z) {
         validateCoord(dimension, x, y, z);
         if (bitsPerEntry == 0) return count;
+        inflate();
         final int value = read(dimension(), bitsPerEntry, values, x, y, z);
         return paletteIndexToValue(value);
     }
@@ -68,6 +79,7 @@ final class PaletteImpl implements Palette {
         if (bitsPerEntry == 0) {
             Palettes.getAllFill(dimension, count, consumer);
         } else {
+            inflate();
             retrieveAll(consumer, true);
         }
     }
@@ -77,6 +89,7 @@ final class PaletteImpl implements Palette {
         if (bitsPerEntry == 0) {
             if (count != 0) Palettes.getAllFill(dimension, count, consumer);
         } else {
+            inflate();
             retrieveAll(consumer, false);
         }
     }
@@ -87,6 +100,7 @@ final class PaletteImpl implements Palette {
         final int dimension = this.dimension;
         final int startY = dimension - 1;
         if (bitsPerEntry == 0) return predicate.get(x, startY, z, count) ? startY : -1;
+        inflate();
         final long[] values = this.values;
         final int bitsPerEntry = this.bitsPerEntry;
         final int valuesPerLong = 64 / bitsPerEntry;
@@ -107,6 +121,8 @@ final class PaletteImpl implements Palette {
     @Override
     public void set(int x, int y, int z, int value) {
         validateCoord(dimension, x, y, z);
+        inflate();
+        ensureOwned();
         final int paletteIndex = valueToPaletteIndex(value);
         final int oldValue = Palettes.write(dimension(), bitsPerEntry, values, x, y, z, paletteIndex);
         // Check if block count needs to be updated
@@ -116,6 +132,8 @@ final class PaletteImpl implements Palette {
 
     @Override
     public void fill(int value) {
+        this.shared = false;
+        this.compacted = null;
         this.bitsPerEntry = 0;
         this.count = value;
         this.values = null;
@@ -130,6 +148,8 @@ final class PaletteImpl implements Palette {
         boolean useDirectMode = bpe > maxBitsPerEntry;
         if (useDirectMode) bpe = directBits;
         this.bitsPerEntry = (byte) bpe;
+        this.shared = false;
+        this.compacted = null;
 
         if (useDirectMode) {
             // Direct mode: convert from palette indices to direct values
@@ -193,9 +213,11 @@ final class PaletteImpl implements Palette {
         if (bitsPerEntry == 0) {
             if (oldValue == count) fill(newValue);
         } else {
+            inflate();
             if (hasPalette()) {
                 final int index = valueToPaletteMap.get(oldValue);
                 if (index == -1) return; // Old value not present in palette
+                ensureOwned();
                 final int newIndex = valueToPaletteMap.get(newValue);
                 final boolean countUpdate = newValue == 0 || oldValue == 0;
                 final int count;
@@ -251,7 +273,9 @@ final class PaletteImpl implements Palette {
         assert index == maxSize();
         // Update palette content
         if (fillValue < 0) {
+            inflate();
             makeDirect();
+            ensureOwned();
             updateAll(cache);
             this.count = count;
         } else {
@@ -282,6 +306,7 @@ final class PaletteImpl implements Palette {
         assert arrayIndex.getPlain() == maxSize();
         // Update palette content
         makeDirect();
+        ensureOwned();
         updateAll(cache);
         this.count = count.getPlain();
     }
@@ -300,6 +325,7 @@ final class PaletteImpl implements Palette {
             throw new IllegalArgumentException("Source palette dimension (" + sourceDimension +
                     ") must equal target palette dimension (" + targetDimension + ")");
         }
+        sourcePalette.inflate();
 
         // Calculate the actual copy bounds - only copy what fits within target bounds
         final int maxX = Math.min(sourceDimension, targetDimension - offsetX);
@@ -310,6 +336,8 @@ final class PaletteImpl implements Palette {
         if (maxX <= 0 || maxY <= 0 || maxZ <= 0) {
             return;
         }
+        inflate();
+        ensureOwned();
 
         // Fast path: if source is single-value palette
         if (sourcePalette.bitsPerEntry == 0) {
@@ -419,8 +447,11 @@ final class PaletteImpl implements Palette {
         }
 
         // Copy
+        sourcePalette.inflate();
         this.bitsPerEntry = sourcePalette.bitsPerEntry;
         this.count = sourcePalette.count;
+        this.shared = false;
+        this.compacted = null;
 
         if (sourcePalette.values != null) {
             this.values = sourcePalette.values.clone();
@@ -455,6 +486,7 @@ final class PaletteImpl implements Palette {
     public int count(int value) {
         if (bitsPerEntry == 0) return count == value ? maxSize() : 0;
         if (value == 0) return maxSize() - count();
+        inflate();
         final int queryValue = valueToPalettIndexOrDefault(value);
         return countPaletteIndex(queryValue);
     }
@@ -480,6 +512,7 @@ final class PaletteImpl implements Palette {
     public boolean any(int value) {
         if (bitsPerEntry == 0) return count == value;
         if (value == 0) return maxSize() != count;
+        inflate();
         int queryValue = valueToPalettIndexOrDefault(value);
         if (queryValue == -1) return false;
         return Palettes.anyEquals(bitsPerEntry, values, maxSize(), queryValue);
@@ -502,6 +535,7 @@ final class PaletteImpl implements Palette {
             // Already optimized (single value)
             return;
         }
+        inflate();
 
         // Count unique values
         IntSet uniqueValues = new IntOpenHashSet();
@@ -532,6 +566,8 @@ final class PaletteImpl implements Palette {
         if (palette.count != this.count) return false;
         if (palette.count == 0) return true;
         if (palette.bitsPerEntry == 0 && this.bitsPerEntry == 0) return true;
+        this.inflate();
+        palette.inflate();
         final long[] thisValues = this.values;
         final long[] thatValues = palette.values;
         final int thisBpe = this.bitsPerEntry;
@@ -557,12 +593,91 @@ final class PaletteImpl implements Palette {
         clone.bitsPerEntry = this.bitsPerEntry;
         clone.count = this.count;
         if (bitsPerEntry == 0) return clone;
-        clone.values = values.clone();
-        if (paletteToValueList != null) clone.paletteToValueList = paletteToValueList.clone();
-        if (valueToPaletteMap != null) clone.valueToPaletteMap = valueToPaletteMap.clone();
+        final byte[] compacted = this.compacted;
+        if (compacted != null) {
+            // Immutable, each palette inflates its own storage
+            clone.compacted = compacted;
+            return clone;
+        }
+        // Shared until either palette is modified
+        clone.values = values;
+        clone.paletteToValueList = paletteToValueList;
+        clone.valueToPaletteMap = valueToPaletteMap;
+        clone.shared = true;
+        this.shared = true;
         return clone;
     }
 
+    /// Copies the values and palette if they may be referenced by a clone, must be called before modifying them in place
+    void ensureOwned() {
+        if (!shared) return;
+        this.shared = false;
+        if (values != null) this.values = values.clone();
+        if (paletteToValueList != null) this.paletteToValueList = paletteToValueList.clone();
+        if (valueToPaletteMap != null) this.valueToPaletteMap = valueToPaletteMap.clone();
+    }
+
+    /// Shares the storage of an equal palette, both copy it on their next modification
+    void share(byte bitsPerEntry, int count, long[] values,
+               @Nullable IntArrayList paletteToValueList, @Nullable Int2IntOpenHashMap valueToPaletteMap) {
+        this.bitsPerEntry = bitsPerEntry;
+        this.count = count;
+        this.values = values;
+        this.paletteToValueList = paletteToValueList;
+        this.valueToPaletteMap = valueToPaletteMap;
+        this.shared = true;
+        this.compacted = null;
+    }
+
+    @Override
+    public synchronized boolean compact() {
+        if (bitsPerEntry == 0 || shared || compacted != null) return false;
+        final byte[] deflated = PaletteCompaction.deflate(values, paletteToValueList);
+        if (deflated == null || ARRAY_HEADER + deflated.length >= storageBytes()) return false;
+        // Published first so that readers inflate instead of seeing the cleared storage
+        this.compacted = deflated;
+        this.values = null;
+        this.paletteToValueList = null;
+        this.valueToPaletteMap = null;
+        return true;
+    }
+
+    @Override
+    public boolean isCompacted() {
+        return compacted != null;
+    }
+
+    /// Restores the storage of a compacted palette, must be called before accessing it
+    void inflate() {
+        if (compacted != null) inflateCompacted();
+    }
+
+    // Readers may inflate concurrently, the storage is written before the volatile write
+    // so that readers seeing no compacted bytes also see the inflated storage
+    private synchronized void inflateCompacted() {
+        final byte[] compacted = this.compacted;
+        if (compacted == null) return;
+        PaletteCompaction.inflate(compacted, this);
+        this.compacted = null;
+    }
+
+    @Override
+    public long storageBytes() {
+        if (bitsPerEntry == 0) return 0;
+        final byte[] compacted = this.compacted;
+        if (compacted != null) return ARRAY_HEADER + compacted.length;
+        long bytes = ARRAY_HEADER + (long) Long.BYTES * values.length;
+        if (paletteToValueList != null) {
+            bytes += LIST_OVERHEAD + ARRAY_HEADER + (long) Integer.BYTES * paletteToValueList.elements().length;
+        }
+        if (valueToPaletteMap != null) {
+            // Keys and values arrays, with the extra slot of the zero key
+            final int slots = HashCommon.arraySize(valueToPaletteMap.size(), Hash.DEFAULT_LOAD_FACTOR) + 1;
+            bytes += MAP_OVERHEAD + 2 * (ARRAY_HEADER + (long) Integer.BYTES * slots);
+        }
+        return bytes;
+    }
+
     private void retrieveAll(EntryConsumer consumer, boolean consumeEmpty) {
         if (!consumeEmpty && count == 0) return;
         final long[] values = this.values;
@@ -644,6 +759,7 @@ final class PaletteImpl implements Palette {
         this.bitsPerEntry = newBpe;
         this.valueToPaletteMap = newValueToPaletteMap;
         this.paletteToValueList = palette;
+        this.shared = false;
     }
 
     void makeDirect() {
@@ -662,6 +778,7 @@ final class PaletteImpl implements Palette {
         this.paletteToValueList = null;
         this.valueToPaletteMap = null;
         this.bitsPerEntry = directBits;
+        this.shared = false;
     }
 
     /// Assumes {@link PaletteImpl#bitsPerEntry} != 0
@@ -687,17 +804,22 @@ final class PaletteImpl implements Palette {
         this.bitsPerEntry = minBitsPerEntry;
         this.values = new long[arrayLength(dimension, minBitsPerEntry)];
         this.count = fillValue == 0 ? 0 : maxSize();
+        this.shared = false;
+        this.compacted = null;
     }
 
     @Override
     public int paletteIndexToValue(int value) {
+        inflate();
         return hasPalette() ? paletteToValueList.elements()[value] : value;
     }
 
     @Override
     public int valueToPaletteIndex(int value) {
         if (!hasPalette()) return value;
+        inflate();
         if (values == null) initIndirect();
+        ensureOwned();
 
         final int lastPaletteIndex = this.paletteToValueList.size();
         final int lookup = valueToPaletteMap.putIfAbsent(value, lastPaletteIndex);
@@ -713,6 +835,7 @@ final class PaletteImpl implements Palette {
 
     /// Assumes {@link PaletteImpl#bitsPerEntry} != 0
     int valueToPalettIndexOrDefault(int value) {
+        inflate();
         return hasPalette() ? valueToPaletteMap.get(value) : value;
     }
 
@@ -723,6 +846,7 @@ final class PaletteImpl implements Palette {
 
     @Override
     public long @Nullable [] indexedValues() {
+        inflate();
         return values;
     }
 
@@ -0,0 +1,105 @@
+package net.minestom.server.instance.palette;
+
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Shares the storage of palettes holding the same values, as found in the repeated sections of flat or void worlds.
+ * <p>
+ * Interned palettes keep sharing their storage until modified, each then copies it on its first write
+ * like after a {@link Palette#clone()}. Single value palettes do not have any storage and are left untouched,
+ * so are compacted palettes which would otherwise have to be inflated.
+ * <p>
+ * The interner references the storage of each distinct palette, it should be dropped once done.
+ * Not thread-safe, a palette must not be modified while being interned.
+ */
+@ApiStatus.Experimental
+public final class PaletteInterner {
+    private final Map<Storage, Storage> storages = new HashMap<>();
+    private long savedBytes;
+
+    /**
+     * Makes the palette share the storage of a previously interned equal palette.
+     * <p>
+     * Palettes are equal when they hold the same values array and palette, the same blocks stored
+     * in a different palette order are not shared.
+     *
+     * @param palette the palette to intern
+     * @return true if the palette now shares its storage,
+     * false if it is the first of its content, a single value or compacted
+     */
+    public boolean intern(Palette palette) {
+        final PaletteImpl impl = (PaletteImpl) palette;
+        if (impl.bitsPerEntry == 0 || impl.isCompacted()) return false;
+        final Storage storage = new Storage(impl);
+        final Storage interned = storages.putIfAbsent(storage, storage);
+        if (interned == null) {
+            // Kept unmodified, the palette copies it on its next write
+            impl.shared = true;
+            return false;
+        }
+        if (interned.values == impl.values) return false;
+        this.savedBytes += impl.storageBytes();
+        impl.share(interned.bitsPerEntry, interned.count, interned.values,
+                interned.paletteToValueList, interned.valueToPaletteMap);
+        return true;
+    }
+
+    /**
+     * @return the number of distinct palettes interned
+     */
+    public int size() {
+        return storages.size();
+    }
+
+    /**
+     * @return the estimated number of bytes no longer retained by interned palettes
+     */
+    public long savedBytes() {
+        return savedBytes;
+    }
+
+    private static final class Storage {
+        final byte dimension, maxBitsPerEntry, bitsPerEntry;
+        final int count;
+        final long[] values;
+        final @Nullable IntArrayList paletteToValueList;
+        final @Nullable Int2IntOpenHashMap valueToPaletteMap;
+        final int hash;
+
+        Storage(PaletteImpl palette) {
+            this.dimension = palette.dimension;
+            this.maxBitsPerEntry = palette.maxBitsPerEntry;
+            this.bitsPerEntry = palette.bitsPerEntry;
+            this.count = palette.count;
+            this.values = palette.values;
+            this.paletteToValueList = palette.paletteToValueList;
+            this.valueToPaletteMap = palette.valueToPaletteMap;
+            int hash = Arrays.hashCode(values);
+            hash = 31 * hash + (paletteToValueList != null ? paletteToValueList.hashCode() : 0);
+            this.hash = 31 * hash + (dimension << 16 | maxBitsPerEntry << 8 | bitsPerEntry);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Storage storage)) return false;
+            return hash == storage.hash && dimension == storage.dimension &&
+                    maxBitsPerEntry == storage.maxBitsPerEntry && bitsPerEntry == storage.bitsPerEntry &&
+                    Arrays.equals(values, storage.values) &&
+                    (paletteToValueList == null ? storage.paletteToValueList == null :
+                            paletteToValueList.equals(storage.paletteToValueList));
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -1,14 +1,33 @@
 package net.minestom.server.instance.palette;
 
 import it.unimi.dsi.fastutil.ints.Int2IntFunction;
+import net.minestom.server.ServerFlag;
 import net.minestom.server.utils.MathUtils;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Arrays;
 
 public final class Palettes {
+    // Bulk operations use PalettesVector when the incubator module has been added at startup
+    private static final @Nullable PaletteBulkOperations VECTOR = ServerFlag.PALETTE_VECTORIZATION ? loadVector() : null;
+
     private Palettes() {
     }
 
+    /**
+     * Gets if the bulk operations on packed values use the Vector API.
+     * <p>
+     * Requires the {@code jdk.incubator.vector} module, added with {@code --add-modules=jdk.incubator.vector},
+     * and {@link ServerFlag#PALETTE_VECTORIZATION}. Scalar operations are used otherwise.
+     *
+     * @return true if the Vector API is used
+     */
+    @ApiStatus.Experimental
+    public static boolean vectorized() {
+        return VECTOR != null;
+    }
+
     public static long[] pack(int[] ints, int bitsPerEntry) {
         final int intsPerLong = (int) Math.floor(64d / bitsPerEntry);
         long[] longs = new long[(int) Math.ceil(ints.length / (double) intsPerLong)];
@@ -99,13 +118,19 @@ public final class Palettes {
     /// Counts the packed entries equal to {@code target} among the first {@code size} entries.
     /// Scans 64 bits at a time using borrow-safe SWAR zero-lane detection.
     public static int countEquals(int bitsPerEntry, long[] values, int size, int target) {
+        if (VECTOR != null) return VECTOR.countEquals(bitsPerEntry, values, size, target);
+        return countEquals(bitsPerEntry, values, size, target, 0);
+    }
+
+    /// Scalar {@link #countEquals(int, long[], int, int)} from the long at index {@code from}.
+    static int countEquals(int bitsPerEntry, long[] values, int size, int target, int from) {
         final int valuesPerLong = 64 / bitsPerEntry;
         final long ones = broadcast(bitsPerEntry, 1);
         final long lowMask = ones * ((1L << (bitsPerEntry - 1)) - 1);
         final long highBits = ones * (1L << (bitsPerEntry - 1));
         final long broadcastTarget = ones * target;
         int result = 0;
-        for (int i = 0, idx = 0; i < values.length; i++, idx += valuesPerLong) {
+        for (int i = from, idx = from * valuesPerLong; i < values.length; i++, idx += valuesPerLong) {
             result += Long.bitCount(matchingLanes(values[i], broadcastTarget, lowMask, highBits, size - idx, valuesPerLong, bitsPerEntry));
         }
         return result;
@@ -113,12 +138,18 @@ public final class Palettes {
 
     /// Returns true if any of the first {@code size} packed entries equals {@code target}.
     public static boolean anyEquals(int bitsPerEntry, long[] values, int size, int target) {
+        if (VECTOR != null) return VECTOR.anyEquals(bitsPerEntry, values, size, target);
+        return anyEquals(bitsPerEntry, values, size, target, 0);
+    }
+
+    /// Scalar {@link #anyEquals(int, long[], int, int)} from the long at index {@code from}.
+    static boolean anyEquals(int bitsPerEntry, long[] values, int size, int target, int from) {
         final int valuesPerLong = 64 / bitsPerEntry;
         final long ones = broadcast(bitsPerEntry, 1);
         final long lowMask = ones * ((1L << (bitsPerEntry - 1)) - 1);
         final long highBits = ones * (1L << (bitsPerEntry - 1));
         final long broadcastTarget = ones * target;
-        for (int i = 0, idx = 0; i < values.length; i++, idx += valuesPerLong) {
+        for (int i = from, idx = from * valuesPerLong; i < values.length; i++, idx += valuesPerLong) {
             if (matchingLanes(values[i], broadcastTarget, lowMask, highBits, size - idx, valuesPerLong, bitsPerEntry) != 0)
                 return true;
         }
@@ -128,6 +159,12 @@ public final class Palettes {
     /// Replaces every packed entry equal to {@code oldValue} with {@code newValue} among the first
     /// {@code size} entries, returning the number of entries replaced.
     public static int replaceEquals(int bitsPerEntry, long[] values, int size, int oldValue, int newValue) {
+        if (VECTOR != null) return VECTOR.replaceEquals(bitsPerEntry, values, size, oldValue, newValue);
+        return replaceEquals(bitsPerEntry, values, size, oldValue, newValue, 0);
+    }
+
+    /// Scalar {@link #replaceEquals(int, long[], int, int, int)} from the long at index {@code from}.
+    static int replaceEquals(int bitsPerEntry, long[] values, int size, int oldValue, int newValue, int from) {
         final int valuesPerLong = 64 / bitsPerEntry;
         final long ones = broadcast(bitsPerEntry, 1);
         final long lowMask = ones * ((1L << (bitsPerEntry - 1)) - 1);
@@ -135,7 +172,7 @@ public final class Palettes {
         final long broadcastOld = ones * oldValue;
         final long broadcastNew = ones * newValue;
         int result = 0;
-        for (int i = 0, idx = 0; i < values.length; i++, idx += valuesPerLong) {
+        for (int i = from, idx = from * valuesPerLong; i < values.length; i++, idx += valuesPerLong) {
             final long block = values[i];
             final long zeros = matchingLanes(block, broadcastOld, lowMask, highBits, size - idx, valuesPerLong, bitsPerEntry);
             if (zeros == 0) continue;
@@ -158,6 +195,20 @@ public final class Palettes {
         return zeros;
     }
 
+    private static @Nullable PaletteBulkOperations loadVector() {
+        final Module module = ModuleLayer.boot().findModule("jdk.incubator.vector").orElse(null);
+        if (module == null) return null;
+        // Not required by the module descriptor, javac warns for any use of an incubating module
+        Palettes.class.getModule().addReads(module);
+        try {
+            final Class<?> type = Class.forName(Palettes.class.getPackageName() + ".PalettesVector");
+            final var operations = (PaletteBulkOperations) type.getDeclaredConstructor().newInstance();
+            return operations.supported() ? operations : null;
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+
     public static int sectionIndex(int dimension, int x, int y, int z) {
         final int dimensionBitCount = MathUtils.bitsToRepresent(dimension - 1);
         return y << (dimensionBitCount << 1) | z << dimensionBitCount | x;
@@ -7,6 +7,8 @@ import net.minestom.server.entity.Entity;
 import net.minestom.server.entity.Player;
 import net.minestom.server.entity.RelativeFlags;
 import net.minestom.server.event.EventDispatcher;
+import net.minestom.server.event.GlobalListenerHandle;
+import net.minestom.server.event.ListenerHandle;
 import net.minestom.server.event.player.PlayerMoveEvent;
 import net.minestom.server.instance.Instance;
 import net.minestom.server.network.packet.client.play.*;
@@ -16,6 +18,7 @@ import org.jetbrains.annotations.ApiStatus;
 
 public class PlayerPositionListener {
     static final Component KICK_MESSAGE = Component.text("You moved too far away!");
+    private static final GlobalListenerHandle<PlayerMoveEvent> MOVE_HANDLE = EventDispatcher.globalHandle(PlayerMoveEvent.class);
 
     public static void playerPacketListener(ClientPlayerPositionStatusPacket packet, Player player) {
         // TODO: Should we expose horizontal collision here and the methods below?
@@ -77,8 +80,14 @@ public class PlayerPositionListener {
             return;
         }
 
+        final ListenerHandle<PlayerMoveEvent> moveHandle = MOVE_HANDLE.get();
+        if (!moveHandle.hasListener()) {
+            player.refreshPosition(packetPosition);
+            player.refreshOnGround(onGround);
+            return;
+        }
         PlayerMoveEvent playerMoveEvent = new PlayerMoveEvent(player, packetPosition, onGround);
-        EventDispatcher.call(playerMoveEvent);
+        moveHandle.call(playerMoveEvent);
         if (!currentPosition.equals(player.getPosition())) {
             // Player has been teleported in the event
             return;
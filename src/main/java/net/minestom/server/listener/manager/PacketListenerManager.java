@@ -2,6 +2,8 @@ package net.minestom.server.listener.manager;
 
 import net.minestom.server.MinecraftServer;
 import net.minestom.server.event.EventDispatcher;
+import net.minestom.server.event.GlobalListenerHandle;
+import net.minestom.server.event.ListenerHandle;
 import net.minestom.server.event.player.PlayerPacketEvent;
 import net.minestom.server.listener.*;
 import net.minestom.server.listener.common.*;
@@ -31,6 +33,7 @@ import java.util.concurrent.ConcurrentHashMap;
 public final class PacketListenerManager {
 
     private final static Logger LOGGER = LoggerFactory.getLogger(PacketListenerManager.class);
+    private static final GlobalListenerHandle<PlayerPacketEvent> PACKET_HANDLE = EventDispatcher.globalHandle(PlayerPacketEvent.class);
 
     private final Map<Class<? extends ClientPacket>, PacketPrePlayListenerConsumer>[] listeners = new Map[ConnectionState.values().length];
 
@@ -140,10 +143,13 @@ public final class PacketListenerManager {
 
         // Event
         if (currState == ConnectionState.PLAY) {
-            PlayerPacketEvent playerPacketEvent = new PlayerPacketEvent(connection.getPlayer(), packet);
-            EventDispatcher.call(playerPacketEvent);
-            if (playerPacketEvent.isCancelled()) {
-                return;
+            final ListenerHandle<PlayerPacketEvent> packetHandle = PACKET_HANDLE.get();
+            if (packetHandle.hasListener()) {
+                PlayerPacketEvent playerPacketEvent = new PlayerPacketEvent(connection.getPlayer(), packet);
+                packetHandle.call(playerPacketEvent);
+                if (playerPacketEvent.isCancelled()) {
+                    return;
+                }
             }
         }
 
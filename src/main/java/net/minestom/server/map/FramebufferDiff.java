@@ -0,0 +1,139 @@
+package net.minestom.server.map;
+
+import net.minestom.server.network.packet.server.play.MapDataPacket;
+import net.minestom.server.utils.validate.Check;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static net.minestom.server.map.Framebuffer.HEIGHT;
+import static net.minestom.server.map.Framebuffer.WIDTH;
+
+/**
+ * Remembers the colors displayed by a map, to only send the parts of a {@link Framebuffer} which changed since.
+ * <p>
+ * Changes are found by comparing the map colors of each frame, which also covers drawing through
+ * {@link java.awt.Graphics2D} or a mutable colors array. Changed rows are grouped in rectangles,
+ * each sent as a partial {@link MapDataPacket}.
+ * <p>
+ * A diff represents what its viewers have received, players starting to view the map later
+ * are brought up to date with {@link #fullPacket()}. Large framebuffers are displayed through a {@link LargeFramebufferDiff}.
+ */
+public final class FramebufferDiff {
+    // Approximate size of a packet without colors, decides if close changes are sent in a single rectangle
+    private static final int PACKET_OVERHEAD = 16;
+
+    private final int mapId;
+    private final byte[] displayed = new byte[WIDTH * HEIGHT];
+    private boolean initialized;
+
+    /**
+     * @param mapId the id of the map displaying the framebuffer
+     */
+    public FramebufferDiff(int mapId) {
+        this.mapId = mapId;
+    }
+
+    public int mapId() {
+        return mapId;
+    }
+
+    /**
+     * Computes the packets updating the map to the current state of a framebuffer,
+     * the first update sends the whole map.
+     *
+     * @param framebuffer the framebuffer to display
+     * @return the packets to send, empty if nothing changed
+     */
+    public List<MapDataPacket> update(Framebuffer framebuffer) {
+        return update(framebuffer.toMapColors());
+    }
+
+    /**
+     * Computes the packets updating the map to new colors, the first update sends the whole map.
+     *
+     * @param mapColors the colors to display, indexed with {@link Framebuffer#index(int, int)}
+     * @return the packets to send, empty if nothing changed
+     */
+    public List<MapDataPacket> update(byte[] mapColors) {
+        Check.argCondition(mapColors.length != WIDTH * HEIGHT, "Map colors must be of size {0}", WIDTH * HEIGHT);
+        if (!initialized) {
+            initialized = true;
+            System.arraycopy(mapColors, 0, displayed, 0, displayed.length);
+            return List.of(packet(0, 0, WIDTH, HEIGHT));
+        }
+
+        List<MapDataPacket> packets = List.of();
+        // Rectangle being grown, minY == -1 if none
+        int minX = 0, maxX = 0, minY = -1, maxY = 0;
+        for (int y = 0; y < HEIGHT; y++) {
+            final int row = y * WIDTH;
+            final int first = Arrays.mismatch(mapColors, row, row + WIDTH, displayed, row, row + WIDTH);
+            if (first == -1) continue;
+            int last = WIDTH - 1;
+            while (mapColors[row + last] == displayed[row + last]) last--;
+
+            if (minY != -1) {
+                // Extend the rectangle to the row if cheaper than a new packet
+                final int area = (maxX - minX + 1) * (maxY - minY + 1) + (last - first + 1);
+                final int mergedArea = (Math.max(maxX, last) - Math.min(minX, first) + 1) * (y - minY + 1);
+                if (mergedArea <= area + PACKET_OVERHEAD) {
+                    minX = Math.min(minX, first);
+                    maxX = Math.max(maxX, last);
+                    maxY = y;
+                    continue;
+                }
+                packets = addRectangle(packets, mapColors, minX, minY, maxX, maxY);
+            }
+            minX = first;
+            maxX = last;
+            minY = maxY = y;
+        }
+        if (minY != -1) packets = addRectangle(packets, mapColors, minX, minY, maxX, maxY);
+        return packets;
+    }
+
+    /**
+     * Gets the packet displaying the whole map as of the last update,
+     * sent to new viewers so that they receive the next updates like the others.
+     *
+     * @return the packet of the displayed colors
+     * @throws IllegalStateException if the map has never been updated
+     */
+    public MapDataPacket fullPacket() {
+        Check.stateCondition(!initialized, "The map has never been updated");
+        return packet(0, 0, WIDTH, HEIGHT);
+    }
+
+    /**
+     * Forgets the displayed colors, the next update sends the whole map.
+     */
+    public void reset() {
+        this.initialized = false;
+    }
+
+    private List<MapDataPacket> addRectangle(List<MapDataPacket> packets, byte[] mapColors,
+                                             int minX, int minY, int maxX, int maxY) {
+        final int width = maxX - minX + 1;
+        for (int y = minY; y <= maxY; y++) {
+            final int index = Framebuffer.index(minX, y);
+            System.arraycopy(mapColors, index, displayed, index, width);
+        }
+        if (packets.isEmpty()) packets = new ArrayList<>();
+        packets.add(packet(minX, minY, width, maxY - minY + 1));
+        return packets;
+    }
+
+    private MapDataPacket packet(int minX, int minY, int width, int height) {
+        final byte[] colors = new byte[width * height];
+        for (int y = 0; y < height; y++) {
+            System.arraycopy(displayed, Framebuffer.index(minX, minY + y), colors, y * width, width);
+        }
+        return new MapDataPacket(mapId, (byte) 0, false,
+                false, List.of(),
+                new MapDataPacket.ColorContent((byte) width, (byte) height,
+                        (byte) minX, (byte) minY,
+                        colors));
+    }
+}
@@ -0,0 +1,137 @@
+package net.minestom.server.map;
+
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntMaps;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import net.minestom.server.entity.Player;
+import net.minestom.server.network.packet.server.play.MapDataPacket;
+import net.minestom.server.utils.PacketSendingUtils;
+import net.minestom.server.utils.validate.Check;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import static net.minestom.server.map.Framebuffer.HEIGHT;
+import static net.minestom.server.map.Framebuffer.WIDTH;
+
+/**
+ * Frame-diff mode of a {@link LargeFramebuffer}, displayed on a grid of maps each tracked by a {@link FramebufferDiff}.
+ * <p>
+ * Maps are laid out row by row, the map at {@code (column, row)} uses the id {@code firstMapId + column + row * columns()}
+ * and displays the pixels from {@code (column * 128, row * 128)}.
+ * <p>
+ * {@link #send(Collection)} keeps track of the players which received the previous frames: they only receive
+ * the changed parts of each map, while players seen for the first time receive every map in full.
+ * Viewers are only remembered by their uuid and entity id, disconnected players are not kept reachable.
+ * Not thread-safe, frames are expected to be sent from a single thread.
+ */
+public final class LargeFramebufferDiff {
+    private final LargeFramebuffer framebuffer;
+    private final int columns, rows;
+    private final FramebufferDiff[] diffs;
+    private final byte[] colors = new byte[WIDTH * HEIGHT];
+    // Viewers of the previous frame, uuid to entity id so that a reconnected player is seen as new
+    private Object2IntMap<UUID> viewers = Object2IntMaps.emptyMap();
+
+    /**
+     * @param framebuffer the framebuffer to display
+     * @param firstMapId  the id of the top-left map
+     */
+    public LargeFramebufferDiff(LargeFramebuffer framebuffer, int firstMapId) {
+        Check.argCondition(framebuffer.width() <= 0 || framebuffer.height() <= 0, "Framebuffer cannot be empty");
+        this.framebuffer = framebuffer;
+        this.columns = Math.ceilDiv(framebuffer.width(), WIDTH);
+        this.rows = Math.ceilDiv(framebuffer.height(), HEIGHT);
+        this.diffs = new FramebufferDiff[columns * rows];
+        for (int i = 0; i < diffs.length; i++) diffs[i] = new FramebufferDiff(firstMapId + i);
+    }
+
+    public int columns() {
+        return columns;
+    }
+
+    public int rows() {
+        return rows;
+    }
+
+    public int mapId(int column, int row) {
+        Check.argCondition(column < 0 || column >= columns || row < 0 || row >= rows,
+                "Map ({0}, {1}) is outside of the grid", column, row);
+        return diffs[column + row * columns].mapId();
+    }
+
+    /**
+     * Computes the packets updating every map to the current state of the framebuffer,
+     * the first update sends every map in full.
+     *
+     * @return the packets to send to the players which received the previous updates, empty if nothing changed
+     */
+    public List<MapDataPacket> update() {
+        List<MapDataPacket> packets = List.of();
+        for (int row = 0; row < rows; row++) {
+            for (int column = 0; column < columns; column++) {
+                final List<MapDataPacket> mapPackets = updateMap(column, row);
+                if (mapPackets.isEmpty()) continue;
+                if (packets.isEmpty()) packets = new ArrayList<>();
+                packets.addAll(mapPackets);
+            }
+        }
+        return packets;
+    }
+
+    /**
+     * Updates every map and sends the changes.
+     * <p>
+     * Players which received the previous frame only receive the changes, new players receive every map in full.
+     * Players absent from {@code players} are forgotten and receive every map in full if they come back.
+     *
+     * @param players the players viewing the maps
+     */
+    public void send(Collection<? extends Player> players) {
+        final List<MapDataPacket> changes = update();
+        Object2IntMap<UUID> current = new Object2IntOpenHashMap<>(players.size());
+        List<Player> known = null, joined = null;
+        for (Player player : players) {
+            final UUID uuid = player.getUuid();
+            final int entityId = player.getEntityId();
+            if (current.containsKey(uuid)) continue;
+            current.put(uuid, entityId);
+            if (this.viewers.containsKey(uuid) && this.viewers.getInt(uuid) == entityId) {
+                if (known == null) known = new ArrayList<>();
+                known.add(player);
+            } else {
+                if (joined == null) joined = new ArrayList<>();
+                joined.add(player);
+            }
+        }
+        if (known != null) {
+            for (MapDataPacket packet : changes) PacketSendingUtils.sendGroupedPacket(known, packet);
+        }
+        if (joined != null) {
+            for (FramebufferDiff diff : diffs) PacketSendingUtils.sendGroupedPacket(joined, diff.fullPacket());
+        }
+        this.viewers = current;
+    }
+
+    /**
+     * Forgets the displayed colors and the viewers, the next update sends every map in full.
+     */
+    public void reset() {
+        for (FramebufferDiff diff : diffs) diff.reset();
+        this.viewers = Object2IntMaps.emptyMap();
+    }
+
+    private List<MapDataPacket> updateMap(int column, int row) {
+        final int left = column * WIDTH;
+        final int top = row * HEIGHT;
+        final int width = Math.min(framebuffer.width() - left, WIDTH);
+        final int height = Math.min(framebuffer.height() - top, HEIGHT);
+        // Pixels outside the framebuffer stay transparent
+        if (width < WIDTH || height < HEIGHT) Arrays.fill(colors, (byte) 0);
+        framebuffer.getMapColors(left, top, width, height, colors, 0, WIDTH);
+        return diffs[column + row * columns].update(colors);
+    }
+}
@@ -1,11 +1,23 @@
 package net.minestom.server.map;
 
 import net.minestom.server.ServerFlag;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.concurrent.ConcurrentHashMap;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.Function;
+import java.util.stream.IntStream;
 
 public enum MapColors {
     NONE(0, 0, 0),
@@ -73,9 +85,24 @@ public enum MapColors {
     private final int blue;
 
     private static final Logger logger = LoggerFactory.getLogger(MapColors.class);
-    private static final ConcurrentHashMap<Integer, PreciseMapColor> rgbMap = new ConcurrentHashMap<>();
+    private static final int RGB_COUNT = 0xFFFFFF + 1;
+    // Lazy tables are split in blocks, only allocated once one of their colors is requested
+    private static final int BLOCK_SHIFT = 16;
+    private static final int BLOCK_MASK = (1 << BLOCK_SHIFT) - 1;
+    // Map color index of NONE, never the closest color, marks indices which are not computed yet
+    private static final byte UNKNOWN_INDEX = 0;
+
+    // Colors indexed by their map color index
+    private static final PreciseMapColor[] indexedColors;
+    // RGB values of every map color, and their index
+    private static final int[] paletteRGB;
+    private static final byte[] paletteIndices;
+
     // only used if mappingStrategy == ColorMappingStrategy.PRECISE
-    private static volatile PreciseMapColor[] rgbArray = null;
+    private static volatile byte @Nullable [] rgbTable = null;
+    // only used if mappingStrategy != ColorMappingStrategy.PRECISE
+    private static final AtomicReferenceArray<byte[]> rgbBlocks = new AtomicReferenceArray<>(RGB_COUNT >> BLOCK_SHIFT);
+    private static volatile boolean rgbBlocksFilled = false;
 
     private static final ColorMappingStrategy mappingStrategy;
     private static final int colorReduction;
@@ -100,6 +127,23 @@ public enum MapColors {
             }
         }
         colorReduction = reduction;
+
+        final MapColors[] bases = values();
+        final Multiplier[] multipliers = Multiplier.values();
+        indexedColors = new PreciseMapColor[bases.length * multipliers.length];
+        paletteRGB = new int[(bases.length - 1) * multipliers.length];
+        paletteIndices = new byte[paletteRGB.length];
+        int i = 0;
+        for (MapColors base : bases) {
+            for (Multiplier m : multipliers) {
+                PreciseMapColor preciseMapColor = new PreciseMapColor(base, m);
+                indexedColors[preciseMapColor.getIndex() & 0xFF] = preciseMapColor;
+                if (base == NONE)
+                    continue;
+                paletteRGB[i] = preciseMapColor.toRGB();
+                paletteIndices[i++] = preciseMapColor.getIndex();
+            }
+        }
     }
 
     MapColors(int red, int green, int blue) {
@@ -155,52 +199,183 @@ public enum MapColors {
         return blue;
     }
 
-    private static void fillRGBMap() {
-        for (MapColors base : values()) {
-            if (base == NONE)
-                continue;
-            for (Multiplier m : Multiplier.values()) {
-                PreciseMapColor preciseMapColor = new PreciseMapColor(base, m);
-                int rgb = preciseMapColor.toRGB();
+    public static PreciseMapColor closestColor(int argb) {
+        return indexedColors[closestIndex(argb) & 0xFF];
+    }
+
+    /**
+     * Gets the index of the map color closest to a color, as {@link #closestColor(int)} without allocating.
+     *
+     * @param argb the color, alpha is ignored
+     * @return the map color index
+     */
+    public static byte closestIndex(int argb) {
+        final int rgb = argb & 0xFFFFFF;
+        if (mappingStrategy == ColorMappingStrategy.PRECISE) {
+            return rgbTable()[rgb];
+        }
+        return lazyIndex(rgb);
+    }
+
+    /**
+     * Converts colors to the index of their closest map color, see {@link #closestIndex(int)}.
+     *
+     * @param argb          the colors, alpha is ignored
+     * @param argbOffset    the index of the first color to convert
+     * @param indices       the array receiving the map color indices
+     * @param indicesOffset the index of the first converted color in {@code indices}
+     * @param length        the number of colors to convert
+     */
+    public static void closestIndices(int[] argb, int argbOffset, byte[] indices, int indicesOffset, int length) {
+        Objects.checkFromIndexSize(argbOffset, length, argb.length);
+        Objects.checkFromIndexSize(indicesOffset, length, indices.length);
+        if (mappingStrategy == ColorMappingStrategy.PRECISE) {
+            final byte[] table = rgbTable();
+            for (int i = 0; i < length; i++) {
+                indices[indicesOffset + i] = table[argb[argbOffset + i] & 0xFFFFFF];
+            }
+            return;
+        }
+        // Images are mostly made of runs of the same color
+        int lastRGB = -1;
+        byte lastIndex = UNKNOWN_INDEX;
+        for (int i = 0; i < length; i++) {
+            final int rgb = argb[argbOffset + i] & 0xFFFFFF;
+            if (rgb != lastRGB) {
+                lastRGB = rgb;
+                lastIndex = lazyIndex(rgb);
+            }
+            indices[indicesOffset + i] = lastIndex;
+        }
+    }
+
+    private static byte lazyIndex(int rgb) {
+        if (!rgbBlocksFilled) {
+            fillRGBBlocks();
+        }
+        if (mappingStrategy == ColorMappingStrategy.APPROXIMATE) {
+            rgb = reduceColor(rgb);
+        }
+        final byte[] block = rgbBlock(rgb);
+        final int offset = rgb & BLOCK_MASK;
+        byte index = block[offset];
+        if (index == UNKNOWN_INDEX) {
+            // Racing threads compute the same index
+            index = mapIndex(rgb);
+            block[offset] = index;
+        }
+        return index;
+    }
 
+    private static byte[] rgbBlock(int rgb) {
+        final int blockIndex = rgb >>> BLOCK_SHIFT;
+        byte[] block = rgbBlocks.get(blockIndex);
+        if (block == null) {
+            block = new byte[BLOCK_MASK + 1];
+            if (!rgbBlocks.compareAndSet(blockIndex, null, block)) {
+                block = rgbBlocks.get(blockIndex);
+            }
+        }
+        return block;
+    }
+
+    private static void fillRGBBlocks() {
+        synchronized (rgbBlocks) {
+            if (rgbBlocksFilled) return;
+            for (int i = 0; i < paletteRGB.length; i++) {
+                int rgb = paletteRGB[i];
                 if (mappingStrategy == ColorMappingStrategy.APPROXIMATE) {
                     rgb = reduceColor(rgb);
                 }
-                rgbMap.put(rgb, preciseMapColor);
+                rgbBlock(rgb)[rgb & BLOCK_MASK] = paletteIndices[i];
             }
+            rgbBlocksFilled = true;
         }
     }
 
-    private static void fillRGBArray() {
-        rgbArray = new PreciseMapColor[0xFFFFFF + 1];
-        for (int rgb = 0; rgb <= 0xFFFFFF; rgb++) {
-            rgbArray[rgb] = mapColor(rgb);
+    private static byte[] rgbTable() {
+        byte[] table = rgbTable;
+        if (table == null) {
+            synchronized (MapColors.class) {
+                table = rgbTable;
+                if (table == null) {
+                    rgbTable = table = loadRGBTable();
+                }
+            }
         }
+        return table;
     }
 
-    public static PreciseMapColor closestColor(int argb) {
-        int noAlpha = argb & 0xFFFFFF;
-        if (mappingStrategy == ColorMappingStrategy.PRECISE) {
-            if (rgbArray == null) {
-                synchronized (MapColors.class) {
-                    if (rgbArray == null) {
-                        fillRGBArray();
-                    }
-                }
+    private static byte[] loadRGBTable() {
+        final String cache = ServerFlag.MAP_RGB_CACHE;
+        final Path path = cache != null ? Path.of(cache) : null;
+        if (path != null && Files.isRegularFile(path)) {
+            try {
+                final byte[] table = readRGBTable(path);
+                if (table != null) return table;
+                logger.warn("Outdated map color cache {}, computing it again.", path);
+            } catch (IOException e) {
+                logger.warn("Failed to read the map color cache {}, computing it again.", path, e);
             }
-            return rgbArray[noAlpha];
         }
-        if (rgbMap.isEmpty()) {
-            synchronized (rgbMap) {
-                if (rgbMap.isEmpty()) {
-                    fillRGBMap();
-                }
+
+        final byte[] table = new byte[RGB_COUNT];
+        IntStream.range(0, RGB_COUNT >> BLOCK_SHIFT).parallel().forEach(block -> {
+            final int start = block << BLOCK_SHIFT;
+            for (int rgb = start; rgb <= (start | BLOCK_MASK); rgb++) {
+                table[rgb] = mapIndex(rgb);
+            }
+        });
+
+        if (path != null) {
+            try {
+                writeRGBTable(path, table);
+            } catch (IOException e) {
+                logger.warn("Failed to write the map color cache {}.", path, e);
             }
         }
-        if (mappingStrategy == ColorMappingStrategy.APPROXIMATE) {
-            noAlpha = reduceColor(noAlpha);
+        return table;
+    }
+
+    // Cache format: [int palette hash][byte index of every rgb value]
+    private static byte @Nullable [] readRGBTable(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() != Integer.BYTES + RGB_COUNT) return null;
+            final ByteBuffer header = ByteBuffer.allocate(Integer.BYTES);
+            readFully(channel, header);
+            if (header.getInt(0) != paletteHash()) return null;
+            final byte[] table = new byte[RGB_COUNT];
+            readFully(channel, ByteBuffer.wrap(table));
+            return table;
+        }
+    }
+
+    private static void writeRGBTable(Path path, byte[] table) throws IOException {
+        final Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) Files.createDirectories(parent);
+        // Written next to the cache then moved, so that concurrent servers never read a partial table
+        final Path temp = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+            final ByteBuffer header = ByteBuffer.allocate(Integer.BYTES).putInt(0, paletteHash());
+            while (header.hasRemaining()) channel.write(header);
+            final ByteBuffer content = ByteBuffer.wrap(table);
+            while (content.hasRemaining()) channel.write(content);
+        }
+        try {
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
         }
-        return rgbMap.computeIfAbsent(noAlpha, MapColors::mapColor);
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) == -1) throw new EOFException();
+        }
+    }
+
+    private static int paletteHash() {
+        return 31 * Arrays.hashCode(paletteRGB) + Arrays.hashCode(paletteIndices);
     }
 
     private static int reduceColor(int rgb) {
@@ -214,30 +389,22 @@ public enum MapColors {
         return (red << 16) | (green << 8) | blue;
     }
 
-    private static PreciseMapColor mapColor(int rgb) {
-        PreciseMapColor closest = null;
+    private static byte mapIndex(int rgb) {
+        final int red = (rgb >> 16) & 0xFF;
+        final int green = (rgb >> 8) & 0xFF;
+        final int blue = rgb & 0xFF;
+
+        byte closest = UNKNOWN_INDEX;
         int closestDistance = Integer.MAX_VALUE;
-        for (MapColors base : values()) {
-            if (base == NONE)
-                continue;
-            for (Multiplier m : Multiplier.values()) {
-                final int rgbKey = PreciseMapColor.toRGB(base, m);
-                final int redKey = (rgbKey >> 16) & 0xFF;
-                final int greenKey = (rgbKey >> 8) & 0xFF;
-                final int blueKey = rgbKey & 0xFF;
-
-                final int red = (rgb >> 16) & 0xFF;
-                final int green = (rgb >> 8) & 0xFF;
-                final int blue = rgb & 0xFF;
-
-                final int dr = redKey - red;
-                final int dg = greenKey - green;
-                final int db = blueKey - blue;
-                final int dist = (dr * dr + dg * dg + db * db);
-                if (dist < closestDistance) {
-                    closest = new PreciseMapColor(base, m);
-                    closestDistance = dist;
-                }
+        for (int i = 0; i < paletteRGB.length; i++) {
+            final int rgbKey = paletteRGB[i];
+            final int dr = ((rgbKey >> 16) & 0xFF) - red;
+            final int dg = ((rgbKey >> 8) & 0xFF) - green;
+            final int db = (rgbKey & 0xFF) - blue;
+            final int dist = (dr * dr + dg * dg + db * db);
+            if (dist < closestDistance) {
+                closest = paletteIndices[i];
+                closestDistance = dist;
             }
         }
         return closest;
@@ -317,8 +484,8 @@ public enum MapColors {
         LAZY,
 
         /**
-         * All colors are already in the map after the first call. Heavy hit on the memory:
-         * (2^24) * 4 bytes at the min (~64MB)
+         * All colors are already in the table after the first call. Costs 2^24 bytes (16MB) of memory,
+         * the table can be cached on disk with the {@code minestom.map.rgbcache} property
          */
         PRECISE,
 
@@ -4,6 +4,8 @@ import net.minestom.server.map.Framebuffer;
 import net.minestom.server.map.LargeFramebuffer;
 import net.minestom.server.map.MapColors;
 
+import java.util.Arrays;
+
 public class LargeFramebufferDefaultView implements Framebuffer {
     private final LargeFramebuffer parent;
     private final int x;
@@ -16,21 +18,17 @@ public class LargeFramebufferDefaultView implements Framebuffer {
         this.y = y;
     }
 
-    private boolean bounds(int x, int y) {
-        return x >= 0 && x < parent.width() && y >= 0 && y < parent.height();
-    }
-
-    private byte colorOrNone(int x, int y) {
-        if(!bounds(x, y)) return MapColors.NONE.baseColor();
-        return parent.getMapColor(x, y);
-    }
-
     @Override
     public byte[] toMapColors() {
-        for (int y = 0; y < HEIGHT; y++) {
-            for (int x = 0; x < WIDTH; x++) {
-                colors[Framebuffer.index(x, y)] = colorOrNone(x+this.x, y+this.y);
-            }
+        // Part of the view inside the parent
+        final int minX = Math.max(x, 0), maxX = Math.min(x + WIDTH, parent.width());
+        final int minY = Math.max(y, 0), maxY = Math.min(y + HEIGHT, parent.height());
+        if (minX != x || minY != y || maxX - minX != WIDTH || maxY - minY != HEIGHT) {
+            Arrays.fill(colors, MapColors.NONE.baseColor());
+        }
+        if (minX < maxX && minY < maxY) {
+            parent.getMapColors(minX, minY, maxX - minX, maxY - minY,
+                    colors, Framebuffer.index(minX - x, minY - y), WIDTH);
         }
         return colors;
     }
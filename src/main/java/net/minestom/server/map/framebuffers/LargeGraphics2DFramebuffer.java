@@ -11,6 +11,8 @@ import java.awt.image.DataBufferInt;
 /**
  * {@link LargeFramebuffer} that embeds a {@link BufferedImage},
  * allowing for rendering directly via {@link Graphics2D} or its pixel array.
+ * <p>
+ * Animated framebuffers can send only their changes through a {@link net.minestom.server.map.LargeFramebufferDiff}.
  */
 public class LargeGraphics2DFramebuffer implements LargeFramebuffer {
 
@@ -62,6 +64,13 @@ public class LargeGraphics2DFramebuffer implements LargeFramebuffer {
 
     @Override
     public byte getMapColor(int x, int y) {
-        return MapColors.closestColor(get(x, y)).getIndex();
+        return MapColors.closestIndex(get(x, y));
+    }
+
+    @Override
+    public void getMapColors(int left, int top, int width, int height, byte[] colors, int offset, int stride) {
+        for (int y = 0; y < height; y++) {
+            MapColors.closestIndices(pixels, left + (top + y) * this.width, colors, offset + y * stride, width);
+        }
     }
 }
@@ -1,11 +1,20 @@
 package net.minestom.server.monitoring;
 
 import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
 import jdk.jfr.Description;
+import jdk.jfr.FlightRecorder;
 import jdk.jfr.Label;
 import jdk.jfr.Name;
+import jdk.jfr.Period;
+import jdk.jfr.Timespan;
+import net.minestom.server.network.packet.PacketSendStats;
 import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -32,9 +41,13 @@ public final class EventsJFR {
 
     public static final String SERVER_PING = "minestom.ServerPing";
     public static final String SERVER_TICK = "minestom.ServerTickTime";
+    public static final String SERVER_TICK_PROFILE = "minestom.ServerTickProfile";
+    public static final String INSTANCE_TICK_PROFILE = "minestom.InstanceTickProfile";
+    public static final String THREAD_TICK_PROFILE = "minestom.ThreadTickProfile";
 
     public static final String CHUNK_GENERATION = "minestom.ChunkGeneration";
     public static final String CHUNK_LOADING = "minestom.ChunkLoading";
+    public static final String LIGHTING_BATCH = "minestom.LightingBatch";
 
     public static final String INSTANCE_JOIN = "minestom.InstanceJoin";
     public static final String INSTANCE_LEAVE = "minestom.InstanceLeave";
@@ -44,6 +57,10 @@ public final class EventsJFR {
     public static final String PLAYER_COMMAND = "minestom.PlayerCommand";
     public static final String PLAYER_CHAT = "minestom.PlayerChat";
 
+    public static final String PACKET_SEND_STATISTICS = "minestom.PacketSendStatistics";
+
+    private static @Nullable Runnable packetSendStatisticsHook;
+
     public static EventMarker newServerPing(String remoteAddress) {
         return JFR_AVAILABLE ? new ServerPing(remoteAddress) : NO_OP;
     }
@@ -52,6 +69,21 @@ public final class EventsJFR {
         return JFR_AVAILABLE ? new ServerTick() : NO_OP;
     }
 
+    public static EventMarker newServerTickProfile(TickProfile profile) {
+        return JFR_AVAILABLE ? new ServerTickProfile(profile) : NO_OP;
+    }
+
+    public static EventMarker newInstanceTickProfile(TickProfile.InstanceTime instance) {
+        return JFR_AVAILABLE ? new InstanceTickProfile(instance.instance().toString(), instance.nanos()) : NO_OP;
+    }
+
+    public static EventMarker newThreadTickProfile(TickProfile.ThreadTime thread) {
+        if (!JFR_AVAILABLE) return NO_OP;
+        if (thread.slowest().isEmpty()) return new ThreadTickProfile(thread.threadName(), thread.nanos(), null, 0);
+        final TickProfile.ElementTime slowest = thread.slowest().getFirst();
+        return new ThreadTickProfile(thread.threadName(), thread.nanos(), slowest.description(), slowest.nanos());
+    }
+
     public static EventMarker newChunkGeneration(UUID instance, int chunkX, int chunkZ) {
         return JFR_AVAILABLE ? new ChunkGeneration(instance.toString(), chunkX, chunkZ) : NO_OP;
     }
@@ -60,6 +92,10 @@ public final class EventsJFR {
         return JFR_AVAILABLE ? new ChunkLoading(instance.toString(), loader, chunkX, chunkZ) : NO_OP;
     }
 
+    public static EventMarker newLightingBatch(UUID instance, String lightType, String pass, int sections, int queueDepth) {
+        return JFR_AVAILABLE ? new LightingBatch(instance.toString(), lightType, pass, sections, queueDepth) : NO_OP;
+    }
+
     public static EventMarker newInstanceJoin(UUID entity, UUID instance) {
         return JFR_AVAILABLE ? new InstanceJoin(entity.toString(), instance.toString()) : NO_OP;
     }
@@ -84,6 +120,24 @@ public final class EventsJFR {
         return JFR_AVAILABLE ? new PlayerChat(player.toString(), message) : NO_OP;
     }
 
+    /**
+     * Starts emitting a {@value PACKET_SEND_STATISTICS} event per packet type sent since the previous period,
+     * from {@link PacketSendStats#global()}.
+     */
+    public static synchronized void registerPacketSendStatistics() {
+        if (!JFR_AVAILABLE || packetSendStatisticsHook != null) return;
+        final Runnable hook = new PacketSendStatisticsHook();
+        FlightRecorder.addPeriodicEvent(PacketSendStatistics.class, hook);
+        packetSendStatisticsHook = hook;
+    }
+
+    public static synchronized void unregisterPacketSendStatistics() {
+        final Runnable hook = packetSendStatisticsHook;
+        if (hook == null) return;
+        FlightRecorder.removePeriodicEvent(hook);
+        packetSendStatisticsHook = null;
+    }
+
     @Name(SERVER_PING)
     @Label("Server Ping")
     @Category({"Minestom", "Server"})
@@ -104,6 +158,86 @@ public final class EventsJFR {
     private static final class ServerTick extends JFREventWrapper {
     }
 
+    @Name(SERVER_TICK_PROFILE)
+    @Label("Server Tick Profile")
+    @Category({"Minestom", "Server"})
+    @Description("Breakdown of a profiled server tick")
+    private static final class ServerTickProfile extends JFREventWrapper {
+        @Label("Scheduler")
+        @Timespan(Timespan.NANOSECONDS)
+        long scheduler;
+        @Label("Connections")
+        @Timespan(Timespan.NANOSECONDS)
+        long connection;
+        @Label("Instances")
+        @Timespan(Timespan.NANOSECONDS)
+        long instances;
+        @Label("Tick Threads")
+        @Timespan(Timespan.NANOSECONDS)
+        long dispatch;
+        @Label("Viewable Flush")
+        @Timespan(Timespan.NANOSECONDS)
+        long flush;
+        @Label("Packets Sent")
+        long packetsSent;
+        @Label("Bytes Sent")
+        @DataAmount(DataAmount.BYTES)
+        long bytesSent;
+
+        private ServerTickProfile(TickProfile profile) {
+            this.scheduler = profile.schedulerNanos();
+            this.connection = profile.connectionNanos();
+            long instances = 0;
+            for (TickProfile.InstanceTime instance : profile.instances()) instances += instance.nanos();
+            this.instances = instances;
+            this.dispatch = profile.dispatchNanos();
+            this.flush = profile.flushNanos();
+            this.packetsSent = profile.packetsSent();
+            this.bytesSent = profile.bytesSent();
+        }
+    }
+
+    @Name(INSTANCE_TICK_PROFILE)
+    @Label("Instance Tick Profile")
+    @Category({"Minestom", "Instance"})
+    @Description("Time spent ticking an instance during a profiled server tick")
+    private static final class InstanceTickProfile extends JFREventWrapper {
+        @Label("Instance UUID")
+        String instance;
+        @Label("Tick Time")
+        @Timespan(Timespan.NANOSECONDS)
+        long tickTime;
+
+        private InstanceTickProfile(String instance, long tickTime) {
+            this.instance = instance;
+            this.tickTime = tickTime;
+        }
+    }
+
+    @Name(THREAD_TICK_PROFILE)
+    @Label("Thread Tick Profile")
+    @Category({"Minestom", "Server"})
+    @Description("Time spent by a tick thread during a profiled server tick")
+    private static final class ThreadTickProfile extends JFREventWrapper {
+        @Label("Thread Name")
+        String thread;
+        @Label("Tick Time")
+        @Timespan(Timespan.NANOSECONDS)
+        long tickTime;
+        @Label("Slowest Element")
+        @Nullable String slowest;
+        @Label("Slowest Element Tick Time")
+        @Timespan(Timespan.NANOSECONDS)
+        long slowestTickTime;
+
+        private ThreadTickProfile(String thread, long tickTime, @Nullable String slowest, long slowestTickTime) {
+            this.thread = thread;
+            this.tickTime = tickTime;
+            this.slowest = slowest;
+            this.slowestTickTime = slowestTickTime;
+        }
+    }
+
     @Name(CHUNK_GENERATION)
     @Label("Chunk Generation")
     @Category({"Minestom", "World"})
@@ -145,6 +279,32 @@ public final class EventsJFR {
         }
     }
 
+    @Name(LIGHTING_BATCH)
+    @Label("Lighting Batch")
+    @Category({"Minestom", "World"})
+    @Description("Sections lit by a single pass of the light scheduler, the duration covers all of them")
+    private static final class LightingBatch extends JFREventWrapper {
+        @Label("Instance UUID")
+        String instance;
+        @Label("Light Type")
+        String lightType;
+        @Label("Pass")
+        String pass;
+        @Label("Sections")
+        int sections;
+        @Label("Queue Depth")
+        @Description("Sections waiting for a lighting thread when the pass started")
+        int queueDepth;
+
+        private LightingBatch(String instance, String lightType, String pass, int sections, int queueDepth) {
+            this.instance = instance;
+            this.lightType = lightType;
+            this.pass = pass;
+            this.sections = sections;
+            this.queueDepth = queueDepth;
+        }
+    }
+
     @Name(INSTANCE_JOIN)
     @Label("Instance Join")
     @Category({"Minestom", "Instance"})
@@ -235,6 +395,55 @@ public final class EventsJFR {
         }
     }
 
+    @Name(PACKET_SEND_STATISTICS)
+    @Label("Packet Send Statistics")
+    @Category({"Minestom", "Network"})
+    @Description("Packets of a type sent to all connections since the previous period")
+    @Period("1 s")
+    private static final class PacketSendStatistics extends JFREventWrapper {
+        @Label("Connection State")
+        String state;
+        @Label("Packet ID")
+        int packetId;
+        @Label("Packet Type")
+        @Nullable Class packetType;
+        @Label("Packets")
+        long packets;
+        @Label("Uncompressed Bytes")
+        @DataAmount(DataAmount.BYTES)
+        long uncompressedBytes;
+        @Label("Sent Bytes")
+        @DataAmount(DataAmount.BYTES)
+        long sentBytes;
+
+        private PacketSendStatistics(PacketSendStats.Entry entry, @Nullable PacketSendStats.Entry previous) {
+            this.state = entry.state().name();
+            this.packetId = entry.packetId();
+            this.packetType = entry.packetType();
+            this.packets = entry.packets() - (previous != null ? previous.packets() : 0);
+            this.uncompressedBytes = entry.uncompressedBytes() - (previous != null ? previous.uncompressedBytes() : 0);
+            this.sentBytes = entry.sentBytes() - (previous != null ? previous.sentBytes() : 0);
+        }
+    }
+
+    private static final class PacketSendStatisticsHook implements Runnable {
+        private Map<String, PacketSendStats.Entry> previous = Map.of();
+
+        @Override
+        public void run() {
+            final List<PacketSendStats.Entry> entries = PacketSendStats.global();
+            Map<String, PacketSendStats.Entry> current = new HashMap<>(entries.size());
+            for (PacketSendStats.Entry entry : entries) {
+                final String key = entry.state().name() + ':' + entry.packetId();
+                current.put(key, entry);
+                final PacketSendStats.Entry previous = this.previous.get(key);
+                if (previous != null && previous.packets() == entry.packets()) continue;
+                new PacketSendStatistics(entry, previous).commit();
+            }
+            this.previous = current;
+        }
+    }
+
     public interface EventMarker {
         default void begin() {
         }
@@ -1,13 +1,21 @@
 package net.minestom.server.monitoring;
 
+import org.jetbrains.annotations.Nullable;
+
 public class TickMonitor {
 
     private final double tickTime;
     private final double acquisitionTime;
+    private final @Nullable TickProfile profile;
 
     public TickMonitor(double tickTime, double acquisitionTime) {
+        this(tickTime, acquisitionTime, null);
+    }
+
+    public TickMonitor(double tickTime, double acquisitionTime, @Nullable TickProfile profile) {
         this.tickTime = tickTime;
         this.acquisitionTime = acquisitionTime;
+        this.profile = profile;
     }
 
     public double getTickTime() {
@@ -17,4 +25,14 @@ public class TickMonitor {
     public double getAcquisitionTime() {
         return acquisitionTime;
     }
+
+    /**
+     * Gets the detailed breakdown of the tick.
+     *
+     * @return the tick profile, null if this tick was not sampled
+     * @see net.minestom.server.ServerFlag#TICK_PROFILE_INTERVAL
+     */
+    public @Nullable TickProfile getProfile() {
+        return profile;
+    }
 }
@@ -0,0 +1,68 @@
+package net.minestom.server.monitoring;
+
+import net.minestom.server.ServerFlag;
+import net.minestom.server.Tickable;
+import net.minestom.server.entity.Entity;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Breakdown of a single server tick, only collected every {@link ServerFlag#TICK_PROFILE_INTERVAL} ticks.
+ * <p>
+ * The phases are sequential, their sum may be slightly lower than {@link TickMonitor#getTickTime()}.
+ *
+ * @param schedulerNanos  time spent running the scheduled tasks, at the start and the end of the tick
+ * @param connectionNanos time spent in {@link net.minestom.server.network.ConnectionManager#tick(long)}
+ * @param instances       time spent in {@link net.minestom.server.instance.Instance#tick(long)}, for each instance
+ * @param dispatchNanos   time spent waiting for the tick threads to tick the chunks and entities
+ * @param threads         time spent by each tick thread, run in parallel during {@code dispatchNanos}
+ * @param flushNanos      time spent in {@link net.minestom.server.utils.PacketViewableUtils#flush()}
+ * @param packetsSent     the packets written to the sockets during the tick
+ * @param bytesSent       the bytes written to the sockets during the tick
+ */
+public record TickProfile(long schedulerNanos, long connectionNanos, List<InstanceTime> instances,
+                          long dispatchNanos, List<ThreadTime> threads, long flushNanos,
+                          long packetsSent, long bytesSent) {
+    public TickProfile {
+        instances = List.copyOf(instances);
+        threads = List.copyOf(threads);
+    }
+
+    /**
+     * @param instance the instance unique id
+     * @param nanos    the time spent ticking the instance itself, not its chunks
+     */
+    public record InstanceTime(UUID instance, long nanos) {
+    }
+
+    /**
+     * @param threadName the tick thread name
+     * @param nanos      the time spent ticking the partitions of the thread
+     * @param slowest    the slowest elements of the thread, slowest first,
+     *                   at most {@link ServerFlag#TICK_PROFILE_SLOWEST} of them
+     */
+    public record ThreadTime(String threadName, long nanos, List<ElementTime> slowest) {
+        public ThreadTime {
+            slowest = List.copyOf(slowest);
+        }
+    }
+
+    /**
+     * @param element the ticked chunk or entity
+     * @param nanos   the time spent ticking it
+     */
+    public record ElementTime(Tickable element, long nanos) {
+        /**
+         * Gets a short description of the element, for logs and recordings.
+         *
+         * @return the element description
+         */
+        public String description() {
+            if (element instanceof Entity entity) {
+                return entity.getEntityType().name() + "#" + entity.getEntityId();
+            }
+            return element.toString();
+        }
+    }
+}
@@ -24,6 +24,7 @@ import java.io.DataInput;
 import java.io.DataOutput;
 import java.io.IOException;
 import java.lang.foreign.MemorySegment;
+import java.nio.ByteBuffer;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.channels.SocketChannel;
 import java.nio.channels.WritableByteChannel;
@@ -482,6 +483,16 @@ public sealed interface NetworkBuffer permits NetworkBufferImpl {
         NetworkBufferImpl.copy(srcBuffer, srcOffset, dstBuffer, dstOffset, length);
     }
 
+    /**
+     * Creates a {@link ByteBuffer} sharing the memory of {@code buffer}, read-only if the buffer is.
+     * <p>
+     * The view ignores the read and write indexes, and is only valid as long as the buffer is not resized or released.
+     */
+    @ApiStatus.Internal
+    static ByteBuffer view(NetworkBuffer buffer, long index, long length) {
+        return NetworkBufferImpl.view(buffer, index, length);
+    }
+
     static boolean equals(NetworkBuffer buffer1, NetworkBuffer buffer2) {
         return NetworkBufferImpl.equals(buffer1, buffer2);
     }
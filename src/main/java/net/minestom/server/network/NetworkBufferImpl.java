@@ -35,6 +35,8 @@ final class NetworkBufferImpl implements NetworkBuffer {
 
     private final @Nullable AutoResize autoResize;
     private @Nullable Registries registries;
+    // Pool size class which lent the buffer until its release, only accessed by the borrowing thread
+    @Nullable Object lender;
 
     NetworkBufferImpl(@Nullable MemorySegment segment,
                       long readIndex, long writeIndex,
@@ -484,6 +486,12 @@ final class NetworkBufferImpl implements NetworkBuffer {
         MemorySegment.copy(src, srcOffset, dst, dstOffset, length);
     }
 
+    static ByteBuffer view(NetworkBuffer buffer, long index, long length) {
+        var segment = impl(buffer).segment;
+        assertDummy(segment);
+        return bufferSlice(segment, index, length);
+    }
+
     static boolean equals(NetworkBuffer buffer1, NetworkBuffer buffer2) {
         var impl1 = impl(buffer1).segment;
         var impl2 = impl(buffer2).segment;
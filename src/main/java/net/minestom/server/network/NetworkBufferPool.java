@@ -0,0 +1,231 @@
+package net.minestom.server.network;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.utils.collection.ConcurrentMessageQueues;
+import net.minestom.server.utils.validate.Check;
+import org.jctools.queues.MessagePassingQueue;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Pool of empty static buffers grouped in power of two size classes, backed by off-heap memory.
+ * <p>
+ * A class running out of buffers allocates a slab sliced in multiple buffers, the classes in use
+ * therefore grow with the traffic. Released buffers are kept with strong references up to a retained size shared
+ * evenly between the classes, first in a small cache of the releasing platform thread then in a queue shared by all threads.
+ * Virtual threads only use the shared queue, their caches would die with them.
+ * <p>
+ * Capacities above the largest class are allocated on demand and left to the garbage collector once released.
+ * Buffers must not be resized while borrowed, they would not be retained either.
+ */
+@ApiStatus.Internal
+@ApiStatus.Experimental
+public final class NetworkBufferPool {
+    private static final long SLAB_SIZE = 1 << 20;
+    private static final int LOCAL_CACHE_SIZE = 4;
+    private static final long LOCAL_CLASS_MAX_SIZE = 1 << 16;
+
+    private final int minShift;
+    private final SizeClass[] classes;
+    private final int localClasses;
+    private final ThreadLocal<LocalCache> localCache;
+    private final LongAdder oversized = new LongAdder();
+
+    /**
+     * @param minSize      the capacity of the smallest class, rounded up to a power of two
+     * @param maxSize      the capacity of the largest class, rounded up to a power of two
+     * @param retainedSize the maximum memory kept by all the classes while unused, in bytes
+     */
+    public NetworkBufferPool(long minSize, long maxSize, long retainedSize) {
+        Check.argCondition(minSize <= 0 || minSize > maxSize, "Invalid size range: {0} to {1}", minSize, maxSize);
+        Check.argCondition(retainedSize < 0, "Retained size cannot be negative: {0}", retainedSize);
+        this.minShift = ceilShift(minSize);
+        final int maxShift = ceilShift(maxSize);
+        this.classes = new SizeClass[maxShift - minShift + 1];
+        final long classRetainedSize = retainedSize / classes.length;
+        int localClasses = 0;
+        for (int i = 0; i < classes.length; i++) {
+            final long size = 1L << (minShift + i);
+            // Classes larger than their share retain nothing
+            classes[i] = new SizeClass(i, size, (int) Math.min(classRetainedSize / size, 1 << 16));
+            if (size <= LOCAL_CLASS_MAX_SIZE) localClasses = i + 1;
+        }
+        this.localClasses = localClasses;
+        this.localCache = ThreadLocal.withInitial(() -> new LocalCache(this.localClasses));
+    }
+
+    /**
+     * Gets the capacity of the buffers lent for a required capacity.
+     *
+     * @param capacity the required capacity
+     * @return the smallest class fitting the capacity, the capacity itself if larger than all classes
+     */
+    public long classSize(long capacity) {
+        final int index = classIndex(capacity);
+        return index != -1 ? classes[index].size : capacity;
+    }
+
+    /**
+     * Borrows an empty buffer, to be given back with {@link #release(NetworkBuffer)}.
+     *
+     * @param capacity the required capacity
+     * @return a buffer of {@link #classSize(long)} capacity
+     */
+    public NetworkBuffer acquire(long capacity) {
+        final int index = classIndex(capacity);
+        if (index == -1) {
+            oversized.increment();
+            return NetworkBuffer.staticBuffer(capacity, MinecraftServer.process());
+        }
+        final SizeClass sizeClass = classes[index];
+        NetworkBuffer buffer = pollLocal(index);
+        if (buffer == null) buffer = sizeClass.queue.relaxedPoll();
+        if (buffer != null) {
+            sizeClass.hits.increment();
+        } else {
+            sizeClass.misses.increment();
+            buffer = allocateSlab(sizeClass);
+        }
+        NetworkBufferImpl.impl(buffer).lender = sizeClass;
+        final long inUse = sizeClass.inUse.incrementAndGet();
+        if (inUse > sizeClass.highWater.get()) sizeClass.highWater.accumulateAndGet(inUse, Math::max);
+        return buffer;
+    }
+
+    /**
+     * Gives back a buffer obtained from {@link #acquire(long)}, it must not be used afterward.
+     * <p>
+     * Buffers not currently lent by this pool are ignored.
+     *
+     * @param buffer the buffer to release
+     */
+    public void release(NetworkBuffer buffer) {
+        final NetworkBufferImpl impl = NetworkBufferImpl.impl(buffer);
+        if (!(impl.lender instanceof SizeClass sizeClass) || classes[sizeClass.index] != sizeClass) {
+            return; // Oversized, foreign, or already released
+        }
+        impl.lender = null;
+        sizeClass.inUse.decrementAndGet();
+        if (sizeClass.size != buffer.capacity() || sizeClass.retainedCount == 0) return; // Resized, or not retained
+        buffer.clear();
+        if (!offerLocal(sizeClass.index, buffer)) sizeClass.queue.relaxedOffer(buffer);
+    }
+
+    /**
+     * Gets the statistics of each size class, from the smallest.
+     *
+     * @return the class statistics
+     */
+    public List<SizeClassStats> stats() {
+        List<SizeClassStats> stats = new ArrayList<>(classes.length);
+        for (SizeClass sizeClass : classes) {
+            stats.add(new SizeClassStats(sizeClass.size,
+                    sizeClass.hits.sum(), sizeClass.misses.sum(),
+                    sizeClass.inUse.get(), sizeClass.highWater.get(),
+                    sizeClass.queue.size()));
+        }
+        return stats;
+    }
+
+    /**
+     * @return the number of buffers allocated for a capacity larger than all classes
+     */
+    public long oversizedCount() {
+        return oversized.sum();
+    }
+
+    /**
+     * Statistics of a size class.
+     *
+     * @param size      the capacity of the buffers
+     * @param hits      the number of buffers lent from retained ones
+     * @param misses    the number of buffers lent from a new slab
+     * @param inUse     the number of buffers currently lent
+     * @param highWater the highest number of buffers lent at once
+     * @param retained  the number of buffers waiting in the shared queue, excluding thread caches
+     */
+    public record SizeClassStats(long size, long hits, long misses, long inUse, long highWater, int retained) {
+    }
+
+    private NetworkBuffer allocateSlab(SizeClass sizeClass) {
+        final long size = sizeClass.size;
+        final int count = (int) Math.max(1, Math.min(SLAB_SIZE / size, sizeClass.retainedCount));
+        final MemorySegment slab = Arena.ofAuto().allocate(size * count);
+        // The slab is freed once all its buffers are unreachable
+        for (int i = 1; i < count; i++) {
+            final NetworkBuffer buffer = wrap(slab.asSlice(i * size, size));
+            if (!sizeClass.queue.relaxedOffer(buffer)) break;
+        }
+        return wrap(slab.asSlice(0, size));
+    }
+
+    private static NetworkBuffer wrap(MemorySegment segment) {
+        return NetworkBuffer.wrap(segment, 0, 0, MinecraftServer.process());
+    }
+
+    private @Nullable NetworkBuffer pollLocal(int index) {
+        if (index >= localClasses || Thread.currentThread().isVirtual()) return null;
+        final LocalCache cache = localCache.get();
+        final int count = cache.counts[index];
+        if (count == 0) return null;
+        final NetworkBuffer[] buffers = cache.buffers[index];
+        final NetworkBuffer buffer = buffers[count - 1];
+        buffers[count - 1] = null;
+        cache.counts[index] = count - 1;
+        return buffer;
+    }
+
+    private boolean offerLocal(int index, NetworkBuffer buffer) {
+        if (index >= localClasses || Thread.currentThread().isVirtual()) return false;
+        final LocalCache cache = localCache.get();
+        final int count = cache.counts[index];
+        if (count == LOCAL_CACHE_SIZE) return false;
+        cache.buffers[index][count] = buffer;
+        cache.counts[index] = count + 1;
+        return true;
+    }
+
+    private int classIndex(long capacity) {
+        final int index = Math.max(0, ceilShift(capacity) - minShift);
+        return index < classes.length ? index : -1;
+    }
+
+    private static int ceilShift(long size) {
+        return size <= 1 ? 0 : Long.SIZE - Long.numberOfLeadingZeros(size - 1);
+    }
+
+    private static final class SizeClass {
+        private final int index;
+        private final long size;
+        private final int retainedCount;
+        private final MessagePassingQueue<NetworkBuffer> queue;
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final AtomicLong inUse = new AtomicLong();
+        private final AtomicLong highWater = new AtomicLong();
+
+        private SizeClass(int index, long size, int retainedCount) {
+            this.index = index;
+            this.size = size;
+            this.retainedCount = retainedCount;
+            this.queue = ConcurrentMessageQueues.mpmcArrayQueue(Math.max(2, retainedCount));
+        }
+    }
+
+    private static final class LocalCache {
+        private final NetworkBuffer[][] buffers;
+        private final int[] counts;
+
+        private LocalCache(int classes) {
+            this.buffers = new NetworkBuffer[classes][LOCAL_CACHE_SIZE];
+            this.counts = new int[classes];
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package net.minestom.server.network.compression;
+
+import net.minestom.server.utils.validate.Check;
+
+import java.util.Map;
+import java.util.zip.Deflater;
+
+/**
+ * Chooses the compression level and threshold of each packet type.
+ */
+@FunctionalInterface
+public interface CompressionPolicy {
+    /**
+     * Gets the policy compressing every packet at the default level, from the server threshold.
+     *
+     * @return the default policy
+     */
+    static CompressionPolicy defaults() {
+        return CompressionPolicyImpl.DEFAULT;
+    }
+
+    /**
+     * Gets a policy using the fastest level for the frequent entity movement packets,
+     * and the best level for chunk data which is cached and sent to every viewer.
+     *
+     * @return the recommended policy
+     */
+    static CompressionPolicy recommended() {
+        return CompressionPolicyImpl.RECOMMENDED;
+    }
+
+    /**
+     * Creates a policy from a fixed set of rules.
+     *
+     * @param defaultRule the rule of the packet types missing from {@code rules}
+     * @param rules       the rule of each packet type
+     * @return a new policy
+     */
+    static CompressionPolicy of(Rule defaultRule, Map<Class<?>, Rule> rules) {
+        return new CompressionPolicyImpl(defaultRule, Map.copyOf(rules));
+    }
+
+    /**
+     * Gets the rule to compress {@code packetType} with.
+     *
+     * @param packetType the packet class
+     * @return the rule of the packet type
+     */
+    Rule rule(Class<?> packetType);
+
+    /**
+     * @param level     the {@link Deflater} level, from {@link Deflater#DEFAULT_COMPRESSION} to {@link Deflater#BEST_COMPRESSION}
+     * @param threshold the minimum payload size to compress, 0 to use the server threshold
+     */
+    record Rule(int level, int threshold) {
+        public static final Rule DEFAULT = new Rule(Deflater.DEFAULT_COMPRESSION, 0);
+        public static final Rule FAST = new Rule(Deflater.BEST_SPEED, 0);
+        public static final Rule BEST = new Rule(Deflater.BEST_COMPRESSION, 0);
+
+        public Rule {
+            Check.argCondition(level < Deflater.DEFAULT_COMPRESSION || level > Deflater.BEST_COMPRESSION,
+                    "Invalid compression level: {0}", level);
+            Check.argCondition(threshold < 0, "Threshold cannot be negative");
+        }
+    }
+}
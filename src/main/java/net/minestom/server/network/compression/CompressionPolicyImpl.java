@@ -0,0 +1,23 @@
+package net.minestom.server.network.compression;
+
+import net.minestom.server.network.packet.server.play.*;
+
+import java.util.Map;
+
+record CompressionPolicyImpl(CompressionPolicy.Rule defaultRule,
+                             Map<Class<?>, CompressionPolicy.Rule> rules) implements CompressionPolicy {
+    static final CompressionPolicy DEFAULT = new CompressionPolicyImpl(Rule.DEFAULT, Map.of());
+    static final CompressionPolicy RECOMMENDED = new CompressionPolicyImpl(Rule.DEFAULT, Map.of(
+            EntityPositionPacket.class, Rule.FAST,
+            EntityPositionAndRotationPacket.class, Rule.FAST,
+            EntityPositionSyncPacket.class, Rule.FAST,
+            EntityTeleportPacket.class, Rule.FAST,
+            EntityVelocityPacket.class, Rule.FAST,
+            ChunkDataPacket.class, Rule.BEST
+    ));
+
+    @Override
+    public Rule rule(Class<?> packetType) {
+        return rules.getOrDefault(packetType, defaultRule);
+    }
+}
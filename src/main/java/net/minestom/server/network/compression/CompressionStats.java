@@ -0,0 +1,93 @@
+package net.minestom.server.network.compression;
+
+import net.minestom.server.ServerFlag;
+import org.jetbrains.annotations.ApiStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Compression statistics per packet type, covering every packet compressed while enabled since the last {@link #reset()}.
+ * <p>
+ * Useful to tune a {@link CompressionPolicy}: packet types with a ratio close to 1 are not worth the time,
+ * frequent ones may prefer a faster level.
+ * <p>
+ * Disabled by default as every compressed packet is timed, see {@link ServerFlag#COMPRESSION_STATS}.
+ */
+public final class CompressionStats {
+    private static final Map<Class<?>, Counter> COUNTERS = new ConcurrentHashMap<>();
+    private static volatile boolean enabled = ServerFlag.COMPRESSION_STATS;
+
+    /**
+     * @param packetType        the packet class
+     * @param packets           the number of compressed packets
+     * @param uncompressedBytes the payload size before compression
+     * @param compressedBytes   the payload size after compression
+     * @param nanos             the time spent compressing
+     */
+    public record Entry(Class<?> packetType, long packets,
+                        long uncompressedBytes, long compressedBytes, long nanos) {
+        /**
+         * @return the compressed size divided by the uncompressed size, lower is better
+         */
+        public double ratio() {
+            return uncompressedBytes != 0 ? (double) compressedBytes / uncompressedBytes : 1;
+        }
+
+        public double nanosPerPacket() {
+            return packets != 0 ? (double) nanos / packets : 0;
+        }
+    }
+
+    /**
+     * Gets the statistics of every packet type compressed at least once.
+     *
+     * @return a snapshot of the statistics
+     */
+    public static List<Entry> snapshot() {
+        List<Entry> entries = new ArrayList<>(COUNTERS.size());
+        COUNTERS.forEach((type, counter) -> entries.add(new Entry(type, counter.packets.sum(),
+                counter.uncompressedBytes.sum(), counter.compressedBytes.sum(), counter.nanos.sum())));
+        return entries;
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Starts or stops recording the compressed packets, the statistics recorded so far are kept.
+     *
+     * @param enabled true to record the compressed packets
+     */
+    public static void setEnabled(boolean enabled) {
+        CompressionStats.enabled = enabled;
+    }
+
+    public static void reset() {
+        COUNTERS.clear();
+    }
+
+    @ApiStatus.Internal
+    public static void record(Class<?> packetType, long uncompressedBytes, long compressedBytes, long nanos) {
+        Counter counter = COUNTERS.get(packetType);
+        if (counter == null) counter = COUNTERS.computeIfAbsent(packetType, _ -> new Counter());
+        counter.packets.increment();
+        counter.uncompressedBytes.add(uncompressedBytes);
+        counter.compressedBytes.add(compressedBytes);
+        counter.nanos.add(nanos);
+    }
+
+    private static final class Counter {
+        final LongAdder packets = new LongAdder();
+        final LongAdder uncompressedBytes = new LongAdder();
+        final LongAdder compressedBytes = new LongAdder();
+        final LongAdder nanos = new LongAdder();
+    }
+
+    private CompressionStats() {
+    }
+}
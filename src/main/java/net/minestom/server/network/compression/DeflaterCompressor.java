@@ -0,0 +1,64 @@
+package net.minestom.server.network.compression;
+
+import net.minestom.server.network.NetworkBuffer;
+import net.minestom.server.network.packet.Packet;
+import net.minestom.server.utils.ObjectPool;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.zip.Deflater;
+
+final class DeflaterCompressor implements PacketCompressor {
+    // Deflaters keep their level across resets, so they are pooled per level. Index 0 is the default level
+    private static final AtomicReferenceArray<ObjectPool<Deflater>> POOLS =
+            new AtomicReferenceArray<>(Deflater.BEST_COMPRESSION + 2);
+
+    private final ClassValue<Setting> settings;
+
+    DeflaterCompressor(CompressionPolicy policy) {
+        this.settings = new ClassValue<>() {
+            @Override
+            protected Setting computeValue(Class<?> type) {
+                final CompressionPolicy.Rule rule = policy.rule(type);
+                return new Setting(rule.threshold(), pool(rule.level()));
+            }
+        };
+    }
+
+    @Override
+    public int threshold(Packet packet) {
+        return settings.get(packet.getClass()).threshold();
+    }
+
+    @Override
+    public long compress(Packet packet, NetworkBuffer input, long start, long length, NetworkBuffer output) {
+        final ObjectPool<Deflater> pool = settings.get(packet.getClass()).pool();
+        final ByteBuffer inputBuffer = NetworkBuffer.view(input, start, length);
+        final ByteBuffer outputBuffer = NetworkBuffer.view(output, output.writeIndex(), output.writableBytes());
+        Deflater deflater = pool.get();
+        try {
+            deflater.setInput(inputBuffer);
+            deflater.finish();
+            final int bytes = deflater.deflate(outputBuffer);
+            if (!deflater.finished()) {
+                throw new IndexOutOfBoundsException("Compressed payload exceeds output capacity");
+            }
+            output.advanceWrite(bytes);
+            return bytes;
+        } finally {
+            deflater.reset();
+            pool.add(deflater);
+        }
+    }
+
+    private static ObjectPool<Deflater> pool(int level) {
+        final int index = level + 1;
+        ObjectPool<Deflater> pool = POOLS.get(index);
+        if (pool != null) return pool;
+        pool = ObjectPool.pool(() -> new Deflater(level));
+        return POOLS.compareAndSet(index, null, pool) ? pool : POOLS.get(index);
+    }
+
+    private record Setting(int threshold, ObjectPool<Deflater> pool) {
+    }
+}
@@ -0,0 +1,58 @@
+package net.minestom.server.network.compression;
+
+import net.minestom.server.network.NetworkBuffer;
+import net.minestom.server.network.packet.Packet;
+
+/**
+ * Compresses the packets whose payload reaches the compression threshold.
+ * <p>
+ * The client only understands zlib streams, implementations are free to pick the library and the level,
+ * for example per packet type through a {@link CompressionPolicy}.
+ *
+ * @see net.minestom.server.MinecraftServer#setPacketCompressor(PacketCompressor)
+ */
+public interface PacketCompressor {
+    /**
+     * Gets a compressor using pooled {@link java.util.zip.Deflater deflaters} at the default level for every packet.
+     *
+     * @return the default compressor
+     */
+    static PacketCompressor deflater() {
+        return deflater(CompressionPolicy.defaults());
+    }
+
+    /**
+     * Gets a compressor using pooled {@link java.util.zip.Deflater deflaters}, configured by {@code policy}.
+     * <p>
+     * The policy is queried once per packet type.
+     *
+     * @param policy the per packet type level and threshold
+     * @return a new compressor
+     */
+    static PacketCompressor deflater(CompressionPolicy policy) {
+        return new DeflaterCompressor(policy);
+    }
+
+    /**
+     * Gets the minimum payload size for {@code packet} to be compressed.
+     * <p>
+     * Values below the server threshold are ignored, as the client rejects compressed packets smaller than it.
+     *
+     * @param packet the packet being written
+     * @return the minimum payload size to compress, in bytes
+     */
+    int threshold(Packet packet);
+
+    /**
+     * Compresses {@code length} bytes of {@code input} from {@code start}, into {@code output} at its write index.
+     *
+     * @param packet the packet being written
+     * @param input  the uncompressed payload
+     * @param start  the payload start index
+     * @param length the payload length
+     * @param output the buffer to write to, its write index is advanced
+     * @return the number of compressed bytes
+     * @throws IndexOutOfBoundsException if the compressed payload does not fit in {@code output}
+     */
+    long compress(Packet packet, NetworkBuffer input, long start, long length, NetworkBuffer output) throws IndexOutOfBoundsException;
+}
@@ -0,0 +1,4 @@
+@NotNullByDefault
+package net.minestom.server.network.compression;
+
+import org.jetbrains.annotations.NotNullByDefault;
@@ -195,9 +195,8 @@ public final class PacketReading {
         }
 
         // Decompress the packet into the pooled buffer and read the uncompressed packet from it
-        NetworkBuffer poolBuffer = PacketVanilla.PACKET_POOL.get();
+        NetworkBuffer poolBuffer = PacketVanilla.BUFFER_POOL.acquire(dataLength);
         try {
-            if (poolBuffer.capacity() < dataLength) poolBuffer.resize(dataLength);
             final NetworkBuffer slice = poolBuffer.slice(0, dataLength, 0, 0);
             slice.registries(buffer.registries());
             final long written = buffer.decompress(buffer.readIndex(), buffer.readableBytes(), slice);
@@ -206,7 +205,7 @@ public final class PacketReading {
             }
             return readPayload(slice.readOnly(), registry);
         } finally {
-            PacketVanilla.PACKET_POOL.add(poolBuffer);
+            PacketVanilla.BUFFER_POOL.release(poolBuffer);
         }
     }
 
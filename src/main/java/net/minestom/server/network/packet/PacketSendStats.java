@@ -0,0 +1,269 @@
+package net.minestom.server.network.packet;
+
+import net.minestom.server.network.ConnectionState;
+import net.minestom.server.network.NetworkBuffer;
+import net.minestom.server.network.packet.server.ServerPacket;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Packets sent to a connection per type, with their size before and after compression.
+ * <p>
+ * Each socket connection records its statistics from the thread writing to its socket. Counters are incremented
+ * atomically so that recording stays correct whichever thread writes, they are uncontended as a connection
+ * is written by a single thread at a time. {@link #global()} sums the statistics of every connection,
+ * including the closed ones. Counters are read without locking and may lag slightly behind the writes.
+ * <p>
+ * Raw buffers sent through {@link net.minestom.server.network.packet.server.BufferedPacket}
+ * may hold any number of packets, they are counted as a single packet of {@link #UNKNOWN_ID}.
+ */
+public final class PacketSendStats {
+    /**
+     * Packet id of the bytes sent without a known packet type.
+     */
+    public static final int UNKNOWN_ID = -1;
+
+    private static final VarHandle COUNTER = MethodHandles.arrayElementVarHandle(long[].class);
+    private static final VarHandle STATE_COUNTERS = MethodHandles.arrayElementVarHandle(long[][].class);
+    private static final ConnectionState[] STATES = ConnectionState.values();
+    // Packets, uncompressed bytes, sent bytes
+    private static final int FIELDS = 3;
+    // Packet types per state, the last slot counts unknown packets
+    private static final int[] SLOTS = new int[STATES.length];
+    // Header of a compressed frame, packet length and data length
+    private static final int HEADER_SIZE = 10;
+
+    private static final Set<PacketSendStats> OPEN = ConcurrentHashMap.newKeySet();
+    private static final PacketSendStats CLOSED = new PacketSendStats();
+
+    static {
+        for (ConnectionState state : STATES) {
+            int count = 0;
+            for (var ignored : registry(state)) count++;
+            SLOTS[state.ordinal()] = count + 1;
+        }
+    }
+
+    // Allocated on the first packet sent in each state
+    private final long[][] counters = new long[STATES.length][];
+
+    private PacketSendStats() {
+    }
+
+    /**
+     * Creates the statistics of a new connection, included in {@link #global()} until {@link #close()}.
+     *
+     * @return the connection statistics
+     */
+    @ApiStatus.Internal
+    public static PacketSendStats open() {
+        PacketSendStats stats = new PacketSendStats();
+        OPEN.add(stats);
+        return stats;
+    }
+
+    /**
+     * Gets the statistics of all connections since the server started.
+     *
+     * @return the statistics of every packet type sent at least once
+     */
+    public static List<Entry> global() {
+        PacketSendStats sum = new PacketSendStats();
+        // Closing connections move from OPEN to CLOSED under the same lock, each is counted once
+        synchronized (CLOSED) {
+            sum.add(CLOSED);
+            for (PacketSendStats stats : OPEN) sum.add(stats);
+        }
+        return sum.entries();
+    }
+
+    /**
+     * @param state             the connection state the packet has been sent in
+     * @param packetId          the packet id, {@link #UNKNOWN_ID} for raw buffers
+     * @param packetType        the packet class, null for raw buffers
+     * @param packets           the number of packets sent
+     * @param uncompressedBytes the size of the frames before compression
+     * @param sentBytes         the size of the frames written to the socket, before encryption
+     */
+    public record Entry(ConnectionState state, int packetId, @Nullable Class<?> packetType,
+                        long packets, long uncompressedBytes, long sentBytes) {
+        /**
+         * @return the sent size divided by the uncompressed size, lower is better
+         */
+        public double compressionRatio() {
+            return uncompressedBytes != 0 ? (double) sentBytes / uncompressedBytes : 1;
+        }
+    }
+
+    /**
+     * Gets the statistics of this connection.
+     *
+     * @return the statistics of every packet type sent at least once
+     */
+    public List<Entry> entries() {
+        List<Entry> entries = new ArrayList<>();
+        for (ConnectionState state : STATES) {
+            final long[] counters = counters(state.ordinal());
+            if (counters == null) continue;
+            final int slots = SLOTS[state.ordinal()];
+            for (int slot = 0; slot < slots; slot++) {
+                final int index = slot * FIELDS;
+                final long packets = get(counters, index);
+                if (packets == 0) continue;
+                final boolean unknown = slot == slots - 1;
+                entries.add(new Entry(state, unknown ? UNKNOWN_ID : slot,
+                        unknown ? null : registry(state).packetInfo(slot).packetClass(),
+                        packets, get(counters, index + 1), get(counters, index + 2)));
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * @return the number of packets sent to this connection
+     */
+    public long packets() {
+        return sum(0);
+    }
+
+    /**
+     * @return the number of bytes sent to this connection, before encryption
+     */
+    public long sentBytes() {
+        return sum(2);
+    }
+
+    /**
+     * Records a framed packet, must be called by the thread writing to the socket.
+     *
+     * @param state      the connection state the packet is sent in
+     * @param packetId   the packet id
+     * @param frame      the buffer holding the frame
+     * @param index      the frame start in the buffer
+     * @param length     the frame length
+     * @param compressed true if the frame uses the compressed format
+     */
+    @ApiStatus.Internal
+    public void record(ConnectionState state, int packetId, NetworkBuffer frame, long index, long length, boolean compressed) {
+        final long uncompressed = compressed ? uncompressedLength(frame, index, length) : length;
+        add(state, packetId, uncompressed, length);
+    }
+
+    /**
+     * Records bytes sent without a known packet type, must be called by the thread writing to the socket.
+     */
+    @ApiStatus.Internal
+    public void recordUnknown(ConnectionState state, long length) {
+        add(state, UNKNOWN_ID, length, length);
+    }
+
+    /**
+     * Gets the id of a packet in a state.
+     *
+     * @return the packet id, {@link #UNKNOWN_ID} if the packet cannot be sent in the state
+     */
+    @ApiStatus.Internal
+    public static int packetId(ConnectionState state, ServerPacket packet) {
+        try {
+            return registry(state).packetInfo(packet.getClass()).id();
+        } catch (IllegalStateException e) {
+            return UNKNOWN_ID;
+        }
+    }
+
+    /**
+     * Moves the statistics to the closed connections total.
+     */
+    @ApiStatus.Internal
+    public void close() {
+        synchronized (CLOSED) {
+            if (!OPEN.remove(this)) return;
+            CLOSED.add(this);
+        }
+    }
+
+    private void add(ConnectionState state, int packetId, long uncompressed, long sent) {
+        final int ordinal = state.ordinal();
+        long[] counters = (long[]) STATE_COUNTERS.getAcquire(this.counters, ordinal);
+        if (counters == null) {
+            final long[] allocated = new long[SLOTS[ordinal] * FIELDS];
+            final long[] witness = (long[]) STATE_COUNTERS.compareAndExchangeRelease(this.counters, ordinal, null, allocated);
+            counters = witness != null ? witness : allocated;
+        }
+        final int slots = SLOTS[ordinal];
+        final int index = (packetId >= 0 && packetId < slots - 1 ? packetId : slots - 1) * FIELDS;
+        increment(counters, index, 1);
+        increment(counters, index + 1, uncompressed);
+        increment(counters, index + 2, sent);
+    }
+
+    // Adds the counters of other statistics to these, only used on statistics not recording packets
+    private void add(PacketSendStats other) {
+        for (int ordinal = 0; ordinal < STATES.length; ordinal++) {
+            final long[] source = other.counters(ordinal);
+            if (source == null) continue;
+            long[] target = this.counters[ordinal];
+            if (target == null) {
+                target = new long[source.length];
+                this.counters[ordinal] = target;
+            }
+            for (int i = 0; i < source.length; i++) target[i] += get(source, i);
+        }
+    }
+
+    private long sum(int field) {
+        long sum = 0;
+        for (int ordinal = 0; ordinal < STATES.length; ordinal++) {
+            final long[] counters = counters(ordinal);
+            if (counters == null) continue;
+            for (int i = field; i < counters.length; i += FIELDS) sum += get(counters, i);
+        }
+        return sum;
+    }
+
+    // Compressed frame: [packet length][data length, 0 if not compressed][data]
+    private static long uncompressedLength(NetworkBuffer frame, long index, long length) {
+        // Local as the statistics may be recorded by multiple threads
+        final byte[] header = new byte[HEADER_SIZE];
+        final int count = (int) Math.min(header.length, length);
+        // Copied as the frame may be shared with other connections
+        frame.copyTo(index, header, 0, count);
+        final int dataLengthStart = varIntEnd(header, 0, count);
+        final int dataStart = varIntEnd(header, dataLengthStart, count);
+        if (dataStart == -1) return length;
+        int dataLength = 0;
+        for (int i = dataLengthStart; i < dataStart; i++) dataLength |= (header[i] & 0x7F) << (7 * (i - dataLengthStart));
+        return dataLength != 0 ? dataStart + dataLength : length;
+    }
+
+    private static int varIntEnd(byte[] bytes, int start, int count) {
+        if (start == -1) return -1;
+        for (int i = start; i < count && i < start + 5; i++) {
+            if ((bytes[i] & 0x80) == 0) return i + 1;
+        }
+        return -1;
+    }
+
+    private static PacketRegistry<? extends ServerPacket> registry(ConnectionState state) {
+        return PacketVanilla.SERVER_PACKET_PARSER.stateRegistry(state);
+    }
+
+    private long @Nullable [] counters(int ordinal) {
+        return (long[]) STATE_COUNTERS.getAcquire(counters, ordinal);
+    }
+
+    private static long get(long[] counters, int index) {
+        return (long) COUNTER.getOpaque(counters, index);
+    }
+
+    private static void increment(long[] counters, int index, long value) {
+        COUNTER.getAndAdd(counters, index, value);
+    }
+}
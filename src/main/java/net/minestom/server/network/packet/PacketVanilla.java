@@ -4,6 +4,7 @@ import net.minestom.server.MinecraftServer;
 import net.minestom.server.ServerFlag;
 import net.minestom.server.network.ConnectionState;
 import net.minestom.server.network.NetworkBuffer;
+import net.minestom.server.network.NetworkBufferPool;
 import net.minestom.server.network.packet.client.ClientPacket;
 import net.minestom.server.network.packet.client.common.*;
 import net.minestom.server.network.packet.client.configuration.ClientAcceptCodeOfConductPacket;
@@ -43,6 +44,14 @@ public final class PacketVanilla {
             () -> NetworkBuffer.staticBuffer(ServerFlag.POOLED_BUFFER_SIZE, MinecraftServer.process()),
             NetworkBuffer::clear);
 
+    /**
+     * Pool of buffers sized for their content, from 4KiB up to the largest packet with its length.
+     * <p>
+     * Used where the content size is known, to avoid growing the buffers of {@link #PACKET_POOL}.
+     */
+    public static final NetworkBufferPool BUFFER_POOL = new NetworkBufferPool(
+            4_096, ServerFlag.MAX_PACKET_SIZE + 5, ServerFlag.BUFFER_POOL_RETAINED_SIZE);
+
     public static ConnectionState nextClientState(ClientPacket packet, ConnectionState currentState) {
         return switch (packet) {
             case ClientHandshakePacket handshakePacket -> switch (handshakePacket.intent()) {
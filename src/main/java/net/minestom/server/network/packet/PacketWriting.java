@@ -1,8 +1,11 @@
 package net.minestom.server.network.packet;
 
+import net.minestom.server.MinecraftServer;
 import net.minestom.server.ServerFlag;
 import net.minestom.server.network.ConnectionState;
 import net.minestom.server.network.NetworkBuffer;
+import net.minestom.server.network.compression.CompressionStats;
+import net.minestom.server.network.compression.PacketCompressor;
 import net.minestom.server.network.packet.client.ClientPacket;
 import net.minestom.server.network.packet.server.ServerPacket;
 import org.jctools.queues.MessagePassingQueue;
@@ -70,8 +73,21 @@ public final class PacketWriting {
                                              NetworkBuffer.Type<? super T> type,
                                              int id, T packet,
                                              int compressionThreshold) throws IndexOutOfBoundsException {
+        writeFramedPacket(buffer, type, id, packet, compressionThreshold, MinecraftServer.getPacketCompressor());
+    }
+
+    /**
+     * Writes a framed packet, compressed by {@code compressor} when reaching the compression threshold.
+     * <p>
+     * Objects which are not a {@link Packet} are compressed by {@link NetworkBuffer#compress(long, long, NetworkBuffer)}.
+     */
+    public static <T> void writeFramedPacket(NetworkBuffer buffer,
+                                             NetworkBuffer.Type<? super T> type,
+                                             int id, T packet,
+                                             int compressionThreshold,
+                                             PacketCompressor compressor) throws IndexOutOfBoundsException {
         if (compressionThreshold <= 0) writeUncompressedFormat(buffer, type, id, packet);
-        else writeCompressedFormat(buffer, type, id, packet, compressionThreshold);
+        else writeCompressedFormat(buffer, type, id, packet, compressionThreshold, compressor);
     }
 
     private static <T> void writeUncompressedFormat(NetworkBuffer buffer,
@@ -88,7 +104,8 @@ public final class PacketWriting {
     private static <T> void writeCompressedFormat(NetworkBuffer buffer,
                                                   NetworkBuffer.Type<? super T> type,
                                                   int id, T packet,
-                                                  int compressionThreshold) throws IndexOutOfBoundsException {
+                                                  int compressionThreshold,
+                                                  PacketCompressor compressor) throws IndexOutOfBoundsException {
         // Compressed format https://minecraft.wiki/w/Minecraft_Wiki:Projects/wiki.vg_merge/Protocol#With_compression
         final long compressedIndex = buffer.advanceWrite(3);
         final long uncompressedIndex = buffer.advanceWrite(3);
@@ -96,18 +113,25 @@ public final class PacketWriting {
         buffer.write(NetworkBuffer.VAR_INT, id);
         buffer.write(type, packet);
         final long packetSize = buffer.writeIndex() - contentStart;
-        final boolean compressed = packetSize >= compressionThreshold;
+        // The client rejects compressed packets below the announced threshold
+        final int threshold = packet instanceof Packet p ? Math.max(compressionThreshold, compressor.threshold(p)) : compressionThreshold;
+        final boolean compressed = packetSize >= threshold;
         if (compressed) {
             // Write the compressed content into the pooled buffer
             // and compress it into the current buffer
-            NetworkBuffer input = PacketVanilla.PACKET_POOL.get();
+            NetworkBuffer input = PacketVanilla.BUFFER_POOL.acquire(packetSize);
             try {
-                if (input.capacity() < packetSize) input.resize(packetSize);
                 NetworkBuffer.copy(buffer, contentStart, input, 0, packetSize);
                 buffer.writeIndex(contentStart);
-                input.compress(0, packetSize, buffer);
+                if (CompressionStats.isEnabled()) {
+                    final long start = System.nanoTime();
+                    final long compressedSize = compress(compressor, packet, input, packetSize, buffer);
+                    CompressionStats.record(packet.getClass(), packetSize, compressedSize, System.nanoTime() - start);
+                } else {
+                    compress(compressor, packet, input, packetSize, buffer);
+                }
             } finally {
-                PacketVanilla.PACKET_POOL.add(input);
+                PacketVanilla.BUFFER_POOL.release(input);
             }
         }
         // Packet header (Packet + Data Length)
@@ -115,6 +139,12 @@ public final class PacketWriting {
         buffer.writeAt(uncompressedIndex, NetworkBuffer.VAR_INT_3, compressed ? (int) packetSize : 0);
     }
 
+    private static long compress(PacketCompressor compressor, Object packet,
+                                 NetworkBuffer input, long length, NetworkBuffer output) {
+        if (packet instanceof Packet p) return compressor.compress(p, input, 0, length, output);
+        return input.compress(0, length, output);
+    }
+
     public static NetworkBuffer allocateTrimmedPacket(ConnectionState state,
                                                       ClientPacket packet,
                                                       int compressionThreshold) {
@@ -132,9 +162,23 @@ public final class PacketWriting {
             ConnectionState state,
             T packet,
             int compressionThreshold) {
+        @SuppressWarnings("unchecked") // We assume ConnectionState and PacketRegistry are in sync
+        final PacketRegistry<? super T> registry = (PacketRegistry<? super T>) parser.stateRegistry(state);
+        final PacketRegistry.PacketInfo<? super T> packetInfo = registry.packetInfo(packet);
         NetworkBuffer buffer = PacketVanilla.PACKET_POOL.get();
         try {
-            return allocateTrimmedPacket(buffer, parser, state, packet, compressionThreshold);
+            writeFramedPacket(buffer, packetInfo.serializer(), packetInfo.id(), packet, compressionThreshold);
+            return buffer.copy(0, buffer.writeIndex());
+        } catch (IndexOutOfBoundsException e) {
+            // Borrow a buffer of the packet size instead of growing the pooled one
+            final long size = framedSizeOf(packetInfo.serializer(), packet, buffer);
+            NetworkBuffer large = PacketVanilla.BUFFER_POOL.acquire(size);
+            try {
+                writeFramedPacket(large, packetInfo.serializer(), packetInfo.id(), packet, compressionThreshold);
+                return large.copy(0, large.writeIndex());
+            } finally {
+                PacketVanilla.BUFFER_POOL.release(large);
+            }
         } finally {
             PacketVanilla.PACKET_POOL.add(buffer);
         }
@@ -163,19 +207,23 @@ public final class PacketWriting {
             writeFramedPacket(tmpBuffer, serializer, id, packet, compressionThreshold);
             return tmpBuffer.copy(0, tmpBuffer.writeIndex());
         } catch (IndexOutOfBoundsException e) {
-            final long sizeOf = serializer.sizeOf(packet, tmpBuffer.registries());
-            if (sizeOf > ServerFlag.MAX_PACKET_SIZE) {
-                throw new IllegalStateException("Packet too large: " + sizeOf);
-            }
-            // Add 15 bytes to account for the 3 potential varints in the packet header
-            // Packet Length - Data Length - Packet ID
-            tmpBuffer.resize(sizeOf + 15);
+            tmpBuffer.resize(framedSizeOf(serializer, packet, tmpBuffer));
             tmpBuffer.writeIndex(0);
             writeFramedPacket(tmpBuffer, serializer, id, packet, compressionThreshold);
             return tmpBuffer.copy(0, tmpBuffer.writeIndex());
         }
     }
 
+    private static <T> long framedSizeOf(NetworkBuffer.Type<? super T> serializer, T packet, NetworkBuffer buffer) {
+        final long sizeOf = serializer.sizeOf(packet, buffer.registries());
+        if (sizeOf > ServerFlag.MAX_PACKET_SIZE) {
+            throw new IllegalStateException("Packet too large: " + sizeOf);
+        }
+        // Add 15 bytes to account for the 3 potential varints in the packet header
+        // Packet Length - Data Length - Packet ID
+        return sizeOf + 15;
+    }
+
     public static <T> void writeQueue(NetworkBuffer buffer, MessagePassingQueue<T> queue, int minWrite,
                                       BiPredicate<NetworkBuffer, T> writer) {
         // The goal of this method is to write at the very least `minWrite` packets if the queue permits it.
@@ -192,7 +240,6 @@ public final class PacketWriting {
             } catch (IndexOutOfBoundsException e) {
                 success = false;
             }
-            assert !success || buffer.writeIndex() > 0;
             // Poll the packet only if fully written
             if (success) {
                 // Packet fully written
@@ -12,6 +12,7 @@ import org.jetbrains.annotations.ApiStatus;
 public record BufferedPacket(NetworkBuffer buffer,
                              long index, long length) implements SendablePacket {
     public BufferedPacket {
-        buffer = buffer.readOnly();
+        // Viewable buffers are already read-only and shared by every viewer, avoid a wrapper per viewer
+        if (!buffer.isReadOnly()) buffer = buffer.readOnly();
     }
 }
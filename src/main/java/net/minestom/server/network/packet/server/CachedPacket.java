@@ -96,6 +96,21 @@ public final class CachedPacket implements SendablePacket {
         PACKET.setRelease(this, null);
     }
 
+    /**
+     * Shares the framed packet currently cached by another cached packet.
+     *
+     * <p>Only valid when the packet supplier of this object would produce the
+     * same packet as the other one, until either is invalidated. The soft
+     * reference is shared, so both caches are reclaimed together. Nothing is
+     * shared when the other cache is empty or caching is disabled.
+     *
+     * @param other the cached packet holding the framed packet to share
+     */
+    public void share(CachedPacket other) {
+        if (!ServerFlag.CACHED_PACKET) return;
+        PACKET.setRelease(this, PACKET.getAcquire(other));
+    }
+
     /**
      * Returns the packet represented by this cached value.
      *
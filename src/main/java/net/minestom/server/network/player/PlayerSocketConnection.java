@@ -12,6 +12,8 @@ import net.minestom.server.network.ConnectionState;
 import net.minestom.server.network.NetworkBuffer;
 import net.minestom.server.network.packet.PacketParser;
 import net.minestom.server.network.packet.PacketReading;
+import net.minestom.server.network.packet.PacketRegistry;
+import net.minestom.server.network.packet.PacketSendStats;
 import net.minestom.server.network.packet.PacketVanilla;
 import net.minestom.server.network.packet.PacketWriting;
 import net.minestom.server.network.packet.client.ClientPacket;
@@ -39,12 +41,17 @@ import javax.crypto.SecretKey;
 import java.io.EOFException;
 import java.io.IOException;
 import java.net.SocketAddress;
+import java.nio.ByteBuffer;
 import java.nio.channels.SocketChannel;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.LockSupport;
 import java.util.zip.DataFormatException;
 
@@ -68,6 +75,14 @@ public class PlayerSocketConnection extends PlayerConnection {
             ClientLoginAcknowledgedPacket.class, // Handle config state
             ClientFinishConfigurationPacket.class // Enter play state
     );
+    // Runs the immediate packets of selector driven connections, thread-safe unlike builders
+    private static final ThreadFactory PROCESSOR_FACTORY = Thread.ofVirtual().name("Ms-Packet-Processor").factory();
+    // Views per gathering write, kept well below IOV_MAX
+    private static final int GATHER_VIEWS = 64;
+    private static final LongAdder COPIED_BYTES = new LongAdder();
+    private static final LongAdder ZERO_COPY_BYTES = new LongAdder();
+    private static final LongAdder SENT_PACKETS = new LongAdder();
+    private static final LongAdder WRITTEN_BYTES = new LongAdder();
 
     private final SocketChannel channel;
     private SocketAddress remoteAddress;
@@ -84,11 +99,19 @@ public class PlayerSocketConnection extends PlayerConnection {
     private int serverPort;
     private int protocolVersion;
 
-    private final NetworkBuffer readBuffer = NetworkBuffer.resizableBuffer(ServerFlag.POOLED_BUFFER_SIZE, MinecraftServer.process());
+    // Borrowed from ReadBuffers while a partial packet is buffered, only touched by the reading thread
+    private @Nullable NetworkBuffer readBuffer;
+    // Blocking reads wait on this smaller buffer while nothing is buffered
+    private @Nullable NetworkBuffer idleReadBuffer;
     private final MessagePassingQueue<SendablePacket> packetQueue = ConcurrentMessageQueues.mpscUnboundedArrayQueue(1024);
-    private final Thread readThread, writeThread;
+    private final @Nullable Thread readThread, writeThread;
+    // Set when driven by a selector loop instead of dedicated threads
+    private final @Nullable Runnable writeWakeup, readWakeup;
+    // Selector loops stop reading while immediate packets are processed on a virtual thread
+    private volatile boolean processing = false;
 
     private final AtomicLong sentPacketCounter = new AtomicLong();
+    private final PacketSendStats sendStats = PacketSendStats.open();
     // Index where compression starts, linked to `sentPacketCounter`
     // Used instead of a simple boolean so we can get proper timing for serialization
     private volatile long compressionStart = Long.MAX_VALUE;
@@ -99,22 +122,58 @@ public class PlayerSocketConnection extends PlayerConnection {
 
     private final ListenerHandle<PlayerPacketOutEvent> outgoing = EventDispatcher.getHandle(PlayerPacketOutEvent.class);
 
+    // Gathering writes, views over the scratch buffer interleaved with views over shared packet bodies
+    private final ByteBuffer[] gatherViews = new ByteBuffer[GATHER_VIEWS];
+    private int gatherCount, gatherOffset;
+    private long gatherRunStart; // Start of the scratch bytes not yet covered by a view
+    private long gatherBodyBytes; // Bytes of the batch referenced from packet bodies instead of the scratch buffer
+    private boolean gathering; // True while the queue is written through #writeQueueGathering
+    private long encryptStart = -1; // Index of the first packet to encrypt in the batch being written
+    private @Nullable NetworkBuffer gatherScratch = null; // Set until the batch is fully written
+
     public PlayerSocketConnection(SocketChannel channel, SocketAddress remoteAddress, Thread readThread, Thread writeThread) {
         super();
         this.channel = channel;
         this.remoteAddress = remoteAddress;
         this.writeThread = writeThread;
         this.readThread = readThread;
+        this.writeWakeup = null;
+        this.readWakeup = null;
+    }
+
+    /**
+     * Creates a connection driven by a selector loop, the channel must be non-blocking.
+     * <p>
+     * Packets processed immediately (login, status, etc.) may block, they run on a virtual thread
+     * and reading is paused until they are done, see {@link #isProcessing()}.
+     *
+     * @param writeWakeup called when packets are queued, or the connection is closed, and the loop should flush
+     * @param readWakeup  called once packets processed off the loop are done, and reading should resume
+     */
+    public PlayerSocketConnection(SocketChannel channel, SocketAddress remoteAddress, Runnable writeWakeup, Runnable readWakeup) {
+        super();
+        this.channel = channel;
+        this.remoteAddress = remoteAddress;
+        this.writeThread = null;
+        this.readThread = null;
+        this.writeWakeup = writeWakeup;
+        this.readWakeup = readWakeup;
     }
 
     public void read(PacketParser<ClientPacket> packetParser) throws IOException {
         NetworkBuffer readBuffer = this.readBuffer;
+        if (readBuffer == null) readBuffer = emptyReadBuffer();
         final long writeIndex = readBuffer.writeIndex();
         final int length = readBuffer.readChannel(channel);
+        // More data is likely waiting in the socket
+        final boolean filled = readBuffer.writableBytes() == 0;
 
         if (ServerFlag.PROXY_PROTOCOL && !attemptedProxyProtocolDetection) {
             final ProxyProtocolDecoder.Result result = ProxyProtocolDecoder.parse(remoteAddress, readBuffer);
-            if (result.status() == ProxyProtocolDecoder.Status.NEED_MORE) return;
+            if (result.status() == ProxyProtocolDecoder.Status.NEED_MORE) {
+                keepReadBuffer(readBuffer, 0, filled);
+                return;
+            }
             attemptedProxyProtocolDetection = true;
             if (result.status() == ProxyProtocolDecoder.Status.PRESENT) {
                 this.remoteAddress = result.clientAddress();
@@ -129,14 +188,61 @@ public class PlayerSocketConnection extends PlayerConnection {
             readBuffer.cipher(encryptionContext.decrypt(), writeIndex, length);
         }
         // Process packets
-        processPackets(readBuffer, packetParser);
+        final long requiredCapacity = processPackets(readBuffer, packetParser);
+        keepReadBuffer(readBuffer, requiredCapacity, filled);
+    }
+
+    private NetworkBuffer emptyReadBuffer() {
+        if (writeWakeup != null) {
+            // Selector loops only read once data is available, nothing is held between reads
+            final NetworkBuffer readBuffer = ReadBuffers.acquire(ServerFlag.POOLED_BUFFER_SIZE);
+            this.readBuffer = readBuffer;
+            return readBuffer;
+        }
+        NetworkBuffer idleReadBuffer = this.idleReadBuffer;
+        if (idleReadBuffer == null) {
+            idleReadBuffer = ReadBuffers.allocate(ServerFlag.SOCKET_IDLE_READ_BUFFER_SIZE);
+            this.idleReadBuffer = idleReadBuffer;
+        }
+        return idleReadBuffer;
+    }
+
+    /**
+     * Decides where the data left after processing is kept until the next read.
+     * <p>
+     * Borrowed buffers are given back once empty, and data is moved to another size class
+     * when the buffer is too small for the next packet, or oversized for it after a large packet.
+     */
+    private void keepReadBuffer(NetworkBuffer buffer, long requiredCapacity, boolean filled) {
+        final boolean idle = buffer == idleReadBuffer;
+        final long readableBytes = buffer.readableBytes();
+        if (readableBytes == 0 && !filled) {
+            if (idle) buffer.clear();
+            else ReadBuffers.release(buffer);
+            this.readBuffer = null;
+            return;
+        }
+        final long capacity = ReadBuffers.classSize(Math.max(requiredCapacity, readableBytes));
+        if (!idle && buffer.capacity() == capacity) {
+            this.readBuffer = buffer;
+            return;
+        }
+        NetworkBuffer target = ReadBuffers.acquire(capacity);
+        NetworkBuffer.copy(buffer, buffer.readIndex(), target, 0, readableBytes);
+        target.writeIndex(readableBytes);
+        if (idle) buffer.clear();
+        else ReadBuffers.release(buffer);
+        this.readBuffer = target;
     }
 
     private boolean compression() {
         return compressionStart != Long.MAX_VALUE;
     }
 
-    private void processPackets(NetworkBuffer readBuffer, PacketParser<ClientPacket> packetParser) {
+    /**
+     * @return the capacity required to read the next packet, 0 if the buffer is large enough
+     */
+    private long processPackets(NetworkBuffer readBuffer, PacketParser<ClientPacket> packetParser) {
         final ConnectionState startingState = getClientState();
         final PacketReading.Result<ClientPacket> result;
         try {
@@ -149,42 +255,78 @@ public class PlayerSocketConnection extends PlayerConnection {
         } catch (DataFormatException e) {
             MinecraftServer.getExceptionManager().handleException(e);
             disconnect();
-            return;
+            return 0;
         }
-        switch (result) {
+        return switch (result) {
             case PacketReading.Result.Success<ClientPacket> success -> {
-                for (PacketReading.ParsedPacket<ClientPacket> parsedPacket : success.packets()) {
-                    final ClientPacket packet = parsedPacket.packet();
-
-                    try {
-                        final boolean processImmediately = IMMEDIATE_PROCESS_PACKETS.contains(packet.getClass());
-                        if (processImmediately) {
-                            // Interpret the packet using the connection state we received it.
-                            MinecraftServer.getPacketListenerManager().processClientPacket(packet, this);
-                        } else {
-                            // To be processed during the next player tick
-                            final Player player = getPlayer();
-                            assert player != null;
-                            player.addPacketToQueue(packet);
+                final List<PacketReading.ParsedPacket<ClientPacket>> packets = success.packets();
+                final Runnable readWakeup = this.readWakeup;
+                if (readWakeup != null && containsImmediate(packets)) {
+                    // Handlers may block (e.g. session authentication), keep them away from the selector
+                    this.processing = true;
+                    PROCESSOR_FACTORY.newThread(() -> {
+                        try {
+                            processPackets(packets);
+                        } finally {
+                            this.processing = false;
+                            readWakeup.run();
                         }
-                    } catch (Exception e) {
-                        MinecraftServer.getExceptionManager().handleException(e);
-                    }
+                    }).start();
+                } else {
+                    processPackets(packets);
                 }
                 // Compact in case of incomplete read
                 readBuffer.compact();
+                yield 0;
             }
-            case PacketReading.Result.Empty<ClientPacket> ignored -> {
-                // Empty
-            }
+            case PacketReading.Result.Empty<ClientPacket> ignored -> 0; // Empty
             case PacketReading.Result.Failure<ClientPacket> failure -> {
-                // Resize for next read
+                // Move to a larger buffer for next read
                 final long requiredCapacity = failure.requiredCapacity();
                 assert requiredCapacity > readBuffer.capacity() :
                         "New capacity should be greater than the current one: " + requiredCapacity + " <= " + readBuffer.capacity();
-                readBuffer.resize(requiredCapacity);
+                yield requiredCapacity;
             }
+        };
+    }
+
+    private void processPackets(List<PacketReading.ParsedPacket<ClientPacket>> packets) {
+        for (PacketReading.ParsedPacket<ClientPacket> parsedPacket : packets) {
+            final ClientPacket packet = parsedPacket.packet();
+
+            try {
+                final boolean processImmediately = IMMEDIATE_PROCESS_PACKETS.contains(packet.getClass());
+                if (processImmediately) {
+                    // Interpret the packet using the connection state we received it.
+                    MinecraftServer.getPacketListenerManager().processClientPacket(packet, this);
+                } else {
+                    // To be processed during the next player tick
+                    final Player player = getPlayer();
+                    assert player != null;
+                    player.addPacketToQueue(packet);
+                }
+            } catch (Exception e) {
+                MinecraftServer.getExceptionManager().handleException(e);
+            }
+        }
+    }
+
+    private static boolean containsImmediate(List<PacketReading.ParsedPacket<ClientPacket>> packets) {
+        for (PacketReading.ParsedPacket<ClientPacket> parsedPacket : packets) {
+            if (IMMEDIATE_PROCESS_PACKETS.contains(parsedPacket.packet().getClass())) return true;
         }
+        return false;
+    }
+
+    /**
+     * Gets if packets of this selector driven connection are being processed off the loop,
+     * no data should be read until {@code readWakeup} is called.
+     *
+     * @return true if reading is paused
+     */
+    @ApiStatus.Internal
+    public boolean isProcessing() {
+        return processing;
     }
 
     /**
@@ -223,8 +365,13 @@ public class PlayerSocketConnection extends PlayerConnection {
         unlockWriteThread();
     }
 
-    // Requires ServerFlag.FASTER_SOCKET_WRITES
+    // Requires ServerFlag.FASTER_SOCKET_WRITES, unless driven by a selector loop
     private void unlockWriteThread() {
+        final Runnable writeWakeup = this.writeWakeup;
+        if (writeWakeup != null) {
+            if (!this.writeSignaled.compareAndExchange(false, true)) writeWakeup.run();
+            return;
+        }
         if (!ServerFlag.FASTER_SOCKET_WRITES) return;
         if (!this.writeSignaled.compareAndExchange(false, true)) {
             LockSupport.unpark(writeThread);
@@ -339,12 +486,41 @@ public class PlayerSocketConnection extends PlayerConnection {
         final long start = buffer.writeIndex();
         final boolean result = writePacketSync(buffer, sendable, compressed);
         if (!result) return false;
-        // Encrypt data
+        // Encryption support, the whole batch is encrypted at once by #encryptBatch
+        if (encryptStart < 0 && encryptionContext != null) this.encryptStart = start;
+        return true;
+    }
+
+    /**
+     * Encrypts the written batch in a single cipher pass instead of once per packet.
+     * Packets written before encryption got enabled are left untouched.
+     */
+    private void encryptBatch(NetworkBuffer buffer) {
+        final long start = this.encryptStart;
+        if (start < 0) return;
+        this.encryptStart = -1;
         final long length = buffer.writeIndex() - start;
         final EncryptionContext encryptionContext = this.encryptionContext;
-        if (encryptionContext != null && length > 0) { // Encryption support
+        if (encryptionContext != null && length > 0) {
             buffer.cipher(encryptionContext.encrypt(), start, length);
         }
+    }
+
+    private boolean writeServerPacket(NetworkBuffer buffer, ConnectionState state, ServerPacket packet, int compressionThreshold) {
+        @SuppressWarnings("unchecked") // We assume ConnectionState and PacketRegistry are in sync
+        final PacketRegistry<ServerPacket> registry = (PacketRegistry<ServerPacket>) PacketVanilla.SERVER_PACKET_PARSER.stateRegistry(state);
+        final PacketRegistry.PacketInfo<ServerPacket> packetInfo = registry.packetInfo(packet);
+        final long start = buffer.writeIndex();
+        PacketWriting.writeFramedPacket(buffer, packetInfo, packet, compressionThreshold);
+        sendStats.record(state, packetInfo.id(), buffer, start, buffer.writeIndex() - start, compressionThreshold > 0);
+        return true;
+    }
+
+    private boolean writeFramedBody(NetworkBuffer buffer, ConnectionState state, ServerPacket packet,
+                                    NetworkBuffer body, int compressionThreshold) {
+        final long length = body.capacity();
+        if (!writeBuffer(buffer, body, 0, length)) return false;
+        sendStats.record(state, PacketSendStats.packetId(state, packet), body, 0, length, compressionThreshold > 0);
         return true;
     }
 
@@ -376,27 +552,27 @@ public class PlayerSocketConnection extends PlayerConnection {
                     var nextState = PacketVanilla.nextServerState(serverPacket, state);
                     if (nextState != state) setServerState(nextState);
 
-                    PacketWriting.writeFramedPacket(buffer, state, serverPacket, compressionThreshold);
-                    yield true;
+                    yield writeServerPacket(buffer, state, serverPacket, compressionThreshold);
                 }
                 case FramedPacket framedPacket -> {
                     final NetworkBuffer body = framedPacket.body();
-                    yield writeBuffer(buffer, body, 0, body.capacity());
+                    yield writeFramedBody(buffer, state, framedPacket.packet(), body, compressionThreshold);
                 }
                 case CachedPacket cachedPacket -> {
                     final NetworkBuffer body = cachedPacket.body(state);
                     if (body != null) {
-                        yield writeBuffer(buffer, body, 0, body.capacity());
+                        yield writeFramedBody(buffer, state, cachedPacket.packet(state), body, compressionThreshold);
                     } else {
-                        PacketWriting.writeFramedPacket(buffer, state, cachedPacket.packet(state), compressionThreshold);
-                        yield true;
+                        yield writeServerPacket(buffer, state, cachedPacket.packet(state), compressionThreshold);
                     }
                 }
                 case BufferedPacket bufferedPacket -> {
                     final NetworkBuffer rawBuffer = bufferedPacket.buffer();
                     final long index = bufferedPacket.index();
                     final long length = bufferedPacket.length();
-                    yield writeBuffer(buffer, rawBuffer, index, length);
+                    final boolean written = writeBuffer(buffer, rawBuffer, index, length);
+                    if (written) sendStats.recordUnknown(state, length);
+                    yield written;
                 }
             };
         } catch (IndexOutOfBoundsException exception) {
@@ -406,6 +582,16 @@ public class PlayerSocketConnection extends PlayerConnection {
     }
 
     private boolean writeBuffer(NetworkBuffer buffer, NetworkBuffer body, long index, long length) {
+        // Reference the immutable body, unless encryption got enabled mid-batch
+        if (gathering && encryptionContext == null) {
+            // Keep room for the scratch runs before and after it
+            if (gatherCount + 3 > gatherViews.length) return false;
+            closeScratchRun(buffer);
+            gatherViews[gatherCount++] = NetworkBuffer.view(body, index, length);
+            this.gatherBodyBytes += length;
+            ZERO_COPY_BYTES.add(length);
+            return true;
+        }
         if (buffer.writableBytes() < length) {
             // Not enough space in the buffer
             return false;
@@ -418,18 +604,8 @@ public class PlayerSocketConnection extends PlayerConnection {
     private @Nullable NetworkBuffer writeLeftover = null;
 
     public void flushSync() throws IOException {
-        // Write leftover if any
-        NetworkBuffer leftover = this.writeLeftover;
-        if (leftover != null) {
-            final boolean success = leftover.writeChannel(channel);
-            if (success) {
-                this.writeLeftover = null;
-                PacketVanilla.PACKET_POOL.add(leftover);
-            } else {
-                // Failed to write the whole leftover, try again next flush
-                return;
-            }
-        }
+        // Write leftover if any, try again next flush if it could not be fully written
+        if (!flushLeftover()) return;
         // Consume queued packets
         var packetQueue = this.packetQueue;
         if (packetQueue.isEmpty()) {
@@ -450,42 +626,250 @@ public class PlayerSocketConnection extends PlayerConnection {
             }
         }
         if (!channel.isConnected()) throw new EOFException("Channel is closed");
+        writeQueue();
+    }
+
+    /**
+     * Writes as much queued data as the non-blocking channel accepts, without waiting for new packets.
+     * <p>
+     * Used by the selector loop, which should register write interest when this returns false.
+     *
+     * @return true if everything queued has been written
+     */
+    @ApiStatus.Internal
+    public boolean flushNonBlocking() throws IOException {
+        // Packets queued from now on will signal again
+        this.writeSignaled.set(false);
+        if (!flushLeftover()) return false;
+        var packetQueue = this.packetQueue;
+        while (!packetQueue.isEmpty()) {
+            if (!channel.isConnected()) throw new EOFException("Channel is closed");
+            final int size = packetQueue.size();
+            writeQueue();
+            if (this.writeLeftover != null || this.gatherScratch != null) return false;
+            if (packetQueue.size() >= size) break; // Could not make progress, e.g. oversized packet
+        }
+        return true;
+    }
+
+    private boolean flushLeftover() throws IOException {
+        if (this.gatherScratch != null && !flushGathered()) return false;
+        NetworkBuffer leftover = this.writeLeftover;
+        if (leftover == null) return true;
+        final boolean success = writeChannel(leftover);
+        if (!success) return false;
+        this.writeLeftover = null;
+        PacketVanilla.PACKET_POOL.add(leftover);
+        return true;
+    }
+
+    private void writeQueue() throws IOException {
+        if (ServerFlag.SOCKET_GATHERING_WRITES && encryptionContext == null) {
+            writeQueueGathering();
+            return;
+        }
+        var packetQueue = this.packetQueue;
         NetworkBuffer buffer = PacketVanilla.PACKET_POOL.get();
         // Write to buffer
-        PacketWriting.writeQueue(buffer, packetQueue, 1, (b, packet) -> {
-            final boolean compressed = sentPacketCounter.get() > compressionStart;
-            final boolean success = writeSendable(b, packet, compressed);
-            if (success) sentPacketCounter.getAndIncrement();
-            return success;
-        });
+        try {
+            PacketWriting.writeQueue(buffer, packetQueue, 1, this::writeQueued);
+            encryptBatch(buffer);
+        } finally {
+            this.encryptStart = -1; // Do not leak a stale index into the next batch
+        }
+        COPIED_BYTES.add(buffer.writeIndex());
         // Write to channel
-        final boolean success = buffer.writeChannel(channel);
+        final boolean success = writeChannel(buffer);
         // Keep the buffer if not fully written
         if (success) PacketVanilla.PACKET_POOL.add(buffer);
         else this.writeLeftover = buffer;
     }
 
+    /**
+     * Same as the copying path, except that framed, cached and buffered packet bodies are not copied
+     * into the scratch buffer but handed to the channel in a single gathering write.
+     */
+    private void writeQueueGathering() throws IOException {
+        NetworkBuffer scratch = PacketVanilla.PACKET_POOL.get();
+        this.gatherCount = 0;
+        this.gatherOffset = 0;
+        this.gatherRunStart = 0;
+        this.gatherBodyBytes = 0;
+        this.gathering = true;
+        try {
+            PacketWriting.writeQueue(scratch, packetQueue, 1, this::writeQueued);
+            encryptBatch(scratch); // Encryption may have been enabled mid-batch
+        } finally {
+            this.gathering = false;
+            this.encryptStart = -1; // Do not leak a stale index into the next batch
+        }
+        closeScratchRun(scratch);
+        COPIED_BYTES.add(scratch.writeIndex());
+        this.gatherScratch = scratch;
+        flushGathered();
+    }
+
+    private boolean writeChannel(NetworkBuffer buffer) throws IOException {
+        final long readIndex = buffer.readIndex();
+        final boolean success = buffer.writeChannel(channel);
+        WRITTEN_BYTES.add(buffer.readIndex() - readIndex);
+        return success;
+    }
+
+    private boolean writeQueued(NetworkBuffer buffer, SendablePacket packet) {
+        final boolean compressed = sentPacketCounter.get() > compressionStart;
+        final boolean success = writeSendable(buffer, packet, compressed);
+        // Gathered bodies are not copied, the scratch buffer may still be empty
+        assert !success || buffer.writeIndex() + (gathering ? gatherBodyBytes : 0) > 0;
+        if (success) {
+            sentPacketCounter.getAndIncrement();
+            SENT_PACKETS.increment();
+        }
+        return success;
+    }
+
+    private void closeScratchRun(NetworkBuffer scratch) {
+        final long start = this.gatherRunStart;
+        final long end = scratch.writeIndex();
+        if (end == start) return;
+        gatherViews[gatherCount++] = NetworkBuffer.view(scratch, start, end - start);
+        this.gatherRunStart = end;
+    }
+
+    /**
+     * @return true if the gathered batch has been fully written
+     */
+    private boolean flushGathered() throws IOException {
+        final ByteBuffer[] views = this.gatherViews;
+        final int count = this.gatherCount;
+        int offset = this.gatherOffset;
+        if (offset < count) {
+            WRITTEN_BYTES.add(channel.write(views, offset, count - offset));
+            while (offset < count && !views[offset].hasRemaining()) views[offset++] = null;
+            this.gatherOffset = offset;
+            if (offset < count) return false;
+        }
+        this.gatherCount = 0;
+        this.gatherOffset = 0;
+        final NetworkBuffer scratch = this.gatherScratch;
+        this.gatherScratch = null;
+        if (scratch != null) PacketVanilla.PACKET_POOL.add(scratch);
+        return true;
+    }
+
+    /**
+     * Gets the number of packets written to the socket buffers, by all socket connections.
+     *
+     * @return the sent packet count
+     */
+    public static long sentPackets() {
+        return SENT_PACKETS.sum();
+    }
+
+    /**
+     * Gets the number of bytes accepted by the sockets, by all socket connections.
+     * <p>
+     * Unlike {@link #copiedBytes()} and {@link #zeroCopyBytes()}, data still waiting for the socket is not counted.
+     *
+     * @return the written byte count
+     */
+    public static long writtenBytes() {
+        return WRITTEN_BYTES.sum();
+    }
+
+    /**
+     * Gets the number of bytes serialized or copied into write buffers, by all socket connections.
+     *
+     * @return the copied byte count
+     */
+    public static long copiedBytes() {
+        return COPIED_BYTES.sum();
+    }
+
+    /**
+     * Gets the number of bytes written straight from shared packet bodies, by all socket connections.
+     *
+     * @return the zero-copy byte count
+     * @see ServerFlag#SOCKET_GATHERING_WRITES
+     */
+    public static long zeroCopyBytes() {
+        return ZERO_COPY_BYTES.sum();
+    }
+
+    /**
+     * Gets the memory held by the read buffers of all socket connections.
+     * <p>
+     * Connections only borrow a pooled buffer while a packet is partially received,
+     * blocking reads otherwise wait on a {@link ServerFlag#SOCKET_IDLE_READ_BUFFER_SIZE} buffer.
+     *
+     * @return the read buffer memory, in bytes
+     */
+    public static long readBufferMemory() {
+        return ReadBuffers.memory();
+    }
+
     @Override
     public void disconnect() {
         super.disconnect();
-        LockSupport.unpark(writeThread);
+        final Runnable writeWakeup = this.writeWakeup;
+        if (writeWakeup != null) writeWakeup.run(); // Final flush and close
+        else LockSupport.unpark(writeThread);
     }
 
-    public Thread readThread() {
+    /**
+     * @return the reading thread, null if driven by a selector loop
+     */
+    public @Nullable Thread readThread() {
         return readThread;
     }
 
-    public Thread writeThread() {
+    /**
+     * @return the writing thread, null if driven by a selector loop
+     */
+    public @Nullable Thread writeThread() {
         return writeThread;
     }
 
+    /**
+     * Gives back the read buffers, must be called by the reading thread once it stopped reading.
+     */
+    @ApiStatus.Internal
+    public void releaseReadBuffers() {
+        final NetworkBuffer readBuffer = this.readBuffer;
+        if (readBuffer != null) {
+            ReadBuffers.release(readBuffer);
+            this.readBuffer = null;
+        }
+        final NetworkBuffer idleReadBuffer = this.idleReadBuffer;
+        if (idleReadBuffer != null) {
+            ReadBuffers.free(idleReadBuffer);
+            this.idleReadBuffer = null;
+        }
+    }
+
+    /**
+     * Gets the packets sent to this connection per type.
+     *
+     * @return the connection send statistics
+     */
+    public PacketSendStats sendStats() {
+        return sendStats;
+    }
+
     @ApiStatus.Internal
     public void cleanup() {
+        sendStats.close();
         final var writeLeftover = this.writeLeftover;
         if (writeLeftover != null) {
             PacketVanilla.PACKET_POOL.add(writeLeftover);
             this.writeLeftover = null;
         }
+        final var gatherScratch = this.gatherScratch;
+        if (gatherScratch != null) {
+            Arrays.fill(gatherViews, null);
+            PacketVanilla.PACKET_POOL.add(gatherScratch);
+            this.gatherScratch = null;
+        }
     }
 
     record EncryptionContext(Cipher encrypt, Cipher decrypt) {
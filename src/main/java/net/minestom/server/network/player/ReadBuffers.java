@@ -0,0 +1,67 @@
+package net.minestom.server.network.player;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.ServerFlag;
+import net.minestom.server.network.NetworkBuffer;
+import net.minestom.server.network.packet.PacketVanilla;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Read buffers lent to socket connections while they hold partially received packets.
+ * <p>
+ * Buffers are borrowed from {@link PacketVanilla#BUFFER_POOL}, with at least {@link ServerFlag#POOLED_BUFFER_SIZE} capacity.
+ */
+final class ReadBuffers {
+    private static final LongAdder MEMORY = new LongAdder();
+
+    private ReadBuffers() {
+    }
+
+    /**
+     * Gets the capacity of the buffer lent for a required capacity.
+     *
+     * @param capacity the required capacity
+     * @return the pool size class fitting the capacity, never below {@link ServerFlag#POOLED_BUFFER_SIZE}
+     */
+    static long classSize(long capacity) {
+        return PacketVanilla.BUFFER_POOL.classSize(Math.max(capacity, ServerFlag.POOLED_BUFFER_SIZE));
+    }
+
+    /**
+     * Borrows an empty buffer, to be given back with {@link #release(NetworkBuffer)}.
+     *
+     * @param capacity the required capacity
+     * @return a buffer of {@link #classSize(long)} capacity
+     */
+    static NetworkBuffer acquire(long capacity) {
+        final NetworkBuffer buffer = PacketVanilla.BUFFER_POOL.acquire(Math.max(capacity, ServerFlag.POOLED_BUFFER_SIZE));
+        MEMORY.add(buffer.capacity());
+        return buffer;
+    }
+
+    static void release(NetworkBuffer buffer) {
+        MEMORY.add(-buffer.capacity());
+        PacketVanilla.BUFFER_POOL.release(buffer);
+    }
+
+    /**
+     * Allocates a buffer outside of the pool, only counted in {@link #memory()}.
+     * Must be given back with {@link #free(NetworkBuffer)}.
+     */
+    static NetworkBuffer allocate(long capacity) {
+        MEMORY.add(capacity);
+        return NetworkBuffer.staticBuffer(capacity, MinecraftServer.process());
+    }
+
+    static void free(NetworkBuffer buffer) {
+        MEMORY.add(-buffer.capacity());
+    }
+
+    /**
+     * @return the capacity of all buffers lent or allocated, in bytes
+     */
+    static long memory() {
+        return MEMORY.sum();
+    }
+}
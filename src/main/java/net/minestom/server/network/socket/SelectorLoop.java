@@ -0,0 +1,203 @@
+package net.minestom.server.network.socket;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.ServerFlag;
+import net.minestom.server.network.packet.PacketParser;
+import net.minestom.server.network.player.PlayerSocketConnection;
+import net.minestom.server.utils.collection.ConcurrentMessageQueues;
+import org.jctools.queues.MessagePassingQueue;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.SocketException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Drives the reads and writes of many non-blocking connections from a single platform thread.
+ * <p>
+ * Connections are registered for reading, write interest is only set while the socket
+ * could not accept everything queued. Packets queued from other threads reach the loop through
+ * {@link #requestWrite(PlayerSocketConnection)}.
+ * <p>
+ * Reading stops while a connection processes its immediate packets off the loop, as their handlers may block,
+ * and resumes through {@link #resumeRead(PlayerSocketConnection)}.
+ * <p>
+ * Connections which have not sent anything for {@link ServerFlag#SOCKET_TIMEOUT} are closed.
+ */
+final class SelectorLoop {
+    private static final long TIMEOUT_CHECK_INTERVAL = 1000; // Milliseconds
+
+    private final Server server;
+    private final PacketParser.Client packetParser;
+    private final Selector selector;
+    private final Thread thread;
+    private long lastTimeoutCheck = System.nanoTime();
+
+    private final MessagePassingQueue<PlayerSocketConnection> registrations = ConcurrentMessageQueues.mpscUnboundedArrayQueue(64);
+    private final MessagePassingQueue<PlayerSocketConnection> writeRequests = ConcurrentMessageQueues.mpscUnboundedArrayQueue(1024);
+    private final MessagePassingQueue<PlayerSocketConnection> readRequests = ConcurrentMessageQueues.mpscUnboundedArrayQueue(64);
+
+    SelectorLoop(Server server, PacketParser.Client packetParser, int index) throws IOException {
+        this.server = server;
+        this.packetParser = packetParser;
+        this.selector = Selector.open();
+        this.thread = Thread.ofPlatform().daemon().name("Ms-Socket-Selector-" + index).unstarted(this::run);
+    }
+
+    void start() {
+        thread.start();
+    }
+
+    void register(PlayerSocketConnection connection) {
+        registrations.relaxedOffer(connection);
+        selector.wakeup();
+    }
+
+    void requestWrite(PlayerSocketConnection connection) {
+        writeRequests.relaxedOffer(connection);
+        selector.wakeup();
+    }
+
+    void resumeRead(PlayerSocketConnection connection) {
+        readRequests.relaxedOffer(connection);
+        selector.wakeup();
+    }
+
+    void stop() {
+        selector.wakeup();
+    }
+
+    private void run() {
+        try {
+            final boolean timeout = ServerFlag.SOCKET_TIMEOUT > 0;
+            while (server.isOpen()) {
+                selector.select(timeout ? TIMEOUT_CHECK_INTERVAL : 0);
+                registrations.drain(this::registerNow);
+                readRequests.drain(this::updateInterest);
+                writeRequests.drain(this::flush);
+                Iterator<SelectionKey> iterator = selector.selectedKeys().iterator();
+                while (iterator.hasNext()) {
+                    final SelectionKey key = iterator.next();
+                    iterator.remove();
+                    final Registration registration = (Registration) key.attachment();
+                    final PlayerSocketConnection connection = registration.connection;
+                    if (key.isValid() && key.isReadable()) {
+                        registration.lastRead = System.nanoTime();
+                        read(connection);
+                    }
+                    if (key.isValid() && key.isWritable()) flush(connection);
+                }
+                if (timeout) closeTimedOut();
+            }
+        } catch (IOException e) {
+            MinecraftServer.getExceptionManager().handleException(e);
+        } finally {
+            for (SelectionKey key : selector.keys()) {
+                close(((Registration) key.attachment()).connection);
+            }
+            try {
+                selector.close();
+            } catch (IOException _) {
+                // Ignore
+            }
+        }
+    }
+
+    private void registerNow(PlayerSocketConnection connection) {
+        try {
+            connection.getChannel().register(selector, SelectionKey.OP_READ, new Registration(connection));
+        } catch (ClosedChannelException _) {
+            connection.disconnect();
+            connection.cleanup();
+        }
+    }
+
+    private void read(PlayerSocketConnection connection) {
+        try {
+            connection.read(packetParser);
+            if (connection.isProcessing()) updateInterest(connection);
+        } catch (ClosedChannelException | EOFException _) {
+            connection.disconnect(); // We closed the socket during read
+        } catch (Throwable e) {
+            boolean isExpected = e instanceof SocketException && "Connection reset".equals(e.getMessage());
+            if (!isExpected) MinecraftServer.getExceptionManager().handleException(e);
+            connection.disconnect();
+        }
+    }
+
+    private void flush(PlayerSocketConnection connection) {
+        final SelectionKey key = connection.getChannel().keyFor(selector);
+        if (key == null || !key.isValid()) return;
+        boolean flushed;
+        try {
+            flushed = connection.flushNonBlocking();
+        } catch (ClosedChannelException | EOFException _) {
+            connection.disconnect();
+            close(connection);
+            return;
+        } catch (Throwable e) {
+            boolean isExpected = e instanceof IOException && "Broken pipe".equals(e.getMessage());
+            if (!isExpected) MinecraftServer.getExceptionManager().handleException(e);
+            connection.disconnect();
+            close(connection);
+            return;
+        }
+        if (!connection.isOnline() && flushed) {
+            close(connection);
+            return;
+        }
+        key.interestOps(readInterest(connection) | (flushed ? 0 : SelectionKey.OP_WRITE));
+    }
+
+    private void updateInterest(PlayerSocketConnection connection) {
+        final SelectionKey key = connection.getChannel().keyFor(selector);
+        if (key == null || !key.isValid()) return;
+        // The connection could not send while its reads were paused
+        ((Registration) key.attachment()).lastRead = System.nanoTime();
+        key.interestOps(readInterest(connection) | (key.interestOps() & SelectionKey.OP_WRITE));
+    }
+
+    private static int readInterest(PlayerSocketConnection connection) {
+        return connection.isProcessing() ? 0 : SelectionKey.OP_READ;
+    }
+
+    private void closeTimedOut() {
+        final long now = System.nanoTime();
+        if (now - lastTimeoutCheck < TimeUnit.MILLISECONDS.toNanos(TIMEOUT_CHECK_INTERVAL)) return;
+        this.lastTimeoutCheck = now;
+        final long timeout = TimeUnit.MILLISECONDS.toNanos(ServerFlag.SOCKET_TIMEOUT);
+        for (SelectionKey key : selector.keys()) {
+            if (!key.isValid()) continue;
+            final Registration registration = (Registration) key.attachment();
+            final PlayerSocketConnection connection = registration.connection;
+            if (connection.isProcessing() || now - registration.lastRead < timeout) continue;
+            connection.disconnect();
+            close(connection);
+        }
+    }
+
+    private void close(PlayerSocketConnection connection) {
+        final SelectionKey key = connection.getChannel().keyFor(selector);
+        if (key != null) key.cancel();
+        try {
+            connection.getChannel().close();
+        } catch (IOException _) {
+            // May error if it was disconnect client side
+        }
+        connection.releaseReadBuffers(); // Reads happen on this thread
+        connection.cleanup(); // Cleanup pooling
+    }
+
+    private static final class Registration {
+        private final PlayerSocketConnection connection;
+        private long lastRead = System.nanoTime();
+
+        private Registration(PlayerSocketConnection connection) {
+            this.connection = connection;
+        }
+    }
+}
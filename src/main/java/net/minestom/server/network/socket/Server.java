@@ -10,6 +10,7 @@ import org.jetbrains.annotations.UnknownNullability;
 
 import java.io.EOFException;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.*;
 import java.nio.channels.ClosedChannelException;
 import java.nio.channels.ServerSocketChannel;
@@ -28,6 +29,8 @@ public final class Server {
     private @UnknownNullability String address;
     private int port;
 
+    private @UnknownNullability SelectorLoop[] selectorLoops;
+
     public Server(PacketParser.Client packetParser) {
         this.packetParser = packetParser;
     }
@@ -66,6 +69,10 @@ public final class Server {
 
     @ApiStatus.Internal
     public void start() {
+        if (ServerFlag.SOCKET_SELECTOR_THREADS > 0) {
+            startSelectors(ServerFlag.SOCKET_SELECTOR_THREADS);
+            return;
+        }
         Thread.ofVirtual().name("Ms-Socket-Server").start(() -> {
             // Use named thread builders for logging
             var readBuilder = Thread.ofVirtual().name("Ms-Socket-Reader-", 0);
@@ -100,6 +107,52 @@ public final class Server {
         });
     }
 
+    /**
+     * Accepts connections on a virtual thread and spreads them over {@code threads} selector loops,
+     * instead of two virtual threads per connection.
+     */
+    private void startSelectors(int threads) {
+        final var serverSocket = Objects.requireNonNull(this.serverSocket, "Not bound did you forget to call #init?");
+        final SelectorLoop[] loops = new SelectorLoop[threads];
+        try {
+            for (int i = 0; i < threads; i++) loops[i] = new SelectorLoop(this, packetParser, i);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        this.selectorLoops = loops;
+        for (SelectorLoop loop : loops) loop.start();
+        Thread.ofVirtual().name("Ms-Socket-Server").start(() -> {
+            int next = 0;
+            while (!stop) {
+                final SocketChannel client;
+                try {
+                    client = serverSocket.accept();
+                } catch (ClosedChannelException e) {
+                    break; // We are exiting, bye bye!
+                } catch (IOException e) {
+                    MinecraftServer.getExceptionManager().handleException(e);
+                    continue;
+                }
+
+                final SelectorLoop loop = loops[next];
+                next = (next + 1) % loops.length;
+                AtomicReference<@UnknownNullability PlayerSocketConnection> reference = new AtomicReference<>(null);
+                try {
+                    configureSocket(client);
+                    client.configureBlocking(false);
+                    PlayerSocketConnection connection = new PlayerSocketConnection(client, client.getRemoteAddress(),
+                            () -> loop.requestWrite(reference.get()), () -> loop.resumeRead(reference.get()));
+                    reference.set(connection);
+                    loop.register(connection);
+                } catch (IOException _) {
+                    try {
+                        client.close();
+                    } catch (IOException _) {}
+                }
+            }
+        });
+    }
+
     private void configureSocket(SocketChannel channel) throws IOException {
         if (channel.getLocalAddress() instanceof InetSocketAddress) {
             Socket socket = channel.socket();
@@ -126,6 +179,7 @@ public final class Server {
                 break;
             }
         }
+        connection.releaseReadBuffers();
     }
 
     private void playerWriteLoop(PlayerSocketConnection connection) {
@@ -167,6 +221,10 @@ public final class Server {
 
     public void stop() {
         this.stop = true;
+        final SelectorLoop[] selectorLoops = this.selectorLoops;
+        if (selectorLoops != null) {
+            for (SelectorLoop loop : selectorLoops) loop.stop();
+        }
         try {
             final var serverSocket = this.serverSocket;
             if (serverSocket != null) {
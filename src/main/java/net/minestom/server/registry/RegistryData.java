@@ -7,6 +7,7 @@ import com.google.gson.stream.JsonReader;
 import net.kyori.adventure.key.Key;
 import net.minestom.data.MinestomData;
 import net.minestom.server.MinecraftServer;
+import net.minestom.server.ServerFlag;
 import net.minestom.server.codec.Result;
 import net.minestom.server.codec.Transcoder;
 import net.minestom.server.collision.BoundingBox;
@@ -51,6 +52,10 @@ import java.util.function.Supplier;
 public final class RegistryData {
     static final Gson GSON = new GsonBuilder().disableHtmlEscaping().disableJdkUnsafe().create();
 
+    private static final Object SNAPSHOT_LOCK = new Object();
+    private static @Nullable RegistrySnapshot snapshot;
+    private static boolean snapshotLoaded; // Also set once released, the snapshot is never read again
+
     @ApiStatus.Internal
     public static BlockEntry block(String namespace, Properties main) {
         return new BlockEntry(namespace, main, new HashMap<>(), null, null);
@@ -123,6 +128,14 @@ public final class RegistryData {
 
     @ApiStatus.Internal
     public static Properties load(String resourcePath, boolean required) {
+        Map<String, Object> map = loadSnapshot(resourcePath);
+        if (map == null) map = loadJson(resourcePath);
+        if (map != null) return Properties.fromMap(map);
+        if (required) Check.fail("Failed to load required registry file: {0}", resourcePath);
+        return Properties.fromMap(Map.of());
+    }
+
+    static @Nullable Map<String, Object> loadJson(String resourcePath) {
         try (InputStream resourceStream = loadRegistryFile(resourcePath)) {
             if (resourceStream != null) {
                 final Map<String, Object> map = new HashMap<>();
@@ -131,13 +144,55 @@ public final class RegistryData {
                     while (reader.hasNext()) map.put(reader.nextName(), readObject(reader));
                     reader.endObject();
                 }
-                return Properties.fromMap(map);
+                return map;
             }
         } catch (IOException e) {
             MinecraftServer.getExceptionManager().handleException(e);
         }
-        if (required) Check.fail("Failed to load required registry file: {0}", resourcePath);
-        return Properties.fromMap(Map.of());
+        return null;
+    }
+
+    private static @Nullable Map<String, Object> loadSnapshot(String resourcePath) {
+        if (!ServerFlag.REGISTRY_SNAPSHOT) return null;
+        final RegistrySnapshot snapshot;
+        synchronized (SNAPSHOT_LOCK) {
+            if (!snapshotLoaded) {
+                snapshotLoaded = true;
+                try {
+                    RegistryData.snapshot = RegistrySnapshot.load();
+                } catch (IOException e) {
+                    MinecraftServer.getExceptionManager().handleException(e);
+                }
+            }
+            snapshot = RegistryData.snapshot;
+        }
+        if (snapshot == null) return null;
+        try {
+            final Map<String, Object> map = snapshot.read(resourcePath);
+            // Mutable like the JSON result
+            return map != null ? new HashMap<>(map) : null;
+        } catch (IOException e) {
+            MinecraftServer.getExceptionManager().handleException(e);
+            return null;
+        }
+    }
+
+    /**
+     * Frees the registry snapshot once the server has started, registries loaded later are parsed from their JSON
+     * instead of keeping the whole snapshot in memory.
+     */
+    @ApiStatus.Internal
+    public static void releaseSnapshot() {
+        synchronized (SNAPSHOT_LOCK) {
+            snapshot = null;
+            snapshotLoaded = true;
+        }
+    }
+
+    static @Nullable RegistrySnapshot loadedSnapshot() {
+        synchronized (SNAPSHOT_LOCK) {
+            return snapshot;
+        }
     }
 
     /**
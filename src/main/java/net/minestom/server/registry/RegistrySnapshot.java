@@ -0,0 +1,186 @@
+package net.minestom.server.registry;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+
+/**
+ * Registry files parsed at build time, read instead of their JSON when the server starts.
+ * <p>
+ * Written by the {@code RegistrySnapshotGenerator} of the code generators, in format:
+ * <pre>
+ * [int magic][int version]
+ * [varint string count][strings: [varint length][utf8]]
+ * [varint file count][files: [varint path string][int crc32][varint length][value]]
+ * </pre>
+ * The CRC32 of each JSON file is compared to the one found at runtime, files changed since the snapshot
+ * was generated, for example after a data dependency update, are parsed from their JSON instead.
+ * Values start with their tag, maps are followed by their size and [varint key string][value] pairs,
+ * lists by their size and values, strings by their index in the string table,
+ * longs by their zigzag varint, doubles by their 8 bytes. Booleans are only a tag.
+ * <p>
+ * Values are the same as parsed from the JSON: immutable maps and lists, strings, booleans, and numbers
+ * as {@link Long} if integral or {@link Double} otherwise.
+ */
+final class RegistrySnapshot {
+    static final String RESOURCE = "registries.snapshot";
+    static final int MAGIC = 0x4D535253; // MSRS
+    static final int VERSION = 2;
+
+    static final int MAP = 0;
+    static final int LIST = 1;
+    static final int STRING = 2;
+    static final int LONG = 3;
+    static final int DOUBLE = 4;
+    static final int TRUE = 5;
+    static final int FALSE = 6;
+
+    private final byte[] data;
+    private final String[] strings;
+    // Position of each file value in data
+    private final Map<String, Integer> files;
+    // CRC32 of the JSON of each file
+    private final Map<String, Integer> checksums;
+
+    /**
+     * Reads the snapshot packaged with the server.
+     *
+     * @return the snapshot, null if the server has been built without
+     * @throws IOException if the snapshot cannot be read
+     */
+    static @Nullable RegistrySnapshot load() throws IOException {
+        try (InputStream stream = RegistrySnapshot.class.getResourceAsStream(RESOURCE)) {
+            if (stream == null) return null;
+            return new RegistrySnapshot(stream.readAllBytes());
+        }
+    }
+
+    RegistrySnapshot(byte[] data) throws IOException {
+        this.data = data;
+        Reader reader = new Reader(0);
+        if (reader.readInt() != MAGIC) throw new IOException("Invalid registry snapshot");
+        final int version = reader.readInt();
+        if (version != VERSION) throw new IOException("Unsupported registry snapshot version: " + version);
+
+        this.strings = new String[reader.readVarInt()];
+        for (int i = 0; i < strings.length; i++) {
+            final int length = reader.readVarInt();
+            strings[i] = new String(data, reader.position, length, StandardCharsets.UTF_8);
+            reader.position += length;
+        }
+
+        final int fileCount = reader.readVarInt();
+        Map<String, Integer> files = new HashMap<>(fileCount);
+        Map<String, Integer> checksums = new HashMap<>(fileCount);
+        for (int i = 0; i < fileCount; i++) {
+            final String path = strings[reader.readVarInt()];
+            checksums.put(path, reader.readInt());
+            final int length = reader.readVarInt();
+            files.put(path, reader.position);
+            reader.position += length;
+        }
+        this.files = Map.copyOf(files);
+        this.checksums = Map.copyOf(checksums);
+    }
+
+    Set<String> paths() {
+        return files.keySet();
+    }
+
+    /**
+     * Reads a registry file.
+     *
+     * @param path the file path, e.g. "block.json"
+     * @return the file content, null if not part of the snapshot or if its JSON changed since
+     * @throws IOException if the JSON cannot be read
+     */
+    @Nullable Map<String, Object> read(String path) throws IOException {
+        final Integer position = files.get(path);
+        if (position == null || checksum(path) != checksums.get(path)) return null;
+        //noinspection unchecked
+        return (Map<String, Object>) new Reader(position).readValue();
+    }
+
+    // Same resolution as the JSON parsing, 0 if missing
+    private static int checksum(String path) throws IOException {
+        try (InputStream stream = RegistryData.loadRegistryFile(path)) {
+            if (stream == null) return 0;
+            CheckedInputStream checked = new CheckedInputStream(stream, new CRC32());
+            checked.transferTo(OutputStream.nullOutputStream());
+            return (int) checked.getChecksum().getValue();
+        }
+    }
+
+    // One per read, registries can be loaded from multiple threads
+    private final class Reader {
+        private int position;
+
+        private Reader(int position) {
+            this.position = position;
+        }
+
+        private Object readValue() {
+            final int tag = data[position++];
+            return switch (tag) {
+                case MAP -> {
+                    final int size = readVarInt();
+                    //noinspection unchecked
+                    Map.Entry<String, Object>[] entries = new Map.Entry[size];
+                    for (int i = 0; i < size; i++) {
+                        final String key = strings[readVarInt()];
+                        entries[i] = Map.entry(key, readValue());
+                    }
+                    yield Map.ofEntries(entries);
+                }
+                case LIST -> {
+                    Object[] values = new Object[readVarInt()];
+                    for (int i = 0; i < values.length; i++) values[i] = readValue();
+                    yield List.of(values);
+                }
+                case STRING -> strings[readVarInt()];
+                case LONG -> {
+                    final long value = readVarLong();
+                    yield (value >>> 1) ^ -(value & 1);
+                }
+                case DOUBLE -> Double.longBitsToDouble(readLong());
+                case TRUE -> Boolean.TRUE;
+                case FALSE -> Boolean.FALSE;
+                default -> throw new IllegalStateException("Invalid registry snapshot tag: " + tag);
+            };
+        }
+
+        private int readInt() {
+            int value = 0;
+            for (int i = 0; i < Integer.BYTES; i++) value = (value << 8) | (data[position++] & 0xFF);
+            return value;
+        }
+
+        private long readLong() {
+            long value = 0;
+            for (int i = 0; i < Long.BYTES; i++) value = (value << 8) | (data[position++] & 0xFF);
+            return value;
+        }
+
+        private int readVarInt() {
+            return (int) readVarLong();
+        }
+
+        private long readVarLong() {
+            long value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[position++];
+                value |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            return value;
+        }
+    }
+}
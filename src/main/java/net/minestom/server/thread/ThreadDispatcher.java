@@ -128,6 +128,13 @@ public sealed interface ThreadDispatcher<P, E extends Tickable> permits ThreadDi
         signalUpdate(new Update.ElementRemove<>(element));
     }
 
+    /**
+     * Gets how busy each thread was during the last tick.
+     *
+     * @return the load of each thread
+     */
+    List<ThreadLoad> threadLoads();
+
     /**
      * Starts all the {@link TickThread tick threads}.
      * <p>
@@ -149,6 +156,14 @@ public sealed interface ThreadDispatcher<P, E extends Tickable> permits ThreadDi
      */
     void shutdown();
 
+    /**
+     * @param threadName  the name of the thread
+     * @param tickNanos   the time spent ticking its partitions
+     * @param utilization the fraction of the tick duration spent ticking its partitions
+     */
+    record ThreadLoad(String threadName, long tickNanos, double utilization) {
+    }
+
     @ApiStatus.Internal
     @SuppressWarnings("unused")
     sealed interface Update<P, E> {
@@ -4,13 +4,20 @@ import net.minestom.server.Tickable;
 import net.minestom.server.utils.collection.ConcurrentMessageQueues;
 import org.jctools.queues.MessagePassingQueue;
 import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.Unmodifiable;
 
 import java.util.*;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.function.IntFunction;
 
 final class ThreadDispatcherImpl<P, E extends Tickable> implements ThreadDispatcher<P, E> {
+    // Balancing, see ThreadProvider.RefreshType#BALANCED
+    private static final long MIN_IMBALANCE_NANOS = TimeUnit.MICROSECONDS.toNanos(500);
+    private static final int MAX_MIGRATIONS_PER_REFRESH = 4;
+    private static final int MIGRATION_COOLDOWN_REFRESHES = 20;
+
     private final ThreadProvider<P> provider;
     private final List<TickThread> threads;
 
@@ -21,6 +28,9 @@ final class ThreadDispatcherImpl<P, E extends Tickable> implements ThreadDispatc
     private final Map<Tickable, Partition> elements = new WeakHashMap<>();
     // Queue to update partition linked thread
     private final ArrayDeque<P> partitionUpdateQueue = new ArrayDeque<>();
+    // Affinity key -> thread where new partitions of the group are placed
+    private final Map<Object, TickThread> affinityThreads = new WeakHashMap<>();
+    private long refreshCount;
 
     // Requests consumed at the end of each tick
     private final MessagePassingQueue<Update<P, E>> updates = ConcurrentMessageQueues.mpscUnboundedArrayQueue(1024);
@@ -80,20 +90,119 @@ final class ThreadDispatcherImpl<P, E extends Tickable> implements ThreadDispatc
                     // Update chunk's thread
                     Partition partitionEntry = partitions.get(partition);
                     assert partitionEntry != null;
-                    final TickThread previous = partitionEntry.thread;
-                    final TickThread next = retrieveThread(partition);
-                    if (next != previous) {
-                        partitionEntry.thread = next;
-                        previous.entries.remove(partitionEntry);
-                        next.entries.add(partitionEntry);
-                    }
+                    migrate(partitionEntry, retrieveThread(partition));
                     this.partitionUpdateQueue.addLast(partition);
                     if (--counter <= 0 || System.nanoTime() - currentTime >= nanoTimeout) {
                         break;
                     }
                 }
             }
+            case BALANCED -> rebalance(nanoTimeout);
+        }
+    }
+
+    private void rebalance(long nanoTimeout) {
+        final List<TickThread> threads = this.threads;
+        final int size = threads.size();
+        if (size < 2) return;
+        final long start = System.nanoTime();
+        final long refresh = ++this.refreshCount;
+        long[] loads = new long[size];
+        for (int i = 0; i < size; i++) loads[i] = threads.get(i).load();
+        for (int i = 0; i < MAX_MIGRATIONS_PER_REFRESH; i++) {
+            int hottest = 0, coldest = 0;
+            for (int j = 1; j < size; j++) {
+                if (loads[j] > loads[hottest]) hottest = j;
+                if (loads[j] < loads[coldest]) coldest = j;
+            }
+            final long imbalance = loads[hottest] - loads[coldest];
+            // Tolerate small differences, measurements are noisy
+            if (imbalance < MIN_IMBALANCE_NANOS || imbalance < loads[hottest] / 8) return;
+            final long moved = migrateLoad(threads.get(hottest), threads.get(coldest), imbalance / 2, refresh);
+            if (moved == 0) return;
+            loads[hottest] -= moved;
+            loads[coldest] += moved;
+            if (System.nanoTime() - start >= nanoTimeout) return;
+        }
+    }
+
+    /**
+     * Moves at most {@code budget} nanoseconds worth of partitions, whole affinity groups first.
+     *
+     * @return the moved load
+     */
+    private long migrateLoad(TickThread from, TickThread to, long budget, long refresh) {
+        final List<Partition> entries = from.entries;
+        // Try to move the most expensive group fitting the budget
+        Map<Object, long[]> groupLoads = new HashMap<>();
+        for (Partition entry : entries) {
+            if (entry.affinity == null || !isMovable(entry, refresh)) continue;
+            groupLoads.computeIfAbsent(entry.affinity, _ -> new long[1])[0] += entry.load;
+        }
+        Object group = null;
+        long groupLoad = 0;
+        for (Map.Entry<Object, long[]> entry : groupLoads.entrySet()) {
+            final long load = entry.getValue()[0];
+            if (load <= budget && load > groupLoad) {
+                group = entry.getKey();
+                groupLoad = load;
+            }
+        }
+        if (group != null) {
+            List<Partition> moved = new ArrayList<>();
+            for (Partition entry : entries) {
+                if (group.equals(entry.affinity) && isMovable(entry, refresh)) moved.add(entry);
+            }
+            for (Partition entry : moved) {
+                migrate(entry, to);
+                entry.migratedAt = refresh;
+            }
+            this.affinityThreads.put(group, to);
+            return groupLoad;
+        }
+        // Every group is too expensive, split the most expensive partition fitting the budget
+        Partition best = null;
+        for (Partition entry : entries) {
+            if (entry.load == 0 || entry.load > budget || !isMovable(entry, refresh)) continue;
+            if (best == null || entry.load > best.load) best = entry;
         }
+        if (best == null) return 0;
+        migrate(best, to);
+        best.migratedAt = refresh;
+        return best.load;
+    }
+
+    private static boolean isMovable(Partition entry, long refresh) {
+        // Do not move partitions back and forth
+        return refresh - entry.migratedAt >= MIGRATION_COOLDOWN_REFRESHES;
+    }
+
+    private void migrate(Partition partitionEntry, TickThread next) {
+        final TickThread previous = partitionEntry.thread;
+        if (next == previous) return;
+        partitionEntry.thread = next;
+        previous.entries.remove(partitionEntry);
+        next.entries.add(partitionEntry);
+        for (Tickable element : partitionEntry.elements) {
+            if (element instanceof AcquirableSource<?> acquirableSource) {
+                ((AcquirableImpl<?>) acquirableSource.acquirable()).assign(next);
+            }
+        }
+    }
+
+    private TickThread balancedThread(@Nullable Object affinity) {
+        TickThread thread = affinity != null ? affinityThreads.get(affinity) : null;
+        if (thread != null) return thread;
+        // Least loaded thread, the partition count breaks ties between idle threads
+        for (TickThread candidate : threads) {
+            if (thread == null || candidate.load() < thread.load() ||
+                    (candidate.load() == thread.load() && candidate.entries.size() < thread.entries.size())) {
+                thread = candidate;
+            }
+        }
+        assert thread != null;
+        if (affinity != null) this.affinityThreads.put(affinity, thread);
+        return thread;
     }
 
     @Override
@@ -101,6 +210,15 @@ final class ThreadDispatcherImpl<P, E extends Tickable> implements ThreadDispatc
         refreshThreads(Long.MAX_VALUE);
     }
 
+    @Override
+    public List<ThreadLoad> threadLoads() {
+        List<ThreadLoad> loads = new ArrayList<>(threads.size());
+        for (TickThread thread : threads) {
+            loads.add(new ThreadLoad(thread.getName(), thread.lastTickNanos(), thread.utilization()));
+        }
+        return loads;
+    }
+
     @Override
     public synchronized void start() {
         this.threads.forEach(Thread::start);
@@ -132,8 +250,10 @@ final class ThreadDispatcherImpl<P, E extends Tickable> implements ThreadDispatc
 
     private void processLoadedPartition(P partition) {
         if (partitions.containsKey(partition)) return;
-        final TickThread thread = retrieveThread(partition);
-        final Partition partitionEntry = new Partition(thread);
+        final boolean balanced = provider.refreshType() == ThreadProvider.RefreshType.BALANCED;
+        final Object affinity = balanced ? provider.affinity(partition) : null;
+        final TickThread thread = balanced ? balancedThread(affinity) : retrieveThread(partition);
+        final Partition partitionEntry = new Partition(thread, affinity);
         thread.entries.add(partitionEntry);
         this.partitions.put(partition, partitionEntry);
         this.partitionUpdateQueue.add(partition);
@@ -186,9 +306,17 @@ final class ThreadDispatcherImpl<P, E extends Tickable> implements ThreadDispatc
     public static final class Partition {
         private TickThread thread;
         private final List<Tickable> elements = new ArrayList<>();
+        private final @Nullable Object affinity;
+        private long load; // Smoothed tick time, written by the ticking thread
+        private long migratedAt = Long.MIN_VALUE / 2;
 
-        private Partition(TickThread thread) {
+        private Partition(TickThread thread, @Nullable Object affinity) {
             this.thread = thread;
+            this.affinity = affinity;
+        }
+
+        void recordTick(long nanos) {
+            this.load += (nanos - load) >> 3;
         }
 
         /**
@@ -211,5 +339,14 @@ final class ThreadDispatcherImpl<P, E extends Tickable> implements ThreadDispatc
         public List<Tickable> elements() {
             return elements;
         }
+
+        /**
+         * The smoothed time spent ticking this partition.
+         *
+         * @return the tick time in nanoseconds
+         */
+        public long tickNanos() {
+            return load;
+        }
     }
 }
@@ -1,8 +1,10 @@
 package net.minestom.server.thread;
 
 import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 
 @FunctionalInterface
 @ApiStatus.Experimental
@@ -18,6 +20,36 @@ public interface ThreadProvider<T> {
         };
     }
 
+    /**
+     * Creates a provider balancing the partitions based on their measured tick time.
+     * <p>
+     * New partitions join the thread of their affinity group, or the least loaded thread. Each tick, the most
+     * expensive partitions of the most loaded thread are moved to the least loaded one, whole affinity groups
+     * first so that, for example, chunks of the same instance keep sharing a thread as long as possible.
+     *
+     * @param affinity the group of a partition, e.g. the instance of a chunk
+     * @return a new load balancing provider
+     * @see RefreshType#BALANCED
+     */
+    static <T> ThreadProvider<T> balanced(Function<? super T, ?> affinity) {
+        return new ThreadProvider<>() {
+            @Override
+            public int findThread(T partition) {
+                return 0; // Unused, placement depends on the load of each thread
+            }
+
+            @Override
+            public @Nullable Object affinity(T partition) {
+                return affinity.apply(partition);
+            }
+
+            @Override
+            public RefreshType refreshType() {
+                return RefreshType.BALANCED;
+            }
+        };
+    }
+
     /**
      * Performs a server tick for all chunks based on their linked thread.
      *
@@ -34,6 +66,19 @@ public interface ThreadProvider<T> {
         return RefreshType.NEVER;
     }
 
+    /**
+     * Gets the group of partitions which should preferably share a thread.
+     * <p>
+     * Only used by {@link RefreshType#BALANCED}. The key is kept as long as the partition, it should not
+     * reference the partition itself.
+     *
+     * @param partition the partition
+     * @return the affinity key of the partition, null if it has none
+     */
+    default @Nullable Object affinity(T partition) {
+        return null;
+    }
+
     /**
      * Defines how often chunks thread should be refreshed.
      */
@@ -49,6 +94,13 @@ public interface ThreadProvider<T> {
          * <p>
          * Means that {@link #findThread(Object)} may be called multiple time for each partition.
          */
-        ALWAYS
+        ALWAYS,
+        /**
+         * Partitions are moved from the most to the least loaded thread, based on their measured tick time.
+         * <p>
+         * Means that {@link #findThread(Object)} is never called, partitions are placed using {@link #affinity(Object)}
+         * and the load of each thread.
+         */
+        BALANCED
     }
 }
@@ -4,7 +4,9 @@ import net.minestom.server.MinecraftServer;
 import net.minestom.server.Tickable;
 import net.minestom.server.entity.Entity;
 import net.minestom.server.instance.Chunk;
+import net.minestom.server.monitoring.TickProfile;
 import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -28,6 +30,14 @@ public class TickThread extends MinestomThread {
     private volatile long tickTimeNanos;
 
     private long tickNum = 0;
+    // Measured by the thread itself, read by the dispatcher once the tick is over
+    private volatile long lastTickNanos;
+    private long load;
+    // Profiling, requested before the tick and read once it is over
+    private int profileSlowest;
+    private @Nullable Tickable[] slowestElements = new Tickable[0];
+    private long[] slowestNanos = new long[0];
+    private int slowestCount;
     final List<ThreadDispatcherImpl.Partition> entries = new ArrayList<>();
 
     public TickThread(int number) {
@@ -67,24 +77,74 @@ public class TickThread extends MinestomThread {
     protected void tick() {
         final ReentrantLock lock = this.lock;
         final long tickTime = TimeUnit.NANOSECONDS.toMillis(this.tickTimeNanos);
+        long tickStart = System.nanoTime();
+        long partitionStart = tickStart;
+        long load = 0;
+        final boolean profiled = this.profileSlowest > 0;
+        if (profiled) {
+            if (slowestElements.length != profileSlowest) {
+                this.slowestElements = new Tickable[profileSlowest];
+                this.slowestNanos = new long[profileSlowest];
+            }
+            this.slowestCount = 0;
+            this.profileSlowest = 0;
+        }
         for (ThreadDispatcherImpl.Partition entry : entries) {
             assert entry.thread() == this;
             final List<Tickable> elements = entry.elements();
-            if (elements.isEmpty()) continue;
+            if (elements.isEmpty()) {
+                entry.recordTick(0);
+                load += entry.tickNanos();
+                continue;
+            }
             for (Tickable element : elements) {
                 if (lock.hasQueuedThreads()) {
+                    final long released = System.nanoTime();
                     lock.unlock();
                     // #acquire() callbacks
                     lock.lock();
+                    // Only the time holding the lock is load, the callbacks belong to other threads
+                    final long waited = System.nanoTime() - released;
+                    partitionStart += waited;
+                    tickStart += waited;
                 }
+                final long elementStart = profiled ? System.nanoTime() : 0;
                 try {
                     assert assertElement(element);
                     element.tick(tickTime);
                 } catch (Throwable e) {
                     MinecraftServer.getExceptionManager().handleException(e);
                 }
+                if (profiled) recordElement(element, System.nanoTime() - elementStart);
             }
+            final long now = System.nanoTime();
+            entry.recordTick(now - partitionStart);
+            partitionStart = now;
+            load += entry.tickNanos();
         }
+        this.load = load;
+        this.lastTickNanos = System.nanoTime() - tickStart;
+    }
+
+    private void recordElement(Tickable element, long nanos) {
+        final @Nullable Tickable[] elements = this.slowestElements;
+        final long[] times = this.slowestNanos;
+        int index = slowestCount;
+        if (index == elements.length) {
+            // Full, replace the fastest if slower
+            if (nanos <= times[index - 1]) return;
+            index--;
+        } else {
+            this.slowestCount++;
+        }
+        // Insertion sort, slowest first
+        while (index > 0 && times[index - 1] < nanos) {
+            elements[index] = elements[index - 1];
+            times[index] = times[index - 1];
+            index--;
+        }
+        elements[index] = element;
+        times[index] = nanos;
     }
 
     private boolean assertElement(Tickable element) {
@@ -108,6 +168,10 @@ public class TickThread extends MinestomThread {
         }
         if (stop || entries.isEmpty()) {
             // Nothing to tick
+            this.load = 0;
+            this.lastTickNanos = 0;
+            this.profileSlowest = 0;
+            this.slowestCount = 0;
             latch.countDown();
             return;
         }
@@ -129,6 +193,61 @@ public class TickThread extends MinestomThread {
         return tickNum;
     }
 
+    /**
+     * Gets the time spent ticking the partitions of this thread during its last tick.
+     *
+     * @return the last tick duration in nanoseconds
+     */
+    public long lastTickNanos() {
+        return lastTickNanos;
+    }
+
+    /**
+     * Gets the fraction of the tick duration spent ticking the partitions of this thread during its last tick.
+     *
+     * @return the utilization, above 1 when the thread alone overran the tick
+     */
+    public double utilization() {
+        return (double) lastTickNanos / TimeUnit.MILLISECONDS.toNanos(MinecraftServer.TICK_MS);
+    }
+
+    /**
+     * Times each element during the next tick, to be retrieved with {@link #profiledElements()} once it is over.
+     * <p>
+     * Must be called before the tick is started.
+     *
+     * @param slowest the number of elements to keep
+     */
+    @ApiStatus.Internal
+    public void profileNextTick(int slowest) {
+        this.profileSlowest = slowest;
+    }
+
+    /**
+     * Gets the slowest elements of the last tick if it was profiled, and releases them.
+     *
+     * @return the slowest elements, slowest first
+     * @see #profileNextTick(int)
+     */
+    @ApiStatus.Internal
+    public List<TickProfile.ElementTime> profiledElements() {
+        final int count = this.slowestCount;
+        List<TickProfile.ElementTime> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(new TickProfile.ElementTime(slowestElements[i], slowestNanos[i]));
+            slowestElements[i] = null;
+        }
+        this.slowestCount = 0;
+        return result;
+    }
+
+    /**
+     * Sum of the smoothed tick time of the partitions, used for balancing.
+     */
+    long load() {
+        return load;
+    }
+
     void shutdown() {
         this.stop = true;
         LockSupport.unpark(this);
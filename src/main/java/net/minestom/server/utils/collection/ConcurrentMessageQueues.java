@@ -2,6 +2,7 @@ package net.minestom.server.utils.collection;
 
 import net.minestom.server.ServerFlag;
 import org.jctools.queues.MessagePassingQueue;
+import org.jctools.queues.MpmcArrayQueue;
 import org.jctools.queues.MpmcUnboundedXaddArrayQueue;
 import org.jctools.queues.MpscArrayQueue;
 import org.jctools.queues.MpscUnboundedXaddArrayQueue;
@@ -21,6 +22,10 @@ public final class ConcurrentMessageQueues {
         return ServerFlag.UNSAFE_COLLECTIONS ? new MpscUnboundedXaddArrayQueue<>(chunkSize) : new MpscUnboundedAtomicArrayQueue<>(chunkSize);
     }
 
+    public static <T> MessagePassingQueue<T> mpmcArrayQueue(int capacity) {
+        return ServerFlag.UNSAFE_COLLECTIONS ? new MpmcArrayQueue<>(capacity) : new MpmcAtomicArrayQueue<>(capacity);
+    }
+
     // Atomic is bounded; no unbounded atomic variant exists that is MPMC.
     public static <T> MessagePassingQueue<T> mpmcSpecialUnboundedArrayQueue(int value) {
         return ServerFlag.UNSAFE_COLLECTIONS ? new MpmcUnboundedXaddArrayQueue<>(value) : new MpmcAtomicArrayQueue<>(value);
@@ -11,6 +11,7 @@ import net.minestom.testing.Env;
 import net.minestom.testing.EnvTest;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -196,4 +197,104 @@ public class PathfinderIntegrationTest {
         assertTrue(snapped.isPresent());
         assertEquals(40.0, snapped.getAsDouble());
     }
+
+    @Test
+    public void testSynchronousService(Env env) {
+        var i = env.createFlatInstance();
+
+        ChunkRange.chunksInRange(0, 0, 10, (x, z) -> i.loadChunk(x, z).join());
+
+        var zombie = new LivingEntity(EntityType.ZOMBIE);
+        zombie.setInstance(i, new Pos(0, 40, 0));
+
+        Navigator nav = new Navigator(zombie);
+        nav.setPathfindingService(new PathfindingService(0, 1, 1));
+        nav.setPathTo(new Pos(0, 40, 10));
+
+        assertNotEquals(PPath.State.CALCULATING, nav.getState());
+        validateNodes(nav.getNodes(), i);
+    }
+
+    @Test
+    public void testServiceBudget(Env env) {
+        var i = env.createFlatInstance();
+
+        ChunkRange.chunksInRange(0, 0, 10, (x, z) -> i.loadChunk(x, z).join());
+
+        var zombie = new LivingEntity(EntityType.ZOMBIE);
+        zombie.setInstance(i, new Pos(0, 40, 0));
+
+        var service = new PathfindingService(1, 2, 16);
+        try {
+            assertEquals(2, submitAll(service, i, zombie, 8));
+            // The budget is restored by the next server tick only
+            assertEquals(0, submitAll(service, i, zombie, 8));
+            env.tick();
+            assertEquals(2, submitAll(service, i, zombie, 8));
+        } finally {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    public void testServiceShutdown(Env env) {
+        var i = env.createFlatInstance();
+
+        ChunkRange.chunksInRange(0, 0, 10, (x, z) -> i.loadChunk(x, z).join());
+
+        var zombie = new LivingEntity(EntityType.ZOMBIE);
+        zombie.setInstance(i, new Pos(0, 40, 0));
+
+        var service = new PathfindingService(1, 64, 64);
+        List<PPath> paths = new ArrayList<>();
+        for (int j = 0; j < 32; j++) {
+            paths.add(service.submit(i, zombie.getPosition(), new Pos(0, 40, 10), 0.8, 50, 20,
+                    zombie.getBoundingBox(), true, new GroundNodeGenerator(), null));
+        }
+        service.shutdown();
+        // The running computation completes, the queued ones are invalidated
+        final long deadline = System.nanoTime() + 5_000_000_000L;
+        for (PPath path : paths) {
+            assertNotNull(path);
+            while (path.isComputing()) {
+                assertTrue(System.nanoTime() < deadline, "path still computing after shutdown");
+                Thread.onSpinWait();
+            }
+        }
+        assertNull(service.submit(i, zombie.getPosition(), new Pos(0, 40, 10), 0.8, 50, 20,
+                zombie.getBoundingBox(), true, new GroundNodeGenerator(), null));
+    }
+
+    private static int submitAll(PathfindingService service, Instance instance, LivingEntity entity, int count) {
+        int accepted = 0;
+        for (int j = 0; j < count; j++) {
+            var path = service.submit(instance, entity.getPosition(), new Pos(0, 40, 10), 0.8, 50, 20,
+                    entity.getBoundingBox(), true, new GroundNodeGenerator(), null);
+            if (path != null) accepted++;
+        }
+        return accepted;
+    }
+
+    @Test
+    public void testPrimitiveEngine(Env env) {
+        var i = env.createFlatInstance();
+
+        ChunkRange.chunksInRange(0, 0, 10, (x, z) -> i.loadChunk(x, z).join());
+
+        for (int z = -5; z <= 5; z++) {
+            i.setBlock(3, 40, z, Block.STONE);
+            i.setBlock(3, 41, z, Block.STONE);
+        }
+
+        var zombie = new LivingEntity(EntityType.ZOMBIE);
+        var path = new PPath(50, 20, null);
+        PrimitivePathGenerator.computePath(i, new Pos(0.5, 40, 0.5), new Pos(6.5, 40, 0.5), 0.8, 50, 20,
+                zombie.getBoundingBox(), path, new GroundNodeGenerator());
+
+        assertEquals(PPath.State.COMPUTED, path.getState());
+        validateNodes(path.getNodes(), i);
+        var last = path.getNodes().getLast();
+        assertEquals(6.5, last.x());
+        assertEquals(0.5, last.z());
+    }
 }
@@ -0,0 +1,42 @@
+package net.minestom.server.event;
+
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.entity.Entity;
+import net.minestom.server.entity.EntityType;
+import net.minestom.server.event.entity.EntityTickEvent;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class GlobalListenerHandleIntegrationTest {
+    private static final GlobalListenerHandle<EntityTickEvent> TICK_HANDLE = EventDispatcher.globalHandle(EntityTickEvent.class);
+
+    @Test
+    public void currentProcess(Env env) {
+        // Each test runs its own process, the static handle follows it
+        final ListenerHandle<EntityTickEvent> handle = TICK_HANDLE.get();
+        assertSame(env.process().eventHandler().getHandle(EntityTickEvent.class), handle);
+        assertSame(handle, TICK_HANDLE.get());
+        assertFalse(handle.hasListener());
+    }
+
+    @Test
+    public void mappedListener(Env env) {
+        var instance = env.createFlatInstance();
+        var entity = new Entity(EntityType.ZOMBIE);
+        entity.setInstance(instance, new Pos(0, 42, 0)).join();
+        env.tick();
+        assertFalse(TICK_HANDLE.get().hasListener());
+
+        AtomicInteger ticks = new AtomicInteger();
+        entity.eventNode().addListener(EntityTickEvent.class, _ -> ticks.incrementAndGet());
+        assertTrue(TICK_HANDLE.get().hasListener());
+        env.tick();
+        assertEquals(1, ticks.get());
+    }
+}
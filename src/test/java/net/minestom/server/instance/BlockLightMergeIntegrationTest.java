@@ -13,6 +13,7 @@ import java.util.Map;
 
 import static java.util.Map.entry;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 @EnvTest
@@ -64,6 +65,34 @@ public class BlockLightMergeIntegrationTest {
         assertLightInstance(instance, expectedLights);
     }
 
+    @Test
+    public void testTorchCompactedNeighbours(Env env) {
+        var instance = (InstanceContainer) env.createFlatInstance();
+        instance.setChunkSupplier(LightingChunk::new);
+        instance.setGenerator(unit -> {
+            unit.modifier().fillHeight(39, 40, Block.STONE);
+            unit.modifier().fillHeight(50, 51, Block.STONE);
+        });
+
+        for (int x = -3; x <= 3; x++) {
+            for (int z = -3; z <= 3; z++) {
+                instance.loadChunk(x, z).join();
+            }
+        }
+
+        instance.setBlock(1, 40, 1, Block.TORCH);
+        // Neighbour palettes read by the light passes get inflated back
+        assertTrue(instance.compactChunks() > 0);
+
+        Map<Vec, Integer> expectedLights = Map.ofEntries(
+                entry(new Vec(2, 40, 2), 12)
+        );
+
+        LightingChunk.relightSection(instance, 0, 2, 0);
+
+        assertLightInstance(instance, expectedLights);
+    }
+
     @Test
     public void testTorch2(Env env) {
         Instance instance = env.createFlatInstance();
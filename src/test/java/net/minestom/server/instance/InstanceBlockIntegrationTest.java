@@ -10,10 +10,12 @@ import net.minestom.testing.EnvTest;
 import org.jetbrains.annotations.Nullable;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
 import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @EnvTest
 public class InstanceBlockIntegrationTest {
@@ -104,4 +106,96 @@ public class InstanceBlockIntegrationTest {
 
         assertEquals(theBlock, currentBlock.get());
     }
+
+    @Test
+    public void copyOnWrite(Env env) {
+        var instance = (InstanceContainer) env.createFlatInstance();
+        instance.loadChunk(0, 0).join();
+        instance.setBlock(0, 50, 0, Block.STONE);
+
+        var copy = instance.copy();
+        env.process().instance().registerInstance(copy);
+        assertEquals(Block.STONE, copy.getBlock(0, 50, 0));
+        assertEquals(Block.STONE, copy.getBlock(0, 39, 0));
+
+        // Writes are not visible to the other instance
+        copy.setBlock(0, 50, 0, Block.GRASS_BLOCK);
+        instance.setBlock(1, 50, 0, Block.DIRT);
+        assertEquals(Block.STONE, instance.getBlock(0, 50, 0));
+        assertEquals(Block.GRASS_BLOCK, copy.getBlock(0, 50, 0));
+        assertEquals(Block.DIRT, instance.getBlock(1, 50, 0));
+        assertEquals(Block.AIR, copy.getBlock(1, 50, 0));
+    }
+
+    @Test
+    public void deduplicateSections(Env env) {
+        var instance = (InstanceContainer) env.createFlatInstance();
+        for (int x = 0; x < 3; x++) {
+            for (int z = 0; z < 3; z++) {
+                instance.loadChunk(x, z).join();
+            }
+        }
+        final SectionMemoryUsage before = instance.sectionMemoryUsage();
+        assertEquals(9, before.chunks());
+
+        final long saved = instance.deduplicateSections();
+        assertTrue(saved > 0);
+        final SectionMemoryUsage after = instance.sectionMemoryUsage();
+        assertEquals(before.paletteBytes() - saved, after.paletteBytes());
+        assertEquals(before.savedBytes() + saved, after.savedBytes());
+
+        // Sections are copied back when modified
+        instance.setBlock(0, 39, 0, Block.DIRT);
+        assertEquals(Block.DIRT, instance.getBlock(0, 39, 0));
+        assertEquals(Block.STONE, instance.getBlock(16, 39, 0));
+    }
+
+    @Test
+    public void compactChunks(Env env) {
+        var instance = (InstanceContainer) env.createFlatInstance();
+        instance.loadChunk(0, 0).join();
+        for (int x = 0; x < 16; x++) instance.setBlock(x, 50, x, Block.DIRT);
+        final SectionMemoryUsage before = instance.sectionMemoryUsage();
+        assertEquals(0, before.compactedPalettes());
+
+        final long freed = instance.compactChunks();
+        assertTrue(freed > 0);
+        final SectionMemoryUsage after = instance.sectionMemoryUsage();
+        assertTrue(after.compactedPalettes() > 0);
+        assertEquals(before.paletteBytes() - freed, after.paletteBytes());
+
+        // Inflated on access
+        assertEquals(Block.DIRT, instance.getBlock(3, 50, 3));
+        assertEquals(Block.AIR, instance.getBlock(3, 50, 4));
+        assertEquals(Block.STONE, instance.getBlock(3, 30, 3));
+        instance.setBlock(4, 50, 3, Block.DIRT);
+        assertEquals(Block.DIRT, instance.getBlock(4, 50, 3));
+        assertTrue(instance.sectionMemoryUsage().compactedPalettes() < after.compactedPalettes());
+    }
+
+    @Test
+    public void compactIdleChunks(Env env) {
+        var instance = (InstanceContainer) env.createFlatInstance();
+        var chunk = (DynamicChunk) instance.loadChunk(0, 0).join();
+        for (int x = 0; x < 16; x++) instance.setBlock(x, 50, x, Block.DIRT);
+        instance.setChunkCompactionIdleTime(Duration.ofSeconds(5));
+
+        chunk.tick(10_000);
+        assertEquals(0, chunk.compactedPalettes());
+        chunk.tick(20_000);
+        final int compacted = chunk.compactedPalettes();
+        assertTrue(compacted > 0);
+
+        // Accessed, kept inflated until idle again
+        assertEquals(Block.DIRT, instance.getBlock(5, 50, 5));
+        chunk.tick(30_000);
+        assertEquals(compacted - 1, chunk.compactedPalettes());
+        chunk.tick(40_000);
+        assertEquals(compacted, chunk.compactedPalettes());
+
+        instance.setChunkCompactionIdleTime(Duration.ZERO);
+        assertEquals(Block.DIRT, instance.getBlock(5, 50, 5));
+        chunk.tick(60_000);
+        assertEquals(compacted - 1, chunk.compactedPalettes());
+    }
 }
@@ -0,0 +1,98 @@
+package net.minestom.server.instance.anvil;
+
+import net.kyori.adventure.nbt.*;
+import net.minestom.server.instance.Chunk;
+import net.minestom.server.instance.DynamicChunk;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.world.biome.Biome;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class AnvilChunkReaderTest {
+
+    private static DataInputStream stream(CompoundBinaryTag tag) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryTagIO.writer().writeNamed(Map.entry("", tag), out, BinaryTagIO.Compression.NONE);
+        return new DataInputStream(new ByteArrayInputStream(out.toByteArray()));
+    }
+
+    @Test
+    public void sections(Env env) throws IOException {
+        Instance instance = env.createFlatInstance();
+        Chunk chunk = new DynamicChunk(instance, 0, 0);
+
+        // Every block of the section alternates between stone and an oak log, 4 bits per entry
+        long[] blockData = new long[256];
+        Arrays.fill(blockData, 0x1010101010101010L);
+        byte[] skyLight = new byte[2048];
+        Arrays.fill(skyLight, (byte) 0x5A);
+        CompoundBinaryTag section = CompoundBinaryTag.builder()
+                // Y after the palettes, and unknown fields, must be handled
+                .put("block_states", CompoundBinaryTag.builder()
+                        .putLongArray("data", blockData)
+                        .put("palette", ListBinaryTag.builder()
+                                .add(CompoundBinaryTag.builder()
+                                        .put("Properties", CompoundBinaryTag.builder().putString("axis", "x").build())
+                                        .putString("Name", "minecraft:oak_log").build())
+                                .add(CompoundBinaryTag.builder().putString("Name", "minecraft:stone").build())
+                                .build())
+                        .build())
+                .put("biomes", CompoundBinaryTag.builder()
+                        .put("palette", ListBinaryTag.builder().add(StringBinaryTag.stringBinaryTag("minecraft:desert")).build())
+                        .build())
+                .putByteArray("SkyLight", skyLight)
+                .putString("unknown", "ignored")
+                .putByte("Y", (byte) 0)
+                .build();
+        CompoundBinaryTag outOfWorld = CompoundBinaryTag.builder()
+                .putByte("Y", (byte) (chunk.getMinSection() - 1))
+                .build();
+        CompoundBinaryTag root = CompoundBinaryTag.builder()
+                .putString("status", "minecraft:full")
+                .put("sections", ListBinaryTag.builder().add(outOfWorld).add(section).build())
+                .put("Heightmaps", CompoundBinaryTag.empty())
+                .build();
+
+        final CompoundBinaryTag rest = new AnvilChunkReader().read(stream(root), chunk);
+        assertEquals("minecraft:full", rest.getString("status"));
+        assertNull(rest.get("sections"));
+        assertNotNull(rest.get("Heightmaps"));
+
+        assertEquals(Block.OAK_LOG.withProperty("axis", "x"), chunk.getBlock(0, 0, 0));
+        assertEquals(Block.STONE, chunk.getBlock(1, 0, 0));
+        assertEquals(Block.OAK_LOG.withProperty("axis", "x"), chunk.getBlock(0, 15, 15));
+        assertEquals(Biome.DESERT, chunk.getBiome(0, 0, 0));
+        assertArrayEquals(skyLight, chunk.getSection(0).skyLight().array());
+    }
+
+    @Test
+    public void missingData(Env env) {
+        Instance instance = env.createFlatInstance();
+        Chunk chunk = new DynamicChunk(instance, 0, 0);
+        CompoundBinaryTag section = CompoundBinaryTag.builder()
+                .putByte("Y", (byte) 0)
+                .put("block_states", CompoundBinaryTag.builder()
+                        .put("palette", ListBinaryTag.builder()
+                                .add(CompoundBinaryTag.builder().putString("Name", "minecraft:stone").build())
+                                .add(CompoundBinaryTag.builder().putString("Name", "minecraft:dirt").build())
+                                .build())
+                        .build())
+                .build();
+        CompoundBinaryTag root = CompoundBinaryTag.builder()
+                .put("sections", ListBinaryTag.builder().add(section).build())
+                .build();
+        assertThrows(IllegalStateException.class, () -> new AnvilChunkReader().read(stream(root), chunk));
+    }
+}
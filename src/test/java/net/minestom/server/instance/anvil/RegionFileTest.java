@@ -0,0 +1,95 @@
+package net.minestom.server.instance.anvil;
+
+import net.kyori.adventure.nbt.CompoundBinaryTag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RegionFileTest {
+
+    private static CompoundBinaryTag chunkData(int chunkX, int chunkZ, int size) {
+        final byte[] noise = new byte[size];
+        new Random(chunkX * 31L + chunkZ).nextBytes(noise);
+        return CompoundBinaryTag.builder()
+                .putInt("xPos", chunkX)
+                .putInt("zPos", chunkZ)
+                .putByteArray("noise", noise)
+                .build();
+    }
+
+    @Test
+    public void readWrite(@TempDir Path directory) throws IOException {
+        final Path path = directory.resolve(RegionFile.getFileName(0, 0));
+        try (RegionFile regionFile = new RegionFile(path)) {
+            assertFalse(regionFile.hasChunkData(3, 4));
+            assertNull(regionFile.readChunkData(3, 4));
+
+            regionFile.writeChunkData(3, 4, chunkData(3, 4, 100));
+            assertTrue(regionFile.hasChunkData(3, 4));
+            assertEquals(chunkData(3, 4, 100), regionFile.readChunkData(3, 4));
+
+            // Larger than a sector, moved elsewhere
+            regionFile.writeChunkData(3, 4, chunkData(3, 4, 10_000));
+            assertEquals(chunkData(3, 4, 10_000), regionFile.readChunkData(3, 4));
+        }
+        assertEquals(0, Files.size(path) % 4096, "Sectors should be padded");
+    }
+
+    @Test
+    public void reopen(@TempDir Path directory) throws IOException {
+        final Path path = directory.resolve(RegionFile.getFileName(0, 0));
+        try (RegionFile regionFile = new RegionFile(path)) {
+            for (int i = 0; i < 32; i++) regionFile.writeChunkData(i, i, chunkData(i, i, 5_000));
+        }
+        final long size = Files.size(path);
+        try (RegionFile regionFile = new RegionFile(path)) {
+            // Read from the mapping
+            for (int i = 0; i < 32; i++) assertEquals(chunkData(i, i, 5_000), regionFile.readChunkData(i, i));
+            // Freed sectors are reused, and appended sectors are readable
+            regionFile.writeChunkData(0, 0, chunkData(0, 0, 100));
+            regionFile.writeChunkData(1, 0, chunkData(1, 0, 100_000));
+            assertEquals(chunkData(0, 0, 100), regionFile.readChunkData(0, 0));
+            assertEquals(chunkData(1, 0, 100_000), regionFile.readChunkData(1, 0));
+        }
+        assertTrue(Files.size(path) > size);
+    }
+
+    @Test
+    public void concurrent(@TempDir Path directory) throws IOException {
+        final Path path = directory.resolve(RegionFile.getFileName(0, 0));
+        try (RegionFile regionFile = new RegionFile(path)) {
+            IntStream.range(0, 1024).parallel().forEach(index -> {
+                final int chunkX = index & 31, chunkZ = index >> 5;
+                try {
+                    regionFile.writeChunkData(chunkX, chunkZ, chunkData(chunkX, chunkZ, 1_000 + index * 10));
+                    assertEquals(chunkData(chunkX, chunkZ, 1_000 + index * 10), regionFile.readChunkData(chunkX, chunkZ));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+        try (RegionFile regionFile = new RegionFile(path)) {
+            for (int index = 0; index < 1024; index++) {
+                final int chunkX = index & 31, chunkZ = index >> 5;
+                assertEquals(chunkData(chunkX, chunkZ, 1_000 + index * 10), regionFile.readChunkData(chunkX, chunkZ));
+            }
+        }
+    }
+
+    @Test
+    public void closed(@TempDir Path directory) throws IOException {
+        RegionFile regionFile = new RegionFile(directory.resolve(RegionFile.getFileName(0, 0)));
+        regionFile.writeChunkData(0, 0, chunkData(0, 0, 10));
+        regionFile.close();
+        assertThrows(IOException.class, () -> regionFile.readChunkData(0, 0));
+        assertThrows(IOException.class, () -> regionFile.writeChunkData(0, 0, chunkData(0, 0, 10)));
+    }
+}
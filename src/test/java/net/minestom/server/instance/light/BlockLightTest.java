@@ -6,10 +6,13 @@ import net.minestom.server.instance.palette.Palette;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 
 import static java.util.Map.entry;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -203,6 +206,60 @@ public class BlockLightTest {
                 entry(new Vec(3, 0, 3), 12)));
     }
 
+    @Test
+    public void updatePlace() {
+        var palette = Palette.blocks();
+        palette.set(4, 1, 4, Block.GLOWSTONE.stateId());
+        assertUpdate(palette, Map.of(new Vec(4, 1, 5), Block.STONE));
+        assertUpdate(palette, Map.of(new Vec(10, 10, 10), Block.GLOWSTONE));
+    }
+
+    @Test
+    public void updateBreak() {
+        var palette = Palette.blocks();
+        palette.set(4, 1, 4, Block.GLOWSTONE.stateId());
+        palette.set(6, 1, 4, Block.GLOWSTONE.stateId());
+        palette.set(5, 1, 4, Block.STONE.stateId());
+        assertUpdate(palette, Map.of(new Vec(5, 1, 4), Block.AIR));
+        assertUpdate(palette, Map.of(new Vec(4, 1, 4), Block.AIR));
+    }
+
+    @Test
+    public void updateRandom() {
+        final Block[] blocks = {Block.AIR, Block.AIR, Block.AIR, Block.STONE, Block.GLOWSTONE, Block.TORCH,
+                Block.OAK_STAIRS.withProperty("facing", "west"), Block.OAK_SLAB};
+        final Random random = new Random(0);
+        var palette = Palette.blocks();
+        for (int i = 0; i < 512; i++) {
+            palette.set(random.nextInt(16), random.nextInt(16), random.nextInt(16),
+                    blocks[random.nextInt(blocks.length)].stateId());
+        }
+        for (int i = 0; i < 200; i++) {
+            // Batches of changes, possibly on the same position
+            Map<Vec, Block> changes = new HashMap<>();
+            final int count = 1 + random.nextInt(4);
+            for (int j = 0; j < count; j++) {
+                changes.put(new Vec(random.nextInt(16), random.nextInt(16), random.nextInt(16)),
+                        blocks[random.nextInt(blocks.length)]);
+            }
+            assertUpdate(palette, changes);
+        }
+    }
+
+    void assertUpdate(Palette palette, Map<Vec, Block> changes) {
+        final byte[] before = LightCompute.compute(palette, BlockLight.buildInternalQueue(palette));
+        final short[] indexes = new short[changes.size()];
+        int i = 0;
+        for (Map.Entry<Vec, Block> entry : changes.entrySet()) {
+            final Vec position = entry.getKey();
+            palette.set(position.blockX(), position.blockY(), position.blockZ(), entry.getValue().stateId());
+            indexes[i++] = (short) (position.blockX() | (position.blockZ() << 4) | (position.blockY() << 8));
+        }
+        final byte[] expected = LightCompute.compute(palette, BlockLight.buildInternalQueue(palette));
+        final byte[] updated = LightCompute.update(palette, before, indexes, index -> BlockLight.lightEmission(palette, index));
+        assertArrayEquals(expected, updated, () -> "Incremental update differs after " + changes);
+    }
+
     void assertLight(Palette palette, Map<Vec, Integer> expectedLights) {
         byte[] result = LightCompute.compute(palette, BlockLight.buildInternalQueue(palette));
         List<String> errors = new ArrayList<>();
@@ -0,0 +1,53 @@
+package net.minestom.server.instance.light;
+
+import net.minestom.server.collision.Shape;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.instance.block.BlockFace;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class LightOcclusionTest {
+
+    @Test
+    public void lightEmission() {
+        assertEquals(15, LightOcclusion.lightEmission(Block.GLOWSTONE.stateId()));
+        assertEquals(14, LightOcclusion.lightEmission(Block.TORCH.stateId()));
+        assertEquals(0, LightOcclusion.lightEmission(Block.STONE.stateId()));
+        assertEquals(0, LightOcclusion.lightEmission(Block.AIR.stateId()));
+    }
+
+    @Test
+    public void partialFaces() {
+        final Block stair = Block.OAK_STAIRS.withProperties(Map.of("facing", "west", "half", "bottom", "shape", "straight"));
+        final Block slab = Block.OAK_SLAB.withProperty("type", "bottom");
+        for (BlockFace face : BlockFace.values()) {
+            assertOcclusion(stair, slab, face);
+            assertOcclusion(slab, stair, face);
+            assertOcclusion(stair, Block.AIR, face);
+            assertOcclusion(Block.GLOWSTONE, stair, face);
+        }
+    }
+
+    @Test
+    public void randomStates() {
+        final Random random = new Random(0);
+        final int count = Block.statesCount();
+        for (int i = 0; i < 100_000; i++) {
+            final Block from = Block.fromStateId(random.nextInt(count));
+            final Block to = Block.fromStateId(random.nextInt(count));
+            assertOcclusion(from, to, BlockFace.values()[random.nextInt(6)]);
+        }
+    }
+
+    private static void assertOcclusion(Block from, Block to, BlockFace face) {
+        final Shape fromShape = from.registry().occlusionShape();
+        final Shape toShape = to.registry().occlusionShape();
+        final boolean expected = !(from.isAir() && to.isAir()) && fromShape.isOccluded(toShape, face);
+        assertEquals(expected, LightOcclusion.isOccluded(from.stateId(), to.stateId(), face.ordinal()),
+                () -> from + " to " + to + " through " + face);
+    }
+}
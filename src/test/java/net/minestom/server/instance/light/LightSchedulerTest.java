@@ -0,0 +1,88 @@
+package net.minestom.server.instance.light;
+
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.instance.Instance;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class LightSchedulerTest {
+
+    @Test
+    public void callerThread(Env env) {
+        Instance instance = env.createFlatInstance();
+        var scheduler = new LightScheduler(0, 1);
+        final Thread thread = Thread.currentThread();
+        var future = scheduler.batch(instance).submit(Vec.ZERO, Thread::currentThread);
+        assertTrue(future.isDone());
+        assertSame(thread, future.join());
+        assertEquals(1, scheduler.computedCount());
+    }
+
+    @Test
+    public void backpressure(Env env) throws InterruptedException {
+        Instance instance = env.createFlatInstance();
+        var scheduler = new LightScheduler(1, 1);
+        try {
+            CountDownLatch latch = blockThread(scheduler, instance);
+            var batch = scheduler.batch(instance);
+            var queued = batch.submit(new Vec(0, 0, 0), Thread::currentThread);
+            var overflow = batch.submit(new Vec(1, 0, 0), Thread::currentThread);
+            // The queue is full, computed by the caller
+            assertTrue(overflow.isDone());
+            assertSame(Thread.currentThread(), overflow.join());
+            latch.countDown();
+            assertNotSame(Thread.currentThread(), queued.join());
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+
+    @Test
+    public void playerPriority(Env env) throws InterruptedException {
+        Instance instance = env.createFlatInstance();
+        env.createPlayer(instance, new Pos(0, 40, 0));
+        var scheduler = new LightScheduler(1, 16);
+        try {
+            CountDownLatch latch = blockThread(scheduler, instance);
+            List<Integer> order = new CopyOnWriteArrayList<>();
+            var batch = scheduler.batch(instance);
+            List<CompletableFuture<Boolean>> futures = List.of(
+                    batch.submit(new Vec(20, 2, 0), () -> order.add(20)),
+                    batch.submit(new Vec(0, 2, 0), () -> order.add(0)),
+                    batch.submit(new Vec(5, 5, 0), () -> order.add(5)),
+                    batch.submit(new Vec(5, 2, 0), () -> order.add(6)));
+            latch.countDown();
+            futures.forEach(CompletableFuture::join);
+            // Sections of a chunk share its priority, then run in submission order
+            assertEquals(List.of(0, 5, 6, 20), order);
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+
+    private static CountDownLatch blockThread(LightScheduler scheduler, Instance instance) throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch latch = new CountDownLatch(1);
+        scheduler.batch(instance).submit(new Vec(-100, 0, -100), () -> {
+            started.countDown();
+            try {
+                latch.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        });
+        started.await();
+        return latch;
+    }
+}
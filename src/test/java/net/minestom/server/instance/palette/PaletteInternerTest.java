@@ -0,0 +1,83 @@
+package net.minestom.server.instance.palette;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PaletteInternerTest {
+
+    @Test
+    public void shared() {
+        var interner = new PaletteInterner();
+        var first = layered();
+        var second = layered();
+        assertFalse(interner.intern(first));
+        assertTrue(interner.intern(second));
+        assertSame(first.indexedValues(), second.indexedValues());
+        assertEquals(second.storageBytes(), interner.savedBytes());
+        assertEquals(1, interner.size());
+        // Already shared
+        assertFalse(interner.intern(second));
+    }
+
+    @Test
+    public void copyOnWrite() {
+        var interner = new PaletteInterner();
+        var first = layered();
+        var second = layered();
+        interner.intern(first);
+        interner.intern(second);
+
+        second.set(0, 0, 0, 100);
+        assertNotSame(first.indexedValues(), second.indexedValues());
+        assertEquals(1, first.get(0, 0, 0));
+        assertEquals(100, second.get(0, 0, 0));
+
+        // The interned storage is left untouched by its first palette
+        first.set(1, 0, 0, 200);
+        var third = layered();
+        assertTrue(interner.intern(third));
+        assertEquals(1, third.get(1, 0, 0));
+    }
+
+    @Test
+    public void different() {
+        var interner = new PaletteInterner();
+        var first = layered();
+        var second = layered();
+        second.set(5, 5, 5, 7);
+        interner.intern(first);
+        assertFalse(interner.intern(second));
+        assertNotSame(first.indexedValues(), second.indexedValues());
+        assertEquals(2, interner.size());
+        assertEquals(0, interner.savedBytes());
+    }
+
+    @Test
+    public void singleValue() {
+        var interner = new PaletteInterner();
+        var palette = Palette.blocks();
+        palette.fill(1);
+        assertFalse(interner.intern(palette));
+        assertEquals(0, interner.size());
+        assertEquals(0, palette.storageBytes());
+    }
+
+    @Test
+    public void compactedSkipped() {
+        var interner = new PaletteInterner();
+        var first = layered();
+        var second = layered();
+        assertTrue(second.compact());
+        interner.intern(first);
+        assertFalse(interner.intern(second));
+        assertTrue(second.isCompacted());
+        assertEquals(0, interner.savedBytes());
+    }
+
+    private static Palette layered() {
+        var palette = Palette.blocks();
+        palette.setAll((x, y, z) -> y < 8 ? 1 : 0);
+        return palette;
+    }
+}
@@ -69,6 +69,30 @@ public class PaletteSwarTest {
         }
     }
 
+    @Test
+    public void scalarMatchesDispatched() {
+        // Dispatched operations use the Vector API when available
+        final Random random = new Random(564738291);
+        for (int it = 0; it < ITERATIONS; it++) {
+            final int bits = random.nextInt(1, 17);
+            final int range = 1 << bits;
+            final int size = random.nextInt(1, 5000);
+            final int[] indices = randomIndices(random, size, Math.max(2, Math.min(range, random.nextInt(2, 9))));
+            final long[] packed = Palettes.pack(indices, bits);
+            final long[] scalarPacked = packed.clone();
+            final int target = random.nextInt(0, Math.min(range, 9));
+            final int newValue = random.nextInt(0, range);
+            assertEquals(Palettes.countEquals(bits, packed, size, target, 0), Palettes.countEquals(bits, packed, size, target),
+                    () -> "count bits=" + bits + " size=" + size + " target=" + target);
+            assertEquals(Palettes.anyEquals(bits, packed, size, target, 0), Palettes.anyEquals(bits, packed, size, target),
+                    () -> "any bits=" + bits + " size=" + size + " target=" + target);
+            assertEquals(Palettes.replaceEquals(bits, scalarPacked, size, target, newValue, 0),
+                    Palettes.replaceEquals(bits, packed, size, target, newValue),
+                    () -> "replace bits=" + bits + " size=" + size + " target=" + target);
+            assertArrayEquals(scalarPacked, packed);
+        }
+    }
+
     @Test
     public void countAllZeroAndAllSet() {
         for (int bits = 1; bits <= 16; bits++) {
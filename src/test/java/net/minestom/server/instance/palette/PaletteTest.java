@@ -5,10 +5,13 @@ import net.minestom.server.coordinate.Vec;
 import net.minestom.server.network.NetworkBuffer;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Random;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
 import static net.minestom.server.instance.palette.PaletteAssertions.assertAllEquals;
 import static net.minestom.server.instance.palette.PaletteAssertions.testPalettes;
@@ -1035,4 +1038,143 @@ public class PaletteTest {
         assertEquals(testPalette.maxSize() - 12, testPalette.count());
     }
 
+    @Test
+    public void cloneCopyOnWrite() {
+        var palette = Palette.blocks();
+        palette.setAll((x, y, z) -> x + y + 1);
+        var clone = palette.clone();
+        assertSame(palette.indexedValues(), clone.indexedValues());
+
+        clone.set(0, 0, 0, 100);
+        assertNotSame(palette.indexedValues(), clone.indexedValues());
+        assertEquals(1, palette.get(0, 0, 0));
+        assertEquals(100, clone.get(0, 0, 0));
+
+        palette.replace(2, 200);
+        assertEquals(200, palette.get(1, 0, 0));
+        assertEquals(2, clone.get(1, 0, 0));
+    }
+
+    @Test
+    public void cloneCopyOnWriteAllOperations() {
+        var source = Palette.blocks();
+        source.setAll((x, y, z) -> x + 1);
+        final int[] expected = {-1};
+        source.getAll((x, y, z, value) -> expected[0] += value);
+        for (var operation : List.<Consumer<Palette>>of(
+                p -> p.set(1, 1, 1, 50),
+                p -> p.replace(3, 50),
+                p -> p.replace(1, 1, 1, v -> v + 50),
+                p -> p.replaceAll((x, y, z, v) -> v + 1),
+                p -> p.setAll((x, y, z) -> z),
+                p -> p.offset(5),
+                p -> p.copyFrom(Palette.blocks(), 1, 1, 1),
+                p -> p.valueToPaletteIndex(1000),
+                p -> p.optimize(Palette.Optimization.SPEED))) {
+            var clone = source.clone();
+            operation.accept(clone);
+            final int[] sum = {-1};
+            source.getAll((x, y, z, value) -> sum[0] += value);
+            assertEquals(expected[0], sum[0]);
+            // The source is still writable without affecting the clone
+            var other = source.clone();
+            source.set(0, 0, 0, 7);
+            assertEquals(1, other.get(0, 0, 0));
+            source.set(0, 0, 0, 1);
+        }
+    }
+
+    @Test
+    public void cloneSingleValue() {
+        var palette = Palette.blocks();
+        palette.fill(5);
+        var clone = palette.clone();
+        clone.set(0, 0, 0, 6);
+        assertEquals(5, palette.get(0, 0, 0));
+        assertEquals(6, clone.get(0, 0, 0));
+    }
+
+    @Test
+    public void compactRoundTrip() {
+        for (Palette palette : testPalettes()) {
+            // Smaller palettes do not compress below their size
+            if (palette.dimension() < 8) continue;
+            palette.setAll((x, y, z) -> x == z ? y + 1 : 0);
+            final int count = palette.count();
+            final int bitsPerEntry = palette.bitsPerEntry();
+            final long bytes = palette.storageBytes();
+            final List<Integer> expected = new ArrayList<>();
+            palette.getAll((x, y, z, value) -> expected.add(value));
+
+            assertTrue(palette.compact());
+            assertTrue(palette.isCompacted());
+            assertFalse(palette.compact());
+            assertTrue(palette.storageBytes() < bytes);
+            assertEquals(count, palette.count());
+            assertEquals(bitsPerEntry, palette.bitsPerEntry());
+
+            assertEquals(1, palette.get(0, 0, 0));
+            assertFalse(palette.isCompacted());
+            assertEquals(bytes, palette.storageBytes());
+            final List<Integer> actual = new ArrayList<>();
+            palette.getAll((x, y, z, value) -> actual.add(value));
+            assertEquals(expected, actual);
+        }
+    }
+
+    @Test
+    public void compactInflatedOnWrite() {
+        var palette = Palette.blocks();
+        palette.setAll((x, y, z) -> x + 1);
+        assertTrue(palette.compact());
+        palette.set(0, 0, 0, 100);
+        assertFalse(palette.isCompacted());
+        assertEquals(100, palette.get(0, 0, 0));
+        assertEquals(2, palette.get(1, 0, 0));
+
+        assertTrue(palette.compact());
+        palette.replace(2, 200);
+        assertEquals(200, palette.get(1, 0, 0));
+        assertEquals(palette.maxSize(), palette.count());
+    }
+
+    @Test
+    public void compactClone() {
+        var palette = Palette.blocks();
+        palette.setAll((x, y, z) -> z + 1);
+        assertTrue(palette.compact());
+        var clone = palette.clone();
+        assertTrue(clone.isCompacted());
+        clone.set(0, 0, 0, 100);
+        assertTrue(palette.isCompacted());
+        assertEquals(1, palette.get(0, 0, 0));
+        assertEquals(100, clone.get(0, 0, 0));
+    }
+
+    @Test
+    public void compactSkipped() {
+        var palette = Palette.blocks();
+        palette.fill(5);
+        assertFalse(palette.compact());
+        // Shared with a clone until either is modified
+        palette.setAll((x, y, z) -> x + 1);
+        var clone = palette.clone();
+        assertFalse(palette.compact());
+        assertFalse(clone.compact());
+        // Written over while compacted
+        palette.set(0, 0, 0, 1);
+        assertTrue(palette.compact());
+        palette.fill(3);
+        assertFalse(palette.isCompacted());
+        assertEquals(3, palette.get(0, 0, 0));
+    }
+
+    @Test
+    public void compactSerialization() {
+        var palette = Palette.blocks();
+        palette.setAll((x, y, z) -> x + y);
+        final byte[] expected = NetworkBuffer.makeArray(Palette.BLOCK_SERIALIZER, palette);
+        assertTrue(palette.compact());
+        assertArrayEquals(expected, NetworkBuffer.makeArray(Palette.BLOCK_SERIALIZER, palette));
+    }
 }
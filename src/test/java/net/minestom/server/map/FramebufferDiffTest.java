@@ -0,0 +1,85 @@
+package net.minestom.server.map;
+
+import net.minestom.server.map.framebuffers.DirectFramebuffer;
+import net.minestom.server.network.packet.server.play.MapDataPacket;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FramebufferDiffTest {
+
+    @Test
+    public void fullFirstUpdate() {
+        DirectFramebuffer framebuffer = new DirectFramebuffer();
+        framebuffer.set(5, 5, MapColors.STONE.baseColor());
+        FramebufferDiff diff = new FramebufferDiff(3);
+
+        List<MapDataPacket> packets = diff.update(framebuffer);
+        assertEquals(1, packets.size());
+        assertEquals(framebuffer.preparePacket(3), packets.getFirst());
+        assertEquals(List.of(), diff.update(framebuffer));
+
+        diff.reset();
+        assertEquals(List.of(framebuffer.preparePacket(3)), diff.update(framebuffer));
+    }
+
+    @Test
+    public void singlePixel() {
+        DirectFramebuffer framebuffer = new DirectFramebuffer();
+        FramebufferDiff diff = new FramebufferDiff(0);
+        diff.update(framebuffer);
+
+        framebuffer.set(10, 20, MapColors.GRASS.baseColor());
+        var content = single(diff.update(framebuffer));
+        assertEquals(new MapDataPacket.ColorContent((byte) 1, (byte) 1, (byte) 10, (byte) 20,
+                new byte[]{MapColors.GRASS.baseColor()}), content);
+        assertEquals(List.of(), diff.update(framebuffer));
+    }
+
+    @Test
+    public void closeChanges() {
+        DirectFramebuffer framebuffer = new DirectFramebuffer();
+        FramebufferDiff diff = new FramebufferDiff(0);
+        diff.update(framebuffer);
+
+        framebuffer.set(10, 20, MapColors.GRASS.baseColor());
+        framebuffer.set(12, 22, MapColors.SAND.baseColor());
+        var content = single(diff.update(framebuffer));
+        assertEquals(3, content.columns());
+        assertEquals(3, content.rows());
+        assertEquals(10, content.x());
+        assertEquals(20, content.z());
+        assertEquals(MapColors.GRASS.baseColor(), content.data()[0]);
+        assertEquals(MapColors.SAND.baseColor(), content.data()[8]);
+    }
+
+    @Test
+    public void distantChanges() {
+        DirectFramebuffer framebuffer = new DirectFramebuffer();
+        FramebufferDiff diff = new FramebufferDiff(0);
+        diff.update(framebuffer);
+
+        framebuffer.set(0, 0, MapColors.GRASS.baseColor());
+        framebuffer.set(127, 127, MapColors.SAND.baseColor());
+        List<MapDataPacket> packets = diff.update(framebuffer);
+        assertEquals(2, packets.size());
+        assertEquals(new MapDataPacket.ColorContent((byte) 1, (byte) 1, (byte) 0, (byte) 0,
+                new byte[]{MapColors.GRASS.baseColor()}), packets.get(0).colorContent());
+        assertEquals(new MapDataPacket.ColorContent((byte) 1, (byte) 1, (byte) 127, (byte) 127,
+                new byte[]{MapColors.SAND.baseColor()}), packets.get(1).colorContent());
+    }
+
+    @Test
+    public void invalidSize() {
+        assertThrows(IllegalArgumentException.class, () -> new FramebufferDiff(0).update(new byte[10]));
+    }
+
+    private static MapDataPacket.ColorContent single(List<MapDataPacket> packets) {
+        assertEquals(1, packets.size());
+        final MapDataPacket.ColorContent content = packets.getFirst().colorContent();
+        assertNotNull(content);
+        return content;
+    }
+}
@@ -0,0 +1,99 @@
+package net.minestom.server.map;
+
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.map.framebuffers.LargeGraphics2DFramebuffer;
+import net.minestom.server.network.packet.server.play.MapDataPacket;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import java.awt.*;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class LargeFramebufferDiffTest {
+
+    @Test
+    public void grid() {
+        LargeGraphics2DFramebuffer framebuffer = new LargeGraphics2DFramebuffer(200, 150);
+        LargeFramebufferDiff diff = new LargeFramebufferDiff(framebuffer, 10);
+        assertEquals(2, diff.columns());
+        assertEquals(2, diff.rows());
+        assertEquals(10, diff.mapId(0, 0));
+        assertEquals(11, diff.mapId(1, 0));
+        assertEquals(12, diff.mapId(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> diff.mapId(2, 0));
+    }
+
+    @Test
+    public void animatedUpdate() {
+        LargeGraphics2DFramebuffer framebuffer = new LargeGraphics2DFramebuffer(200, 150);
+        LargeFramebufferDiff diff = new LargeFramebufferDiff(framebuffer, 10);
+
+        List<MapDataPacket> full = diff.update();
+        assertEquals(4, full.size());
+        assertEquals(List.of(10, 11, 12, 13), full.stream().map(MapDataPacket::mapId).toList());
+        assertEquals(List.of(), diff.update());
+
+        // Single pixel in the top-right map
+        framebuffer.set(150, 10, Color.RED.getRGB());
+        List<MapDataPacket> changes = diff.update();
+        assertEquals(1, changes.size());
+        final MapDataPacket packet = changes.getFirst();
+        assertEquals(11, packet.mapId());
+        final MapDataPacket.ColorContent content = packet.colorContent();
+        assertNotNull(content);
+        assertEquals(new MapDataPacket.ColorContent((byte) 1, (byte) 1, (byte) 22, (byte) 10,
+                new byte[]{framebuffer.getMapColor(150, 10)}), content);
+        assertEquals(List.of(), diff.update());
+    }
+
+    @Test
+    public void viewers(Env env) {
+        var instance = env.createFlatInstance();
+        var firstConnection = env.createConnection();
+        var first = firstConnection.connect(instance, new Pos(0, 42, 0));
+        var secondConnection = env.createConnection();
+        var second = secondConnection.connect(instance, new Pos(0, 42, 0));
+
+        LargeGraphics2DFramebuffer framebuffer = new LargeGraphics2DFramebuffer(256, 128);
+        LargeFramebufferDiff diff = new LargeFramebufferDiff(framebuffer, 0);
+
+        var firstTracker = firstConnection.trackIncoming(MapDataPacket.class);
+        diff.send(List.of(first));
+        firstTracker.assertCount(2);
+
+        // Known viewers only receive the changes, new viewers every map
+        framebuffer.set(5, 5, Color.BLUE.getRGB());
+        firstTracker = firstConnection.trackIncoming(MapDataPacket.class);
+        var secondTracker = secondConnection.trackIncoming(MapDataPacket.class);
+        diff.send(List.of(first, second));
+        firstTracker.assertSingle(packet -> {
+            assertEquals(0, packet.mapId());
+            assertNotNull(packet.colorContent());
+            assertEquals(1, packet.colorContent().columns());
+        });
+        List<MapDataPacket> received = secondTracker.collect();
+        assertEquals(2, received.size());
+        for (MapDataPacket packet : received) {
+            assertNotNull(packet.colorContent());
+            assertEquals((byte) 128, packet.colorContent().columns());
+        }
+        assertEquals(framebuffer.getMapColor(5, 5), received.getFirst().colorContent().data()[Framebuffer.index(5, 5)]);
+
+        // Nothing changed
+        firstTracker = firstConnection.trackIncoming(MapDataPacket.class);
+        secondTracker = secondConnection.trackIncoming(MapDataPacket.class);
+        diff.send(List.of(first, second));
+        firstTracker.assertCount(0);
+        secondTracker.assertCount(0);
+
+        // Viewers leaving are sent every map when coming back
+        diff.send(List.of(second));
+        firstTracker = firstConnection.trackIncoming(MapDataPacket.class);
+        diff.send(List.of(first, second));
+        firstTracker.assertCount(2);
+    }
+}
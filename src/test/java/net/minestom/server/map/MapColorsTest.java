@@ -0,0 +1,89 @@
+package net.minestom.server.map;
+
+import net.minestom.server.map.framebuffers.LargeDirectFramebuffer;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MapColorsTest {
+
+    @Test
+    public void paletteColors() {
+        for (MapColors base : MapColors.values()) {
+            if (base == MapColors.NONE) continue;
+            for (MapColors.Multiplier multiplier : MapColors.Multiplier.values()) {
+                final int rgb = MapColors.PreciseMapColor.toRGB(base, multiplier);
+                final MapColors.PreciseMapColor color = MapColors.closestColor(rgb);
+                assertEquals(rgb, color.toRGB());
+                assertEquals(color.getIndex(), MapColors.closestIndex(0xFF000000 | rgb));
+            }
+        }
+    }
+
+    @Test
+    public void closestIndex() {
+        Random random = new Random(12345);
+        for (int i = 0; i < 1000; i++) {
+            final int rgb = random.nextInt(0x1000000);
+            assertEquals(bruteForce(rgb), MapColors.closestIndex(rgb), "rgb " + Integer.toHexString(rgb));
+            assertEquals(MapColors.closestIndex(rgb), MapColors.closestColor(rgb).getIndex());
+        }
+    }
+
+    @Test
+    public void closestIndices() {
+        Random random = new Random(12345);
+        int[] argb = new int[1000];
+        for (int i = 0; i < argb.length; i++) {
+            // Runs of colors, with random alpha
+            argb[i] = (random.nextInt(256) << 24) | (i % 7 == 0 ? random.nextInt(0x1000000) : argb[Math.max(i - 1, 0)] & 0xFFFFFF);
+        }
+        byte[] indices = new byte[argb.length + 2];
+        MapColors.closestIndices(argb, 0, indices, 1, argb.length);
+        assertEquals(0, indices[0]);
+        assertEquals(0, indices[indices.length - 1]);
+        for (int i = 0; i < argb.length; i++) {
+            assertEquals(MapColors.closestIndex(argb[i]), indices[i + 1]);
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> MapColors.closestIndices(argb, 1, indices, 0, argb.length));
+    }
+
+    @Test
+    public void subViewOutOfBounds() {
+        LargeDirectFramebuffer framebuffer = new LargeDirectFramebuffer(200, 100);
+        for (int y = 0; y < 100; y++) {
+            for (int x = 0; x < 200; x++) {
+                framebuffer.setMapColor(x, y, (byte) (x + y));
+            }
+        }
+        final byte[] colors = framebuffer.createSubView(100, 0).toMapColors();
+        for (int y = 0; y < Framebuffer.HEIGHT; y++) {
+            for (int x = 0; x < Framebuffer.WIDTH; x++) {
+                final byte expected = x + 100 < 200 && y < 100 ? (byte) (x + 100 + y) : MapColors.NONE.baseColor();
+                assertEquals(expected, colors[Framebuffer.index(x, y)]);
+            }
+        }
+    }
+
+    private static byte bruteForce(int rgb) {
+        byte closest = 0;
+        int closestDistance = Integer.MAX_VALUE;
+        for (MapColors base : MapColors.values()) {
+            if (base == MapColors.NONE) continue;
+            for (MapColors.Multiplier multiplier : MapColors.Multiplier.values()) {
+                final int key = MapColors.PreciseMapColor.toRGB(base, multiplier);
+                final int dr = ((key >> 16) & 0xFF) - ((rgb >> 16) & 0xFF);
+                final int dg = ((key >> 8) & 0xFF) - ((rgb >> 8) & 0xFF);
+                final int db = (key & 0xFF) - (rgb & 0xFF);
+                final int distance = dr * dr + dg * dg + db * db;
+                if (distance < closestDistance) {
+                    closest = multiplier.apply(base);
+                    closestDistance = distance;
+                }
+            }
+        }
+        return closest;
+    }
+}
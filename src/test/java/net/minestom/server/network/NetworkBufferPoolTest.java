@@ -0,0 +1,136 @@
+package net.minestom.server.network;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class NetworkBufferPoolTest {
+
+    @Test
+    public void classSize() {
+        var pool = new NetworkBufferPool(1000, 100_000, 1 << 20);
+        assertEquals(1024, pool.classSize(1));
+        assertEquals(1024, pool.classSize(1024));
+        assertEquals(2048, pool.classSize(1025));
+        assertEquals(131_072, pool.classSize(100_000));
+        // Larger than all classes
+        assertEquals(200_000, pool.classSize(200_000));
+    }
+
+    @Test
+    public void reuse() {
+        var pool = new NetworkBufferPool(1024, 4096, 1 << 20);
+        var buffer = pool.acquire(1500);
+        assertEquals(2048, buffer.capacity());
+        buffer.write(NetworkBuffer.INT, 5);
+        pool.release(buffer);
+
+        var reused = pool.acquire(2000);
+        assertSame(buffer, reused);
+        assertEquals(0, reused.writeIndex());
+        assertEquals(0, reused.readIndex());
+        pool.release(reused);
+
+        var stats = pool.stats().get(1);
+        assertEquals(2048, stats.size());
+        assertEquals(1, stats.misses());
+        assertEquals(1, stats.hits());
+        assertEquals(0, stats.inUse());
+        assertEquals(1, stats.highWater());
+    }
+
+    @Test
+    public void slab() {
+        var pool = new NetworkBufferPool(1024, 1024, 1 << 20);
+        var first = pool.acquire(1024);
+        // The rest of the slab is retained
+        assertTrue(pool.stats().getFirst().retained() > 0);
+        var second = pool.acquire(1024);
+        assertNotSame(first, second);
+        var stats = pool.stats().getFirst();
+        assertEquals(1, stats.misses());
+        assertEquals(1, stats.hits());
+        assertEquals(2, stats.inUse());
+        assertEquals(2, stats.highWater());
+        // Buffers do not share memory
+        first.write(NetworkBuffer.LONG, -1L);
+        second.write(NetworkBuffer.LONG, 0L);
+        assertEquals(-1L, first.read(NetworkBuffer.LONG));
+        pool.release(first);
+        pool.release(second);
+    }
+
+    @Test
+    public void oversized() {
+        var pool = new NetworkBufferPool(1024, 4096, 1 << 20);
+        var buffer = pool.acquire(5000);
+        assertEquals(5000, buffer.capacity());
+        pool.release(buffer);
+        assertEquals(1, pool.oversizedCount());
+        assertNotSame(buffer, pool.acquire(5000));
+    }
+
+    @Test
+    public void resized() {
+        var pool = new NetworkBufferPool(1024, 4096, 1 << 20);
+        var buffer = pool.acquire(1024);
+        buffer.resize(1500);
+        pool.release(buffer);
+        assertNotSame(buffer, pool.acquire(1024));
+    }
+
+    @Test
+    public void foreignRelease() {
+        var pool = new NetworkBufferPool(1024, 4096, 1 << 20);
+        var other = new NetworkBufferPool(1024, 4096, 1 << 20);
+        pool.release(NetworkBuffer.staticBuffer(1024));
+        pool.release(other.acquire(1024));
+        var stats = pool.stats().getFirst();
+        assertEquals(0, stats.inUse());
+        assertEquals(0, stats.retained());
+    }
+
+    @Test
+    public void doubleRelease() {
+        var pool = new NetworkBufferPool(1024, 1024, 1 << 20);
+        var buffer = pool.acquire(1024);
+        pool.release(buffer);
+        pool.release(buffer);
+        assertEquals(0, pool.stats().getFirst().inUse());
+        // Lent once
+        assertSame(buffer, pool.acquire(1024));
+        assertNotSame(buffer, pool.acquire(1024));
+    }
+
+    @Test
+    public void retainedBudget() {
+        // Shared by the 3 classes, the largest one does not fit its share
+        var pool = new NetworkBufferPool(1024, 4096, 3 * 2048);
+        var buffer = pool.acquire(4096);
+        pool.release(buffer);
+        assertEquals(0, pool.stats().getLast().retained());
+        assertNotSame(buffer, pool.acquire(4096));
+        assertEquals(2, pool.stats().getLast().misses());
+    }
+
+    @Test
+    public void virtualThread() throws InterruptedException {
+        var pool = new NetworkBufferPool(1024, 1024, 1 << 20);
+        AtomicReference<NetworkBuffer> released = new AtomicReference<>();
+        Thread.ofVirtual().start(() -> {
+            var buffer = pool.acquire(1024);
+            released.set(buffer);
+            pool.release(buffer);
+        }).join();
+        // Released to the shared queue, not to the dead thread cache
+        NetworkBuffer found = null;
+        final int retained = pool.stats().getFirst().retained();
+        for (int i = 0; i < retained; i++) {
+            var buffer = pool.acquire(1024);
+            if (buffer == released.get()) found = buffer;
+        }
+        assertNotNull(found);
+    }
+}
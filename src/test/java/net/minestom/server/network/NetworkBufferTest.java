@@ -142,6 +142,25 @@ public class NetworkBufferTest {
         assertEquals(3.5f, buffer2.read(FLOAT));
     }
 
+    @Test
+    public void view() {
+        var buffer = NetworkBuffer.staticBuffer(10);
+        buffer.write(INT, 6);
+        buffer.write(SHORT, (short) 2);
+        buffer.write(FLOAT, 3.5f);
+
+        var view = NetworkBuffer.view(buffer, 4, 6);
+        assertEquals(0, view.position());
+        assertEquals(6, view.remaining());
+        assertEquals((short) 2, view.getShort());
+        assertEquals(3.5f, view.getFloat());
+
+        // Shares the memory of the buffer
+        buffer.writeAt(0, INT, 7);
+        assertEquals(7, NetworkBuffer.view(buffer, 0, 4).getInt());
+        assertTrue(NetworkBuffer.view(buffer.readOnly(), 0, 4).isReadOnly());
+    }
+
     @Test
     public void compact() {
         var buffer = NetworkBuffer.staticBuffer(256);
@@ -0,0 +1,94 @@
+package net.minestom.server.network;
+
+import net.minestom.server.network.compression.CompressionPolicy;
+import net.minestom.server.network.compression.CompressionStats;
+import net.minestom.server.network.compression.PacketCompressor;
+import net.minestom.server.network.packet.PacketWriting;
+import net.minestom.server.network.packet.server.ServerPacket;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+
+import static net.minestom.server.network.NetworkBuffer.STRING;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PacketCompressorTest {
+
+    record TextPacket(String value) implements ServerPacket.Play {
+        public static final NetworkBuffer.Type<TextPacket> SERIALIZER = NetworkBufferTemplate.template(
+                STRING, TextPacket::value,
+                TextPacket::new);
+    }
+
+    record StatsPacket(String value) implements ServerPacket.Play {
+        public static final NetworkBuffer.Type<StatsPacket> SERIALIZER = NetworkBufferTemplate.template(
+                STRING, StatsPacket::value,
+                StatsPacket::new);
+    }
+
+    @Test
+    public void roundTrip() throws DataFormatException {
+        final byte[] data = "Hello world!".repeat(200).getBytes();
+        var input = NetworkBuffer.staticBuffer(data.length);
+        input.write(NetworkBuffer.RAW_BYTES, data);
+        for (int level = Deflater.DEFAULT_COMPRESSION; level <= Deflater.BEST_COMPRESSION; level++) {
+            var compressor = PacketCompressor.deflater(CompressionPolicy.of(new CompressionPolicy.Rule(level, 0), Map.of()));
+            var compressed = NetworkBuffer.staticBuffer(data.length + 64);
+            final long size = compressor.compress(new TextPacket(""), input, 0, data.length, compressed);
+            assertEquals(size, compressed.writeIndex());
+
+            var output = NetworkBuffer.staticBuffer(data.length);
+            compressed.decompress(0, size, output);
+            assertArrayEquals(data, output.read(NetworkBuffer.FixedRawBytes(data.length)), "level " + level);
+        }
+    }
+
+    @Test
+    public void outputTooSmall() {
+        final byte[] data = new byte[1024];
+        new Random(5).nextBytes(data);
+        var input = NetworkBuffer.staticBuffer(data.length);
+        input.write(NetworkBuffer.RAW_BYTES, data);
+        var output = NetworkBuffer.staticBuffer(16);
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> PacketCompressor.deflater().compress(new TextPacket(""), input, 0, data.length, output));
+    }
+
+    @Test
+    public void policy() {
+        var rule = new CompressionPolicy.Rule(Deflater.BEST_SPEED, 1024);
+        var compressor = PacketCompressor.deflater(CompressionPolicy.of(CompressionPolicy.Rule.DEFAULT, Map.of(TextPacket.class, rule)));
+        assertEquals(1024, compressor.threshold(new TextPacket("")));
+        assertEquals(0, compressor.threshold(new StatsPacket("")));
+
+        assertThrows(IllegalArgumentException.class, () -> new CompressionPolicy.Rule(10, 0));
+        assertThrows(IllegalArgumentException.class, () -> new CompressionPolicy.Rule(Deflater.BEST_SPEED, -1));
+    }
+
+    @Test
+    public void stats() {
+        var buffer = NetworkBuffer.resizableBuffer(1024);
+        final String value = "Hello world!".repeat(200);
+        assertFalse(CompressionStats.isEnabled());
+        PacketWriting.writeFramedPacket(buffer, StatsPacket.SERIALIZER, 1, new StatsPacket(value), 256);
+        assertTrue(CompressionStats.snapshot().stream().noneMatch(e -> e.packetType() == StatsPacket.class));
+
+        CompressionStats.setEnabled(true);
+        try {
+            PacketWriting.writeFramedPacket(buffer, StatsPacket.SERIALIZER, 1, new StatsPacket(value), 256);
+            PacketWriting.writeFramedPacket(buffer, StatsPacket.SERIALIZER, 1, new StatsPacket("small"), 256);
+        } finally {
+            CompressionStats.setEnabled(false);
+        }
+
+        var entry = CompressionStats.snapshot().stream()
+                .filter(e -> e.packetType() == StatsPacket.class)
+                .findFirst().orElseThrow();
+        assertEquals(1, entry.packets());
+        assertTrue(entry.uncompressedBytes() > value.length());
+        assertTrue(entry.ratio() < 0.5, "ratio " + entry.ratio());
+    }
+}
@@ -155,22 +155,35 @@ public class SocketReadTest {
         final byte[] framed = new byte[length];
         encoded.copyTo(0, framed, 0, length);
 
-        // Drain the pool so any buffer we inspect afterwards must have been used by the read.
-        while (PacketVanilla.PACKET_POOL.count() > 0) PacketVanilla.PACKET_POOL.get();
+        // Decompressed length, deciding the size class borrowed by the read
+        final var header = NetworkBuffer.wrap(framed, 0, framed.length);
+        header.read(NetworkBuffer.VAR_INT); // Packet length
+        final int dataLength = header.read(NetworkBuffer.VAR_INT);
+        final long sizeClass = PacketVanilla.BUFFER_POOL.classSize(dataLength);
+        final long acquiredBefore = acquiredCount(sizeClass);
 
         final Registries sourceRegistries = Registries.vanilla();
         final var source = NetworkBuffer.wrap(framed, 0, framed.length, sourceRegistries);
         PacketReading.readClients(source, ConnectionState.PLAY, true);
+        assertEquals(acquiredBefore + 1, acquiredCount(sizeClass), "The read must decompress into a pooled buffer");
 
-        final NetworkBuffer pooled = PacketVanilla.PACKET_POOL.get();
+        // The buffer released last by this thread is lent first
+        final NetworkBuffer pooled = PacketVanilla.BUFFER_POOL.acquire(dataLength);
         try {
             assertNotSame(pooled.registries(), sourceRegistries,
                     "Decompressed pool buffer must not be polluted with registries");
         } finally {
-            PacketVanilla.PACKET_POOL.add(pooled);
+            PacketVanilla.BUFFER_POOL.release(pooled);
         }
     }
 
+    private static long acquiredCount(long sizeClass) {
+        return PacketVanilla.BUFFER_POOL.stats().stream()
+                .filter(stats -> stats.size() == sizeClass)
+                .mapToLong(stats -> stats.hits() + stats.misses())
+                .sum();
+    }
+
     private static int getVarIntSize(int input) {
         return (input & 0xFFFFFF80) == 0
                 ? 1 : (input & 0xFFFFC000) == 0
@@ -0,0 +1,95 @@
+package net.minestom.server.network.packet;
+
+import net.minestom.server.network.ConnectionState;
+import net.minestom.server.network.NetworkBuffer;
+import net.minestom.server.network.packet.server.common.KeepAlivePacket;
+import net.minestom.server.network.packet.server.common.PluginMessagePacket;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PacketSendStatsTest {
+
+    @Test
+    public void uncompressed() {
+        var stats = PacketSendStats.open();
+        try {
+            var packet = new KeepAlivePacket(5);
+            var buffer = NetworkBuffer.resizableBuffer();
+            PacketWriting.writeFramedPacket(buffer, ConnectionState.PLAY, packet, 0);
+            final int id = PacketSendStats.packetId(ConnectionState.PLAY, packet);
+            stats.record(ConnectionState.PLAY, id, buffer, 0, buffer.writeIndex(), false);
+            stats.record(ConnectionState.PLAY, id, buffer, 0, buffer.writeIndex(), false);
+
+            final List<PacketSendStats.Entry> entries = stats.entries();
+            assertEquals(1, entries.size());
+            var entry = entries.getFirst();
+            assertEquals(ConnectionState.PLAY, entry.state());
+            assertEquals(id, entry.packetId());
+            assertEquals(KeepAlivePacket.class, entry.packetType());
+            assertEquals(2, entry.packets());
+            assertEquals(buffer.writeIndex() * 2, entry.sentBytes());
+            assertEquals(entry.sentBytes(), entry.uncompressedBytes());
+            assertEquals(2, stats.packets());
+        } finally {
+            stats.close();
+        }
+    }
+
+    @Test
+    public void compressed() {
+        var stats = PacketSendStats.open();
+        try {
+            var packet = new PluginMessagePacket("channel", new byte[4096]);
+            var buffer = NetworkBuffer.resizableBuffer();
+            PacketWriting.writeFramedPacket(buffer, ConnectionState.PLAY, packet, 256);
+            var uncompressed = NetworkBuffer.resizableBuffer();
+            PacketWriting.writeFramedPacket(uncompressed, ConnectionState.PLAY, packet, 0);
+
+            final int id = PacketSendStats.packetId(ConnectionState.PLAY, packet);
+            stats.record(ConnectionState.PLAY, id, buffer, 0, buffer.writeIndex(), true);
+            var entry = stats.entries().getFirst();
+            assertEquals(buffer.writeIndex(), entry.sentBytes());
+            assertTrue(entry.sentBytes() < entry.uncompressedBytes());
+            // Compressed header (3 bytes packet length, 3 bytes data length) followed by the uncompressed id and payload
+            final int payload = uncompressed.read(NetworkBuffer.VAR_INT);
+            assertEquals(6 + payload, entry.uncompressedBytes());
+        } finally {
+            stats.close();
+        }
+    }
+
+    @Test
+    public void unknown() {
+        var stats = PacketSendStats.open();
+        try {
+            stats.recordUnknown(ConnectionState.PLAY, 100);
+            var entry = stats.entries().getFirst();
+            assertEquals(PacketSendStats.UNKNOWN_ID, entry.packetId());
+            assertNull(entry.packetType());
+            assertEquals(100, entry.sentBytes());
+            assertEquals(PacketSendStats.UNKNOWN_ID, PacketSendStats.packetId(ConnectionState.STATUS, new KeepAlivePacket(1)));
+        } finally {
+            stats.close();
+        }
+    }
+
+    @Test
+    public void global() {
+        var stats = PacketSendStats.open();
+        final long before = sentBytes(PacketSendStats.global());
+        stats.recordUnknown(ConnectionState.CONFIGURATION, 10);
+        assertEquals(before + 10, sentBytes(PacketSendStats.global()));
+        // Kept once closed
+        stats.close();
+        assertEquals(before + 10, sentBytes(PacketSendStats.global()));
+        stats.close();
+        assertEquals(before + 10, sentBytes(PacketSendStats.global()));
+    }
+
+    private static long sentBytes(List<PacketSendStats.Entry> entries) {
+        return entries.stream().mapToLong(PacketSendStats.Entry::sentBytes).sum();
+    }
+}
@@ -0,0 +1,201 @@
+package net.minestom.server.network.player;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.ServerFlag;
+import net.minestom.server.network.ConnectionState;
+import net.minestom.server.network.NetworkBuffer;
+import net.minestom.server.network.packet.PacketWriting;
+import net.minestom.server.network.packet.server.BufferedPacket;
+import net.minestom.server.network.packet.server.FramedPacket;
+import net.minestom.server.network.packet.server.ServerPacket;
+import net.minestom.server.network.packet.server.common.PingResponsePacket;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.SocketAddress;
+import java.net.SocketOption;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.channels.spi.SelectorProvider;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GatheringWriteTest {
+    private static final SocketAddress ADDRESS = new InetSocketAddress("127.0.0.1", 25565);
+
+    static {
+        // Required to prevent initialization error during event call
+        MinecraftServer.init();
+    }
+
+    @Test
+    public void mixedQueue() throws Exception {
+        assertTrue(ServerFlag.SOCKET_GATHERING_WRITES);
+        var channel = new CapturingChannel();
+        var connection = new PlayerSocketConnection(channel, ADDRESS, () -> {
+        }, () -> {
+        });
+        connection.setServerState(ConnectionState.PLAY);
+
+        final NetworkBuffer framedBody = framed(new PingResponsePacket(1));
+        final NetworkBuffer rawBody = framed(new PingResponsePacket(2));
+        final long zeroCopyBefore = PlayerSocketConnection.zeroCopyBytes();
+        final long writtenBefore = PlayerSocketConnection.writtenBytes();
+        // Zero-copy packets first, the scratch buffer is still empty when they are written
+        connection.sendPacket(new FramedPacket(new PingResponsePacket(1), framedBody));
+        connection.sendPacket(new BufferedPacket(rawBody, 0, rawBody.writeIndex()));
+        connection.sendPacket(new PingResponsePacket(3));
+        connection.sendPacket(new BufferedPacket(rawBody, 0, rawBody.writeIndex()));
+        connection.sendPacket(new PingResponsePacket(4));
+        assertTrue(connection.flushNonBlocking());
+
+        var expected = new ByteArrayOutputStream();
+        expected.writeBytes(bytes(framedBody));
+        expected.writeBytes(bytes(rawBody));
+        expected.writeBytes(bytes(framed(new PingResponsePacket(3))));
+        expected.writeBytes(bytes(rawBody));
+        expected.writeBytes(bytes(framed(new PingResponsePacket(4))));
+        assertArrayEquals(expected.toByteArray(), channel.written.toByteArray());
+        assertEquals(expected.size(), PlayerSocketConnection.writtenBytes() - writtenBefore);
+        assertEquals(framedBody.writeIndex() + rawBody.writeIndex() * 2, PlayerSocketConnection.zeroCopyBytes() - zeroCopyBefore);
+        connection.cleanup();
+    }
+
+    @Test
+    public void zeroCopyOnly() throws Exception {
+        var channel = new CapturingChannel();
+        var connection = new PlayerSocketConnection(channel, ADDRESS, () -> {
+        }, () -> {
+        });
+        connection.setServerState(ConnectionState.PLAY);
+
+        final NetworkBuffer rawBody = framed(new PingResponsePacket(5));
+        connection.sendPacket(new BufferedPacket(rawBody, 0, rawBody.writeIndex()));
+        assertTrue(connection.flushNonBlocking());
+        assertArrayEquals(bytes(rawBody), channel.written.toByteArray());
+        connection.cleanup();
+    }
+
+    private static NetworkBuffer framed(ServerPacket packet) {
+        NetworkBuffer buffer = NetworkBuffer.resizableBuffer(64);
+        PacketWriting.writeFramedPacket(buffer, ConnectionState.PLAY, packet, 0);
+        // Framed bodies are written up to their capacity
+        return buffer.copy(0, buffer.writeIndex());
+    }
+
+    private static byte[] bytes(NetworkBuffer buffer) {
+        final byte[] bytes = new byte[(int) buffer.writeIndex()];
+        buffer.copyTo(0, bytes, 0, bytes.length);
+        return bytes;
+    }
+
+    private static final class CapturingChannel extends SocketChannel {
+        final ByteArrayOutputStream written = new ByteArrayOutputStream();
+
+        CapturingChannel() {
+            super(SelectorProvider.provider());
+        }
+
+        @Override
+        public int write(ByteBuffer src) {
+            final int remaining = src.remaining();
+            final byte[] bytes = new byte[remaining];
+            src.get(bytes);
+            written.writeBytes(bytes);
+            return remaining;
+        }
+
+        @Override
+        public long write(ByteBuffer[] srcs, int offset, int length) {
+            long total = 0;
+            for (int i = offset; i < offset + length; i++) total += write(srcs[i]);
+            return total;
+        }
+
+        @Override
+        public int read(ByteBuffer dst) {
+            return 0;
+        }
+
+        @Override
+        public long read(ByteBuffer[] dsts, int offset, int length) {
+            return 0;
+        }
+
+        @Override
+        public boolean isConnected() {
+            return true;
+        }
+
+        @Override
+        public boolean isConnectionPending() {
+            return false;
+        }
+
+        @Override
+        public boolean connect(SocketAddress remote) {
+            return true;
+        }
+
+        @Override
+        public boolean finishConnect() {
+            return true;
+        }
+
+        @Override
+        public SocketAddress getRemoteAddress() {
+            return ADDRESS;
+        }
+
+        @Override
+        public SocketAddress getLocalAddress() {
+            return ADDRESS;
+        }
+
+        @Override
+        public SocketChannel bind(SocketAddress local) {
+            return this;
+        }
+
+        @Override
+        public <T> SocketChannel setOption(SocketOption<T> name, T value) {
+            return this;
+        }
+
+        @Override
+        public <T> T getOption(SocketOption<T> name) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Set<SocketOption<?>> supportedOptions() {
+            return Set.of();
+        }
+
+        @Override
+        public SocketChannel shutdownInput() {
+            return this;
+        }
+
+        @Override
+        public SocketChannel shutdownOutput() {
+            return this;
+        }
+
+        @Override
+        public Socket socket() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        protected void implCloseSelectableChannel() {
+        }
+
+        @Override
+        protected void implConfigureBlocking(boolean block) {
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package net.minestom.server.network.player;
+
+import net.minestom.server.ServerFlag;
+import net.minestom.server.network.NetworkBuffer;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ReadBuffersTest {
+
+    @Test
+    public void classSize() {
+        final long size = ReadBuffers.classSize(ServerFlag.POOLED_BUFFER_SIZE);
+        assertTrue(size >= ServerFlag.POOLED_BUFFER_SIZE);
+        assertEquals(size, ReadBuffers.classSize(1));
+        assertEquals(size * 2, ReadBuffers.classSize(size + 1));
+        assertTrue(ReadBuffers.classSize(ServerFlag.MAX_PACKET_SIZE + 5) >= ServerFlag.MAX_PACKET_SIZE + 5);
+    }
+
+    @Test
+    public void memory() {
+        final long before = ReadBuffers.memory();
+        final long size = ReadBuffers.classSize(ServerFlag.POOLED_BUFFER_SIZE);
+        var buffer = ReadBuffers.acquire(size + 1);
+        assertEquals(size * 2, buffer.capacity());
+        assertEquals(before + buffer.capacity(), ReadBuffers.memory());
+        var idle = ReadBuffers.allocate(64);
+        assertEquals(before + buffer.capacity() + 64, ReadBuffers.memory());
+        ReadBuffers.release(buffer);
+        ReadBuffers.free(idle);
+        assertEquals(before, ReadBuffers.memory());
+    }
+
+    @Test
+    public void releasedEmpty() {
+        var buffer = ReadBuffers.acquire(ServerFlag.POOLED_BUFFER_SIZE);
+        buffer.write(NetworkBuffer.RAW_BYTES, new byte[10]);
+        ReadBuffers.release(buffer);
+        var next = ReadBuffers.acquire(ServerFlag.POOLED_BUFFER_SIZE);
+        assertEquals(0, next.readableBytes());
+        assertEquals(0, next.writeIndex());
+        ReadBuffers.release(next);
+    }
+}
@@ -0,0 +1,48 @@
+package net.minestom.server.registry;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RegistrySnapshotTest {
+
+    @Test
+    public void sameAsJson() throws IOException {
+        final RegistrySnapshot snapshot = RegistrySnapshot.load();
+        assertNotNull(snapshot, "Registry snapshot is not packaged");
+        assertTrue(snapshot.paths().contains("block.json"));
+        for (String path : snapshot.paths()) {
+            assertEquals(RegistryData.loadJson(path), snapshot.read(path), path);
+        }
+        assertNull(snapshot.read("unknown.json"));
+    }
+
+    @Test
+    public void released() {
+        RegistryData.releaseSnapshot();
+        // Parsed from the JSON, the snapshot stays released
+        final var properties = RegistryData.load("block.json", true);
+        assertFalse(properties.asMap().isEmpty());
+        assertNull(RegistryData.loadedSnapshot());
+    }
+
+    @Test
+    public void outdated() throws IOException {
+        // block.json with an empty content and a checksum not matching its JSON
+        final byte[] data = {
+                0x4D, 0x53, 0x52, 0x53, 0, 0, 0, RegistrySnapshot.VERSION,
+                1, 10, 'b', 'l', 'o', 'c', 'k', '.', 'j', 's', 'o', 'n',
+                1, 0, 0, 0, 0, 0, 2, RegistrySnapshot.MAP, 0
+        };
+        final RegistrySnapshot snapshot = new RegistrySnapshot(data);
+        assertTrue(snapshot.paths().contains("block.json"));
+        assertNull(snapshot.read("block.json"));
+    }
+
+    @Test
+    public void invalid() {
+        assertThrows(IOException.class, () -> new RegistrySnapshot(new byte[]{1, 2, 3, 4, 0, 0, 0, 1}));
+    }
+}
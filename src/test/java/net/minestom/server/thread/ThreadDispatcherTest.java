@@ -279,4 +279,106 @@ public class ThreadDispatcherTest {
 
         dispatcher.shutdown();
     }
+
+    @Test
+    public void balancedAffinity() {
+        // Partitions of the same group share a thread, groups are spread
+        record Chunk(String instance, int index) implements Tickable {
+            @Override
+            public void tick(long time) {
+            }
+        }
+        final int threadCount = 4;
+        ThreadDispatcher<Chunk, Tickable> dispatcher = ThreadDispatcher.dispatcher(ThreadProvider.balanced(Chunk::instance), threadCount);
+        dispatcher.start();
+
+        Map<String, Set<Thread>> threads = new ConcurrentHashMap<>();
+        for (String instance : new String[]{"a", "b"}) {
+            for (int i = 0; i < 4; i++) {
+                Chunk chunk = new Chunk(instance, i);
+                dispatcher.createPartition(chunk);
+                dispatcher.updateElement((time) -> threads.computeIfAbsent(instance, _ -> ConcurrentHashMap.newKeySet())
+                        .add(Thread.currentThread()), chunk);
+            }
+        }
+        dispatcher.updateAndAwait(System.nanoTime());
+
+        assertEquals(1, threads.get("a").size());
+        assertEquals(1, threads.get("b").size());
+        assertNotEquals(threads.get("a"), threads.get("b"));
+
+        dispatcher.shutdown();
+    }
+
+    @Test
+    public void balancedMigration() {
+        // A group too expensive for a single thread is split
+        final int threadCount = 4;
+        final int partitionCount = 8;
+        ThreadDispatcher<Tickable, Tickable> dispatcher = ThreadDispatcher.dispatcher(ThreadProvider.balanced(_ -> "instance"), threadCount);
+        dispatcher.start();
+
+        Map<Tickable, Thread> threads = new ConcurrentHashMap<>();
+        for (int i = 0; i < partitionCount; i++) {
+            dispatcher.createPartition(new Tickable() {
+                @Override
+                public void tick(long time) {
+                    threads.put(this, Thread.currentThread());
+                    final long end = System.nanoTime() + 1_000_000;
+                    while (System.nanoTime() < end) Thread.onSpinWait();
+                }
+            });
+        }
+        dispatcher.updateAndAwait(System.nanoTime());
+        assertEquals(1, Set.copyOf(threads.values()).size(), "Partitions should start on their group thread");
+
+        for (int i = 0; i < 40; i++) {
+            dispatcher.refreshThreads();
+            dispatcher.updateAndAwait(System.nanoTime());
+        }
+        final Map<Thread, Long> perThread = threads.values().stream()
+                .collect(Collectors.groupingBy(thread -> thread, Collectors.counting()));
+        assertTrue(perThread.size() > 1, "Partitions have not been migrated");
+        assertTrue(perThread.values().stream().allMatch(count -> count < partitionCount));
+
+        final var loads = dispatcher.threadLoads();
+        assertEquals(threadCount, loads.size());
+        assertTrue(loads.stream().anyMatch(load -> load.tickNanos() > 0 && load.utilization() > 0));
+
+        dispatcher.shutdown();
+    }
+
+    @Test
+    public void profiledElements() {
+        record Spinning(long nanos) implements Tickable {
+            @Override
+            public void tick(long time) {
+                final long end = System.nanoTime() + nanos;
+                while (System.nanoTime() < end) Thread.onSpinWait();
+            }
+        }
+        ThreadDispatcher<Tickable, Tickable> dispatcher = ThreadDispatcher.singleThread();
+        dispatcher.start();
+        World world = new World();
+        dispatcher.createPartition(world);
+        for (long nanos : new long[]{100_000, 2_000_000, 10_000, 1_000_000}) {
+            dispatcher.updateElement(new Spinning(nanos), world);
+        }
+        final TickThread thread = dispatcher.threads().getFirst();
+
+        thread.profileNextTick(2);
+        dispatcher.updateAndAwait(System.nanoTime());
+        var slowest = thread.profiledElements();
+        assertEquals(2, slowest.size());
+        assertEquals(new Spinning(2_000_000), slowest.get(0).element());
+        assertEquals(new Spinning(1_000_000), slowest.get(1).element());
+        assertTrue(slowest.get(0).nanos() >= 2_000_000);
+        assertTrue(thread.profiledElements().isEmpty(), "Elements should be released once retrieved");
+
+        // Only the requested tick is profiled
+        dispatcher.updateAndAwait(System.nanoTime());
+        assertTrue(thread.profiledElements().isEmpty());
+
+        dispatcher.shutdown();
+    }
 }
@@ -0,0 +1,91 @@
+package net.minestom.server.instance.palette;
+
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Vector API implementation of the {@link Palettes} bulk operations.
+ * <p>
+ * Applies the SWAR lane detection of the scalar operations to a whole vector of longs at once.
+ * The longs holding entries past the palette size are left to the scalar operations.
+ * <p>
+ * Only loaded when the {@code jdk.incubator.vector} module is present, see {@link Palettes#vectorized()}.
+ * Compiled apart from the main sources so that the module does not require the incubating module.
+ */
+final class PalettesVector implements PaletteBulkOperations {
+    private static final VectorSpecies<Long> SPECIES = LongVector.SPECIES_PREFERRED;
+
+    PalettesVector() {
+    }
+
+    @Override
+    public boolean supported() {
+        return SPECIES.length() > 1;
+    }
+
+    @Override
+    public int countEquals(int bitsPerEntry, long[] values, int size, int target) {
+        final long ones = Palettes.broadcast(bitsPerEntry, 1);
+        final long lowMask = ones * ((1L << (bitsPerEntry - 1)) - 1);
+        final long highBits = ones * (1L << (bitsPerEntry - 1));
+        final long broadcastTarget = ones * target;
+        final int bound = SPECIES.loopBound(fullLongs(bitsPerEntry, values, size));
+        LongVector counts = LongVector.zero(SPECIES);
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            final LongVector zeros = matchingLanes(LongVector.fromArray(SPECIES, values, i), broadcastTarget, lowMask, highBits);
+            counts = counts.add(zeros.lanewise(VectorOperators.BIT_COUNT));
+        }
+        return (int) counts.reduceLanes(VectorOperators.ADD) + Palettes.countEquals(bitsPerEntry, values, size, target, i);
+    }
+
+    @Override
+    public boolean anyEquals(int bitsPerEntry, long[] values, int size, int target) {
+        final long ones = Palettes.broadcast(bitsPerEntry, 1);
+        final long lowMask = ones * ((1L << (bitsPerEntry - 1)) - 1);
+        final long highBits = ones * (1L << (bitsPerEntry - 1));
+        final long broadcastTarget = ones * target;
+        final int bound = SPECIES.loopBound(fullLongs(bitsPerEntry, values, size));
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            final LongVector zeros = matchingLanes(LongVector.fromArray(SPECIES, values, i), broadcastTarget, lowMask, highBits);
+            if (zeros.compare(VectorOperators.NE, 0).anyTrue()) return true;
+        }
+        return Palettes.anyEquals(bitsPerEntry, values, size, target, i);
+    }
+
+    @Override
+    public int replaceEquals(int bitsPerEntry, long[] values, int size, int oldValue, int newValue) {
+        final long ones = Palettes.broadcast(bitsPerEntry, 1);
+        final long lowMask = ones * ((1L << (bitsPerEntry - 1)) - 1);
+        final long highBits = ones * (1L << (bitsPerEntry - 1));
+        final long broadcastOld = ones * oldValue;
+        final long broadcastNew = ones * newValue;
+        final int bound = SPECIES.loopBound(fullLongs(bitsPerEntry, values, size));
+        LongVector counts = LongVector.zero(SPECIES);
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            final LongVector block = LongVector.fromArray(SPECIES, values, i);
+            final LongVector zeros = matchingLanes(block, broadcastOld, lowMask, highBits);
+            // Expand each lane's high-bit marker to a full-lane mask, then swap the matching lanes.
+            final LongVector laneMask = zeros.or(zeros.sub(zeros.lanewise(VectorOperators.LSHR, bitsPerEntry - 1)));
+            block.and(laneMask.not()).or(laneMask.and(broadcastNew)).intoArray(values, i);
+            counts = counts.add(zeros.lanewise(VectorOperators.BIT_COUNT));
+        }
+        return (int) counts.reduceLanes(VectorOperators.ADD) +
+                Palettes.replaceEquals(bitsPerEntry, values, size, oldValue, newValue, i);
+    }
+
+    /// High bit set in each lane equal to {@code broadcastTarget}, see the scalar {@code Palettes#matchingLanes}.
+    private static LongVector matchingLanes(LongVector block, long broadcastTarget, long lowMask, long highBits) {
+        final LongVector x = block.lanewise(VectorOperators.XOR, broadcastTarget);
+        final LongVector t = x.and(lowMask).add(lowMask);
+        return t.or(x).not().and(highBits);
+    }
+
+    /// Number of leading longs whose lanes all hold entries of the palette.
+    private static int fullLongs(int bitsPerEntry, long[] values, int size) {
+        return Math.min(values.length, size / (64 / bitsPerEntry));
+    }
+}
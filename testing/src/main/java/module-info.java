@@ -4,6 +4,7 @@ module net.minestom.testing {
 
     exports net.minestom.testing;
     exports net.minestom.testing.util;
+    exports net.minestom.testing.load;
 
     opens net.minestom.testing to org.junit.platform.commons;
 }
\ No newline at end of file
@@ -0,0 +1,219 @@
+package net.minestom.testing.load;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.ServerFlag;
+import net.minestom.server.event.EventListener;
+import net.minestom.server.event.server.ServerListPingEvent;
+import net.minestom.server.network.ConnectionState;
+import net.minestom.server.network.NetworkBuffer;
+import net.minestom.server.network.packet.PacketReading;
+import net.minestom.server.network.packet.PacketWriting;
+import net.minestom.server.network.packet.client.handshake.ClientHandshakePacket;
+import net.minestom.server.network.packet.client.status.StatusRequestPacket;
+import net.minestom.server.network.packet.server.ServerPacket;
+import net.minestom.server.network.packet.server.common.PingResponsePacket;
+import net.minestom.server.network.packet.server.status.ResponsePacket;
+import net.minestom.server.network.player.PlayerConnection;
+import net.minestom.server.timer.Task;
+import net.minestom.server.timer.TaskSchedule;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.DataFormatException;
+
+/**
+ * Load test for the socket layer, run it once per I/O mode and compare the output.
+ * <pre>
+ * java -Dminestom.socket.selector-threads=0 ... net.minestom.testing.load.SocketLoadHarness 5000 200
+ * java -Dminestom.socket.selector-threads=4 ... net.minestom.testing.load.SocketLoadHarness 5000 200
+ * </pre>
+ * Opens {@code connections} status connections as fast as possible (connections/sec), then for {@code rounds} ticks
+ * the server queues a packet to every connection from the tick thread. The flush latency is the time between
+ * the packet being queued during the tick and its arrival on the client socket.
+ */
+public final class SocketLoadHarness {
+
+    public record Result(int connections, double connectionsPerSecond,
+                         long flushP50Nanos, long flushP99Nanos, long flushMaxNanos) {
+        @Override
+        public String toString() {
+            return String.format("connections=%d, connections/sec=%.0f, flush p50=%.3fms p99=%.3fms max=%.3fms",
+                    connections, connectionsPerSecond,
+                    flushP50Nanos / 1e6, flushP99Nanos / 1e6, flushMaxNanos / 1e6);
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        final int connections = args.length > 0 ? Integer.parseInt(args[0]) : 5_000;
+        final int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+
+        MinecraftServer minecraftServer = MinecraftServer.init();
+        minecraftServer.start("127.0.0.1", 0);
+        try {
+            final InetSocketAddress address = new InetSocketAddress("127.0.0.1", MinecraftServer.getServer().getPort());
+            final String mode = ServerFlag.SOCKET_SELECTOR_THREADS > 0 ?
+                    "selector(" + ServerFlag.SOCKET_SELECTOR_THREADS + ")" : "virtual-threads";
+            System.out.println(mode + ": " + run(address, connections, rounds));
+        } finally {
+            MinecraftServer.stopCleanly();
+        }
+    }
+
+    /**
+     * Runs the load test against a server of this process, its clock is used to measure the flushes.
+     */
+    public static Result run(InetSocketAddress address, int connections, int rounds) throws IOException {
+        // Server side of the connections, known once their status is requested
+        Queue<PlayerConnection> serverConnections = new ConcurrentLinkedQueue<>();
+        final EventListener<ServerListPingEvent> pingListener = EventListener.of(ServerListPingEvent.class, event -> {
+            final PlayerConnection connection = event.getConnection();
+            if (connection != null) serverConnections.add(connection);
+        });
+        MinecraftServer.getGlobalEventHandler().addListener(pingListener);
+        try (Selector selector = Selector.open()) {
+            List<Client> clients = new ArrayList<>(connections);
+            // Connect
+            final long connectStart = System.nanoTime();
+            try {
+                for (int i = 0; i < connections; i++) {
+                    SocketChannel channel = SocketChannel.open(address);
+                    channel.configureBlocking(false);
+                    Client client = new Client(channel);
+                    channel.register(selector, SelectionKey.OP_READ, client);
+                    clients.add(client);
+                    client.write(handshake(address));
+                    client.write(STATUS_REQUEST.copy(0, STATUS_REQUEST.writeIndex()));
+                }
+                int pending = connections;
+                while (pending > 0) pending -= select(selector, null);
+            } finally {
+                MinecraftServer.getGlobalEventHandler().removeListener(pingListener);
+            }
+            final long connectNanos = System.nanoTime() - connectStart;
+
+            // Measure, packets are stamped with the time they are queued at
+            final int expected = serverConnections.size() * rounds;
+            LatencyRecorder recorder = new LatencyRecorder(expected);
+            AtomicInteger remainingTicks = new AtomicInteger(rounds);
+            final Task task = MinecraftServer.getSchedulerManager().buildTask(() -> {
+                if (remainingTicks.getAndDecrement() <= 0) return;
+                for (PlayerConnection connection : serverConnections) {
+                    connection.sendPacket(new PingResponsePacket(System.nanoTime()));
+                }
+            }).repeat(TaskSchedule.tick(1)).schedule();
+            try {
+                while (recorder.count < expected) select(selector, recorder);
+            } finally {
+                task.cancel();
+            }
+            for (Client client : clients) client.channel.close();
+
+            final long[] sorted = Arrays.copyOf(recorder.latencies, recorder.count);
+            Arrays.sort(sorted);
+            return new Result(connections, connections / (connectNanos / 1e9),
+                    percentile(sorted, 0.50), percentile(sorted, 0.99),
+                    sorted.length > 0 ? sorted[sorted.length - 1] : 0);
+        }
+    }
+
+    /**
+     * @return the number of status responses received
+     */
+    private static int select(Selector selector, @Nullable LatencyRecorder recorder) throws IOException {
+        int responses = 0;
+        selector.select(1000);
+        for (SelectionKey key : selector.selectedKeys()) {
+            final Client client = (Client) key.attachment();
+            if (client.read(recorder)) responses++;
+        }
+        selector.selectedKeys().clear();
+        return responses;
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) return 0;
+        return sorted[(int) Math.min(sorted.length - 1, Math.floor(sorted.length * percentile))];
+    }
+
+    private static NetworkBuffer handshake(InetSocketAddress address) {
+        NetworkBuffer buffer = NetworkBuffer.resizableBuffer(64);
+        PacketWriting.writeFramedPacket(buffer, ConnectionState.HANDSHAKE,
+                new ClientHandshakePacket(MinecraftServer.PROTOCOL_VERSION, address.getHostString(), address.getPort(),
+                        ClientHandshakePacket.Intent.STATUS), 0);
+        return buffer;
+    }
+
+    private static final NetworkBuffer STATUS_REQUEST = NetworkBuffer.resizableBuffer(16);
+
+    static {
+        PacketWriting.writeFramedPacket(STATUS_REQUEST, ConnectionState.STATUS, new StatusRequestPacket(), 0);
+    }
+
+    private static final class LatencyRecorder {
+        final long[] latencies;
+        int count;
+
+        LatencyRecorder(int capacity) {
+            this.latencies = new long[capacity];
+        }
+
+        void record(long latency) {
+            if (count < latencies.length) latencies[count++] = latency;
+        }
+    }
+
+    private static final class Client {
+        final SocketChannel channel;
+        final NetworkBuffer readBuffer = NetworkBuffer.resizableBuffer(1024);
+
+        Client(SocketChannel channel) {
+            this.channel = channel;
+        }
+
+        void write(NetworkBuffer buffer) throws IOException {
+            while (!buffer.writeChannel(channel)) Thread.onSpinWait();
+        }
+
+        /**
+         * @return true if the status response has been received
+         */
+        boolean read(@Nullable LatencyRecorder recorder) throws IOException {
+            readBuffer.readChannel(channel);
+            final PacketReading.Result<ServerPacket> result;
+            try {
+                result = PacketReading.readServers(readBuffer, ConnectionState.STATUS, false);
+            } catch (DataFormatException e) {
+                throw new IOException(e);
+            }
+            boolean response = false;
+            switch (result) {
+                case PacketReading.Result.Success<ServerPacket> success -> {
+                    readBuffer.compact();
+                    final long now = System.nanoTime();
+                    for (PacketReading.ParsedPacket<ServerPacket> packet : success.packets()) {
+                        switch (packet.packet()) {
+                            case ResponsePacket ignored -> response = true;
+                            case PingResponsePacket ping when recorder != null -> recorder.record(now - ping.number());
+                            default -> {
+                            }
+                        }
+                    }
+                }
+                case PacketReading.Result.Empty<ServerPacket> ignored -> {
+                }
+                case PacketReading.Result.Failure<ServerPacket> failure -> readBuffer.resize(failure.requiredCapacity());
+            }
+            return response;
+        }
+    }
+}
@@ -0,0 +1,4 @@
+@NotNullByDefault
+package net.minestom.testing.load;
+
+import org.jetbrains.annotations.NotNullByDefault;